@@ -21,9 +21,19 @@ import static com.linkedin.venice.ConfigKeys.MAX_FUTURE_VERSION_LEADER_FOLLOWER_
 import static com.linkedin.venice.ConfigKeys.MAX_LEADER_FOLLOWER_STATE_TRANSITION_THREAD_NUMBER;
 import static com.linkedin.venice.ConfigKeys.OFFSET_LAG_DELTA_RELAX_FACTOR_FOR_FAST_ONLINE_TRANSITION_IN_RESTART;
 import static com.linkedin.venice.ConfigKeys.PARTICIPANT_MESSAGE_CONSUMPTION_DELAY_MS;
+import static com.linkedin.venice.ConfigKeys.SERVER_ACTIVE_ACTIVE_BATCH_PREFETCH_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_ACTIVE_ACTIVE_KEY_PARALLEL_PROCESSING_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_ACTIVE_ACTIVE_KEY_PARALLEL_PROCESSING_THREAD_POOL_SIZE;
+import static com.linkedin.venice.ConfigKeys.SERVER_ADAPTIVE_PARALLEL_BATCH_GET_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_ADAPTIVE_PARALLEL_BATCH_GET_TARGET_CHUNK_LATENCY_US;
+import static com.linkedin.venice.ConfigKeys.SERVER_ADAPTIVE_PARALLEL_BATCH_GET_THREAD_NUM;
+import static com.linkedin.venice.ConfigKeys.SERVER_BINARY_PARTIAL_UPDATE_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_BLOCKING_QUEUE_TYPE;
 import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_FAST_AVRO_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_QUEUE_CAPACITY;
+import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_REUSABLE_BYTE_BUFFER_SIZE;
+import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_REUSABLE_OBJECTS_POOL_SIZE;
+import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_REUSABLE_RECORD_CACHE_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_THREAD_NUM;
 import static com.linkedin.venice.ConfigKeys.SERVER_CONSUMER_POOL_SIZE_PER_KAFKA_CLUSTER;
 import static com.linkedin.venice.ConfigKeys.SERVER_DATABASE_CHECKSUM_VERIFICATION_ENABLED;
@@ -39,9 +49,14 @@ import static com.linkedin.venice.ConfigKeys.SERVER_DISK_FULL_THRESHOLD;
 import static com.linkedin.venice.ConfigKeys.SERVER_DISK_HEALTH_CHECK_INTERVAL_IN_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_DISK_HEALTH_CHECK_SERVICE_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_DISK_HEALTH_CHECK_TIMEOUT_IN_SECONDS;
+import static com.linkedin.venice.ConfigKeys.SERVER_ENABLE_BATCH_LOOKUP;
+import static com.linkedin.venice.ConfigKeys.SERVER_ENABLE_DIRECT_BUFFER_READ;
 import static com.linkedin.venice.ConfigKeys.SERVER_ENABLE_KAFKA_OPENSSL;
 import static com.linkedin.venice.ConfigKeys.SERVER_ENABLE_LIVE_CONFIG_BASED_KAFKA_THROTTLING;
 import static com.linkedin.venice.ConfigKeys.SERVER_ENABLE_PARALLEL_BATCH_GET;
+import static com.linkedin.venice.ConfigKeys.SERVER_HOT_KEY_CACHE_CAPACITY_PER_VERSION;
+import static com.linkedin.venice.ConfigKeys.SERVER_HOT_KEY_CACHE_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_HOT_KEY_CACHE_MAX_VALUE_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_HTTP2_HEADER_TABLE_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_HTTP2_INBOUND_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_HTTP2_INITIAL_WINDOW_SIZE;
@@ -91,12 +106,19 @@ import static com.linkedin.venice.ConfigKeys.SERVER_SSL_HANDSHAKE_THREAD_POOL_SI
 import static com.linkedin.venice.ConfigKeys.SERVER_STORE_TO_EARLY_TERMINATION_THRESHOLD_MS_MAP;
 import static com.linkedin.venice.ConfigKeys.SERVER_SYSTEM_STORE_PROMOTION_TO_LEADER_REPLICA_DELAY_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_UNSUB_AFTER_BATCHPUSH;
+import static com.linkedin.venice.ConfigKeys.SERVER_VIRTUAL_THREAD_COMPUTE_MAX_CONCURRENCY;
+import static com.linkedin.venice.ConfigKeys.SERVER_VIRTUAL_THREAD_EXECUTION_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_VIRTUAL_THREAD_QUEUE_CAPACITY;
+import static com.linkedin.venice.ConfigKeys.SERVER_VIRTUAL_THREAD_READ_MAX_CONCURRENCY;
 import static com.linkedin.venice.ConfigKeys.SEVER_CALCULATE_QUOTA_USAGE_BASED_ON_PARTITIONS_ASSIGNMENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SORTED_INPUT_DRAINER_SIZE;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_AFTER_LEADER_LOGIC_ENABLED;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_MEMORY_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_NOTIFY_DELTA;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_DRAIN_BATCH_MAX_BYTES;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_DRAIN_BATCH_MAX_RECORDS;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_NUMBER;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_ROCKSDB_WRITE_BATCH_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SYSTEM_SCHEMA_CLUSTER_NAME;
 import static com.linkedin.venice.ConfigKeys.UNREGISTER_METRIC_FOR_DELETED_STORE_ENABLED;
 import static com.linkedin.venice.ConfigKeys.UNSORTED_INPUT_DRAINER_SIZE;
@@ -207,6 +229,9 @@ public class VeniceServerConfig extends VeniceClusterConfig {
    *
    */
   private final long storeWriterBufferNotifyDelta;
+  private final int storeWriterDrainBatchMaxRecords;
+  private final long storeWriterDrainBatchMaxBytes;
+  private final boolean storeWriterRocksDBWriteBatchEnabled;
 
   /**
    * The number of threads being used to serve get requests.
@@ -297,9 +322,29 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final long serverSystemStorePromotionToLeaderReplicaDelayMs;
 
   private final boolean enableParallelBatchGet;
+  private final boolean adaptiveParallelBatchGetEnabled;
+  private final int adaptiveParallelBatchGetThreadNum;
+  private final int adaptiveParallelBatchGetTargetChunkLatencyUs;
+
+  private final boolean virtualThreadExecutionEnabled;
+  private final int virtualThreadReadMaxConcurrency;
+  private final int virtualThreadComputeMaxConcurrency;
+  private final int virtualThreadQueueCapacity;
+
+  private final int computeReusableObjectsPoolSize;
+  private final int computeReusableByteBufferSize;
+  private final int computeReusableRecordCacheSize;
 
   private final int parallelBatchGetChunkSize;
 
+  private final boolean batchLookupEnabled;
+
+  private final boolean directBufferReadEnabled;
+
+  private final boolean hotKeyCacheEnabled;
+  private final long hotKeyCacheCapacityPerVersion;
+  private final int hotKeyCacheMaxValueSize;
+
   private final boolean keyValueProfilingEnabled;
 
   private final boolean enableDatabaseMemoryStats;
@@ -369,6 +414,14 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
   private final boolean serverIngestionCheckpointDuringGracefulShutdownEnabled;
 
+  private final boolean activeActiveBatchPrefetchEnabled;
+
+  private final boolean activeActiveKeyParallelProcessingEnabled;
+
+  private final int activeActiveKeyParallelProcessingThreadPoolSize;
+
+  private final boolean binaryPartialUpdateEnabled;
+
   private final int remoteIngestionRepairSleepInterval;
 
   private final boolean optimizeDatabaseForBackupVersionEnabled;
@@ -429,6 +482,9 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     storeWriterBufferMemoryCapacity =
         serverProperties.getSizeInBytes(STORE_WRITER_BUFFER_MEMORY_CAPACITY, 10 * 1024 * 1024);
     storeWriterBufferNotifyDelta = serverProperties.getSizeInBytes(STORE_WRITER_BUFFER_NOTIFY_DELTA, 1 * 1024 * 1024);
+    storeWriterDrainBatchMaxRecords = serverProperties.getInt(STORE_WRITER_DRAIN_BATCH_MAX_RECORDS, 1);
+    storeWriterDrainBatchMaxBytes = serverProperties.getSizeInBytes(STORE_WRITER_DRAIN_BATCH_MAX_BYTES, 1024 * 1024);
+    storeWriterRocksDBWriteBatchEnabled = serverProperties.getBoolean(STORE_WRITER_ROCKSDB_WRITE_BATCH_ENABLED, false);
     restServiceStorageThreadNum = serverProperties.getInt(SERVER_REST_SERVICE_STORAGE_THREAD_NUM, 16);
     serverComputeThreadNum = serverProperties.getInt(SERVER_COMPUTE_THREAD_NUM, 16);
     nettyIdleTimeInSeconds = serverProperties.getInt(SERVER_NETTY_IDLE_TIME_SECONDS, (int) TimeUnit.HOURS.toSeconds(3));
@@ -475,6 +531,26 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
     enableParallelBatchGet = serverProperties.getBoolean(SERVER_ENABLE_PARALLEL_BATCH_GET, false);
     parallelBatchGetChunkSize = serverProperties.getInt(SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE, 5);
+    adaptiveParallelBatchGetEnabled = serverProperties.getBoolean(SERVER_ADAPTIVE_PARALLEL_BATCH_GET_ENABLED, false);
+    adaptiveParallelBatchGetThreadNum = serverProperties
+        .getInt(SERVER_ADAPTIVE_PARALLEL_BATCH_GET_THREAD_NUM, Runtime.getRuntime().availableProcessors());
+    adaptiveParallelBatchGetTargetChunkLatencyUs =
+        serverProperties.getInt(SERVER_ADAPTIVE_PARALLEL_BATCH_GET_TARGET_CHUNK_LATENCY_US, 500);
+    virtualThreadExecutionEnabled = serverProperties.getBoolean(SERVER_VIRTUAL_THREAD_EXECUTION_ENABLED, false);
+    virtualThreadReadMaxConcurrency = serverProperties.getInt(SERVER_VIRTUAL_THREAD_READ_MAX_CONCURRENCY, 1024);
+    virtualThreadComputeMaxConcurrency = serverProperties.getInt(SERVER_VIRTUAL_THREAD_COMPUTE_MAX_CONCURRENCY, 256);
+    virtualThreadQueueCapacity = serverProperties.getInt(SERVER_VIRTUAL_THREAD_QUEUE_CAPACITY, 16 * 1024);
+    computeReusableObjectsPoolSize =
+        serverProperties.getInt(SERVER_COMPUTE_REUSABLE_OBJECTS_POOL_SIZE, serverComputeThreadNum);
+    computeReusableByteBufferSize =
+        (int) serverProperties.getSizeInBytes(SERVER_COMPUTE_REUSABLE_BYTE_BUFFER_SIZE, 1024 * 1024);
+    computeReusableRecordCacheSize = serverProperties.getInt(SERVER_COMPUTE_REUSABLE_RECORD_CACHE_SIZE, 16);
+    batchLookupEnabled = serverProperties.getBoolean(SERVER_ENABLE_BATCH_LOOKUP, false);
+    directBufferReadEnabled = serverProperties.getBoolean(SERVER_ENABLE_DIRECT_BUFFER_READ, false);
+    hotKeyCacheEnabled = serverProperties.getBoolean(SERVER_HOT_KEY_CACHE_ENABLED, false);
+    hotKeyCacheCapacityPerVersion =
+        serverProperties.getSizeInBytes(SERVER_HOT_KEY_CACHE_CAPACITY_PER_VERSION, 64 * 1024 * 1024);
+    hotKeyCacheMaxValueSize = (int) serverProperties.getSizeInBytes(SERVER_HOT_KEY_CACHE_MAX_VALUE_SIZE, 16 * 1024);
 
     keyValueProfilingEnabled = serverProperties.getBoolean(KEY_VALUE_PROFILING_ENABLED, false);
     enableDatabaseMemoryStats = serverProperties.getBoolean(SERVER_DATABASE_MEMORY_STATS_ENABLED, true);
@@ -606,6 +682,13 @@ public class VeniceServerConfig extends VeniceClusterConfig {
      */
     serverIngestionCheckpointDuringGracefulShutdownEnabled =
         serverProperties.getBoolean(SERVER_INGESTION_CHECKPOINT_DURING_GRACEFUL_SHUTDOWN_ENABLED, true);
+    activeActiveBatchPrefetchEnabled = serverProperties.getBoolean(SERVER_ACTIVE_ACTIVE_BATCH_PREFETCH_ENABLED, false);
+    activeActiveKeyParallelProcessingEnabled =
+        serverProperties.getBoolean(SERVER_ACTIVE_ACTIVE_KEY_PARALLEL_PROCESSING_ENABLED, false);
+    activeActiveKeyParallelProcessingThreadPoolSize = serverProperties.getInt(
+        SERVER_ACTIVE_ACTIVE_KEY_PARALLEL_PROCESSING_THREAD_POOL_SIZE,
+        Runtime.getRuntime().availableProcessors());
+    binaryPartialUpdateEnabled = serverProperties.getBoolean(SERVER_BINARY_PARTIAL_UPDATE_ENABLED, false);
     optimizeDatabaseForBackupVersionEnabled =
         serverProperties.getBoolean(SERVER_OPTIMIZE_DATABASE_FOR_BACKUP_VERSION_ENABLED, false);
     optimizeDatabaseForBackupVersionNoReadThresholdMS = serverProperties
@@ -674,6 +757,18 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return this.storeWriterBufferNotifyDelta;
   }
 
+  public int getStoreWriterDrainBatchMaxRecords() {
+    return this.storeWriterDrainBatchMaxRecords;
+  }
+
+  public long getStoreWriterDrainBatchMaxBytes() {
+    return this.storeWriterDrainBatchMaxBytes;
+  }
+
+  public boolean isStoreWriterRocksDBWriteBatchEnabled() {
+    return this.storeWriterRocksDBWriteBatchEnabled;
+  }
+
   public int getRestServiceStorageThreadNum() {
     return restServiceStorageThreadNum;
   }
@@ -800,6 +895,66 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return parallelBatchGetChunkSize;
   }
 
+  public boolean isAdaptiveParallelBatchGetEnabled() {
+    return adaptiveParallelBatchGetEnabled;
+  }
+
+  public int getAdaptiveParallelBatchGetThreadNum() {
+    return adaptiveParallelBatchGetThreadNum;
+  }
+
+  public int getAdaptiveParallelBatchGetTargetChunkLatencyUs() {
+    return adaptiveParallelBatchGetTargetChunkLatencyUs;
+  }
+
+  public boolean isVirtualThreadExecutionEnabled() {
+    return virtualThreadExecutionEnabled;
+  }
+
+  public int getVirtualThreadReadMaxConcurrency() {
+    return virtualThreadReadMaxConcurrency;
+  }
+
+  public int getVirtualThreadComputeMaxConcurrency() {
+    return virtualThreadComputeMaxConcurrency;
+  }
+
+  public int getVirtualThreadQueueCapacity() {
+    return virtualThreadQueueCapacity;
+  }
+
+  public int getComputeReusableObjectsPoolSize() {
+    return computeReusableObjectsPoolSize;
+  }
+
+  public int getComputeReusableByteBufferSize() {
+    return computeReusableByteBufferSize;
+  }
+
+  public int getComputeReusableRecordCacheSize() {
+    return computeReusableRecordCacheSize;
+  }
+
+  public boolean isBatchLookupEnabled() {
+    return batchLookupEnabled;
+  }
+
+  public boolean isDirectBufferReadEnabled() {
+    return directBufferReadEnabled;
+  }
+
+  public boolean isHotKeyCacheEnabled() {
+    return hotKeyCacheEnabled;
+  }
+
+  public long getHotKeyCacheCapacityPerVersion() {
+    return hotKeyCacheCapacityPerVersion;
+  }
+
+  public int getHotKeyCacheMaxValueSize() {
+    return hotKeyCacheMaxValueSize;
+  }
+
   public boolean isKeyValueProfilingEnabled() {
     return keyValueProfilingEnabled;
   }
@@ -996,6 +1151,22 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return serverIngestionCheckpointDuringGracefulShutdownEnabled;
   }
 
+  public boolean isActiveActiveBatchPrefetchEnabled() {
+    return activeActiveBatchPrefetchEnabled;
+  }
+
+  public boolean isActiveActiveKeyParallelProcessingEnabled() {
+    return activeActiveKeyParallelProcessingEnabled;
+  }
+
+  public int getActiveActiveKeyParallelProcessingThreadPoolSize() {
+    return activeActiveKeyParallelProcessingThreadPoolSize;
+  }
+
+  public boolean isBinaryPartialUpdateEnabled() {
+    return binaryPartialUpdateEnabled;
+  }
+
   public int getRemoteIngestionRepairSleepInterval() {
     return remoteIngestionRepairSleepInterval;
   }
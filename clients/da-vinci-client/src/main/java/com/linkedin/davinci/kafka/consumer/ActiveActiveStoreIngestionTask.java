@@ -43,6 +43,7 @@ import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.schema.rmd.RmdUtils;
 import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.LatencyUtils;
+import com.linkedin.venice.utils.Pair;
 import com.linkedin.venice.utils.Time;
 import com.linkedin.venice.utils.lazy.Lazy;
 import com.linkedin.venice.writer.ChunkAwareCallback;
@@ -54,16 +55,22 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
+import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
 import org.apache.logging.log4j.LogManager;
@@ -76,13 +83,26 @@ import org.apache.logging.log4j.Logger;
 public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestionTask {
   private static final Logger LOGGER = LogManager.getLogger(ActiveActiveStoreIngestionTask.class);
   private static final byte[] BINARY_DECODER_PARAM = new byte[16];
+  private static final int KEY_LEVEL_LOCK_STRIPES_PER_CONCURRENT_KEY = 16;
+  /**
+   * A batch processed by key in parallel can hold at most this fraction of the key level lock stripes at once, see
+   * {@link #getKeyLevelLocksOfBatch}.
+   */
+  private static final int MAX_KEY_LEVEL_LOCK_STRIPES_FRACTION_PER_BATCH = 4;
 
   private final int rmdProtocolVersionID;
   private final MergeConflictResolver mergeConflictResolver;
   private final RmdSerDe rmdSerDe;
-  private final Lazy<KeyLevelLocksManager> keyLevelLocksManager;
+  private final Lazy<StripedKeyLevelLocksManager> keyLevelLocksManager;
   private final AggVersionedIngestionStats aggVersionedIngestionStats;
   private final RemoteIngestionRepairService remoteIngestionRepairService;
+  private final boolean batchPrefetchEnabled;
+  private final ExecutorService keyParallelProcessingExecutor;
+  private final int keyParallelProcessingThreadPoolSize;
+  /**
+   * The results of {@link #processKeysInParallel} by offset, for the batch being processed by the current thread.
+   */
+  private final ThreadLocal<Map<Long, KeyParallelMergeResult>> threadLocalKeyParallelMergeResults = new ThreadLocal<>();
 
   private static class ReusableObjects {
     // reuse buffer for rocksDB value object
@@ -118,14 +138,15 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
     this.aggVersionedIngestionStats = versionedIngestionStats;
     int knownKafkaClusterNumber = serverConfig.getKafkaClusterIdToUrlMap().size();
     int consumerPoolSizePerKafkaCluster = serverConfig.getConsumerPoolSizePerKafkaCluster();
-    int initialPoolSize = knownKafkaClusterNumber + 1;
     /**
      * In theory, the maximum # of keys each ingestion task can process is the # of consumers allocated for it.
+     * Over-provision the stripes by {@link #KEY_LEVEL_LOCK_STRIPES_PER_CONCURRENT_KEY} so that different keys
+     * processed at the same time rarely share a lock.
      */
-    int maxKeyLevelLocksPoolSize =
+    int maxConcurrentKeys =
         Math.min(storeVersionPartitionCount, consumerPoolSizePerKafkaCluster) * knownKafkaClusterNumber + 1;
-    this.keyLevelLocksManager =
-        Lazy.of(() -> new KeyLevelLocksManager(getVersionTopic().getName(), initialPoolSize, maxKeyLevelLocksPoolSize));
+    this.keyLevelLocksManager = Lazy.of(
+        () -> new StripedKeyLevelLocksManager(maxConcurrentKeys * KEY_LEVEL_LOCK_STRIPES_PER_CONCURRENT_KEY));
     StringAnnotatedStoreSchemaCache annotatedReadOnlySchemaRepository =
         new StringAnnotatedStoreSchemaCache(storeName, schemaRepository);
 
@@ -137,6 +158,333 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
             getStoreName(),
             isWriteComputationEnabled);
     this.remoteIngestionRepairService = builder.getRemoteIngestionRepairService();
+    this.batchPrefetchEnabled = serverConfig.isActiveActiveBatchPrefetchEnabled();
+    this.keyParallelProcessingExecutor = builder.getKeyParallelProcessingExecutor();
+    this.keyParallelProcessingThreadPoolSize = serverConfig.getActiveActiveKeyParallelProcessingThreadPoolSize();
+  }
+
+  @Override
+  protected void produceToStoreBufferServiceOrKafka(
+      Iterable<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> records,
+      PubSubTopicPartition topicPartition,
+      String kafkaUrl,
+      int kafkaClusterId) throws InterruptedException {
+    boolean batchProcessingEnabled = batchPrefetchEnabled || keyParallelProcessingExecutor != null;
+    PartitionConsumptionState partitionConsumptionState =
+        batchProcessingEnabled ? getPartitionConsumptionStateForBatchProcessing(topicPartition) : null;
+    if (partitionConsumptionState == null) {
+      super.produceToStoreBufferServiceOrKafka(records, topicPartition, kafkaUrl, kafkaClusterId);
+      return;
+    }
+    PartitionConsumptionState.PrefetchBatch prefetchBatch =
+        batchPrefetchEnabled ? prefetchRecords(records, partitionConsumptionState) : null;
+    List<ReentrantLock> keyLevelLocks = Collections.emptyList();
+    try {
+      if (keyParallelProcessingExecutor != null) {
+        Map<ByteArrayKey, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> recordsByKey =
+            groupRecordsByKey(records);
+        List<ReentrantLock> locksOfBatch = getKeyLevelLocksOfBatch(recordsByKey);
+        if (locksOfBatch != null) {
+          locksOfBatch.forEach(ReentrantLock::lock);
+          keyLevelLocks = locksOfBatch;
+          threadLocalKeyParallelMergeResults
+              .set(processKeysInParallel(recordsByKey, partitionConsumptionState, kafkaClusterId));
+        }
+      }
+      super.produceToStoreBufferServiceOrKafka(records, topicPartition, kafkaUrl, kafkaClusterId);
+    } finally {
+      threadLocalKeyParallelMergeResults.remove();
+      keyLevelLocks.forEach(ReentrantLock::unlock);
+      if (prefetchBatch != null) {
+        prefetchBatch.clear();
+      }
+    }
+  }
+
+  /**
+   * Lock all the keys of the batch until the whole batch is produced to VT, so that the consumers of the other regions
+   * can't update any of these keys between the conflict resolution done ahead by {@link #processKeysInParallel} and the
+   * produce of its result. The locks of the individual records taken by {@link #delegateConsumerRecord} are reentrant.
+   *
+   * The {@link StripedKeyLevelLocksManager} is shared by all the partitions of this store version, and the locks are
+   * held for the whole batch, including the blocking hand-off of each record, so a batch spanning many stripes would
+   * stall the other consumers whose keys merely share a stripe with it. The batch is therefore only processed by key in
+   * parallel if its keys span at most 1/{@link #MAX_KEY_LEVEL_LOCK_STRIPES_FRACTION_PER_BATCH} of the stripes.
+   *
+   * @return the distinct locks of the keys of the batch in locking order, or null if the batch should be processed one
+   *         record at a time instead.
+   */
+  private List<ReentrantLock> getKeyLevelLocksOfBatch(
+      Map<ByteArrayKey, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> recordsByKey) {
+    if (recordsByKey.size() <= 1) {
+      return null;
+    }
+    StripedKeyLevelLocksManager locksManager = keyLevelLocksManager.get();
+    int maxLocksPerBatch = locksManager.getStripeCount() / MAX_KEY_LEVEL_LOCK_STRIPES_FRACTION_PER_BATCH;
+    List<ReentrantLock> locks = locksManager.getLocksByKeys(recordsByKey.keySet());
+    return locks.size() > maxLocksPerBatch ? null : locks;
+  }
+
+  /**
+   * @return the {@link PartitionConsumptionState} of the partition if the batch consumed from {@param topicPartition}
+   *         will go through conflict resolution in {@link #processMessageAndMaybeProduceToKafka}, otherwise null.
+   */
+  private PartitionConsumptionState getPartitionConsumptionStateForBatchProcessing(
+      PubSubTopicPartition topicPartition) {
+    if (!topicPartition.getPubSubTopic().isRealTime() || amplificationFactor != 1) {
+      return null;
+    }
+    PartitionConsumptionState partitionConsumptionState =
+        partitionConsumptionStateMap.get(topicPartition.getPartitionNumber());
+    if (partitionConsumptionState == null || !partitionConsumptionState.getLeaderFollowerState().equals(LEADER)
+        || !partitionConsumptionState.isEndOfPushReceived()
+        || isDataRecovery && partitionConsumptionState.getTopicSwitch() != null) {
+      return null;
+    }
+    return partitionConsumptionState;
+  }
+
+  /**
+   * Read the values and RMDs of all the keys in a batch of real-time records with a single batched lookup against the
+   * storage engine, instead of two point lookups per record during conflict resolution. Keys which are already in the
+   * transient record map are skipped since the transient record takes precedence over the DB anyway.
+   *
+   * @return the batch of the prefetched records to be cleared once the records are processed, or null if nothing is
+   *         prefetched.
+   */
+  PartitionConsumptionState.PrefetchBatch prefetchRecords(
+      Iterable<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> records,
+      PartitionConsumptionState partitionConsumptionState) {
+    // Started before checking the transient records, so that the ones set from now on invalidate their keys
+    PartitionConsumptionState.PrefetchBatch prefetchBatch = partitionConsumptionState.startPrefetchBatch();
+    List<byte[]> keys = new ArrayList<>();
+    Set<ByteArrayKey> uniqueKeys = new HashSet<>();
+    for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record: records) {
+      KafkaKey kafkaKey = record.getKey();
+      if (kafkaKey.isControlMessage()) {
+        continue;
+      }
+      byte[] keyBytes = kafkaKey.getKey();
+      if (partitionConsumptionState.getTransientRecord(keyBytes) == null
+          && uniqueKeys.add(ByteArrayKey.wrap(keyBytes))) {
+        keys.add(keyBytes);
+      }
+    }
+    if (keys.isEmpty()) {
+      prefetchBatch.clear();
+      return null;
+    }
+    List<byte[]> storageKeys = keys;
+    if (isChunked()) {
+      storageKeys = new ArrayList<>(keys.size());
+      for (byte[] keyBytes: keys) {
+        storageKeys.add(ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(keyBytes));
+      }
+    }
+    Pair<List<byte[]>, List<byte[]>> valuesAndRmds;
+    try {
+      valuesAndRmds =
+          getStorageEngine().multiGetWithReplicationMetadata(partitionConsumptionState.getPartition(), storageKeys);
+    } catch (Throwable e) {
+      prefetchBatch.clear();
+      throw e;
+    }
+    prefetchBatch.setPrefetchedRecords(keys, valuesAndRmds.getFirst(), valuesAndRmds.getSecond());
+    return prefetchBatch;
+  }
+
+  /**
+   * Group the records of a batch by key, keeping the consumed order of the records of the same key. Control messages
+   * are grouped as well since their keys are locked by {@link #delegateConsumerRecord} too.
+   */
+  private static Map<ByteArrayKey, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> groupRecordsByKey(
+      Iterable<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> records) {
+    Map<ByteArrayKey, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> recordsByKey = new LinkedHashMap<>();
+    for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record: records) {
+      recordsByKey.computeIfAbsent(ByteArrayKey.wrap(record.getKey().getKey()), k -> new ArrayList<>(1)).add(record);
+    }
+    return recordsByKey;
+  }
+
+  /**
+   * Run the conflict resolution of the data records of a batch in parallel: the distinct keys are spread evenly across
+   * the {@link #keyParallelProcessingExecutor} while the records of the same key are resolved one after another, each
+   * one against the result of the previous one, which is what the transient record map would hold by then.
+   *
+   * The results are only used by {@link #processMessageAndMaybeProduceToKafka}, which still runs in the consumed order
+   * in this thread after DIV, if all the previous records of the same key in the batch have been applied. Otherwise,
+   * such as when a record turns out to be a duplicate, the remaining records of that key fall back to the regular path.
+   * Nothing in {@link PartitionConsumptionState} is updated here.
+   */
+  private Map<Long, KeyParallelMergeResult> processKeysInParallel(
+      Map<ByteArrayKey, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> recordsByKey,
+      PartitionConsumptionState partitionConsumptionState,
+      int kafkaClusterId) throws InterruptedException {
+    int shardCount = Math.min(keyParallelProcessingThreadPoolSize, recordsByKey.size());
+    List<List<List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>>> shards = new ArrayList<>(shardCount);
+    for (int i = 0; i < shardCount; i++) {
+      shards.add(new ArrayList<>());
+    }
+    int keyIndex = 0;
+    for (List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> recordsOfKey: recordsByKey.values()) {
+      shards.get(keyIndex++ % shardCount).add(recordsOfKey);
+    }
+
+    long currentTimeForMetricsMs = System.currentTimeMillis();
+    List<Future<Map<Long, KeyParallelMergeResult>>> futures = new ArrayList<>(shardCount - 1);
+    for (int i = 1; i < shardCount; i++) {
+      List<List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> shard = shards.get(i);
+      futures.add(
+          keyParallelProcessingExecutor.submit(
+              () -> processShard(shard, partitionConsumptionState, kafkaClusterId, currentTimeForMetricsMs)));
+    }
+    // The current thread takes the first shard instead of waiting idly
+    Map<Long, KeyParallelMergeResult> results =
+        processShard(shards.get(0), partitionConsumptionState, kafkaClusterId, currentTimeForMetricsMs);
+    try {
+      for (Future<Map<Long, KeyParallelMergeResult>> future: futures) {
+        results.putAll(future.get());
+      }
+    } catch (ExecutionException e) {
+      throw new VeniceException(consumerTaskId + " : Failed to process keys in parallel", e.getCause());
+    } finally {
+      futures.forEach(future -> future.cancel(true));
+    }
+    return results;
+  }
+
+  Map<Long, KeyParallelMergeResult> processShard(
+      List<List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> shard,
+      PartitionConsumptionState partitionConsumptionState,
+      int kafkaClusterId,
+      long currentTimeForMetricsMs) {
+    Map<Long, KeyParallelMergeResult> results = new HashMap<>();
+    int partition = partitionConsumptionState.getPartition();
+    for (List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> recordsOfKey: shard) {
+      byte[] keyBytes = recordsOfKey.get(0).getKey().getKey();
+      KeyParallelMergeResult previousResult = null;
+      Lazy<ByteBuffer> oldValueProvider = null;
+      RmdWithValueSchemaId oldRmdWithValueSchemaId = null;
+      boolean anyResultApplied = false;
+      for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record: recordsOfKey) {
+        if (record.getKey().isControlMessage()) {
+          break;
+        }
+        if (oldValueProvider == null) {
+          // Read the existing value and RMD the same way as the regular path, since this key has no local result yet
+          oldValueProvider = Lazy.of(
+              () -> getValueBytesForKey(
+                  partitionConsumptionState,
+                  keyBytes,
+                  record.getTopicPartition(),
+                  currentTimeForMetricsMs));
+          oldRmdWithValueSchemaId = getReplicationMetadataAndSchemaIdCopy(
+              partitionConsumptionState,
+              keyBytes,
+              partition,
+              currentTimeForMetricsMs);
+        }
+        MergeConflictResultWrapper mergeConflictResultWrapper;
+        try {
+          mergeConflictResultWrapper = processActiveActiveMessage(
+              record,
+              partitionConsumptionState,
+              kafkaClusterId,
+              oldValueProvider,
+              oldRmdWithValueSchemaId);
+        } catch (Exception e) {
+          // Leave this record and the rest of this key to the regular path, which surfaces the error in order
+          LOGGER.debug("{} : Falling back to process the record at offset: {}", consumerTaskId, record.getOffset(), e);
+          break;
+        }
+        previousResult = new KeyParallelMergeResult(mergeConflictResultWrapper, previousResult);
+        results.put(record.getOffset(), previousResult);
+
+        MergeConflictResult mergeConflictResult = mergeConflictResultWrapper.getMergeConflictResult();
+        if (mergeConflictResult.isUpdateIgnored()) {
+          if (!anyResultApplied) {
+            // Nothing of this key is applied yet, so the next record reads the existing value and RMD again like the
+            // regular path
+            oldValueProvider = null;
+          }
+          continue;
+        }
+        anyResultApplied = true;
+        // What the transient record would hold after applying this record, see producePutOrDeleteToKafka
+        ByteBuffer updatedValueBytes = mergeConflictResultWrapper.getUpdatedValueBytes();
+        if (updatedValueBytes == null) {
+          oldValueProvider = Lazy.of(() -> null);
+        } else {
+          byte[] value = updatedValueBytes.array();
+          int valueOffset = updatedValueBytes.position();
+          int valueLen = updatedValueBytes.remaining();
+          oldValueProvider = Lazy.of(() -> ByteBuffer.wrap(value, valueOffset, valueLen));
+        }
+        // Copied since the resolution of the next record may update it in place while this result is yet to be produced
+        oldRmdWithValueSchemaId = new RmdWithValueSchemaId(
+            mergeConflictResult.getValueSchemaId(),
+            getRmdProtocolVersionID(),
+            copyRmdRecord(mergeConflictResult.getRmdRecord()));
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Same as {@link #getReplicationMetadataAndSchemaId}, except that the RMD of the transient record is copied, since
+   * conflict resolution may update the RMD in place while the record being resolved ahead of DIV might turn out to be
+   * a duplicate.
+   */
+  RmdWithValueSchemaId getReplicationMetadataAndSchemaIdCopy(
+      PartitionConsumptionState partitionConsumptionState,
+      byte[] key,
+      int subPartition,
+      long currentTimeForMetricsMs) {
+    PartitionConsumptionState.TransientRecord cachedRecord = partitionConsumptionState.getTransientRecord(key);
+    if (cachedRecord != null) {
+      getHostLevelIngestionStats().recordIngestionReplicationMetadataCacheHitCount(currentTimeForMetricsMs);
+      return new RmdWithValueSchemaId(
+          cachedRecord.getValueSchemaId(),
+          getRmdProtocolVersionID(),
+          copyRmdRecord(cachedRecord.getReplicationMetadataRecord()));
+    }
+    return getReplicationMetadataAndSchemaId(partitionConsumptionState, key, subPartition, currentTimeForMetricsMs);
+  }
+
+  private static GenericRecord copyRmdRecord(GenericRecord rmdRecord) {
+    return rmdRecord == null ? null : GenericData.get().deepCopy(rmdRecord.getSchema(), rmdRecord);
+  }
+
+  /**
+   * @return the result of {@link #processKeysInParallel} for the record if it is still valid, otherwise null.
+   */
+  static MergeConflictResultWrapper consumeKeyParallelMergeResult(
+      Map<Long, KeyParallelMergeResult> results,
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord) {
+    if (results == null) {
+      return null;
+    }
+    KeyParallelMergeResult result = results.remove(consumerRecord.getOffset());
+    if (result == null || (result.predecessor != null && !result.predecessor.applied)) {
+      return null;
+    }
+    result.applied = true;
+    return result.mergeConflictResultWrapper;
+  }
+
+  /**
+   * The result of {@link #processKeysInParallel} for a record, which is only valid if the result of the previous record
+   * of the same key in the batch, if any, has been applied.
+   */
+  static class KeyParallelMergeResult {
+    private final MergeConflictResultWrapper mergeConflictResultWrapper;
+    private final KeyParallelMergeResult predecessor;
+    private boolean applied = false;
+
+    KeyParallelMergeResult(MergeConflictResultWrapper mergeConflictResultWrapper, KeyParallelMergeResult predecessor) {
+      this.mergeConflictResultWrapper = mergeConflictResultWrapper;
+      this.predecessor = predecessor;
+    }
   }
 
   @Override
@@ -171,8 +519,13 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
        * -> [fabric A thread]produce to VT
        */
       final ByteArrayKey byteArrayKey = ByteArrayKey.wrap(consumerRecord.getKey().getKey());
-      ReentrantLock keyLevelLock = this.keyLevelLocksManager.get().acquireLockByKey(byteArrayKey);
-      keyLevelLock.lock();
+      ReentrantLock keyLevelLock = this.keyLevelLocksManager.get().getLockByKey(byteArrayKey);
+      if (!keyLevelLock.tryLock()) {
+        // Another thread is working on the same key, or on a different key sharing the same stripe
+        long lockWaitStartTimeNs = System.nanoTime();
+        keyLevelLock.lock();
+        hostLevelIngestionStats.recordLeaderKeyLevelLockContention(LatencyUtils.getLatencyInMS(lockWaitStartTimeNs));
+      }
       try {
         return super.delegateConsumerRecord(
             consumerRecord,
@@ -183,7 +536,6 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
             currentTimeForMetricsMs);
       } finally {
         keyLevelLock.unlock();
-        this.keyLevelLocksManager.get().releaseLock(byteArrayKey);
       }
     }
   }
@@ -305,8 +657,10 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
           getRmdProtocolVersionID(),
           cachedRecord.getReplicationMetadataRecord());
     }
-    byte[] replicationMetadataWithValueSchemaBytes =
-        getRmdWithValueSchemaByteBufferFromStorage(subPartition, key, currentTimeForMetricsMs);
+    PartitionConsumptionState.PrefetchedRecord prefetchedRecord = partitionConsumptionState.getPrefetchedRecord(key);
+    byte[] replicationMetadataWithValueSchemaBytes = prefetchedRecord != null
+        ? getRmdWithValueSchemaBytesFromPrefetchedRecord(subPartition, prefetchedRecord)
+        : getRmdWithValueSchemaByteBufferFromStorage(subPartition, key, currentTimeForMetricsMs);
     if (replicationMetadataWithValueSchemaBytes == null) {
       return null; // No RMD for this key
     }
@@ -326,6 +680,16 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
     return result.serialize();
   }
 
+  private byte[] getRmdWithValueSchemaBytesFromPrefetchedRecord(
+      int subPartition,
+      PartitionConsumptionState.PrefetchedRecord prefetchedRecord) {
+    ValueRecord result = SingleGetChunkingAdapter.getReplicationMetadataFromPrefetchedValue(
+        getStorageEngine(),
+        subPartition,
+        prefetchedRecord.getReplicationMetadata());
+    return result == null ? null : result.serialize();
+  }
+
   // This function may modify the original record in KME and it is unsafe to use the payload from KME directly after
   // this function.
   protected void processMessageAndMaybeProduceToKafka(
@@ -354,9 +718,94 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
           currentTimeForMetricsMs);
       return;
     }
-    KafkaKey kafkaKey = consumerRecord.getKey();
+    byte[] keyBytes = consumerRecord.getKey().getKey();
+    MergeConflictResultWrapper mergeConflictResultWrapper =
+        consumeKeyParallelMergeResult(threadLocalKeyParallelMergeResults.get(), consumerRecord);
+    if (mergeConflictResultWrapper == null) {
+      Lazy<ByteBuffer> oldValueProvider = Lazy.of(
+          () -> getValueBytesForKey(
+              partitionConsumptionState,
+              keyBytes,
+              consumerRecord.getTopicPartition(),
+              currentTimeForMetricsMs));
+      mergeConflictResultWrapper = processActiveActiveMessage(
+          consumerRecord,
+          partitionConsumptionState,
+          kafkaClusterId,
+          oldValueProvider,
+          getReplicationMetadataAndSchemaId(
+              partitionConsumptionState,
+              keyBytes,
+              subPartition,
+              currentTimeForMetricsMs));
+    }
+    MergeConflictResult mergeConflictResult = mergeConflictResultWrapper.getMergeConflictResult();
+
+    aggVersionedIngestionStats.recordTotalDCR(storeName, versionNumber);
+    aggVersionedIngestionStats.recordConsumedRecordEndToEndProcessingLatency(
+        storeName,
+        versionNumber,
+        LatencyUtils.getLatencyInMS(beforeProcessingRecordTimestampNs),
+        currentTimeForMetricsMs);
+
+    if (mergeConflictResult.isUpdateIgnored()) {
+      hostLevelIngestionStats.recordUpdateIgnoredDCR();
+      // Record the last ignored offset
+      partitionConsumptionState
+          .updateLatestIgnoredUpstreamRTOffset(kafkaClusterIdToUrlMap.get(kafkaClusterId), consumerRecord.getOffset());
+    } else {
+      validatePostOperationResultsAndRecord(
+          mergeConflictResult,
+          mergeConflictResultWrapper.getOffsetSumPreOperation(),
+          mergeConflictResultWrapper.getRecordTimestampsPreOperation());
+
+      // Apply this update to any views for this store
+      // TODO: It'd be good to be able to do this in LeaderFollowerStoreIngestionTask instead, however, AA currently is
+      // the
+      // only extension of IngestionTask which does a read from disk before applying the record. This makes the
+      // following function
+      // call in this context much less obtrusive, however, it implies that all views can only work for AA stores
+      RmdWithValueSchemaId rmdWithValueSchemaID = mergeConflictResultWrapper.getOldRmdWithValueSchemaId();
+      int incomingValueSchemaId = mergeConflictResultWrapper.getIncomingValueSchemaId();
+      int valueSchemaId =
+          rmdWithValueSchemaID != null ? rmdWithValueSchemaID.getValueSchemaId() : incomingValueSchemaId;
+      Lazy<ByteBuffer> oldValueProvider = mergeConflictResultWrapper.getOldValueProvider();
+      this.viewWriters.forEach(
+          (k, v) -> v.processRecord(
+              mergeConflictResult.getNewValue(),
+              oldValueProvider.get(),
+              keyBytes,
+              versionNumber,
+              incomingValueSchemaId,
+              valueSchemaId,
+              mergeConflictResult.getRmdRecord()));
+
+      // This function may modify the original record in KME and it is unsafe to use the payload from KME directly after
+      // this call.
+      producePutOrDeleteToKafka(
+          mergeConflictResultWrapper,
+          partitionConsumptionState,
+          keyBytes,
+          consumerRecord,
+          subPartition,
+          kafkaUrl,
+          kafkaClusterId,
+          beforeProcessingRecordTimestampNs);
+    }
+  }
+
+  /**
+   * Perform the conflict resolution of a record from the real-time topic against the given existing value and RMD of
+   * its key. This function doesn't update any state of the partition, so it can be executed ahead of producing the
+   * result, see {@link #processKeysInParallel}.
+   */
+  MergeConflictResultWrapper processActiveActiveMessage(
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
+      PartitionConsumptionState partitionConsumptionState,
+      int kafkaClusterId,
+      Lazy<ByteBuffer> oldValueProvider,
+      RmdWithValueSchemaId rmdWithValueSchemaID) {
     KafkaMessageEnvelope kafkaValue = consumerRecord.getValue();
-    byte[] keyBytes = kafkaKey.getKey();
     MessageType msgType = MessageType.valueOf(kafkaValue.messageType);
     final int incomingValueSchemaId;
     final int incomingWriteComputeSchemaId;
@@ -380,16 +829,6 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
             consumerTaskId + " : Invalid/Unrecognized operation type submitted: " + kafkaValue.messageType);
     }
 
-    Lazy<ByteBuffer> oldValueProvider = Lazy.of(
-        () -> getValueBytesForKey(
-            partitionConsumptionState,
-            keyBytes,
-            consumerRecord.getTopicPartition(),
-            currentTimeForMetricsMs));
-
-    final RmdWithValueSchemaId rmdWithValueSchemaID =
-        getReplicationMetadataAndSchemaId(partitionConsumptionState, keyBytes, subPartition, currentTimeForMetricsMs);
-
     final long writeTimestamp = getWriteTimestampFromKME(kafkaValue);
     final long offsetSumPreOperation =
         rmdWithValueSchemaID != null ? RmdUtils.extractOffsetVectorSumFromRmd(rmdWithValueSchemaID.getRmdRecord()) : 0;
@@ -400,8 +839,6 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
     long sourceOffset = consumerRecord.getOffset();
     final MergeConflictResult mergeConflictResult;
 
-    aggVersionedIngestionStats.recordTotalDCR(storeName, versionNumber);
-
     switch (msgType) {
       case PUT:
         mergeConflictResult = mergeConflictResolver.put(
@@ -445,50 +882,25 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
             consumerTaskId + " : Invalid/Unrecognized operation type submitted: " + kafkaValue.messageType);
     }
 
-    aggVersionedIngestionStats.recordConsumedRecordEndToEndProcessingLatency(
-        storeName,
-        versionNumber,
-        LatencyUtils.getLatencyInMS(beforeProcessingRecordTimestampNs),
-        currentTimeForMetricsMs);
-
-    if (mergeConflictResult.isUpdateIgnored()) {
-      hostLevelIngestionStats.recordUpdateIgnoredDCR();
-      // Record the last ignored offset
-      partitionConsumptionState
-          .updateLatestIgnoredUpstreamRTOffset(kafkaClusterIdToUrlMap.get(kafkaClusterId), sourceOffset);
-    } else {
-      validatePostOperationResultsAndRecord(mergeConflictResult, offsetSumPreOperation, recordTimestampsPreOperation);
-
-      // Apply this update to any views for this store
-      // TODO: It'd be good to be able to do this in LeaderFollowerStoreIngestionTask instead, however, AA currently is
-      // the
-      // only extension of IngestionTask which does a read from disk before applying the record. This makes the
-      // following function
-      // call in this context much less obtrusive, however, it implies that all views can only work for AA stores
-      int valueSchemaId =
-          rmdWithValueSchemaID != null ? rmdWithValueSchemaID.getValueSchemaId() : incomingValueSchemaId;
-      this.viewWriters.forEach(
-          (k, v) -> v.processRecord(
-              mergeConflictResult.getNewValue(),
-              oldValueProvider.get(),
-              keyBytes,
-              versionNumber,
-              incomingValueSchemaId,
-              valueSchemaId,
-              mergeConflictResult.getRmdRecord()));
-
-      // This function may modify the original record in KME and it is unsafe to use the payload from KME directly after
-      // this call.
-      producePutOrDeleteToKafka(
-          mergeConflictResult,
-          partitionConsumptionState,
-          keyBytes,
-          consumerRecord,
-          subPartition,
-          kafkaUrl,
-          kafkaClusterId,
-          beforeProcessingRecordTimestampNs);
+    ByteBuffer updatedValueBytes = null;
+    ByteBuffer updatedRmdBytes = null;
+    if (!mergeConflictResult.isUpdateIgnored()) {
+      updatedValueBytes = maybeCompressData(
+          consumerRecord.getTopicPartition().getPartitionNumber(),
+          mergeConflictResult.getNewValue(),
+          partitionConsumptionState);
+      updatedRmdBytes =
+          rmdSerDe.serializeRmdRecord(mergeConflictResult.getValueSchemaId(), mergeConflictResult.getRmdRecord());
     }
+    return new MergeConflictResultWrapper(
+        mergeConflictResult,
+        oldValueProvider,
+        rmdWithValueSchemaID,
+        incomingValueSchemaId,
+        offsetSumPreOperation,
+        recordTimestampsPreOperation,
+        updatedValueBytes,
+        updatedRmdBytes);
   }
 
   private long getWriteTimestampFromKME(KafkaMessageEnvelope kme) {
@@ -556,20 +968,35 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
       ReusableObjects reusableObjects = threadLocalReusableObjects.get();
       ByteBuffer reusedRawValue = reusableObjects.reusedByteBuffer;
       BinaryDecoder binaryDecoder = reusableObjects.binaryDecoder;
-
-      originalValue = RawBytesChunkingAdapter.INSTANCE.get(
-          storageEngine,
-          getSubPartitionId(key, topicPartition),
-          ByteBuffer.wrap(key),
-          isChunked,
-          reusedRawValue,
-          binaryDecoder,
-          null,
-          compressionStrategy,
-          serverConfig.isComputeFastAvroEnabled(),
-          schemaRepository,
-          storeName,
-          compressor.get());
+      PartitionConsumptionState.PrefetchedRecord prefetchedRecord = partitionConsumptionState.getPrefetchedRecord(key);
+
+      if (prefetchedRecord != null) {
+        originalValue = RawBytesChunkingAdapter.INSTANCE.getFromPrefetchedValue(
+            storeName,
+            storageEngine,
+            getSubPartitionId(key, topicPartition),
+            prefetchedRecord.getValue(),
+            reusedRawValue,
+            binaryDecoder,
+            compressionStrategy,
+            serverConfig.isComputeFastAvroEnabled(),
+            schemaRepository,
+            compressor.get());
+      } else {
+        originalValue = RawBytesChunkingAdapter.INSTANCE.get(
+            storageEngine,
+            getSubPartitionId(key, topicPartition),
+            ByteBuffer.wrap(key),
+            isChunked,
+            reusedRawValue,
+            binaryDecoder,
+            null,
+            compressionStrategy,
+            serverConfig.isComputeFastAvroEnabled(),
+            schemaRepository,
+            storeName,
+            compressor.get());
+      }
       hostLevelIngestionStats.recordIngestionValueBytesLookUpLatency(
           LatencyUtils.getLatencyInMS(lookupStartTimeInNS),
           currentTimeForMetricsMs);
@@ -590,7 +1017,7 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
    *
    * This function may modify the original record in KME and it is unsafe to use the payload from KME directly after this function.
    *
-   * @param mergeConflictResult The result of conflict resolution.
+   * @param mergeConflictResultWrapper The result of conflict resolution.
    * @param partitionConsumptionState The {@link PartitionConsumptionState} of the current partition
    * @param key The key bytes of the incoming record.
    * @param consumerRecord The {@link PubSubMessage} for the current record.
@@ -598,7 +1025,7 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
    * @param kafkaUrl
    */
   private void producePutOrDeleteToKafka(
-      MergeConflictResult mergeConflictResult,
+      MergeConflictResultWrapper mergeConflictResultWrapper,
       PartitionConsumptionState partitionConsumptionState,
       byte[] key,
       PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
@@ -607,15 +1034,12 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
       int kafkaClusterId,
       long beforeProcessingRecordTimestampNs) {
 
-    final ByteBuffer updatedValueBytes = maybeCompressData(
-        consumerRecord.getTopicPartition().getPartitionNumber(),
-        mergeConflictResult.getNewValue(),
-        partitionConsumptionState);
+    MergeConflictResult mergeConflictResult = mergeConflictResultWrapper.getMergeConflictResult();
+    final ByteBuffer updatedValueBytes = mergeConflictResultWrapper.getUpdatedValueBytes();
     final int valueSchemaId = mergeConflictResult.getValueSchemaId();
 
     GenericRecord rmdRecord = mergeConflictResult.getRmdRecord();
-    final ByteBuffer updatedRmdBytes =
-        rmdSerDe.serializeRmdRecord(mergeConflictResult.getValueSchemaId(), mergeConflictResult.getRmdRecord());
+    final ByteBuffer updatedRmdBytes = mergeConflictResultWrapper.getUpdatedRmdBytes();
 
     // finally produce and update the transient record map.
     if (updatedValueBytes == null) {
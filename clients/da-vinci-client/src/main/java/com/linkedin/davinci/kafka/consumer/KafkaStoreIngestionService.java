@@ -193,6 +193,8 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
 
   private ExecutorService ingestionExecutorService;
 
+  private final ExecutorService keyParallelProcessingExecutorService;
+
   private ParticipantStoreConsumptionTask participantStoreConsumptionTask;
 
   private boolean metaSystemStoreReplicaStatusNotifierQueued = false;
@@ -390,7 +392,10 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
           serverConfig.getStoreWriterNumber(),
           serverConfig.getStoreWriterBufferMemoryCapacity(),
           serverConfig.getStoreWriterBufferNotifyDelta(),
-          serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled());
+          serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled(),
+          serverConfig.getStoreWriterDrainBatchMaxRecords(),
+          serverConfig.getStoreWriterDrainBatchMaxBytes(),
+          serverConfig.isStoreWriterRocksDBWriteBatchEnabled());
     }
     this.kafkaMessageEnvelopeSchemaReader = kafkaMessageEnvelopeSchemaReader;
     /**
@@ -463,6 +468,14 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
 
     VeniceViewWriterFactory viewWriterFactory = new VeniceViewWriterFactory(veniceConfigLoader);
 
+    if (serverConfig.isActiveActiveKeyParallelProcessingEnabled()) {
+      keyParallelProcessingExecutorService = Executors.newFixedThreadPool(
+          serverConfig.getActiveActiveKeyParallelProcessingThreadPoolSize(),
+          new DaemonThreadFactory("AAKeyParallelProcessing"));
+    } else {
+      keyParallelProcessingExecutorService = null;
+    }
+
     ingestionTaskFactory = StoreIngestionTaskFactory.builder()
         .setVeniceWriterFactory(veniceWriterFactory)
         .setStorageEngineRepository(storageEngineRepository)
@@ -486,6 +499,7 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
         .setCompressorFactory(compressorFactory)
         .setVeniceViewWriterFactory(viewWriterFactory)
         .setPubSubTopicRepository(pubSubTopicRepository)
+        .setKeyParallelProcessingExecutor(keyParallelProcessingExecutorService)
         .build();
   }
 
@@ -606,6 +620,7 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
      */
     topicNameToIngestionTaskMap.values().forEach(StoreIngestionTask::close);
     shutdownExecutorService(ingestionExecutorService, "ingestionExecutorService", false);
+    shutdownExecutorService(keyParallelProcessingExecutorService, "keyParallelProcessingExecutorService", true);
 
     Utils.closeQuietlyWithErrorLogged(aggKafkaConsumerService);
 
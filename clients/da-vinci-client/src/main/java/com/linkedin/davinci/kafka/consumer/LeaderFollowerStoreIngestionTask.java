@@ -16,6 +16,7 @@ import com.linkedin.davinci.helix.LeaderFollowerPartitionStateModel;
 import com.linkedin.davinci.storage.chunking.ChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.ChunkingUtils;
 import com.linkedin.davinci.storage.chunking.GenericRecordChunkingAdapter;
+import com.linkedin.davinci.storage.chunking.ValueRecordChunkingAdapter;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.cache.backend.ObjectCacheBackend;
 import com.linkedin.davinci.store.record.ValueRecord;
@@ -60,6 +61,7 @@ import com.linkedin.venice.writer.LeaderMetadataWrapper;
 import com.linkedin.venice.writer.VeniceWriter;
 import com.linkedin.venice.writer.VeniceWriterFactory;
 import com.linkedin.venice.writer.VeniceWriterOptions;
+import io.netty.buffer.Unpooled;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.IntList;
 import java.io.IOException;
@@ -186,7 +188,11 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
       newLeaderInactiveTime = serverConfig.getServerPromotionToLeaderReplicaDelayMs();
     }
     MergeRecordHelper mergeRecordHelper = new CollectionTimestampMergeRecordHelper();
-    this.storeWriteComputeHandler = new StoreWriteComputeProcessor(storeName, schemaRepository, mergeRecordHelper);
+    this.storeWriteComputeHandler = new StoreWriteComputeProcessor(
+        storeName,
+        schemaRepository,
+        mergeRecordHelper,
+        serverConfig.isComputeFastAvroEnabled());
     this.isNativeReplicationEnabled = version.isNativeReplicationEnabled();
 
     /**
@@ -2782,27 +2788,52 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
       readerUpdateProtocolVersion = update.updateSchemaId;
     }
 
-    final GenericRecord currValue = readStoredValueRecord(
-        partitionConsumptionState,
-        keyBytes,
-        readerValueSchemaId,
-        consumerRecord.getTopicPartition());
+    /**
+     * With binary partial update, the current value is read as serialized bytes, and the update is applied on the
+     * bytes directly instead of a deserialized value record.
+     */
+    final boolean binaryPartialUpdateEnabled = serverConfig.isBinaryPartialUpdateEnabled();
+    final GenericRecord currValue;
+    final ValueRecord currValueRecord;
+    if (binaryPartialUpdateEnabled) {
+      currValue = null;
+      currValueRecord =
+          readStoredValueBytes(partitionConsumptionState, keyBytes, consumerRecord.getTopicPartition());
+    } else {
+      currValue = readStoredValueRecord(
+          partitionConsumptionState,
+          keyBytes,
+          readerValueSchemaId,
+          consumerRecord.getTopicPartition());
+      currValueRecord = null;
+    }
 
     // Apply Write Compute.
     final byte[] updatedValueBytes;
     try {
       long writeComputeStartTimeInNS = System.nanoTime();
+      final byte[] updatedValue;
+      if (binaryPartialUpdateEnabled) {
+        updatedValue = storeWriteComputeHandler.applyWriteCompute(
+            currValueRecord == null ? null : getValueBytes(currValueRecord),
+            currValueRecord == null ? -1 : currValueRecord.getSchemaId(),
+            update.schemaId,
+            readerValueSchemaId,
+            update.updateValue,
+            update.updateSchemaId,
+            readerUpdateProtocolVersion);
+      } else {
+        updatedValue = storeWriteComputeHandler.applyWriteCompute(
+            currValue,
+            update.schemaId,
+            readerValueSchemaId,
+            update.updateValue,
+            update.updateSchemaId,
+            readerUpdateProtocolVersion);
+      }
       // Leader nodes are the only ones which process UPDATES, so it's valid to always compress and not call
       // 'maybeCompress'.
-      updatedValueBytes = compressor.get()
-          .compress(
-              storeWriteComputeHandler.applyWriteCompute(
-                  currValue,
-                  update.schemaId,
-                  readerValueSchemaId,
-                  update.updateValue,
-                  update.updateSchemaId,
-                  readerUpdateProtocolVersion));
+      updatedValueBytes = compressor.get().compress(updatedValue);
       hostLevelIngestionStats.recordWriteComputeUpdateLatency(LatencyUtils.getLatencyInMS(writeComputeStartTimeInNS));
     } catch (Exception e) {
       writeComputeFailureCode = StatsErrorCode.WRITE_COMPUTE_UPDATE_FAILURE.code;
@@ -2810,7 +2841,7 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
     }
 
     if (updatedValueBytes == null) {
-      if (currValue != null) {
+      if (currValue != null || currValueRecord != null) {
         throw new IllegalStateException(
             "Detect a situation where the current value exists and the Write Compute request"
                 + "deletes the current value. It is unexpected because Write Compute only supports partial update and does "
@@ -2923,6 +2954,62 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
     return currValue;
   }
 
+  /**
+   * Counterpart of {@link #readStoredValueRecord} which reads the current value as decompressed bytes together with the
+   * ID of the value schema which the bytes are serialized with, without deserializing them.
+   */
+  ValueRecord readStoredValueBytes(
+      PartitionConsumptionState partitionConsumptionState,
+      byte[] keyBytes,
+      PubSubTopicPartition topicPartition) {
+    final ValueRecord currValueRecord;
+    PartitionConsumptionState.TransientRecord transientRecord = partitionConsumptionState.getTransientRecord(keyBytes);
+    if (transientRecord == null) {
+      try {
+        long lookupStartTimeInNS = System.nanoTime();
+        currValueRecord = ValueRecordChunkingAdapter.INSTANCE.get(
+            getStorageEngine(),
+            getSubPartitionId(keyBytes, topicPartition),
+            ByteBuffer.wrap(keyBytes),
+            isChunked(),
+            null,
+            null,
+            null,
+            getCompressionStrategy(),
+            getServerConfig().isComputeFastAvroEnabled(),
+            getSchemaRepo(),
+            getStoreName(),
+            getCompressor().get());
+        getHostLevelIngestionStats().recordWriteComputeLookUpLatency(LatencyUtils.getLatencyInMS(lookupStartTimeInNS));
+      } catch (Exception e) {
+        writeComputeFailureCode = StatsErrorCode.WRITE_COMPUTE_DESERIALIZATION_FAILURE.code;
+        throw e;
+      }
+    } else {
+      getHostLevelIngestionStats().recordWriteComputeCacheHitCount();
+      // construct currValueRecord from this transient record only if it's not null.
+      if (transientRecord.getValue() != null) {
+        try {
+          ByteBuffer decompressedValue = getCompressor().get()
+              .decompress(transientRecord.getValue(), transientRecord.getValueOffset(), transientRecord.getValueLen());
+          currValueRecord =
+              ValueRecord.create(transientRecord.getValueSchemaId(), Unpooled.wrappedBuffer(decompressedValue));
+        } catch (Exception e) {
+          writeComputeFailureCode = StatsErrorCode.WRITE_COMPUTE_DESERIALIZATION_FAILURE.code;
+          throw new VeniceException("Failed to decompress the transient record of the key", e);
+        }
+      } else {
+        currValueRecord = null;
+      }
+    }
+    return currValueRecord;
+  }
+
+  static ByteBuffer getValueBytes(ValueRecord valueRecord) {
+    // Not assuming a heap buffer since the decompressed value could be backed by a direct buffer
+    return valueRecord.getData().nioBuffer();
+  }
+
   /**
    * Clone DIV check results from OffsetRecord to the DIV validator that is used for leader consumption thread.
    *
@@ -137,6 +137,47 @@ public class MemoryBoundBlockingQueue<T extends Measurable> implements BlockingQ
     return record;
   }
 
+  /**
+   * Block until at least one record is available, and then move up to {@param maxRecords} records, bounded by
+   * {@param maxBytes} in total (except for the first record), into {@param records}. Compared to {@link #take()}, the
+   * lock acquisition and the memory bookkeeping happen once for the whole batch.
+   *
+   * @return the number of records moved into {@param records}
+   */
+  public int take(Collection<? super T> records, int maxRecords, long maxBytes) throws InterruptedException {
+    int recordCount = 0;
+    long recordsSize = 0;
+
+    this.memoryLock.lock();
+    try {
+      T record;
+      while ((record = this.queue.peek()) == null) {
+        notEmpty.await();
+      }
+      do {
+        int recordSize = getRecordSize(record);
+        if (recordCount > 0 && recordsSize + recordSize > maxBytes) {
+          break;
+        }
+        this.queue.poll();
+        records.add(record);
+        recordCount++;
+        recordsSize += recordSize;
+      } while (recordCount < maxRecords && (record = this.queue.peek()) != null);
+
+      currentFreedMemoryInBytes += recordsSize;
+      if (currentFreedMemoryInBytes >= notifyDeltaInByte) {
+        remainingMemoryCapacityInByte.getAndAdd(currentFreedMemoryInBytes);
+        currentFreedMemoryInBytes = 0;
+        hasEnoughMemory.signalAll();
+      }
+    } finally {
+      memoryLock.unlock();
+    }
+
+    return recordCount;
+  }
+
   @Override
   public boolean offer(T t, long timeout, TimeUnit unit) throws InterruptedException {
     throw new VeniceException("Operation is not supported yet!");
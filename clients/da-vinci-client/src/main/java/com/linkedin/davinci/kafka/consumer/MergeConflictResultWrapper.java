@@ -0,0 +1,82 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.davinci.replication.RmdWithValueSchemaId;
+import com.linkedin.davinci.replication.merge.MergeConflictResult;
+import com.linkedin.venice.utils.lazy.Lazy;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+
+/**
+ * This class holds the result of the conflict resolution of a record from the real-time topic in
+ * {@link ActiveActiveStoreIngestionTask}, together with the existing value and RMD it was resolved against, so that
+ * the conflict resolution can be done ahead of producing the result to the version topic.
+ */
+class MergeConflictResultWrapper {
+  private final MergeConflictResult mergeConflictResult;
+  private final Lazy<ByteBuffer> oldValueProvider;
+  private final RmdWithValueSchemaId oldRmdWithValueSchemaId;
+  private final int incomingValueSchemaId;
+  private final long offsetSumPreOperation;
+  private final List<Long> recordTimestampsPreOperation;
+  private final ByteBuffer updatedValueBytes;
+  private final ByteBuffer updatedRmdBytes;
+
+  MergeConflictResultWrapper(
+      MergeConflictResult mergeConflictResult,
+      Lazy<ByteBuffer> oldValueProvider,
+      RmdWithValueSchemaId oldRmdWithValueSchemaId,
+      int incomingValueSchemaId,
+      long offsetSumPreOperation,
+      List<Long> recordTimestampsPreOperation,
+      ByteBuffer updatedValueBytes,
+      ByteBuffer updatedRmdBytes) {
+    this.mergeConflictResult = mergeConflictResult;
+    this.oldValueProvider = oldValueProvider;
+    this.oldRmdWithValueSchemaId = oldRmdWithValueSchemaId;
+    this.incomingValueSchemaId = incomingValueSchemaId;
+    this.offsetSumPreOperation = offsetSumPreOperation;
+    this.recordTimestampsPreOperation = recordTimestampsPreOperation;
+    this.updatedValueBytes = updatedValueBytes;
+    this.updatedRmdBytes = updatedRmdBytes;
+  }
+
+  MergeConflictResult getMergeConflictResult() {
+    return mergeConflictResult;
+  }
+
+  Lazy<ByteBuffer> getOldValueProvider() {
+    return oldValueProvider;
+  }
+
+  RmdWithValueSchemaId getOldRmdWithValueSchemaId() {
+    return oldRmdWithValueSchemaId;
+  }
+
+  int getIncomingValueSchemaId() {
+    return incomingValueSchemaId;
+  }
+
+  long getOffsetSumPreOperation() {
+    return offsetSumPreOperation;
+  }
+
+  List<Long> getRecordTimestampsPreOperation() {
+    return recordTimestampsPreOperation;
+  }
+
+  /**
+   * @return the new value to be produced to the version topic, which is compressed if needed, or null for a DELETE.
+   *         Only available when the update is not ignored.
+   */
+  ByteBuffer getUpdatedValueBytes() {
+    return updatedValueBytes;
+  }
+
+  /**
+   * @return the serialized new RMD to be produced to the version topic. Only available when the update is not ignored.
+   */
+  ByteBuffer getUpdatedRmdBytes() {
+    return updatedRmdBytes;
+  }
+}
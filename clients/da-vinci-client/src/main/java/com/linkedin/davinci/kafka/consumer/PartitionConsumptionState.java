@@ -16,6 +16,7 @@ import com.linkedin.venice.utils.PartitionUtils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.nio.ByteBuffer;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -105,6 +106,17 @@ public class PartitionConsumptionState {
    */
   private final ConcurrentMap<ByteArrayKey, TransientRecord> transientRecordMap = new VeniceConcurrentHashMap<>();
 
+  /**
+   * This hash map keeps the values and replication metadata of the keys in the batch of records being processed by the
+   * leader, which were read from the DB with a single batched lookup before processing the batch.
+   * {@link #setTransientRecord} drops the prefetched record of the same key, so that {@link #transientRecordMap}
+   * remains the source of truth once the key has been processed. Since the consumers of different regions could
+   * process the same partition concurrently, every batch tracks the keys whose transient records are set while its DB
+   * lookup is in flight, see {@link PrefetchBatch}.
+   */
+  private final ConcurrentMap<ByteArrayKey, PrefetchedRecord> prefetchedRecordMap = new VeniceConcurrentHashMap<>();
+  private final Set<PrefetchBatch> inFlightPrefetchBatches = VeniceConcurrentHashMap.newKeySet();
+
   /**
    * In-memory hash set which keeps track of all previous status this sub-partition has reported. It is the in-memory
    * cache of the previousStatuses field in {@link com.linkedin.venice.kafka.protocol.state.PartitionState} inside
@@ -488,7 +500,16 @@ public class PartitionConsumptionState {
     if (replicationMetadataRecord != null) {
       transientRecord.setReplicationMetadataRecord(replicationMetadataRecord);
     }
-    transientRecordMap.put(ByteArrayKey.wrap(key), transientRecord);
+    ByteArrayKey byteArrayKey = ByteArrayKey.wrap(key);
+    transientRecordMap.put(byteArrayKey, transientRecord);
+    if (!inFlightPrefetchBatches.isEmpty()) {
+      for (PrefetchBatch prefetchBatch: inFlightPrefetchBatches) {
+        prefetchBatch.invalidatedKeys.add(byteArrayKey);
+      }
+    }
+    if (!prefetchedRecordMap.isEmpty()) {
+      prefetchedRecordMap.remove(byteArrayKey);
+    }
   }
 
   public TransientRecord getTransientRecord(byte[] key) {
@@ -514,6 +535,27 @@ public class PartitionConsumptionState {
     return removed;
   }
 
+  /**
+   * Starts a batch of prefetched records, which must be done before checking which keys of the batch have no transient
+   * record yet, so that the transient records set from then on invalidate the DB lookup of their keys.
+   */
+  public PrefetchBatch startPrefetchBatch() {
+    PrefetchBatch prefetchBatch = new PrefetchBatch();
+    inFlightPrefetchBatches.add(prefetchBatch);
+    return prefetchBatch;
+  }
+
+  /**
+   * @return the prefetched record of the key, or null if the key is not prefetched or it has been updated after the
+   *         prefetch, in which case {@link #getTransientRecord(byte[])} should be used instead.
+   */
+  public PrefetchedRecord getPrefetchedRecord(byte[] key) {
+    if (prefetchedRecordMap.isEmpty()) {
+      return null;
+    }
+    return prefetchedRecordMap.get(ByteArrayKey.wrap(key));
+  }
+
   public int getSourceTopicPartitionNumber(PubSubTopic topic) {
     if (topic.isRealTime()) {
       return getUserPartition();
@@ -553,6 +595,73 @@ public class PartitionConsumptionState {
     this.skipKafkaMessage = skipKafkaMessage;
   }
 
+  /**
+   * The records prefetched with a single DB lookup for a batch of records, which are only visible to the consumer of
+   * the batch via {@link #getPrefetchedRecord(byte[])} until {@link #clear()}. The batches of the consumers of
+   * different regions could be in flight at the same time, and each of them only clears its own prefetched records.
+   */
+  public class PrefetchBatch {
+    private final Set<ByteArrayKey> invalidatedKeys = VeniceConcurrentHashMap.newKeySet();
+    private final Map<ByteArrayKey, PrefetchedRecord> prefetchedRecords = new HashMap<>();
+
+    /**
+     * Keeps the values and RMDs read from the DB for the given keys, except for the keys whose transient records have
+     * been set since {@link #startPrefetchBatch()}, since their DB lookup could be older than the transient records,
+     * which might be removed from {@link #transientRecordMap} by the drainer later on.
+     *
+     * @param values the value bytes in DB with value schema id as prefix, or null if the key doesn't exist in DB.
+     * @param replicationMetadata the RMD bytes in DB with value schema id as prefix, or null if the key has no RMD.
+     */
+    public void setPrefetchedRecords(List<byte[]> keys, List<byte[]> values, List<byte[]> replicationMetadata) {
+      for (int i = 0; i < keys.size(); i++) {
+        ByteArrayKey byteArrayKey = ByteArrayKey.wrap(keys.get(i));
+        PrefetchedRecord prefetchedRecord = new PrefetchedRecord(values.get(i), replicationMetadata.get(i));
+        prefetchedRecordMap.put(byteArrayKey, prefetchedRecord);
+        /**
+         * The record is put before the check, so a transient record set after this check drops the prefetched record
+         * by itself.
+         */
+        if (invalidatedKeys.contains(byteArrayKey)) {
+          prefetchedRecordMap.remove(byteArrayKey, prefetchedRecord);
+        } else {
+          prefetchedRecords.put(byteArrayKey, prefetchedRecord);
+        }
+      }
+      inFlightPrefetchBatches.remove(this);
+    }
+
+    /**
+     * Drops the prefetched records of this batch, unless they have been replaced by the batch of another consumer.
+     */
+    public void clear() {
+      inFlightPrefetchBatches.remove(this);
+      prefetchedRecords.forEach(prefetchedRecordMap::remove);
+      prefetchedRecords.clear();
+    }
+  }
+
+  /**
+   * This immutable class holds the value and the replication metadata of a key as they are stored in DB, both of which
+   * are prefixed by the value schema id. If the key is chunked, they are the chunk manifests of the key.
+   */
+  public static class PrefetchedRecord {
+    private final byte[] value;
+    private final byte[] replicationMetadata;
+
+    PrefetchedRecord(byte[] value, byte[] replicationMetadata) {
+      this.value = value;
+      this.replicationMetadata = replicationMetadata;
+    }
+
+    public byte[] getValue() {
+      return value;
+    }
+
+    public byte[] getReplicationMetadata() {
+      return replicationMetadata;
+    }
+  }
+
   /**
    * This immutable class holds a association between a key and value and the source offset of the consumed message.
    * The value could be either as received in kafka ConsumerRecord or it could be a write computed value.
@@ -35,12 +35,18 @@ public class SeparatedStoreBufferService extends AbstractStoreBufferService {
             serverConfig.getDrainerPoolSizeSortedInput(),
             serverConfig.getStoreWriterBufferMemoryCapacity(),
             serverConfig.getStoreWriterBufferNotifyDelta(),
-            serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled()),
+            serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled(),
+            serverConfig.getStoreWriterDrainBatchMaxRecords(),
+            serverConfig.getStoreWriterDrainBatchMaxBytes(),
+            serverConfig.isStoreWriterRocksDBWriteBatchEnabled()),
         new StoreBufferService(
             serverConfig.getDrainerPoolSizeUnsortedInput(),
             serverConfig.getStoreWriterBufferMemoryCapacity(),
             serverConfig.getStoreWriterBufferNotifyDelta(),
-            serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled()));
+            serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled(),
+            serverConfig.getStoreWriterDrainBatchMaxRecords(),
+            serverConfig.getStoreWriterDrainBatchMaxBytes(),
+            serverConfig.isStoreWriterRocksDBWriteBatchEnabled()));
     LOGGER.info(
         "Created separated store buffer service with {} sorted drainers and {} unsorted drainers queues with capacity of {}",
         sortedPoolSize,
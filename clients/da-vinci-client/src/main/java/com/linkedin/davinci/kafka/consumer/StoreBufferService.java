@@ -17,6 +17,7 @@ import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.PartitionUtils;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -221,26 +222,69 @@ public class StoreBufferService extends AbstractStoreBufferService {
   /**
    * Worker thread, which will invoke {@link StoreIngestionTask#processConsumerRecord}
    * to process each {@link PubSubMessage} buffered in {@link BlockingQueue}.
+   *
+   * When {@link #maxRecordsPerDrain} is bigger than 1, the drainer takes up to that many records (bounded by
+   * {@link #maxBytesPerDrain}) out of the queue per wake-up. If {@link #writeBatchEnabled} is true, the follower
+   * records of the same partition within such a batch are persisted with a single storage engine write, and their
+   * persisted futures are only completed after that write. Records produced by the leader and control messages are
+   * always persisted right away, after committing the pending writes of their partition, since the leader relies on
+   * {@link PartitionConsumptionState#mayRemoveTransientRecord} only happening after the record is in the storage
+   * engine, and control messages could change the write mode of the partition.
    */
   private static class StoreBufferDrainer implements Runnable {
     private static final Logger LOGGER = LogManager.getLogger(StoreBufferDrainer.class);
-    private final BlockingQueue<QueueNode> blockingQueue;
+    private final MemoryBoundBlockingQueue<QueueNode> blockingQueue;
     private final AtomicBoolean isRunning = new AtomicBoolean(true);
     private final int drainerIndex;
+    private final int maxRecordsPerDrain;
+    private final long maxBytesPerDrain;
+    private final boolean writeBatchEnabled;
     private final ConcurrentMap<PubSubTopicPartition, Long> topicToTimeSpent = new ConcurrentHashMap<>();
-
-    public StoreBufferDrainer(BlockingQueue<QueueNode> blockingQueue, int drainerIndex) {
+    /**
+     * Records which have been taken out of {@link #blockingQueue}, but whose processing is not complete yet, so that
+     * {@link #internalDrainBufferedRecordsFromTopicPartition} also waits for them.
+     */
+    private volatile List<QueueNode> inFlightNodes = Collections.emptyList();
+
+    public StoreBufferDrainer(
+        MemoryBoundBlockingQueue<QueueNode> blockingQueue,
+        int drainerIndex,
+        int maxRecordsPerDrain,
+        long maxBytesPerDrain,
+        boolean writeBatchEnabled) {
       this.blockingQueue = blockingQueue;
       this.drainerIndex = drainerIndex;
+      this.maxRecordsPerDrain = maxRecordsPerDrain;
+      this.maxBytesPerDrain = maxBytesPerDrain;
+      this.writeBatchEnabled = writeBatchEnabled;
     }
 
     public void stop() {
       isRunning.set(false);
     }
 
+    boolean hasInFlightRecord(QueueNode node) {
+      List<QueueNode> nodes = inFlightNodes;
+      for (int i = 0; i < nodes.size(); i++) {
+        if (node.equals(nodes.get(i))) {
+          return true;
+        }
+      }
+      return false;
+    }
+
     @Override
     public void run() {
       LOGGER.info("Starting StoreBufferDrainer Thread for drainer: {}....", drainerIndex);
+      if (maxRecordsPerDrain > 1) {
+        runInBatches();
+      } else {
+        runOneByOne();
+      }
+      LOGGER.info("Current StoreBufferDrainer {} stopped", drainerIndex);
+    }
+
+    private void runOneByOne() {
       QueueNode node = null;
       PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord = null;
       LeaderProducedRecordContext leaderProducedRecordContext = null;
@@ -283,52 +327,219 @@ public class StoreBufferService extends AbstractStoreBufferService {
             LOGGER.error("Drainer {} received InterruptedException, will exit", drainerIndex);
             break;
           }
-          StringBuilder logBuilder = new StringBuilder().append("Drainer ").append(drainerIndex);
-          if (consumerRecord == null) {
-            logBuilder.append(" received throwable: ");
-          } else {
-            String consumerRecordString = consumerRecord.toString();
-            if (consumerRecordString.length() > 1024) {
-              // Careful not to flood the logs with too much content...
-              consumerRecordString = consumerRecordString.substring(0, 1024);
-              logBuilder
-                  .append(" received throwable while processing consumer record (truncated at 1024 characters): ");
-            } else {
-              logBuilder.append(" received throwable while processing consumer record: ");
-            }
-            logBuilder.append(consumerRecordString);
+          if (!handleProcessingFailure(
+              e,
+              consumerRecord,
+              ingestionTask,
+              leaderProducedRecordContext,
+              recordPersistedFuture)) {
+            break;
           }
-          LOGGER.error(logBuilder.toString(), e);
+        }
+      }
+    }
 
-          /**
-           * Catch all the thrown exception and store it in {@link StoreIngestionTask#lastWorkerException}.
-           */
-          if (e instanceof Exception) {
-            Exception processConsumerRecordException = (Exception) e;
-            if (ingestionTask != null) {
-              try {
-                ingestionTask.setIngestionException(
-                    consumerRecord.getTopicPartition().getPartitionNumber(),
-                    processConsumerRecordException);
-              } catch (VeniceException ingestionException) {
-                ingestionTask.setLastStoreIngestionException(ingestionException);
-              }
-              if (e instanceof VeniceChecksumException) {
-                ingestionTask.recordChecksumVerificationFailure();
-              }
-            }
-            if (leaderProducedRecordContext != null) {
-              leaderProducedRecordContext.completePersistedToDBFuture(processConsumerRecordException);
-            }
-            if (recordPersistedFuture != null) {
-              recordPersistedFuture.completeExceptionally(processConsumerRecordException);
-            }
-          } else {
+    private void runInBatches() {
+      List<PendingPartitionWrites> pendingPartitionWritesList = new ArrayList<>();
+      while (isRunning.get()) {
+        List<QueueNode> nodes = new ArrayList<>(maxRecordsPerDrain);
+        try {
+          blockingQueue.take(nodes, maxRecordsPerDrain, maxBytesPerDrain);
+        } catch (InterruptedException e) {
+          LOGGER.error("Drainer {} received InterruptedException, will exit", drainerIndex);
+          break;
+        } catch (Throwable e) {
+          LOGGER.error("Drainer {} received throwable while taking records from the queue", drainerIndex, e);
+          break;
+        }
+        inFlightNodes = nodes;
+        try {
+          if (!processNodes(nodes, pendingPartitionWritesList)) {
             break;
           }
+        } finally {
+          inFlightNodes = Collections.emptyList();
         }
       }
-      LOGGER.info("Current StoreBufferDrainer {} stopped", drainerIndex);
+    }
+
+    /**
+     * @return false if the drainer should stop
+     */
+    private boolean processNodes(List<QueueNode> nodes, List<PendingPartitionWrites> pendingPartitionWritesList) {
+      boolean keepRunning = true;
+      for (QueueNode node: nodes) {
+        PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord = node.getConsumerRecord();
+        LeaderProducedRecordContext leaderProducedRecordContext = node.getLeaderProducedRecordContext();
+        StoreIngestionTask ingestionTask = node.getIngestionTask();
+        PendingPartitionWrites pendingWrites = null;
+        try {
+          long startTime = System.currentTimeMillis();
+          int subPartition = PartitionUtils
+              .getSubPartition(consumerRecord.getTopicPartition(), ingestionTask.getAmplificationFactor());
+          pendingWrites = getPendingPartitionWrites(pendingPartitionWritesList, ingestionTask, subPartition);
+          boolean batchable =
+              writeBatchEnabled && leaderProducedRecordContext == null && !consumerRecord.getKey().isControlMessage();
+          if (!batchable && pendingWrites != null) {
+            pendingPartitionWritesList.remove(pendingWrites);
+            commitPendingPartitionWrites(pendingWrites);
+            pendingWrites = null;
+          } else if (batchable && pendingWrites == null) {
+            ingestionTask.beginStorageWriteBatch(subPartition);
+            pendingWrites = new PendingPartitionWrites(ingestionTask, subPartition);
+            pendingPartitionWritesList.add(pendingWrites);
+          }
+
+          processRecord(
+              consumerRecord,
+              ingestionTask,
+              leaderProducedRecordContext,
+              subPartition,
+              node.getKafkaUrl(),
+              node.getBeforeProcessingRecordTimestampNs());
+
+          if (batchable) {
+            // The persisted future will be completed once the write batch gets committed
+            pendingWrites.nodes.add(node);
+          } else if (node.getQueuedRecordPersistedFuture() != null) {
+            node.getQueuedRecordPersistedFuture().complete(null);
+          }
+
+          topicToTimeSpent.compute(
+              consumerRecord.getTopicPartition(),
+              (K, V) -> (V == null ? 0 : V) + System.currentTimeMillis() - startTime);
+        } catch (Throwable e) {
+          if (pendingWrites != null && pendingPartitionWritesList.remove(pendingWrites)) {
+            // Persist whatever got processed successfully before the failed record
+            commitPendingPartitionWrites(pendingWrites);
+          }
+          if (e instanceof InterruptedException) {
+            LOGGER.error("Drainer {} received InterruptedException, will exit", drainerIndex);
+            keepRunning = false;
+            break;
+          }
+          if (!handleProcessingFailure(
+              e,
+              consumerRecord,
+              ingestionTask,
+              leaderProducedRecordContext,
+              node.getQueuedRecordPersistedFuture())) {
+            keepRunning = false;
+            break;
+          }
+        }
+      }
+      for (PendingPartitionWrites pendingWrites: pendingPartitionWritesList) {
+        commitPendingPartitionWrites(pendingWrites);
+      }
+      pendingPartitionWritesList.clear();
+      return keepRunning;
+    }
+
+    private static PendingPartitionWrites getPendingPartitionWrites(
+        List<PendingPartitionWrites> pendingPartitionWritesList,
+        StoreIngestionTask ingestionTask,
+        int subPartition) {
+      // The number of partitions within a single batch is small, so a linear scan is cheaper than hashing
+      for (PendingPartitionWrites pendingWrites: pendingPartitionWritesList) {
+        if (pendingWrites.ingestionTask == ingestionTask && pendingWrites.subPartition == subPartition) {
+          return pendingWrites;
+        }
+      }
+      return null;
+    }
+
+    private void commitPendingPartitionWrites(PendingPartitionWrites pendingWrites) {
+      try {
+        pendingWrites.ingestionTask.commitStorageWriteBatch(pendingWrites.subPartition);
+      } catch (Throwable e) {
+        Exception commitException = e instanceof Exception ? (Exception) e : new VeniceException(e);
+        if (pendingWrites.nodes.isEmpty()) {
+          handleProcessingFailure(commitException, null, null, null, null);
+          return;
+        }
+        handleProcessingFailure(
+            commitException,
+            pendingWrites.nodes.get(0).getConsumerRecord(),
+            pendingWrites.ingestionTask,
+            null,
+            null);
+        for (QueueNode node: pendingWrites.nodes) {
+          node.getQueuedRecordPersistedFuture().completeExceptionally(commitException);
+        }
+        return;
+      }
+      for (QueueNode node: pendingWrites.nodes) {
+        node.getQueuedRecordPersistedFuture().complete(null);
+      }
+    }
+
+    /**
+     * @return false if the drainer should stop
+     */
+    private boolean handleProcessingFailure(
+        Throwable e,
+        PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
+        StoreIngestionTask ingestionTask,
+        LeaderProducedRecordContext leaderProducedRecordContext,
+        CompletableFuture<Void> recordPersistedFuture) {
+      StringBuilder logBuilder = new StringBuilder().append("Drainer ").append(drainerIndex);
+      if (consumerRecord == null) {
+        logBuilder.append(" received throwable: ");
+      } else {
+        String consumerRecordString = consumerRecord.toString();
+        if (consumerRecordString.length() > 1024) {
+          // Careful not to flood the logs with too much content...
+          consumerRecordString = consumerRecordString.substring(0, 1024);
+          logBuilder.append(" received throwable while processing consumer record (truncated at 1024 characters): ");
+        } else {
+          logBuilder.append(" received throwable while processing consumer record: ");
+        }
+        logBuilder.append(consumerRecordString);
+      }
+      LOGGER.error(logBuilder.toString(), e);
+
+      /**
+       * Catch all the thrown exception and store it in {@link StoreIngestionTask#lastWorkerException}.
+       */
+      if (e instanceof Exception) {
+        Exception processConsumerRecordException = (Exception) e;
+        if (ingestionTask != null) {
+          try {
+            ingestionTask.setIngestionException(
+                consumerRecord.getTopicPartition().getPartitionNumber(),
+                processConsumerRecordException);
+          } catch (VeniceException ingestionException) {
+            ingestionTask.setLastStoreIngestionException(ingestionException);
+          }
+          if (e instanceof VeniceChecksumException) {
+            ingestionTask.recordChecksumVerificationFailure();
+          }
+        }
+        if (leaderProducedRecordContext != null) {
+          leaderProducedRecordContext.completePersistedToDBFuture(processConsumerRecordException);
+        }
+        if (recordPersistedFuture != null) {
+          recordPersistedFuture.completeExceptionally(processConsumerRecordException);
+        }
+        return true;
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Follower records of a partition which have been processed within the current batch, but whose writes are still
+   * buffered in the storage engine.
+   */
+  private static class PendingPartitionWrites {
+    private final StoreIngestionTask ingestionTask;
+    private final int subPartition;
+    private final List<QueueNode> nodes = new ArrayList<>();
+
+    PendingPartitionWrites(StoreIngestionTask ingestionTask, int subPartition) {
+      this.ingestionTask = ingestionTask;
+      this.subPartition = subPartition;
     }
   }
 
@@ -338,6 +549,9 @@ public class StoreBufferService extends AbstractStoreBufferService {
   private ExecutorService executorService;
   private final List<StoreBufferDrainer> drainerList = new ArrayList<>();
   private final long bufferCapacityPerDrainer;
+  private final int maxRecordsPerDrain;
+  private final long maxBytesPerDrain;
+  private final boolean writeBatchEnabled;
 
   private final RecordHandler leaderRecordHandler;
 
@@ -346,7 +560,28 @@ public class StoreBufferService extends AbstractStoreBufferService {
       long bufferCapacityPerDrainer,
       long bufferNotifyDelta,
       boolean queueLeaderWrites) {
+    this(drainerNum, bufferCapacityPerDrainer, bufferNotifyDelta, queueLeaderWrites, 1, 0, false);
+  }
+
+  /**
+   * @param maxRecordsPerDrain the max number of records each drainer takes out of its queue per wake-up, 1 to disable
+   *                           batching
+   * @param maxBytesPerDrain the max size of the records each drainer takes out of its queue per wake-up
+   * @param writeBatchEnabled whether the follower records of the same partition taken within the same wake-up should be
+   *                          persisted with a single storage engine write
+   */
+  public StoreBufferService(
+      int drainerNum,
+      long bufferCapacityPerDrainer,
+      long bufferNotifyDelta,
+      boolean queueLeaderWrites,
+      int maxRecordsPerDrain,
+      long maxBytesPerDrain,
+      boolean writeBatchEnabled) {
     this.drainerNum = drainerNum;
+    this.maxRecordsPerDrain = maxRecordsPerDrain;
+    this.maxBytesPerDrain = maxBytesPerDrain;
+    this.writeBatchEnabled = writeBatchEnabled;
     this.blockingQueueArr = new ArrayList<>();
     this.bufferCapacityPerDrainer = bufferCapacityPerDrainer;
     for (int cur = 0; cur < drainerNum; ++cur) {
@@ -480,7 +715,8 @@ public class StoreBufferService extends AbstractStoreBufferService {
     PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> fakeRecord = new FakePubSubMessage(topicPartition);
     int workerIndex = getDrainerIndexForConsumerRecord(fakeRecord, topicPartition.getPartitionNumber());
     BlockingQueue<QueueNode> blockingQueue = blockingQueueArr.get(workerIndex);
-    if (!drainerList.get(workerIndex).isRunning.get()) {
+    StoreBufferDrainer drainer = drainerList.get(workerIndex);
+    if (!drainer.isRunning.get()) {
       throw new VeniceException(
           "Drainer thread " + workerIndex + " has stopped running, cannot drain the topic "
               + topicPartition.getPubSubTopic().getName());
@@ -490,7 +726,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
 
     int cur = 0;
     while (cur++ < retryNum) {
-      if (!blockingQueue.contains(fakeNode)) {
+      if (!blockingQueue.contains(fakeNode) && !drainer.hasInFlightRecord(fakeNode)) {
         LOGGER.info(
             "The blocking queue of store writer thread: {} doesn't contain any record for: {}",
             workerIndex,
@@ -512,7 +748,12 @@ public class StoreBufferService extends AbstractStoreBufferService {
 
     // Submit all the buffer drainers
     for (int cur = 0; cur < drainerNum; ++cur) {
-      StoreBufferDrainer drainer = new StoreBufferDrainer(this.blockingQueueArr.get(cur), cur);
+      StoreBufferDrainer drainer = new StoreBufferDrainer(
+          this.blockingQueueArr.get(cur),
+          cur,
+          maxRecordsPerDrain,
+          maxBytesPerDrain,
+          writeBatchEnabled);
       this.executorService.submit(drainer);
       drainerList.add(drainer);
     }
@@ -194,6 +194,11 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
    * flushed to the metadata partition of the storage engine regularly in {@link #syncOffset(String, PartitionConsumptionState)}
    */
   private final KafkaDataIntegrityValidator kafkaDataIntegrityValidator;
+  /**
+   * The offset and consumption state updates of the records written through an open storage write batch, by partition.
+   * They are applied once the batch is committed, see {@link #beginStorageWriteBatch(int)}.
+   */
+  private final Map<Integer, List<Runnable>> updatesPendingStorageWriteBatch = new VeniceConcurrentHashMap<>();
   protected final HostLevelIngestionStats hostLevelIngestionStats;
   protected final AggVersionedDIVStats versionedDIVStats;
   protected final AggVersionedIngestionStats versionedIngestionStats;
@@ -1913,6 +1918,23 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
               + diskUsage.getDiskStatus());
     }
 
+    final int persistedRecordSize = recordSize;
+    runAfterStorageWriteBatchCommitted(
+        subPartition,
+        () -> onConsumerRecordProcessed(
+            record,
+            partitionConsumptionState,
+            leaderProducedRecordContext,
+            subPartition,
+            persistedRecordSize));
+  }
+
+  private void onConsumerRecordProcessed(
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record,
+      PartitionConsumptionState partitionConsumptionState,
+      LeaderProducedRecordContext leaderProducedRecordContext,
+      int subPartition,
+      int recordSize) {
     /*
      * Report ingestion throughput metric based on the store version
      */
@@ -2487,27 +2509,44 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     if (partitionConsumptionState == null) {
       LOGGER.info("{} has been unsubscribed, will skip offset update", consumerRecord.getTopicPartition());
     } else {
-      OffsetRecord offsetRecord = partitionConsumptionState.getOffsetRecord();
-      /**
-       * Only update the latest message timestamp when seeing data messages after EOP; the data messages after EOP
-       * should come from real-time topics.
-       */
-      if (partitionConsumptionState.isEndOfPushReceived() && !kafkaKey.isControlMessage()) {
-        offsetRecord.setLatestProducerProcessingTimeInMs(kafkaValue.producerMetadata.messageTimestamp);
-      }
-      // Update latest in-memory processed offset for every processed message
-      updateLatestInMemoryProcessedOffset(
-          partitionConsumptionState,
-          consumerRecord,
-          leaderProducedRecordContext,
-          kafkaUrl);
-      if (checkReadyToServeAfterProcess) {
-        defaultReadyToServeChecker.apply(partitionConsumptionState);
-      }
+      final boolean checkReadyToServe = checkReadyToServeAfterProcess;
+      runAfterStorageWriteBatchCommitted(
+          partitionConsumptionState.getPartition(),
+          () -> updateOffsetsAfterProcessing(
+              consumerRecord,
+              partitionConsumptionState,
+              leaderProducedRecordContext,
+              kafkaUrl,
+              checkReadyToServe));
     }
     return sizeOfPersistedData;
   }
 
+  private void updateOffsetsAfterProcessing(
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
+      PartitionConsumptionState partitionConsumptionState,
+      LeaderProducedRecordContext leaderProducedRecordContext,
+      String kafkaUrl,
+      boolean checkReadyToServeAfterProcess) {
+    OffsetRecord offsetRecord = partitionConsumptionState.getOffsetRecord();
+    /**
+     * Only update the latest message timestamp when seeing data messages after EOP; the data messages after EOP
+     * should come from real-time topics.
+     */
+    if (partitionConsumptionState.isEndOfPushReceived() && !consumerRecord.getKey().isControlMessage()) {
+      offsetRecord.setLatestProducerProcessingTimeInMs(consumerRecord.getValue().producerMetadata.messageTimestamp);
+    }
+    // Update latest in-memory processed offset for every processed message
+    updateLatestInMemoryProcessedOffset(
+        partitionConsumptionState,
+        consumerRecord,
+        leaderProducedRecordContext,
+        kafkaUrl);
+    if (checkReadyToServeAfterProcess) {
+      defaultReadyToServeChecker.apply(partitionConsumptionState);
+    }
+  }
+
   protected void recordWriterStats(
       long consumerTimestampMs,
       long producerBrokerLatencyMs,
@@ -2660,6 +2699,53 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     }
   }
 
+  /**
+   * Buffer the writes issued by the current drainer thread for the given partition, until
+   * {@link #commitStorageWriteBatch(int)} is invoked. Used by {@link StoreBufferService} to persist a drained batch of
+   * records with a single storage engine write.
+   *
+   * The buffered writes are not readable by other threads, so the processed offsets and the rest of the
+   * {@link PartitionConsumptionState} updates of those records are held back until the batch is committed. Otherwise,
+   * a state transition (e.g. a promotion to leader, which starts resolving conflicts against the storage engine) could
+   * act on offsets whose data is not in the storage engine yet.
+   */
+  void beginStorageWriteBatch(int partition) {
+    try {
+      storageEngine.beginWriteBatch(partition);
+    } catch (PersistenceFailureException e) {
+      throwOrLogStorageFailureDependingIfStillSubscribed(partition, e);
+      return;
+    }
+    updatesPendingStorageWriteBatch.put(partition, new ArrayList<>());
+  }
+
+  void commitStorageWriteBatch(int partition) {
+    List<Runnable> pendingUpdates = updatesPendingStorageWriteBatch.remove(partition);
+    try {
+      storageEngine.commitWriteBatch(partition);
+    } catch (PersistenceFailureException e) {
+      throwOrLogStorageFailureDependingIfStillSubscribed(partition, e);
+      // The writes are lost, so the offsets must not move past them.
+      return;
+    }
+    if (pendingUpdates != null) {
+      pendingUpdates.forEach(Runnable::run);
+    }
+  }
+
+  /**
+   * Run the given update of the processed state of a record right away, or once the storage write batch of the
+   * partition is committed if the record has been written through one.
+   */
+  void runAfterStorageWriteBatchCommitted(int partition, Runnable update) {
+    List<Runnable> pendingUpdates = updatesPendingStorageWriteBatch.get(partition);
+    if (pendingUpdates == null) {
+      update.run();
+    } else {
+      pendingUpdates.add(update);
+    }
+  }
+
   protected void removeFromStorageEngine(int partition, byte[] keyBytes, Delete delete) {
     try {
       storageEngine.delete(partition, keyBytes);
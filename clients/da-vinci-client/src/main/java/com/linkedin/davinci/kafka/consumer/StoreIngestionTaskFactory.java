@@ -25,6 +25,7 @@ import com.linkedin.venice.writer.VeniceWriterFactory;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Queue;
+import java.util.concurrent.ExecutorService;
 import java.util.function.BooleanSupplier;
 
 
@@ -109,6 +110,7 @@ public class StoreIngestionTaskFactory {
     private MetaStoreWriter metaStoreWriter;
     private StorageEngineBackedCompressorFactory compressorFactory;
     private PubSubTopicRepository pubSubTopicRepository;
+    private ExecutorService keyParallelProcessingExecutor;
 
     private interface Setter {
       void apply();
@@ -159,6 +161,14 @@ public class StoreIngestionTaskFactory {
       return this.metaStoreWriter;
     }
 
+    public Builder setKeyParallelProcessingExecutor(ExecutorService keyParallelProcessingExecutor) {
+      return set(() -> this.keyParallelProcessingExecutor = keyParallelProcessingExecutor);
+    }
+
+    public ExecutorService getKeyParallelProcessingExecutor() {
+      return keyParallelProcessingExecutor;
+    }
+
     public StorageEngineRepository getStorageEngineRepository() {
       return storageEngineRepository;
     }
@@ -3,10 +3,14 @@ package com.linkedin.davinci.kafka.consumer;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.schema.merge.MergeRecordHelper;
+import com.linkedin.venice.schema.writecompute.BinaryPartialUpdatePlan;
 import com.linkedin.venice.schema.writecompute.WriteComputeProcessor;
 import com.linkedin.venice.schema.writecompute.WriteComputeSchemaValidator;
 import com.linkedin.venice.serializer.AvroGenericDeserializer;
 import com.linkedin.venice.serializer.AvroSerializer;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.serializer.avro.MapOrderingPreservingSerDeFactory;
 import com.linkedin.venice.utils.Pair;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
@@ -20,7 +24,10 @@ import org.apache.commons.lang.Validate;
 
 /**
  * This class handles Write Compute operations related to a specific store.
- * TODO: Optimize the process to reduce the footprint.
+ *
+ * Besides applying the partial update on a deserialized value record, it is able to apply the partial update on the
+ * serialized value bytes directly with a {@link BinaryPartialUpdatePlan} cached per pair of value schema and update
+ * schema, so that only the updated fields are decoded and re-encoded.
  */
 public class StoreWriteComputeProcessor {
   private final String storeName;
@@ -28,11 +35,14 @@ public class StoreWriteComputeProcessor {
   private final WriteComputeProcessor writeComputeProcessor;
   private final Map<SchemaIds, ValueAndWriteComputeSchemas> schemaIdsToSchemasMap;
   private final Map<Schema, AvroSerializer<GenericRecord>> valueSchemaSerializerMap;
+  private final Map<SchemaIds, BinaryPartialUpdatePlan> schemaIdsToPartialUpdatePlanMap;
+  private final boolean fastAvroEnabled;
 
   public StoreWriteComputeProcessor(
       @Nonnull String storeName,
       @Nonnull ReadOnlySchemaRepository schemaRepo,
-      MergeRecordHelper mergeRecordHelper) {
+      MergeRecordHelper mergeRecordHelper,
+      boolean fastAvroEnabled) {
     Validate.notEmpty(storeName);
     Validate.notNull(schemaRepo);
     this.storeName = storeName;
@@ -40,6 +50,8 @@ public class StoreWriteComputeProcessor {
     this.writeComputeProcessor = new WriteComputeProcessor(mergeRecordHelper);
     this.schemaIdsToSchemasMap = new VeniceConcurrentHashMap<>();
     this.valueSchemaSerializerMap = new VeniceConcurrentHashMap<>();
+    this.schemaIdsToPartialUpdatePlanMap = new VeniceConcurrentHashMap<>();
+    this.fastAvroEnabled = fastAvroEnabled;
   }
 
   /**
@@ -78,6 +90,78 @@ public class StoreWriteComputeProcessor {
     return getValueSerializer(valueSchema).serialize(updatedValue, AvroSerializer.REUSE.get());
   }
 
+  /**
+   * Apply Update operation on the serialized current value.
+   *
+   * The partial update is applied on the serialized bytes directly when the current value is serialized with the
+   * reader value schema. The Update payload bytes are re-serialized with the reader update schema first if they are
+   * serialized with a different one, which is cheap since the Update payload is usually small. Otherwise, the current
+   * value is deserialized and the update is applied by {@link #applyWriteCompute(GenericRecord, int, int, ByteBuffer,
+   * int, int)}.
+   *
+   * @param currValueBytes serialized value that is currently stored on this Venice server, which is not compressed.
+   *                       It is null when there is currently no value stored on this Venice server.
+   * @param currValueSchemaId ID of the value schema that the current value is serialized with.
+   * @param writeComputeBytes serialized write-compute operation.
+   * @param writerValueSchemaId ID of the writer value schema.
+   * @param readerValueSchemaId ID of the reader value schema.
+   * @param writerUpdateProtocolVersion Update protocol version used to serialize Update payload bytes.
+   * @param readerUpdateProtocolVersion Update protocol version used to deserialize Update payload bytes.
+   *
+   * @return Bytes of partially updated original value.
+   */
+  public byte[] applyWriteCompute(
+      ByteBuffer currValueBytes,
+      int currValueSchemaId,
+      int writerValueSchemaId,
+      int readerValueSchemaId,
+      ByteBuffer writeComputeBytes,
+      int writerUpdateProtocolVersion,
+      int readerUpdateProtocolVersion) {
+    if (currValueBytes != null && currValueSchemaId != readerValueSchemaId) {
+      GenericRecord currValue =
+          getValueDeserializer(currValueSchemaId, readerValueSchemaId).deserialize(currValueBytes);
+      return applyWriteCompute(
+          currValue,
+          writerValueSchemaId,
+          readerValueSchemaId,
+          writeComputeBytes,
+          writerUpdateProtocolVersion,
+          readerUpdateProtocolVersion);
+    }
+
+    BinaryPartialUpdatePlan partialUpdatePlan = getPartialUpdatePlan(readerValueSchemaId, readerUpdateProtocolVersion);
+    if (writerValueSchemaId != readerValueSchemaId || writerUpdateProtocolVersion != readerUpdateProtocolVersion) {
+      GenericRecord writeComputeRecord = deserializeWriteComputeRecord(
+          writeComputeBytes,
+          writerValueSchemaId,
+          readerValueSchemaId,
+          writerUpdateProtocolVersion,
+          readerUpdateProtocolVersion);
+      writeComputeBytes = ByteBuffer.wrap(
+          MapOrderingPreservingSerDeFactory.getSerializer(partialUpdatePlan.getWriteComputeSchema())
+              .serialize(writeComputeRecord));
+    }
+    return partialUpdatePlan.updateRecord(currValueBytes, writeComputeBytes);
+  }
+
+  private BinaryPartialUpdatePlan getPartialUpdatePlan(int valueSchemaId, int writeComputeSchemaId) {
+    return schemaIdsToPartialUpdatePlanMap.computeIfAbsent(new SchemaIds(valueSchemaId, writeComputeSchemaId), ids -> {
+      ValueAndWriteComputeSchemas schemas = getValueAndWriteComputeSchemas(valueSchemaId, writeComputeSchemaId);
+      return BinaryPartialUpdatePlan.compile(schemas.getValueSchema(), schemas.getWriteComputeSchema());
+    });
+  }
+
+  private RecordDeserializer<GenericRecord> getValueDeserializer(int writerSchemaId, int readerSchemaId) {
+    Schema writerSchema = getValueSchema(writerSchemaId);
+    Schema readerSchema = getValueSchema(readerSchemaId);
+    if (fastAvroEnabled) {
+      return FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(writerSchema, readerSchema);
+    } else {
+      return SerializerDeserializerFactory.getAvroGenericDeserializer(writerSchema, readerSchema);
+    }
+  }
+
   private ValueAndWriteComputeSchemas getValueAndWriteComputeSchemas(int valueSchemaId, int writeComputeSchemaId) {
     final SchemaIds schemaIds = new SchemaIds(valueSchemaId, writeComputeSchemaId);
 
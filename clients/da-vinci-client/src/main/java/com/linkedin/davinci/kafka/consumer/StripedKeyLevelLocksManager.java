@@ -0,0 +1,81 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.davinci.utils.ByteArrayKey;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * A striped alternative to {@link KeyLevelLocksManager} which maps the raw key bytes onto a fixed array of locks
+ * (stripes) by hash, instead of assigning locks out of a pool under a manager level monitor.
+ *
+ * The same key is always mapped to the same lock, so the critical section of the Active/Active write path described in
+ * {@link KeyLevelLocksManager} is still guaranteed for the same key. Different keys could share a stripe, which only
+ * introduces some false contention; the probability of that is controlled by the number of stripes, which should be
+ * comfortably larger than the number of keys being processed at the same time.
+ *
+ * Compared to {@link KeyLevelLocksManager}:
+ * 1. There is no global monitor, no map update and no reference counting per record, so concurrent drainers of the
+ *    same store version never contend unless their keys land in the same stripe.
+ * 2. The memory footprint is bounded by the stripe count and is allocated upfront.
+ * 3. There is no need to release the lock back to the manager; unlocking the returned lock is enough.
+ */
+public class StripedKeyLevelLocksManager {
+  private final ReentrantLock[] locks;
+  private final int mask;
+
+  /**
+   * @param minStripeCount the minimum number of stripes; the actual count is rounded up to the next power of two.
+   */
+  protected StripedKeyLevelLocksManager(int minStripeCount) {
+    int stripeCount = getStripeCount(minStripeCount);
+    this.locks = new ReentrantLock[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      this.locks[i] = new ReentrantLock();
+    }
+    this.mask = stripeCount - 1;
+  }
+
+  ReentrantLock getLockByKey(ByteArrayKey key) {
+    return locks[getStripeIndex(key)];
+  }
+
+  /**
+   * @return the distinct locks of all the given keys, sorted by stripe index. Acquiring multiple locks must always
+   *         follow this order to avoid deadlocks between threads locking overlapping sets of keys.
+   */
+  List<ReentrantLock> getLocksByKeys(Collection<ByteArrayKey> keys) {
+    BitSet stripeIndexes = new BitSet(locks.length);
+    for (ByteArrayKey key: keys) {
+      stripeIndexes.set(getStripeIndex(key));
+    }
+    List<ReentrantLock> sortedLocks = new ArrayList<>(stripeIndexes.cardinality());
+    for (int i = stripeIndexes.nextSetBit(0); i >= 0; i = stripeIndexes.nextSetBit(i + 1)) {
+      sortedLocks.add(locks[i]);
+    }
+    return sortedLocks;
+  }
+
+  private int getStripeIndex(ByteArrayKey key) {
+    int hash = key.hashCode();
+    // Spread the higher bits to the lower ones since the stripe index only takes the lower bits
+    return (hash ^ (hash >>> 16)) & mask;
+  }
+
+  int getStripeCount() {
+    return locks.length;
+  }
+
+  static int getStripeCount(int minStripeCount) {
+    if (minStripeCount <= 1) {
+      return 1;
+    }
+    if (minStripeCount > (1 << 30)) {
+      return 1 << 30;
+    }
+    return Integer.highestOneBit(minStripeCount - 1) << 1;
+  }
+}
@@ -16,6 +16,11 @@ public abstract class ReadResponse {
   private double storageExecutionSubmissionWaitTime;
   private int storageExecutionQueueLen = -1;
   private int multiChunkLargeValueCount = 0;
+  private int hotKeyCacheHitCount = 0;
+  private int hotKeyCacheMissCount = 0;
+  private long hotKeyCacheEvictionCount = 0;
+  private int parallelBatchGetFanOut = 0;
+  private double parallelBatchGetChunkQueueWaitTime = -1;
   private CompressionStrategy compressionStrategy = CompressionStrategy.NO_OP;
   private boolean isStreamingResponse = false;
   private IntList keySizeList;
@@ -154,6 +159,54 @@ public abstract class ReadResponse {
     return multiChunkLargeValueCount;
   }
 
+  public void addHotKeyCacheHitCount(int count) {
+    hotKeyCacheHitCount += count;
+  }
+
+  public int getHotKeyCacheHitCount() {
+    return hotKeyCacheHitCount;
+  }
+
+  public void addHotKeyCacheMissCount(int count) {
+    hotKeyCacheMissCount += count;
+  }
+
+  public int getHotKeyCacheMissCount() {
+    return hotKeyCacheMissCount;
+  }
+
+  /**
+   * Evictions are only triggered by the insertions of the read path, so they are attributed to the requests which
+   * populated the cache.
+   */
+  public void addHotKeyCacheEvictionCount(long count) {
+    hotKeyCacheEvictionCount += count;
+  }
+
+  public long getHotKeyCacheEvictionCount() {
+    return hotKeyCacheEvictionCount;
+  }
+
+  public void setParallelBatchGetFanOut(int parallelBatchGetFanOut) {
+    this.parallelBatchGetFanOut = parallelBatchGetFanOut;
+  }
+
+  public int getParallelBatchGetFanOut() {
+    return parallelBatchGetFanOut;
+  }
+
+  /**
+   * @param waitTime the longest time, in milliseconds, that a chunk of a parallel batch get waited before its lookup
+   *                 started.
+   */
+  public void setParallelBatchGetChunkQueueWaitTime(double waitTime) {
+    this.parallelBatchGetChunkQueueWaitTime = waitTime;
+  }
+
+  public double getParallelBatchGetChunkQueueWaitTime() {
+    return parallelBatchGetChunkQueueWaitTime;
+  }
+
   public boolean isFound() {
     return true;
   }
@@ -120,6 +120,11 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
    */
   private final Sensor leaderIngestionReplicationMetadataLookUpLatencySensor;
 
+  /**
+   * Measure the count and avg/max wait time when the key level lock in the Active/Active write path is contended
+   */
+  private final Sensor leaderKeyLevelLockContentionSensor;
+
   /**
    * Measure the count of ignored updates due to conflict resolution
    */
@@ -381,6 +386,14 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
         totalStats,
         () -> totalStats.leaderIngestionReplicationMetadataLookUpLatencySensor,
         avgAndMax());
+
+    this.leaderKeyLevelLockContentionSensor = registerPerStoreAndTotalSensor(
+        "leader_key_level_lock_contention_wait_time",
+        totalStats,
+        () -> totalStats.leaderKeyLevelLockContentionSensor,
+        new OccurrenceRate(),
+        new Avg(),
+        new Max());
   }
 
   /** Record a host-level byte consumption rate across all store versions */
@@ -475,6 +488,10 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
     leaderIngestionReplicationMetadataCacheHitCount.record(1, currentTimeMs);
   }
 
+  public void recordLeaderKeyLevelLockContention(double waitTimeMs) {
+    leaderKeyLevelLockContentionSensor.record(waitTimeMs);
+  }
+
   public void recordUpdateIgnoredDCR() {
     totalUpdateIgnoredDCRRate.record();
   }
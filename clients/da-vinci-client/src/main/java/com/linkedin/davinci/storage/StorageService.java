@@ -12,6 +12,7 @@ import com.linkedin.davinci.stats.RocksDBMemoryStats;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.StorageEngineFactory;
 import com.linkedin.davinci.store.blackhole.BlackHoleStorageEngineFactory;
+import com.linkedin.davinci.store.cache.HotKeyValueCache;
 import com.linkedin.davinci.store.memory.InMemoryStorageEngineFactory;
 import com.linkedin.davinci.store.rocksdb.RocksDBStorageEngineFactory;
 import com.linkedin.venice.ConfigKeys;
@@ -273,6 +274,14 @@ public class StorageService extends AbstractVeniceService {
     engine =
         factory.getStorageEngine(storeConfig, isReplicationMetadataEnabled(topicName, factory.getPersistenceType()));
     engine.updateStoreVersionStateCache(initialStoreVersionStateSupplier.get());
+    if (serverConfig.isHotKeyCacheEnabled() && !serverConfig.isDaVinciClient()) {
+      // The cache needs to be in place before any write, so it does not miss any invalidation.
+      engine.setHotKeyValueCache(
+          new HotKeyValueCache(
+              topicName,
+              serverConfig.getHotKeyCacheCapacityPerVersion(),
+              serverConfig.getHotKeyCacheMaxValueSize()));
+    }
     storageEngineRepository.addLocalStorageEngine(engine);
     // Setup storage engine stats
     aggVersionedStorageEngineStats.setStorageEngine(topicName, engine);
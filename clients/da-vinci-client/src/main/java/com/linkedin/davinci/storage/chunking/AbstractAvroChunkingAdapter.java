@@ -16,6 +16,9 @@ import com.linkedin.venice.utils.LatencyUtils;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
 
@@ -160,6 +163,45 @@ public abstract class AbstractAvroChunkingAdapter<T> implements ChunkingAdapter<
         compressor);
   }
 
+  /**
+   * Same as {@link #get(String, AbstractStorageEngine, int, byte[], ByteBuffer, Object, BinaryDecoder, boolean,
+   * CompressionStrategy, boolean, ReadOnlySchemaRepository, ReadResponse, VeniceCompressor)}, except that the top-level
+   * value of the key has already been read from {@param store}, e.g. by a batched lookup. The chunks of a large value
+   * are still read from {@param store}.
+   */
+  public T getFromPrefetchedValue(
+      String storeName,
+      AbstractStorageEngine store,
+      int partition,
+      byte[] value,
+      T reusedValue,
+      BinaryDecoder reusedDecoder,
+      CompressionStrategy compressionStrategy,
+      boolean fastAvroEnabled,
+      ReadOnlySchemaRepository schemaRepo,
+      VeniceCompressor compressor) {
+    if (value == null) {
+      return null;
+    }
+    return ChunkingUtils.getFromStorage(
+        value,
+        value.length,
+        0,
+        this,
+        store,
+        schemaRepo.getSupersetOrLatestValueSchema(storeName).getId(),
+        partition,
+        null,
+        reusedValue,
+        reusedDecoder,
+        compressionStrategy,
+        fastAvroEnabled,
+        schemaRepo,
+        storeName,
+        compressor,
+        false);
+  }
+
   public T get(
       AbstractStorageEngine store,
       int readerSchemaID,
@@ -265,6 +307,51 @@ public abstract class AbstractAvroChunkingAdapter<T> implements ChunkingAdapter<
         compressor);
   }
 
+  /**
+   * Look up a batch of keys belonging to the same partition with a single storage engine call, and hand each decoded
+   * value to {@param valueConsumer} along with the position of its key in {@param keys}. A null value is handed over
+   * for each key which does not exist.
+   *
+   * N.B.: {@param reusedValue} is recycled for every key, so the consumer must be done with a value before returning.
+   */
+  public void multiGet(
+      String storeName,
+      AbstractStorageEngine store,
+      int partition,
+      List<byte[]> keys,
+      T reusedValue,
+      BinaryDecoder reusedDecoder,
+      boolean isChunked,
+      CompressionStrategy compressionStrategy,
+      boolean fastAvroEnabled,
+      ReadOnlySchemaRepository schemaRepo,
+      ReadResponse response,
+      VeniceCompressor compressor,
+      ObjIntConsumer<T> valueConsumer) {
+    List<byte[]> storageKeys = keys;
+    if (isChunked) {
+      storageKeys = new ArrayList<>(keys.size());
+      for (byte[] key: keys) {
+        storageKeys.add(ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(key));
+      }
+    }
+    ChunkingUtils.multiGetFromStorage(
+        this,
+        store,
+        schemaRepo.getSupersetOrLatestValueSchema(storeName).getId(),
+        partition,
+        storageKeys,
+        response,
+        reusedValue,
+        reusedDecoder,
+        compressionStrategy,
+        fastAvroEnabled,
+        schemaRepo,
+        storeName,
+        compressor,
+        valueConsumer);
+  }
+
   public void getByPartialKey(
       String storeName,
       AbstractStorageEngine store,
@@ -19,6 +19,10 @@ import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.writer.VeniceWriter;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
 
@@ -285,7 +289,7 @@ public class ChunkingUtils {
    * @see BatchGetChunkingAdapter#get(AbstractStorageEngine, int, ByteBuffer, boolean, ReadResponse)
    * @see GenericChunkingAdapter#get(AbstractStorageEngine, int, ByteBuffer, boolean, Object, BinaryDecoder, ReadResponse, CompressionStrategy, boolean, ReadOnlySchemaRepository, String, VeniceCompressor, boolean)
    */
-  private static <VALUE, CHUNKS_CONTAINER> VALUE getFromStorage(
+  static <VALUE, CHUNKS_CONTAINER> VALUE getFromStorage(
       byte[] value,
       int valueLength,
       long databaseLookupStartTimeInNS,
@@ -346,27 +350,12 @@ public class ChunkingUtils {
       byte[] chunkKey = chunkedValueManifest.keysWithChunkIdSuffix.get(chunkIndex).array();
       byte[] valueChunk =
           isRmdValue ? store.getReplicationMetadata(partition, chunkKey) : store.get(partition, chunkKey);
-
-      if (valueChunk == null) {
-        throw new VeniceException("Chunk not found in " + getExceptionMessageDetails(store, partition, chunkIndex));
-      } else if (ValueRecord.parseSchemaId(valueChunk) != AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion()) {
-        throw new VeniceException(
-            "Did not get the chunk schema ID while attempting to retrieve a chunk! " + "Instead, got schema ID: "
-                + ValueRecord.parseSchemaId(valueChunk) + " from "
-                + getExceptionMessageDetails(store, partition, chunkIndex));
-      }
+      validateChunk(valueChunk, store, partition, chunkIndex);
 
       actualSize += valueChunk.length - ValueRecord.SCHEMA_HEADER_LENGTH;
       adapter.addChunkIntoContainer(assembledValueContainer, chunkIndex, valueChunk);
     }
-
-    // Sanity check based on size...
-    if (actualSize != chunkedValueManifest.size) {
-      throw new VeniceException(
-          "The fully assembled large value does not have the expected size! " + "actualSize: " + actualSize
-              + ", chunkedValueManifest.size: " + chunkedValueManifest.size + ", "
-              + getExceptionMessageDetails(store, partition, null));
-    }
+    validateAssembledSize(actualSize, chunkedValueManifest, store, partition);
 
     if (response != null) {
       response.addDatabaseLookupLatency(LatencyUtils.getLatencyInMS(databaseLookupStartTimeInNS));
@@ -386,6 +375,173 @@ public class ChunkingUtils {
         compressor);
   }
 
+  /**
+   * Batched counterpart of {@link #getFromStorage(ChunkingAdapter, AbstractStorageEngine, int, ByteBuffer, ReadResponse)}.
+   *
+   * @return a list of the same size as {@param keys}, with a null entry for each key which does not exist.
+   */
+  static <VALUE, CHUNKS_CONTAINER> List<VALUE> multiGetFromStorage(
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      AbstractStorageEngine store,
+      int partition,
+      List<byte[]> keys,
+      ReadResponse response) {
+    List<VALUE> values = new ArrayList<>(Collections.nCopies(keys.size(), null));
+    multiGetFromStorage(
+        adapter,
+        store,
+        -1,
+        partition,
+        keys,
+        response,
+        null,
+        null,
+        null,
+        false,
+        null,
+        null,
+        null,
+        (value, index) -> values.set(index, value));
+    return values;
+  }
+
+  /**
+   * Fetches the values associated with a batch of keys belonging to the same partition, and potentially re-assembles
+   * the chunked ones.
+   *
+   * All the top-level keys are looked up with a single {@link AbstractStorageEngine#multiGet} call, then the chunks of
+   * all the large values found in the batch are fetched together with one more call, instead of issuing one storage
+   * engine lookup per key and per chunk.
+   *
+   * Each value is handed to {@param valueConsumer} along with the position of its key in {@param keys}, in key order,
+   * and a null value is handed over for each key which does not exist. Since {@param reusedValue} may be recycled for
+   * every key, the consumer should be done with a value before returning.
+   */
+  static <VALUE, CHUNKS_CONTAINER> void multiGetFromStorage(
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      AbstractStorageEngine store,
+      int readerSchemaId,
+      int partition,
+      List<byte[]> keys,
+      ReadResponse response,
+      VALUE reusedValue,
+      BinaryDecoder reusedDecoder,
+      CompressionStrategy compressionStrategy,
+      boolean fastAvroEnabled,
+      ReadOnlySchemaRepository schemaRepo,
+      String storeName,
+      VeniceCompressor compressor,
+      ObjIntConsumer<VALUE> valueConsumer) {
+    long databaseLookupStartTimeInNS = (response != null) ? System.nanoTime() : 0;
+    List<byte[]> values = store.multiGet(partition, keys);
+
+    ChunkedValueManifest[] chunkedValueManifests = null;
+    List<byte[]> chunkKeys = null;
+    for (int i = 0; i < values.size(); i++) {
+      byte[] value = values.get(i);
+      if (value == null) {
+        continue;
+      }
+      int writerSchemaId = ValueRecord.parseSchemaId(value);
+      if (writerSchemaId > 0) {
+        continue;
+      } else if (writerSchemaId != AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.getCurrentProtocolVersion()) {
+        throw new VeniceException("Found a record with invalid schema ID: " + writerSchemaId);
+      }
+      if (chunkedValueManifests == null) {
+        chunkedValueManifests = new ChunkedValueManifest[values.size()];
+        chunkKeys = new ArrayList<>();
+      }
+      ChunkedValueManifest chunkedValueManifest = CHUNKED_VALUE_MANIFEST_SERIALIZER.deserialize(value, writerSchemaId);
+      chunkedValueManifests[i] = chunkedValueManifest;
+      for (ByteBuffer chunkKey: chunkedValueManifest.keysWithChunkIdSuffix) {
+        chunkKeys.add(chunkKey.array());
+      }
+    }
+    List<byte[]> valueChunks = chunkKeys == null ? Collections.emptyList() : store.multiGet(partition, chunkKeys);
+
+    if (response != null) {
+      response.addDatabaseLookupLatency(LatencyUtils.getLatencyInMS(databaseLookupStartTimeInNS));
+    }
+
+    int chunkCursor = 0;
+    for (int i = 0; i < values.size(); i++) {
+      byte[] value = values.get(i);
+      if (value == null) {
+        valueConsumer.accept(null, i);
+      } else if (chunkedValueManifests == null || chunkedValueManifests[i] == null) {
+        valueConsumer.accept(
+            adapter.constructValue(
+                ValueRecord.parseSchemaId(value),
+                readerSchemaId,
+                value,
+                value.length,
+                reusedValue,
+                reusedDecoder,
+                response,
+                compressionStrategy,
+                fastAvroEnabled,
+                schemaRepo,
+                storeName,
+                compressor),
+            i);
+      } else {
+        ChunkedValueManifest chunkedValueManifest = chunkedValueManifests[i];
+        CHUNKS_CONTAINER assembledValueContainer = adapter.constructChunksContainer(chunkedValueManifest);
+        int actualSize = 0;
+        for (int chunkIndex = 0; chunkIndex < chunkedValueManifest.keysWithChunkIdSuffix.size(); chunkIndex++) {
+          byte[] valueChunk = valueChunks.get(chunkCursor++);
+          validateChunk(valueChunk, store, partition, chunkIndex);
+          actualSize += valueChunk.length - ValueRecord.SCHEMA_HEADER_LENGTH;
+          adapter.addChunkIntoContainer(assembledValueContainer, chunkIndex, valueChunk);
+        }
+        validateAssembledSize(actualSize, chunkedValueManifest, store, partition);
+
+        if (response != null) {
+          response.incrementMultiChunkLargeValueCount();
+        }
+        valueConsumer.accept(
+            adapter.constructValue(
+                chunkedValueManifest.schemaId,
+                assembledValueContainer,
+                reusedValue,
+                reusedDecoder,
+                response,
+                compressionStrategy,
+                fastAvroEnabled,
+                schemaRepo,
+                storeName,
+                compressor),
+            i);
+      }
+    }
+  }
+
+  private static void validateChunk(byte[] valueChunk, AbstractStorageEngine store, int partition, int chunkIndex) {
+    if (valueChunk == null) {
+      throw new VeniceException("Chunk not found in " + getExceptionMessageDetails(store, partition, chunkIndex));
+    } else if (ValueRecord.parseSchemaId(valueChunk) != AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion()) {
+      throw new VeniceException(
+          "Did not get the chunk schema ID while attempting to retrieve a chunk! " + "Instead, got schema ID: "
+              + ValueRecord.parseSchemaId(valueChunk) + " from "
+              + getExceptionMessageDetails(store, partition, chunkIndex));
+    }
+  }
+
+  private static void validateAssembledSize(
+      int actualSize,
+      ChunkedValueManifest chunkedValueManifest,
+      AbstractStorageEngine store,
+      int partition) {
+    // Sanity check based on size...
+    if (actualSize != chunkedValueManifest.size) {
+      throw new VeniceException(
+          "The fully assembled large value does not have the expected size! " + "actualSize: " + actualSize
+              + ", chunkedValueManifest.size: " + chunkedValueManifest.size + ", "
+              + getExceptionMessageDetails(store, partition, null));
+    }
+  }
+
   private static String getExceptionMessageDetails(AbstractStorageEngine store, int partition, Integer chunkIndex) {
     String message = "store: " + store.getStoreName() + ", partition: " + partition;
     if (chunkIndex != null) {
@@ -4,6 +4,9 @@ import com.linkedin.davinci.listener.response.ReadResponse;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import com.linkedin.venice.utils.LatencyUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import java.nio.ByteBuffer;
@@ -51,6 +54,98 @@ public class SingleGetChunkingAdapter implements ChunkingAdapter<CompositeByteBu
     return ChunkingUtils.getFromStorage(SINGLE_GET_CHUNKING_ADAPTER, store, partition, keyBuffer, response);
   }
 
+  /**
+   * Same as {@link #get(AbstractStorageEngine, int, byte[], boolean, ReadResponse)}, except that a small value is read
+   * straight into a buffer obtained from {@param allocator}, and the returned {@link ValueRecord} is a view over it.
+   * Releasing the data of the returned {@link ValueRecord} releases that buffer.
+   *
+   * Large values are re-assembled through the regular path, from the manifest returned by the first lookup.
+   */
+  public static ValueRecord get(
+      AbstractStorageEngine store,
+      int partition,
+      byte[] key,
+      boolean isChunked,
+      ReadResponse response,
+      ByteBufAllocator allocator) {
+    long databaseLookupStartTimeInNS = (response != null) ? System.nanoTime() : 0;
+    byte[] keyBytes = isChunked ? ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(key) : key;
+    ByteBuf value = store.get(partition, keyBytes, allocator);
+    if (value == null) {
+      return null;
+    }
+    // The buffer is released here, unless it gets handed over to the returned value record.
+    boolean valueHandedOver = false;
+    try {
+      int schemaId = value.getInt(0);
+      if (schemaId > 0) {
+        // User-defined schema, thus not a chunked value. Early termination.
+        if (response != null) {
+          response.addDatabaseLookupLatency(LatencyUtils.getLatencyInMS(databaseLookupStartTimeInNS));
+        }
+        ByteBuf data =
+            value.slice(ValueRecord.SCHEMA_HEADER_LENGTH, value.readableBytes() - ValueRecord.SCHEMA_HEADER_LENGTH);
+        ValueRecord valueRecord = ValueRecord.create(schemaId, data);
+        valueHandedOver = true;
+        return valueRecord;
+      }
+      // A chunked value manifest, which is small, so it is copied to the heap rather than looked up a second time.
+      byte[] manifestBytes = new byte[value.readableBytes()];
+      value.getBytes(value.readerIndex(), manifestBytes);
+      return ChunkingUtils.getFromStorage(
+          manifestBytes,
+          manifestBytes.length,
+          databaseLookupStartTimeInNS,
+          SINGLE_GET_CHUNKING_ADAPTER,
+          store,
+          -1,
+          partition,
+          response,
+          null,
+          null,
+          null,
+          false,
+          null,
+          null,
+          null,
+          false);
+    } finally {
+      if (!valueHandedOver) {
+        value.release();
+      }
+    }
+  }
+
+  /**
+   * Same as {@link #getReplicationMetadata(AbstractStorageEngine, int, byte[], boolean, ReadResponse)}, except that the
+   * top-level replication metadata of the key has already been read from {@param store}, e.g. by a batched lookup.
+   */
+  public static ValueRecord getReplicationMetadataFromPrefetchedValue(
+      AbstractStorageEngine store,
+      int partition,
+      byte[] replicationMetadata) {
+    if (replicationMetadata == null) {
+      return null;
+    }
+    return ChunkingUtils.getFromStorage(
+        replicationMetadata,
+        replicationMetadata.length,
+        0,
+        SINGLE_GET_CHUNKING_ADAPTER,
+        store,
+        -1,
+        partition,
+        null,
+        null,
+        null,
+        null,
+        false,
+        null,
+        null,
+        null,
+        true);
+  }
+
   public static ValueRecord getReplicationMetadata(
       AbstractStorageEngine store,
       int partition,
@@ -0,0 +1,105 @@
+package com.linkedin.davinci.storage.chunking;
+
+import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
+import com.linkedin.venice.serialization.IdentityRecordDeserializer;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.VeniceSerializationException;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.buffer.Unpooled;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Map;
+import org.apache.avro.io.BinaryDecoder;
+
+
+/**
+ * A ChunkingAdapter to be used when we want to read the value from storage engine as raw bytes, together with the ID
+ * of the value schema which the raw bytes are serialized with. Like {@link RawBytesChunkingAdapter}, the reader schema
+ * is ignored, and the separate chunks are merged and decompressed.
+ */
+public class ValueRecordChunkingAdapter extends AbstractAvroChunkingAdapter<ValueRecord> {
+  public static final ValueRecordChunkingAdapter INSTANCE = new ValueRecordChunkingAdapter();
+
+  private final Map<Integer, RecordDeserializer<ValueRecord>> deserializerMap = new VeniceConcurrentHashMap<>();
+
+  /** Singleton */
+  protected ValueRecordChunkingAdapter() {
+    super();
+  }
+
+  @Override
+  protected RecordDeserializer<ValueRecord> getDeserializer(
+      String storeName,
+      int writerSchemaId,
+      int readerSchemaId,
+      ReadOnlySchemaRepository schemaRepo,
+      boolean fastAvroEnabled) {
+    return deserializerMap.computeIfAbsent(writerSchemaId, ValueRecordDeserializer::new);
+  }
+
+  /**
+   * Wraps the raw bytes returned by {@link IdentityRecordDeserializer} together with the writer schema ID.
+   */
+  private static class ValueRecordDeserializer implements RecordDeserializer<ValueRecord> {
+    private final IdentityRecordDeserializer delegate = IdentityRecordDeserializer.getInstance();
+    private final int schemaId;
+
+    ValueRecordDeserializer(int schemaId) {
+      this.schemaId = schemaId;
+    }
+
+    private ValueRecord wrap(ByteBuffer byteBuffer) {
+      return ValueRecord.create(schemaId, Unpooled.wrappedBuffer(byteBuffer));
+    }
+
+    @Override
+    public ValueRecord deserialize(byte[] bytes) throws VeniceSerializationException {
+      return wrap(delegate.deserialize(bytes));
+    }
+
+    @Override
+    public ValueRecord deserialize(ByteBuffer byteBuffer) throws VeniceSerializationException {
+      return wrap(delegate.deserialize(byteBuffer));
+    }
+
+    @Override
+    public ValueRecord deserialize(ValueRecord reuse, ByteBuffer byteBuffer, BinaryDecoder reusedDecoder)
+        throws VeniceSerializationException {
+      return wrap(delegate.deserialize(null, byteBuffer, reusedDecoder));
+    }
+
+    @Override
+    public ValueRecord deserialize(ValueRecord reuse, byte[] bytes) throws VeniceSerializationException {
+      return wrap(delegate.deserialize(null, bytes));
+    }
+
+    @Override
+    public ValueRecord deserialize(BinaryDecoder binaryDecoder) throws VeniceSerializationException {
+      return wrap(delegate.deserialize(binaryDecoder));
+    }
+
+    @Override
+    public ValueRecord deserialize(ValueRecord reuse, BinaryDecoder binaryDecoder)
+        throws VeniceSerializationException {
+      return wrap(delegate.deserialize(null, binaryDecoder));
+    }
+
+    @Override
+    public ValueRecord deserialize(ValueRecord reuse, InputStream in, BinaryDecoder reusedDecoder)
+        throws VeniceSerializationException {
+      return wrap(delegate.deserialize(null, in, reusedDecoder));
+    }
+
+    @Override
+    public Iterable<ValueRecord> deserializeObjects(byte[] bytes) throws VeniceSerializationException {
+      return Collections.singleton(deserialize(bytes));
+    }
+
+    @Override
+    public Iterable<ValueRecord> deserializeObjects(BinaryDecoder binaryDecoder) throws VeniceSerializationException {
+      return Collections.singleton(deserialize(binaryDecoder));
+    }
+  }
+}
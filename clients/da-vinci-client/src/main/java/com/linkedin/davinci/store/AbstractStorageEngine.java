@@ -1,6 +1,7 @@
 package com.linkedin.davinci.store;
 
 import com.linkedin.davinci.callback.BytesStreamingCallback;
+import com.linkedin.davinci.store.cache.HotKeyValueCache;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.exceptions.PersistenceFailureException;
 import com.linkedin.venice.exceptions.StorageInitializationException;
@@ -12,8 +13,11 @@ import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.utils.LatencyUtils;
+import com.linkedin.venice.utils.Pair;
 import com.linkedin.venice.utils.PartitionUtils;
 import com.linkedin.venice.utils.SparseConcurrentList;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import java.io.Closeable;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -79,6 +83,12 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
    */
   private final List<ReadWriteLock> rwLockForStoragePartitionAdjustmentList = new SparseConcurrentList<>();
 
+  /**
+   * Optional cache of hot values on the read path, which is kept consistent by the write APIs of this class and lives
+   * as long as this storage engine.
+   */
+  private volatile HotKeyValueCache hotKeyValueCache;
+
   public AbstractStorageEngine(
       String storeName,
       InternalAvroSpecificSerializer<StoreVersionState> storeVersionStateSerializer,
@@ -110,6 +120,21 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     return getStoreName();
   }
 
+  /**
+   * This should be invoked before the storage engine starts taking any write, otherwise the cache could miss some
+   * invalidations.
+   */
+  public void setHotKeyValueCache(HotKeyValueCache hotKeyValueCache) {
+    this.hotKeyValueCache = hotKeyValueCache;
+  }
+
+  /**
+   * @return the cache of hot values of this storage engine, or null if it is not enabled.
+   */
+  public HotKeyValueCache getHotKeyValueCache() {
+    return hotKeyValueCache;
+  }
+
   public abstract PersistenceType getType();
 
   public abstract long getStoreSizeInBytes();
@@ -246,6 +271,7 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
       return;
     }
     partition.close();
+    clearHotKeyValueCache(partitionId);
     if (getNumberOfPartitions() == 0) {
       LOGGER.info("All Partitions closed for store {} ", getStoreName());
     }
@@ -288,6 +314,7 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
 
     AbstractStoragePartition partition = this.partitionList.remove(partitionId);
     partition.drop();
+    clearHotKeyValueCache(partitionId);
 
     if (getNumberOfPartitions() == 0) {
       LOGGER.info("All Partitions deleted for Store {}", getStoreName());
@@ -352,6 +379,7 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
         LatencyUtils.getElapsedTimeInMs(startTime));
     partitionList.clear();
     closeMetadataPartition();
+    clearHotKeyValueCache();
   }
 
   /**
@@ -382,6 +410,8 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     LOGGER.info("End batch write for storage partition config: {}", storagePartitionConfig);
     AbstractStoragePartition partition = getPartitionOrThrow(storagePartitionConfig.getPartitionId());
     partition.endBatchWrite();
+    // The data ingested in batch mode only becomes visible at this point, without going through the write APIs.
+    clearHotKeyValueCache();
     /**
      * After end of batch push, we would like to adjust the underlying database for the future ingestion, such as from streaming.
      */
@@ -428,10 +458,33 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     });
   }
 
+  public void beginWriteBatch(int partitionId) throws VeniceException {
+    executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      partition.beginWriteBatch();
+      HotKeyValueCache cache = hotKeyValueCache;
+      if (cache != null) {
+        cache.beginWriteBatch(partitionId);
+      }
+    });
+  }
+
+  public void commitWriteBatch(int partitionId) throws VeniceException {
+    executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      partition.commitWriteBatch();
+      HotKeyValueCache cache = hotKeyValueCache;
+      if (cache != null) {
+        cache.commitWriteBatch(partitionId);
+      }
+    });
+  }
+
   public void put(int partitionId, byte[] key, byte[] value) throws VeniceException {
     executeWithSafeGuard(partitionId, () -> {
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
       partition.put(key, value);
+      invalidateHotKey(partitionId, key);
     });
   }
 
@@ -439,6 +492,7 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     executeWithSafeGuard(partitionId, () -> {
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
       partition.put(key, value);
+      invalidateHotKey(partitionId, key);
     });
   }
 
@@ -447,6 +501,7 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     executeWithSafeGuard(partitionId, () -> {
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
       partition.putWithReplicationMetadata(key, value, replicationMetadata);
+      invalidateHotKey(partitionId, key);
     });
   }
 
@@ -478,6 +533,13 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     });
   }
 
+  public ByteBuf get(int partitionId, byte[] key, ByteBufAllocator allocator) throws VeniceException {
+    return executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      return partition.get(key, allocator);
+    });
+  }
+
   public byte[] get(int partitionId, ByteBuffer keyBuffer) throws VeniceException {
     return executeWithSafeGuard(partitionId, () -> {
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
@@ -485,6 +547,13 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     });
   }
 
+  public List<byte[]> multiGet(int partitionId, List<byte[]> keys) throws VeniceException {
+    return executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      return partition.multiGet(keys);
+    });
+  }
+
   public void getByKeyPrefix(int partitionId, byte[] partialKey, BytesStreamingCallback bytesStreamingCallback) {
     executeWithSafeGuard(partitionId, () -> {
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
@@ -496,6 +565,7 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     executeWithSafeGuard(partitionId, () -> {
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
       partition.delete(key);
+      invalidateHotKey(partitionId, key);
     });
   }
 
@@ -504,9 +574,36 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     executeWithSafeGuard(partitionId, () -> {
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
       partition.deleteWithReplicationMetadata(key, replicationMetadata);
+      invalidateHotKey(partitionId, key);
     });
   }
 
+  /**
+   * The cached value is invalidated after the write, so that a reader which misses the cache afterwards is guaranteed
+   * to find the new value in the storage engine, unless it is buffered in a write batch, which is taken care of by
+   * {@link #commitWriteBatch}.
+   */
+  private void invalidateHotKey(int partitionId, byte[] key) {
+    HotKeyValueCache cache = hotKeyValueCache;
+    if (cache != null) {
+      cache.invalidate(partitionId, key);
+    }
+  }
+
+  private void clearHotKeyValueCache() {
+    HotKeyValueCache cache = hotKeyValueCache;
+    if (cache != null) {
+      cache.clear();
+    }
+  }
+
+  private void clearHotKeyValueCache(int partitionId) {
+    HotKeyValueCache cache = hotKeyValueCache;
+    if (cache != null) {
+      cache.clear(partitionId);
+    }
+  }
+
   public byte[] getReplicationMetadata(int partitionId, byte[] key) {
     return executeWithSafeGuard(partitionId, () -> {
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
@@ -514,6 +611,13 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     });
   }
 
+  public Pair<List<byte[]>, List<byte[]>> multiGetWithReplicationMetadata(int partitionId, List<byte[]> keys) {
+    return executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      return partition.multiGetWithReplicationMetadata(keys);
+    });
+  }
+
   /**
    * Put the offset associated with the partitionId into the metadata partition.
    */
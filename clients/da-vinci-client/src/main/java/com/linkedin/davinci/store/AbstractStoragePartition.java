@@ -3,7 +3,13 @@ package com.linkedin.davinci.store;
 import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.store.rocksdb.ReplicationMetadataRocksDBStoragePartition;
 import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
+import com.linkedin.venice.utils.Pair;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -49,6 +55,20 @@ public abstract class AbstractStoragePartition {
     return ByteBuffer.wrap(get(key));
   }
 
+  /**
+   * Get a value from the partition database into a buffer obtained from {@param allocator}, so that it can be handed
+   * over to Netty without any intermediate heap copy.
+   * @param key key to be retrieved
+   * @param allocator allocator to obtain the value buffer from
+   * @return null if the key does not exist, otherwise a {@link ByteBuf} holding the value, which the caller is
+   *         responsible for releasing.
+   */
+  public ByteBuf get(byte[] key, ByteBufAllocator allocator) {
+    // Naive default impl is not optimized... only storage engines that support the optimization implement it.
+    byte[] value = get(key);
+    return value == null ? null : Unpooled.wrappedBuffer(value);
+  }
+
   /**
    * Get a Value from the partition database
    * @param <K> the type for Key
@@ -60,6 +80,20 @@ public abstract class AbstractStoragePartition {
 
   public abstract byte[] get(ByteBuffer key);
 
+  /**
+   * Get the values of a batch of keys from the partition database.
+   * @param keys keys to be retrieved
+   * @return a list of the same size as {@param keys}, with a null entry for each key which does not exist.
+   */
+  public List<byte[]> multiGet(List<byte[]> keys) {
+    // Naive default impl is not optimized... only storage engines that support batched lookup implement it.
+    List<byte[]> values = new ArrayList<>(keys.size());
+    for (byte[] key: keys) {
+      values.add(get(key));
+    }
+    return values;
+  }
+
   /**
    * Populate provided callback with key-value pairs from the partition database where the keys have provided prefix.
    * If prefix is null, callback will be populated will all key-value pairs from the partition database.
@@ -109,6 +143,20 @@ public abstract class AbstractStoragePartition {
   public void endBatchWrite() {
   }
 
+  /**
+   * Start buffering the writes issued by the current thread, until {@link #commitWriteBatch()} is invoked, so that
+   * they can be applied to the storage engine with a single call. The buffered writes are not visible to reads before
+   * they are committed. By default, this is a no-op and the writes are applied right away.
+   */
+  public void beginWriteBatch() {
+  }
+
+  /**
+   * Apply all the writes buffered since {@link #beginWriteBatch()}.
+   */
+  public void commitWriteBatch() {
+  }
+
   /**
    * Get the partition database size in bytes
    * @return partition database size
@@ -150,6 +198,21 @@ public abstract class AbstractStoragePartition {
     throw new VeniceUnsupportedOperationException("getReplicationMetadata");
   }
 
+  /**
+   * Get the values and the replication metadata of a batch of keys from the partition database.
+   * @param keys keys to be retrieved
+   * @return a pair of lists of the same size as {@param keys}: the values and the replication metadata, with a null
+   *         entry for each key which does not exist.
+   */
+  public Pair<List<byte[]>, List<byte[]>> multiGetWithReplicationMetadata(List<byte[]> keys) {
+    // Naive default impl is not optimized... only storage engines that support batched lookup implement it.
+    List<byte[]> replicationMetadata = new ArrayList<>(keys.size());
+    for (byte[] key: keys) {
+      replicationMetadata.add(getReplicationMetadata(key));
+    }
+    return new Pair<>(multiGet(keys), replicationMetadata);
+  }
+
   /**
    * This API deletes a record from RocksDB but updates the metadata in ByteBuffer format and puts it into RocksDB.
    * Only {@link ReplicationMetadataRocksDBStoragePartition} will execute this method,
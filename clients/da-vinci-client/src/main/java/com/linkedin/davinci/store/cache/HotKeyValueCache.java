@@ -0,0 +1,220 @@
+package com.linkedin.davinci.store.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.utils.ByteArrayKey;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.buffer.ByteBuf;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * A size bounded cache of serialized values of a single store version, which sits in front of the storage engine on
+ * the read path of the storage node to absorb hot keys. Admission and eviction follow the W-TinyLFU policy of
+ * Caffeine, so that one-off keys of a large batch get do not push the frequently read keys out of the cache.
+ *
+ * Entries are keyed by the key as persisted in the storage engine (with the chunking suffix for chunked store
+ * versions), and they are invalidated by the write APIs of {@link AbstractStorageEngine}, which are used by ingestion.
+ *
+ * Since the cache gets populated after a storage lookup, a lookup racing with an update could try to insert a value
+ * which is already stale. To avoid that, every invalidation bumps a write generation of the stripe the key maps to,
+ * and a reader only keeps its value in the cache if the generation it captured with {@link #getWriteGeneration}
+ * before its lookup is still the same after the insertion.
+ *
+ * Updates which are buffered in a storage write batch only become visible once the batch is committed, so the keys
+ * written since {@link #beginWriteBatch} get invalidated once more in {@link #commitWriteBatch}.
+ */
+public class HotKeyValueCache {
+  /**
+   * Rough per-entry overhead of the cache, in bytes, which is added to the key and value size to weigh an entry.
+   */
+  private static final int ENTRY_OVERHEAD_IN_BYTES = 96;
+  private static final int WRITE_GENERATION_STRIPES = 1024;
+
+  public static class CachedValue {
+    private final int partitionId;
+    private final int schemaId;
+    private final byte[] value;
+    private final int weight;
+
+    private CachedValue(int partitionId, int schemaId, byte[] value, int keyLength) {
+      this.partitionId = partitionId;
+      this.schemaId = schemaId;
+      this.value = value;
+      this.weight = ENTRY_OVERHEAD_IN_BYTES + keyLength + value.length;
+    }
+
+    public int getSchemaId() {
+      return schemaId;
+    }
+
+    /**
+     * @return the serialized value without the schema header. It is shared by all the readers, so it must not be
+     *         modified.
+     */
+    public byte[] getValue() {
+      return value;
+    }
+  }
+
+  private final String storeVersionName;
+  private final int maxValueSizeInBytes;
+  private final Cache<ByteArrayKey, CachedValue> cache;
+  private final AtomicLongArray writeGenerations = new AtomicLongArray(WRITE_GENERATION_STRIPES);
+  private final AtomicLong evictionCount = new AtomicLong();
+  private final Map<Integer, Queue<ByteArrayKey>> writeBatchKeys = new VeniceConcurrentHashMap<>();
+
+  public HotKeyValueCache(String storeVersionName, long capacityInBytes, int maxValueSizeInBytes) {
+    this.storeVersionName = storeVersionName;
+    this.maxValueSizeInBytes = maxValueSizeInBytes;
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(capacityInBytes)
+        .weigher((ByteArrayKey key, CachedValue value) -> value.weight)
+        .removalListener((key, value, cause) -> {
+          if (cause.wasEvicted()) {
+            evictionCount.incrementAndGet();
+          }
+        })
+        .build();
+  }
+
+  public String getStoreVersionName() {
+    return storeVersionName;
+  }
+
+  public CachedValue get(byte[] key) {
+    return cache.getIfPresent(ByteArrayKey.wrap(key));
+  }
+
+  /**
+   * @return the current write generation of the stripe of {@param key}, which needs to be captured before looking up
+   *         the storage engine, and passed to {@link #put} afterwards.
+   */
+  public long getWriteGeneration(byte[] key) {
+    return writeGenerations.get(getStripe(ByteArrayKey.wrap(key)));
+  }
+
+  /**
+   * Caches the value found in {@param partitionId} of the storage engine for {@param key}, unless it is too large or
+   * the key got updated since {@param writeGeneration} was captured. The content of {@param value} is copied without
+   * changing its position.
+   */
+  public void put(int partitionId, byte[] key, long writeGeneration, int schemaId, ByteBuffer value) {
+    if (value.remaining() > maxValueSizeInBytes) {
+      return;
+    }
+    byte[] valueCopy = new byte[value.remaining()];
+    value.duplicate().get(valueCopy);
+    put(key, writeGeneration, new CachedValue(partitionId, schemaId, valueCopy, key.length));
+  }
+
+  /**
+   * Same as {@link #put(int, byte[], long, int, ByteBuffer)}, for a value held in a Netty buffer. The indices of
+   * {@param value} are left untouched.
+   */
+  public void put(int partitionId, byte[] key, long writeGeneration, int schemaId, ByteBuf value) {
+    if (value.readableBytes() > maxValueSizeInBytes) {
+      return;
+    }
+    byte[] valueCopy = new byte[value.readableBytes()];
+    value.getBytes(value.readerIndex(), valueCopy);
+    put(key, writeGeneration, new CachedValue(partitionId, schemaId, valueCopy, key.length));
+  }
+
+  private void put(byte[] key, long writeGeneration, CachedValue cachedValue) {
+    ByteArrayKey cacheKey = ByteArrayKey.wrap(key);
+    int stripe = getStripe(cacheKey);
+    if (writeGenerations.get(stripe) != writeGeneration) {
+      return;
+    }
+    cache.put(cacheKey, cachedValue);
+    /**
+     * An invalidation could have happened between the generation check above and the insertion, in which case the
+     * entry is removed again, as the writer could have missed it.
+     */
+    if (writeGenerations.get(stripe) != writeGeneration) {
+      cache.invalidate(cacheKey);
+    }
+  }
+
+  /**
+   * Invoked once {@param key} has been written into {@param partitionId} of the storage engine.
+   */
+  public void invalidate(int partitionId, byte[] key) {
+    ByteArrayKey cacheKey = ByteArrayKey.wrap(key);
+    writeGenerations.incrementAndGet(getStripe(cacheKey));
+    cache.invalidate(cacheKey);
+    Queue<ByteArrayKey> pendingKeys = writeBatchKeys.get(partitionId);
+    if (pendingKeys != null) {
+      pendingKeys.add(cacheKey);
+    }
+  }
+
+  public void beginWriteBatch(int partitionId) {
+    writeBatchKeys.computeIfAbsent(partitionId, p -> new ConcurrentLinkedQueue<>());
+  }
+
+  /**
+   * Invoked once the write batch of {@param partitionId} has been committed to the storage engine, to invalidate the
+   * keys written as part of it again, since those could have been cached with their previous value in the meantime.
+   */
+  public void commitWriteBatch(int partitionId) {
+    Queue<ByteArrayKey> pendingKeys = writeBatchKeys.remove(partitionId);
+    if (pendingKeys == null) {
+      return;
+    }
+    ByteArrayKey cacheKey;
+    while ((cacheKey = pendingKeys.poll()) != null) {
+      writeGenerations.incrementAndGet(getStripe(cacheKey));
+      cache.invalidate(cacheKey);
+    }
+  }
+
+  /**
+   * Drops all the entries, which is necessary whenever the content of the storage engine changes without going through
+   * its regular write APIs, or is not going to be read anymore.
+   */
+  public void clear() {
+    bumpAllWriteGenerations();
+    cache.invalidateAll();
+  }
+
+  /**
+   * Same as {@link #clear()}, for the entries of {@param partitionId} only, so that dropping or closing a partition
+   * does not empty the cache of the other partitions of the store version.
+   */
+  public void clear(int partitionId) {
+    // The stripes are shared by all the partitions, so the in-flight insertions of the other partitions get dropped too
+    bumpAllWriteGenerations();
+    writeBatchKeys.remove(partitionId);
+    cache.asMap().values().removeIf(cachedValue -> cachedValue.partitionId == partitionId);
+  }
+
+  /**
+   * @return the number of entries evicted because of the size bound since the last invocation.
+   */
+  public long getAndResetEvictionCount() {
+    return evictionCount.getAndSet(0);
+  }
+
+  public long getEstimatedSize() {
+    return cache.estimatedSize();
+  }
+
+  private void bumpAllWriteGenerations() {
+    for (int i = 0; i < WRITE_GENERATION_STRIPES; i++) {
+      writeGenerations.incrementAndGet(i);
+    }
+  }
+
+  private static int getStripe(ByteArrayKey key) {
+    int hash = key.hashCode();
+    return (hash ^ (hash >>> 16)) & (WRITE_GENERATION_STRIPES - 1);
+  }
+}
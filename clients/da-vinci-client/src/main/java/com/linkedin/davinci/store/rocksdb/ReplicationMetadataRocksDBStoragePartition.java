@@ -5,13 +5,18 @@ import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.Pair;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.WriteBatch;
@@ -72,9 +77,13 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
     }
 
     try {
+      WriteBatch pendingWriteBatch;
       if (deferredWrite) {
         super.put(key, value);
         rocksDBSstFileWriter.put(key, ByteBuffer.wrap(metadata));
+      } else if ((pendingWriteBatch = getWriteBatchOfCurrentThread()) != null) {
+        pendingWriteBatch.put(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key, value);
+        pendingWriteBatch.put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), key, metadata);
       } else {
         try (WriteBatch writeBatch = new WriteBatch()) {
           writeBatch.put(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key, value);
@@ -98,8 +107,11 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
               + partitionId);
     }
     try {
+      WriteBatch pendingWriteBatch;
       if (deferredWrite) {
         rocksDBSstFileWriter.put(key, ByteBuffer.wrap(metadata));
+      } else if ((pendingWriteBatch = getWriteBatchOfCurrentThread()) != null) {
+        pendingWriteBatch.put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), key, metadata);
       } else {
         rocksDB.put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), writeOptions, key, metadata);
       }
@@ -146,6 +158,43 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
     }
   }
 
+  /**
+   * Look up the values and the replication metadata of all the keys with a single {@link RocksDB#multiGetAsList} call
+   * across both column families.
+   */
+  @Override
+  public Pair<List<byte[]>, List<byte[]>> multiGetWithReplicationMetadata(List<byte[]> keys) {
+    int keyCount = keys.size();
+    if (keyCount == 0) {
+      return new Pair<>(Collections.emptyList(), Collections.emptyList());
+    }
+    List<ColumnFamilyHandle> columnFamilyHandles = new ArrayList<>(keyCount * 2);
+    List<byte[]> columnFamilyKeys = new ArrayList<>(keyCount * 2);
+    for (byte[] key: keys) {
+      columnFamilyHandles.add(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX));
+      columnFamilyKeys.add(key);
+    }
+    for (byte[] key: keys) {
+      columnFamilyHandles.add(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX));
+      columnFamilyKeys.add(key);
+    }
+
+    List<byte[]> results;
+    readCloseRWLock.readLock().lock();
+    try {
+      makeSureRocksDBIsStillOpen();
+      results = rocksDB.multiGetAsList(READ_OPTIONS_DEFAULT, columnFamilyHandles, columnFamilyKeys);
+    } catch (RocksDBException e) {
+      throw new VeniceException(
+          "Failed to multi-get values and replication metadata from store: " + storeName + ", partition id: "
+              + partitionId,
+          e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
+    }
+    return new Pair<>(results.subList(0, keyCount), results.subList(keyCount, keyCount * 2));
+  }
+
   /**
    * This API deletes a record from RocksDB but updates the metadata in ByteBuffer format and puts it into RocksDB.
    */
@@ -158,9 +207,14 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
               + partitionId);
     }
     try {
+      WriteBatch pendingWriteBatch;
       if (deferredWrite) {
         // Just update the RMD for deletion during repush
         rocksDBSstFileWriter.put(key, ByteBuffer.wrap(replicationMetadata));
+      } else if ((pendingWriteBatch = getWriteBatchOfCurrentThread()) != null) {
+        pendingWriteBatch.delete(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key);
+        pendingWriteBatch
+            .put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), key, replicationMetadata);
       } else {
         try (WriteBatch writeBatch = new WriteBatch()) {
           writeBatch.delete(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key);
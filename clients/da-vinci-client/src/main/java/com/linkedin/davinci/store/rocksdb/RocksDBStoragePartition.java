@@ -8,7 +8,11 @@ import com.linkedin.davinci.store.AbstractStoragePartition;
 import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.LatencyUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import it.unimi.dsi.fastutil.ints.IntArrays;
 import java.io.File;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -42,6 +46,7 @@ import org.rocksdb.RocksIterator;
 import org.rocksdb.Slice;
 import org.rocksdb.SstFileWriter;
 import org.rocksdb.Statistics;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 
 
@@ -61,6 +66,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
   static final byte[] REPLICATION_METADATA_COLUMN_FAMILY = "timestamp_metadata".getBytes();
 
   private static final FlushOptions WAIT_FOR_FLUSH_OPTIONS = new FlushOptions().setWaitForFlush(true);
+  private static final int MAX_DIRECT_READ_BUFFER_SIZE_HINT = 64 * 1024;
 
   /**
    * Here RocksDB disables WAL, but relies on the 'flush', which will be invoked through {@link #sync()}
@@ -69,6 +75,13 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
   protected final WriteOptions writeOptions;
   private final String fullPathForTempSSTFileDir;
 
+  /**
+   * Writes buffered since {@link #beginWriteBatch()}, and the thread which issued them. Writes from any other thread
+   * will commit the pending batch first to preserve the write ordering. Both are guarded by the partition monitor.
+   */
+  private WriteBatch pendingWriteBatch = null;
+  private Thread pendingWriteBatchOwner = null;
+
   private final EnvOptions envOptions;
 
   protected final String storeName;
@@ -88,6 +101,12 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
    */
   protected final ReentrantReadWriteLock readCloseRWLock = new ReentrantReadWriteLock();
 
+  /**
+   * Initial capacity of the buffers allocated by {@link #get(byte[], ByteBufAllocator)}, which grows with the biggest
+   * value seen so far, up to {@link #MAX_DIRECT_READ_BUFFER_SIZE_HINT}. Races on this field are harmless.
+   */
+  private volatile int directReadBufferSizeHint = 1024;
+
   /**
    * The passed in {@link Options} instance.
    * For now, the RocksDB version being used right now doesn't support shared block cache unless
@@ -375,6 +394,61 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     rocksDBSstFileWritter.ingestSSTFiles(rocksDB, columnFamilyHandleList);
   }
 
+  @Override
+  public synchronized void beginWriteBatch() {
+    makeSureRocksDBIsStillOpen();
+    if (deferredWrite || readOnly) {
+      // Writes in 'deferredWrite' mode are already buffered by the SST file writer
+      return;
+    }
+    if (pendingWriteBatch != null) {
+      if (pendingWriteBatchOwner == Thread.currentThread()) {
+        return;
+      }
+      commitPendingWriteBatch();
+    }
+    pendingWriteBatch = new WriteBatch();
+    pendingWriteBatchOwner = Thread.currentThread();
+  }
+
+  @Override
+  public synchronized void commitWriteBatch() {
+    commitPendingWriteBatch();
+  }
+
+  /**
+   * @return the pending {@link WriteBatch} if the current thread owns it, otherwise null after committing the pending
+   *         writes of the other thread, if any, so that the caller can write to the database directly.
+   */
+  protected WriteBatch getWriteBatchOfCurrentThread() {
+    if (pendingWriteBatch == null) {
+      return null;
+    }
+    if (pendingWriteBatchOwner == Thread.currentThread()) {
+      return pendingWriteBatch;
+    }
+    commitPendingWriteBatch();
+    return null;
+  }
+
+  private void commitPendingWriteBatch() {
+    if (pendingWriteBatch == null) {
+      return;
+    }
+    try (WriteBatch writeBatch = pendingWriteBatch) {
+      pendingWriteBatch = null;
+      pendingWriteBatchOwner = null;
+      if (writeBatch.count() > 0) {
+        makeSureRocksDBIsStillOpen();
+        rocksDB.write(writeOptions, writeBatch);
+      }
+    } catch (RocksDBException e) {
+      throw new VeniceException(
+          "Failed to commit write batch to store: " + storeName + ", partition id: " + partitionId,
+          e);
+    }
+  }
+
   @Override
   public synchronized void put(byte[] key, byte[] value) {
     put(key, ByteBuffer.wrap(value));
@@ -389,8 +463,11 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
               + partitionId);
     }
     try {
+      WriteBatch writeBatch;
       if (deferredWrite) {
         rocksDBSstFileWritter.put(key, valueBuffer);
+      } else if ((writeBatch = getWriteBatchOfCurrentThread()) != null) {
+        writeBatch.put(key, ByteUtils.extractByteArray(valueBuffer));
       } else {
         rocksDB.put(
             writeOptions,
@@ -452,6 +529,50 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  /**
+   * Read the value straight into a direct buffer obtained from {@param allocator}, through the direct
+   * {@link ByteBuffer} variant of {@link RocksDB#get}, so that neither a per-lookup byte array nor a heap to direct
+   * memory copy is needed when Netty writes the value out.
+   *
+   * The value buffer is first sized from {@link #directReadBufferSizeHint}; if the value turns out to be bigger, the
+   * lookup is retried with a buffer of the exact size, and the hint is grown for the following lookups.
+   */
+  @Override
+  public ByteBuf get(byte[] key, ByteBufAllocator allocator) {
+    ByteBuf keyBuf = allocator.directBuffer(key.length, key.length);
+    ByteBuf valueBuf = null;
+    readCloseRWLock.readLock().lock();
+    try {
+      makeSureRocksDBIsStillOpen();
+      keyBuf.writeBytes(key);
+      valueBuf = allocator.directBuffer(directReadBufferSizeHint);
+      int size = rocksDB.get(READ_OPTIONS_DEFAULT, keyBuf.nioBuffer(), valueBuf.nioBuffer(0, valueBuf.capacity()));
+      // The value could be updated concurrently between two lookups, so keep retrying until it fits.
+      while (size > valueBuf.capacity()) {
+        valueBuf.release();
+        valueBuf = allocator.directBuffer(size, size);
+        if (size > directReadBufferSizeHint) {
+          directReadBufferSizeHint = Math.min(size, MAX_DIRECT_READ_BUFFER_SIZE_HINT);
+        }
+        size = rocksDB.get(READ_OPTIONS_DEFAULT, keyBuf.nioBuffer(), valueBuf.nioBuffer(0, size));
+      }
+      if (size == RocksDB.NOT_FOUND) {
+        valueBuf.release();
+        return null;
+      }
+      valueBuf.writerIndex(size);
+      return valueBuf;
+    } catch (RocksDBException e) {
+      if (valueBuf != null) {
+        valueBuf.release();
+      }
+      throw new VeniceException("Failed to get value from store: " + storeName + ", partition id: " + partitionId, e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
+      keyBuf.release();
+    }
+  }
+
   @Override
   public <K, V> V get(K key) {
     throw new UnsupportedOperationException("Method not implemented!!");
@@ -470,6 +591,49 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  /**
+   * Look up all the keys with a single {@link RocksDB#multiGetAsList} call, so that a batch get only pays for one JNI
+   * crossing and one super-version acquisition instead of one per key.
+   *
+   * The keys are handed to RocksDB in bytewise order, which lets consecutive lookups hit the same data blocks, and the
+   * results are mapped back to the order of {@param keys}.
+   */
+  @Override
+  public List<byte[]> multiGet(List<byte[]> keys) {
+    int keyCount = keys.size();
+    if (keyCount == 0) {
+      return Collections.emptyList();
+    }
+    int[] sortedIndexes = new int[keyCount];
+    for (int i = 0; i < keyCount; i++) {
+      sortedIndexes[i] = i;
+    }
+    IntArrays.quickSort(sortedIndexes, (left, right) -> ByteUtils.compare(keys.get(left), keys.get(right)));
+    List<byte[]> sortedKeys = new ArrayList<>(keyCount);
+    for (int index: sortedIndexes) {
+      sortedKeys.add(keys.get(index));
+    }
+
+    List<byte[]> sortedValues;
+    readCloseRWLock.readLock().lock();
+    try {
+      makeSureRocksDBIsStillOpen();
+      sortedValues = rocksDB.multiGetAsList(READ_OPTIONS_DEFAULT, sortedKeys);
+    } catch (RocksDBException e) {
+      throw new VeniceException(
+          "Failed to multi-get values from store: " + storeName + ", partition id: " + partitionId,
+          e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
+    }
+
+    byte[][] values = new byte[keyCount][];
+    for (int i = 0; i < keyCount; i++) {
+      values[sortedIndexes[i]] = sortedValues.get(i);
+    }
+    return Arrays.asList(values);
+  }
+
   @Override
   public void getByKeyPrefix(byte[] keyPrefix, BytesStreamingCallback callback) {
     if (keyPrefix != null && rocksDBServerConfig.isRocksDBPlainTableFormatEnabled()) {
@@ -540,8 +704,11 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
               + partitionId);
     }
     try {
+      WriteBatch writeBatch;
       if (deferredWrite) {
         throw new VeniceException("Deletion is unexpected in 'deferredWrite' mode");
+      } else if ((writeBatch = getWriteBatchOfCurrentThread()) != null) {
+        writeBatch.delete(key);
       } else {
         rocksDB.delete(key);
       }
@@ -556,6 +723,14 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
   public synchronized Map<String, String> sync() {
     makeSureRocksDBIsStillOpen();
     if (!deferredWrite) {
+      if (pendingWriteBatch != null) {
+        // Keep buffering the writes of the owner thread after the commit, in case it is the one syncing
+        boolean reopenWriteBatch = pendingWriteBatchOwner == Thread.currentThread();
+        commitPendingWriteBatch();
+        if (reopenWriteBatch) {
+          beginWriteBatch();
+        }
+      }
       LOGGER.debug("Flush memtable to disk for store: {}, partition id: {}", storeName, partitionId);
 
       if (this.readOnly) {
@@ -648,6 +823,11 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
      * The following operations are used to free up memory.
      */
     deRegisterDBStats();
+    try {
+      commitPendingWriteBatch();
+    } catch (VeniceException e) {
+      LOGGER.error("Failed to commit the pending write batch before closing partition: {}", partitionId, e);
+    }
     readCloseRWLock.writeLock().lock();
     try {
       rocksDB.close();
@@ -13,7 +13,10 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.replication.RmdWithValueSchemaId;
+import com.linkedin.davinci.replication.merge.MergeConflictResult;
 import com.linkedin.davinci.stats.AggVersionedDIVStats;
 import com.linkedin.davinci.stats.AggVersionedIngestionStats;
 import com.linkedin.davinci.stats.HostLevelIngestionStats;
@@ -22,6 +25,7 @@ import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.NoopCompressor;
 import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.protocol.GUID;
 import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
 import com.linkedin.venice.kafka.protocol.ProducerMetadata;
@@ -29,6 +33,7 @@ import com.linkedin.venice.kafka.protocol.Put;
 import com.linkedin.venice.kafka.protocol.enums.MessageType;
 import com.linkedin.venice.message.KafkaKey;
 import com.linkedin.venice.meta.ReadOnlySchemaRepository;
+import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
 import com.linkedin.venice.pubsub.api.PubSubMessage;
 import com.linkedin.venice.pubsub.api.PubSubProduceResult;
@@ -42,6 +47,7 @@ import com.linkedin.venice.storage.protocol.ChunkId;
 import com.linkedin.venice.storage.protocol.ChunkedKeySuffix;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.Pair;
 import com.linkedin.venice.utils.SystemTime;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.lazy.Lazy;
@@ -49,11 +55,20 @@ import com.linkedin.venice.writer.VeniceWriter;
 import com.linkedin.venice.writer.VeniceWriterOptions;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
 import org.mockito.ArgumentCaptor;
 import org.mockito.stubbing.Answer;
 import org.testng.Assert;
@@ -336,4 +351,162 @@ public class ActiveActiveStoreIngestionTaskTest {
     Assert.assertNotNull(result3);
     Assert.assertEquals(result3, expectedChunkedValue2);
   }
+
+  @Test
+  public void testPrefetchRecordsOfRealTimeBatch() {
+    ActiveActiveStoreIngestionTask ingestionTask = mock(ActiveActiveStoreIngestionTask.class);
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    when(ingestionTask.getStorageEngine()).thenReturn(storageEngine);
+    when(ingestionTask.isChunked()).thenReturn(false);
+    when(ingestionTask.prefetchRecords(any(), any())).thenCallRealMethod();
+    PartitionConsumptionState partitionConsumptionState =
+        new PartitionConsumptionState(0, 1, mock(OffsetRecord.class), false);
+
+    byte[] key1 = "key1".getBytes();
+    byte[] key2 = "key2".getBytes();
+    byte[] key3 = "key3".getBytes();
+    byte[] key4 = "key4".getBytes();
+    byte[] value = new byte[] { 0, 0, 0, 1, 97 };
+    byte[] rmd = new byte[] { 0, 0, 0, 1, 98 };
+
+    // key3 has been processed by the consumer of another region, but it is not persisted yet
+    partitionConsumptionState.setTransientRecord(1, 10L, key3, 1, null);
+    // The consumer of another region is processing its own batch with key4 at the same time
+    PartitionConsumptionState.PrefetchBatch otherPrefetchBatch = partitionConsumptionState.startPrefetchBatch();
+    otherPrefetchBatch.setPrefetchedRecords(
+        Collections.singletonList(key4),
+        Collections.singletonList(value),
+        Collections.singletonList(rmd));
+
+    List<List<byte[]>> lookedUpKeys = new ArrayList<>();
+    when(storageEngine.multiGetWithReplicationMetadata(eq(0), any())).thenAnswer(invocation -> {
+      List<byte[]> keys = invocation.getArgument(1);
+      lookedUpKeys.add(keys);
+      // key1 is processed by the consumer of another region and persisted while the lookup is in flight
+      partitionConsumptionState.setTransientRecord(1, 11L, key1, 1, null);
+      partitionConsumptionState.mayRemoveTransientRecord(1, 11L, key1);
+      return new Pair<>(Collections.nCopies(keys.size(), value), Collections.nCopies(keys.size(), rmd));
+    });
+
+    PartitionConsumptionState.PrefetchBatch prefetchBatch = ingestionTask.prefetchRecords(
+        Arrays.asList(mockRecord(key1), mockRecord(key2), mockRecord(key1), mockRecord(key3)),
+        partitionConsumptionState);
+    Assert.assertNotNull(prefetchBatch);
+    // Every key is looked up once, except for the key which has a transient record
+    Assert.assertEquals(lookedUpKeys.size(), 1);
+    Assert.assertEquals(lookedUpKeys.get(0).size(), 2);
+    Assert.assertEquals(lookedUpKeys.get(0).get(0), key1);
+    Assert.assertEquals(lookedUpKeys.get(0).get(1), key2);
+    // Only the lookup of the key updated in the meantime is discarded
+    Assert.assertNull(partitionConsumptionState.getPrefetchedRecord(key1));
+    Assert.assertEquals(partitionConsumptionState.getPrefetchedRecord(key2).getValue(), value);
+    Assert.assertEquals(partitionConsumptionState.getPrefetchedRecord(key2).getReplicationMetadata(), rmd);
+    Assert.assertNull(partitionConsumptionState.getPrefetchedRecord(key3));
+
+    // Clearing the batch keeps the records prefetched by the consumer of the other region
+    prefetchBatch.clear();
+    Assert.assertNull(partitionConsumptionState.getPrefetchedRecord(key2));
+    Assert.assertNotNull(partitionConsumptionState.getPrefetchedRecord(key4));
+    otherPrefetchBatch.clear();
+    Assert.assertNull(partitionConsumptionState.getPrefetchedRecord(key4));
+
+    // Nothing is looked up if all the keys have transient records
+    Assert.assertNull(
+        ingestionTask.prefetchRecords(Collections.singletonList(mockRecord(key3)), partitionConsumptionState));
+    Assert.assertEquals(lookedUpKeys.size(), 1);
+  }
+
+  @Test
+  public void testProcessKeysOfRealTimeBatchInParallel() {
+    ActiveActiveStoreIngestionTask ingestionTask = mock(ActiveActiveStoreIngestionTask.class);
+    when(ingestionTask.getRmdProtocolVersionID()).thenReturn(1);
+    when(ingestionTask.processShard(any(), any(), anyInt(), anyLong())).thenCallRealMethod();
+    PartitionConsumptionState partitionConsumptionState =
+        new PartitionConsumptionState(0, 1, mock(OffsetRecord.class), false);
+    Schema rmdSchema = AvroCompatibilityHelper.parse(
+        "{\"type\":\"record\",\"name\":\"Rmd\",\"fields\":[{\"name\":\"timestamp\",\"type\":\"long\"}]}");
+
+    // The existing RMD of each key, read once per key before resolving its first record
+    when(ingestionTask.getReplicationMetadataAndSchemaIdCopy(any(), any(), anyInt(), anyLong()))
+        .thenAnswer(invocation -> {
+          GenericRecord rmdRecord = new GenericData.Record(rmdSchema);
+          rmdRecord.put("timestamp", -1L);
+          return new RmdWithValueSchemaId(1, 1, rmdRecord);
+        });
+    Map<Long, GenericRecord> resultRmdRecordsByOffset = new HashMap<>();
+    when(ingestionTask.processActiveActiveMessage(any(), any(), anyInt(), any(), any())).thenAnswer(invocation -> {
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record = invocation.getArgument(0);
+      long offset = record.getOffset();
+      if (offset == 5) {
+        throw new VeniceException("Failed to resolve the record at offset: " + offset);
+      }
+      // Update the old RMD in place like the merge conflict resolver does
+      RmdWithValueSchemaId oldRmdWithValueSchemaId = invocation.getArgument(4);
+      GenericRecord rmdRecord = oldRmdWithValueSchemaId.getRmdRecord();
+      Assert.assertEquals(rmdRecord.get("timestamp"), offset == 0 || offset == 4 ? -1L : offset - 1);
+      rmdRecord.put("timestamp", offset);
+      resultRmdRecordsByOffset.put(offset, rmdRecord);
+      ByteBuffer newValue = ByteBuffer.wrap(("value" + offset).getBytes());
+      return new MergeConflictResultWrapper(
+          new MergeConflictResult(newValue, 1, false, rmdRecord),
+          invocation.getArgument(3),
+          oldRmdWithValueSchemaId,
+          1,
+          0,
+          Collections.emptyList(),
+          newValue,
+          null);
+    });
+
+    byte[] key1 = "key1".getBytes();
+    byte[] key2 = "key2".getBytes();
+    List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> recordsOfKey1 =
+        Arrays.asList(mockRecord(key1, 0), mockRecord(key1, 1), mockRecord(key1, 2), mockRecord(key1, 3));
+    List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> recordsOfKey2 =
+        Arrays.asList(mockRecord(key2, 4), mockRecord(key2, 5), mockRecord(key2, 6));
+    Map<Long, ActiveActiveStoreIngestionTask.KeyParallelMergeResult> results =
+        ingestionTask.processShard(Arrays.asList(recordsOfKey1, recordsOfKey2), partitionConsumptionState, 0, 0L);
+
+    verify(ingestionTask, times(2)).getReplicationMetadataAndSchemaIdCopy(any(), any(), anyInt(), anyLong());
+    // The records of the same key are resolved one after another, and the failed record of key2 and the ones after it
+    // are left to the regular path
+    Assert.assertEquals(results.keySet(), new HashSet<>(Arrays.asList(0L, 1L, 2L, 3L, 4L)));
+    // The RMD of each result is left intact by the resolution of the next record of the same key
+    resultRmdRecordsByOffset.forEach((offset, rmdRecord) -> Assert.assertEquals(rmdRecord.get("timestamp"), offset));
+
+    // Consume the results in the consumed order, where DIV drops the record at offset 1 as a duplicate
+    List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> consumedRecords = new ArrayList<>(recordsOfKey1);
+    consumedRecords.addAll(recordsOfKey2);
+    List<Long> offsetsWithResult = new ArrayList<>();
+    for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record: consumedRecords) {
+      if (record.getOffset() == 1) {
+        continue;
+      }
+      MergeConflictResultWrapper mergeConflictResultWrapper =
+          ActiveActiveStoreIngestionTask.consumeKeyParallelMergeResult(results, record);
+      if (mergeConflictResultWrapper != null) {
+        offsetsWithResult.add(record.getOffset());
+        Assert.assertSame(
+            mergeConflictResultWrapper.getMergeConflictResult().getRmdRecord(),
+            resultRmdRecordsByOffset.get(record.getOffset()));
+      }
+    }
+    // The records of key1 after the duplicate were resolved against a result which is not applied, so they fall back to
+    // the regular path together with the records of key2 from the failed one onwards
+    Assert.assertEquals(offsetsWithResult, Arrays.asList(0L, 4L));
+    Assert.assertEquals(results.keySet(), Collections.singleton(1L));
+    Assert.assertNull(ActiveActiveStoreIngestionTask.consumeKeyParallelMergeResult(null, mockRecord(key1, 7)));
+  }
+
+  private static PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> mockRecord(byte[] key) {
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record = mock(PubSubMessage.class);
+    when(record.getKey()).thenReturn(new KafkaKey(MessageType.PUT, key));
+    return record;
+  }
+
+  private static PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> mockRecord(byte[] key, long offset) {
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record = mockRecord(key);
+    when(record.getOffset()).thenReturn(offset);
+    return record;
+  }
 }
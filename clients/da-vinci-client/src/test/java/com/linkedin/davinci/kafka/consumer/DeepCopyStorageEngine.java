@@ -106,6 +106,16 @@ public class DeepCopyStorageEngine extends AbstractStorageEngine<AbstractStorage
     this.delegate.endBatchWrite(storagePartitionConfig);
   }
 
+  @Override
+  public void beginWriteBatch(int partitionId) {
+    this.delegate.beginWriteBatch(partitionId);
+  }
+
+  @Override
+  public void commitWriteBatch(int partitionId) {
+    this.delegate.commitWriteBatch(partitionId);
+  }
+
   @Override
   public void put(int logicalPartitionId, byte[] key, byte[] value) {
     this.delegate.put(logicalPartitionId, key, value);
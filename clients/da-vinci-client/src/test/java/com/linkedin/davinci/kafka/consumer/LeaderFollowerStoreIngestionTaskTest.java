@@ -0,0 +1,171 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.stats.HostLevelIngestionStats;
+import com.linkedin.davinci.storage.chunking.ChunkingUtils;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.CompressorFactory;
+import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
+import com.linkedin.venice.offsets.OffsetRecord;
+import com.linkedin.venice.schema.SchemaEntry;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.lazy.Lazy;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class LeaderFollowerStoreIngestionTaskTest {
+  private static final String STORE_NAME = "test_store";
+  private static final int PARTITION = 0;
+  private static final int VALUE_SCHEMA_ID = 2;
+
+  @Test
+  public void testReadStoredValueBytesOfChunkedAndCompressedValue() throws Exception {
+    byte[] keyBytes = "key".getBytes();
+    byte[] value = new byte[1000];
+    for (int i = 0; i < value.length; i++) {
+      value[i] = (byte) i;
+    }
+
+    try (CompressorFactory compressorFactory = new CompressorFactory()) {
+      VeniceCompressor compressor = compressorFactory.getCompressor(CompressionStrategy.GZIP);
+      AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+      LeaderFollowerStoreIngestionTask ingestionTask = mockIngestionTask(storageEngine, compressor, true);
+
+      // The compressed value is split into two chunks
+      byte[] compressedValue = compressor.compress(value);
+      int cutOff = compressedValue.length / 2;
+      byte[] firstChunkKey = "chunk0".getBytes();
+      byte[] secondChunkKey = "chunk1".getBytes();
+      doReturn(createChunk(compressedValue, 0, cutOff)).when(storageEngine).get(eq(PARTITION), eq(firstChunkKey));
+      doReturn(createChunk(compressedValue, cutOff, compressedValue.length - cutOff)).when(storageEngine)
+          .get(eq(PARTITION), eq(secondChunkKey));
+      ChunkedValueManifest chunkedValueManifest = new ChunkedValueManifest();
+      chunkedValueManifest.keysWithChunkIdSuffix = new ArrayList<>(2);
+      chunkedValueManifest.keysWithChunkIdSuffix.add(ByteBuffer.wrap(firstChunkKey));
+      chunkedValueManifest.keysWithChunkIdSuffix.add(ByteBuffer.wrap(secondChunkKey));
+      chunkedValueManifest.schemaId = VALUE_SCHEMA_ID;
+      chunkedValueManifest.size = compressedValue.length;
+      byte[] serializedManifest = SerializerDeserializerFactory.getAvroGenericSerializer(ChunkedValueManifest.SCHEMA$)
+          .serialize(chunkedValueManifest);
+      byte[] serializedManifestWithHeader = new byte[serializedManifest.length + ValueRecord.SCHEMA_HEADER_LENGTH];
+      ByteUtils.writeInt(
+          serializedManifestWithHeader,
+          AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.currentProtocolVersion.get(),
+          0);
+      System.arraycopy(
+          serializedManifest,
+          0,
+          serializedManifestWithHeader,
+          ValueRecord.SCHEMA_HEADER_LENGTH,
+          serializedManifest.length);
+      doReturn(serializedManifestWithHeader).when(storageEngine)
+          .get(
+              eq(PARTITION),
+              eq(ByteBuffer.wrap(ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(keyBytes))));
+
+      PartitionConsumptionState partitionConsumptionState =
+          new PartitionConsumptionState(PARTITION, 1, mock(OffsetRecord.class), false);
+      ValueRecord valueRecord = ingestionTask.readStoredValueBytes(partitionConsumptionState, keyBytes, null);
+
+      Assert.assertEquals(valueRecord.getSchemaId(), VALUE_SCHEMA_ID);
+      Assert.assertEquals(
+          ByteUtils.extractByteArray(LeaderFollowerStoreIngestionTask.getValueBytes(valueRecord)),
+          value);
+    }
+  }
+
+  @Test
+  public void testReadStoredValueBytesOfTransientRecord() throws Exception {
+    byte[] keyBytes = "key".getBytes();
+    byte[] value = "value".getBytes();
+
+    try (CompressorFactory compressorFactory = new CompressorFactory()) {
+      VeniceCompressor compressor = compressorFactory.getCompressor(CompressionStrategy.GZIP);
+      AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+      LeaderFollowerStoreIngestionTask ingestionTask = mockIngestionTask(storageEngine, compressor, false);
+      PartitionConsumptionState partitionConsumptionState =
+          new PartitionConsumptionState(PARTITION, 1, mock(OffsetRecord.class), false);
+
+      // The transient record holds the compressed value at an offset of its buffer
+      byte[] compressedValue = compressor.compress(value);
+      byte[] transientValue = new byte[compressedValue.length + 8];
+      System.arraycopy(compressedValue, 0, transientValue, 4, compressedValue.length);
+      partitionConsumptionState
+          .setTransientRecord(0, 1L, keyBytes, transientValue, 4, compressedValue.length, VALUE_SCHEMA_ID, null);
+      ValueRecord valueRecord = ingestionTask.readStoredValueBytes(partitionConsumptionState, keyBytes, null);
+
+      Assert.assertEquals(valueRecord.getSchemaId(), VALUE_SCHEMA_ID);
+      Assert.assertEquals(
+          ByteUtils.extractByteArray(LeaderFollowerStoreIngestionTask.getValueBytes(valueRecord)),
+          value);
+      verify(ingestionTask.getHostLevelIngestionStats()).recordWriteComputeCacheHitCount();
+      verify(storageEngine, never()).get(eq(PARTITION), any(ByteBuffer.class));
+
+      // A deleted key has no current value
+      partitionConsumptionState.setTransientRecord(0, 2L, keyBytes, VALUE_SCHEMA_ID, null);
+      Assert.assertNull(ingestionTask.readStoredValueBytes(partitionConsumptionState, keyBytes, null));
+      verify(storageEngine, never()).get(eq(PARTITION), any(ByteBuffer.class));
+    }
+  }
+
+  @Test
+  public void testGetValueBytesOfDirectBuffer() {
+    byte[] value = "value".getBytes();
+    ByteBuf directBuffer = Unpooled.directBuffer(value.length).writeBytes(value);
+    try {
+      ValueRecord valueRecord = ValueRecord.create(VALUE_SCHEMA_ID, directBuffer);
+      Assert.assertEquals(
+          ByteUtils.extractByteArray(LeaderFollowerStoreIngestionTask.getValueBytes(valueRecord)),
+          value);
+    } finally {
+      directBuffer.release();
+    }
+  }
+
+  private static LeaderFollowerStoreIngestionTask mockIngestionTask(
+      AbstractStorageEngine storageEngine,
+      VeniceCompressor compressor,
+      boolean chunked) {
+    LeaderFollowerStoreIngestionTask ingestionTask = mock(LeaderFollowerStoreIngestionTask.class);
+    when(ingestionTask.getStorageEngine()).thenReturn(storageEngine);
+    when(ingestionTask.isChunked()).thenReturn(chunked);
+    when(ingestionTask.getCompressionStrategy()).thenReturn(compressor.getCompressionStrategy());
+    when(ingestionTask.getCompressor()).thenReturn(Lazy.of(() -> compressor));
+    when(ingestionTask.getServerConfig()).thenReturn(mock(VeniceServerConfig.class));
+    ReadOnlySchemaRepository schemaRepository = mock(ReadOnlySchemaRepository.class);
+    doReturn(new SchemaEntry(VALUE_SCHEMA_ID, "\"string\"")).when(schemaRepository)
+        .getSupersetOrLatestValueSchema(STORE_NAME);
+    when(ingestionTask.getSchemaRepo()).thenReturn(schemaRepository);
+    when(ingestionTask.getStoreName()).thenReturn(STORE_NAME);
+    when(ingestionTask.getHostLevelIngestionStats()).thenReturn(mock(HostLevelIngestionStats.class));
+    when(ingestionTask.getSubPartitionId(any(), any())).thenReturn(PARTITION);
+    when(ingestionTask.readStoredValueBytes(any(), any(), any())).thenCallRealMethod();
+    return ingestionTask;
+  }
+
+  private static byte[] createChunk(byte[] bytes, int offset, int length) {
+    byte[] chunk = new byte[length + ValueRecord.SCHEMA_HEADER_LENGTH];
+    ByteUtils.writeInt(chunk, AvroProtocolDefinition.CHUNK.currentProtocolVersion.get(), 0);
+    System.arraycopy(bytes, offset, chunk, ValueRecord.SCHEMA_HEADER_LENGTH, length);
+    return chunk;
+  }
+}
@@ -2,6 +2,8 @@ package com.linkedin.davinci.kafka.consumer;
 
 import com.linkedin.venice.common.Measurable;
 import com.linkedin.venice.utils.TestUtils;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.testng.Assert;
@@ -117,4 +119,37 @@ public class MemoryBoundBlockingQueueTest {
       TestUtils.shutdownThread(t);
     }
   }
+
+  @Test
+  public void testTakeInBatch() throws InterruptedException {
+    int recordSize = MemoryBoundBlockingQueue.LINKED_QUEUE_NODE_OVERHEAD_IN_BYTE + MeasurableObject.SIZE;
+    MemoryBoundBlockingQueue<MeasurableObject> queue = new MemoryBoundBlockingQueue<>(5000, recordSize);
+    for (int i = 0; i < 10; ++i) {
+      queue.put(new MeasurableObject());
+    }
+
+    // Bounded by the record count
+    List<MeasurableObject> records = new ArrayList<>();
+    Assert.assertEquals(queue.take(records, 4, Long.MAX_VALUE), 4);
+    Assert.assertEquals(records.size(), 4);
+    Assert.assertEquals(queue.size(), 6);
+
+    // Bounded by the record size
+    records.clear();
+    Assert.assertEquals(queue.take(records, 100, 2 * recordSize + 1), 2);
+    Assert.assertEquals(queue.size(), 4);
+
+    // At least one record will be taken
+    records.clear();
+    Assert.assertEquals(queue.take(records, 100, 1), 1);
+    Assert.assertEquals(queue.size(), 3);
+
+    // The freed memory should be released back
+    Assert.assertEquals(queue.getMemoryUsage(), 3 * recordSize);
+
+    records.clear();
+    Assert.assertEquals(queue.take(records, 100, Long.MAX_VALUE), 3);
+    Assert.assertTrue(queue.isEmpty());
+    Assert.assertEquals(queue.getMemoryUsage(), 0);
+  }
 }
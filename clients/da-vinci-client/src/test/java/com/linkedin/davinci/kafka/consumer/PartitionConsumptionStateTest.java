@@ -4,6 +4,7 @@ import static org.mockito.Mockito.mock;
 
 import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.schema.rmd.RmdSchemaGenerator;
+import java.util.Arrays;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -61,4 +62,56 @@ public class PartitionConsumptionStateTest {
     Assert.assertEquals(pcs.getTransientRecordMapSize(), 1);
 
   }
+
+  @Test
+  public void testPrefetchedRecordIsDroppedBySettingTransientRecord() {
+    PartitionConsumptionState pcs = new PartitionConsumptionState(0, 1, mock(OffsetRecord.class), false);
+
+    byte[] key1 = new byte[] { 65, 66, 67, 68 };
+    byte[] key2 = new byte[] { 65, 66, 67, 69 };
+    byte[] value1 = new byte[] { 0, 0, 0, 1, 97, 98, 99 };
+    byte[] rmd1 = new byte[] { 0, 0, 0, 1, 100 };
+
+    Assert.assertNull(pcs.getPrefetchedRecord(key1));
+    PartitionConsumptionState.PrefetchBatch prefetchBatch = pcs.startPrefetchBatch();
+    prefetchBatch
+        .setPrefetchedRecords(Arrays.asList(key1, key2), Arrays.asList(value1, null), Arrays.asList(rmd1, null));
+
+    PartitionConsumptionState.PrefetchedRecord prefetchedRecord = pcs.getPrefetchedRecord(key1.clone());
+    Assert.assertNotNull(prefetchedRecord);
+    Assert.assertEquals(prefetchedRecord.getValue(), value1);
+    Assert.assertEquals(prefetchedRecord.getReplicationMetadata(), rmd1);
+    prefetchedRecord = pcs.getPrefetchedRecord(key2);
+    Assert.assertNotNull(prefetchedRecord);
+    Assert.assertNull(prefetchedRecord.getValue());
+    Assert.assertNull(prefetchedRecord.getReplicationMetadata());
+
+    // The transient record of the key supersedes the prefetched one, even after it is removed from the transient map
+    pcs.setTransientRecord(-1, 1, key1, 5, null);
+    Assert.assertNull(pcs.getPrefetchedRecord(key1));
+    pcs.mayRemoveTransientRecord(-1, 1, key1);
+    Assert.assertNull(pcs.getPrefetchedRecord(key1));
+    Assert.assertNotNull(pcs.getPrefetchedRecord(key2));
+
+    prefetchBatch.clear();
+    Assert.assertNull(pcs.getPrefetchedRecord(key2));
+
+    // A transient record set during the DB lookup only invalidates the lookup of its own key
+    prefetchBatch = pcs.startPrefetchBatch();
+    pcs.setTransientRecord(-1, 2, key1, 5, null);
+    pcs.mayRemoveTransientRecord(-1, 2, key1);
+    prefetchBatch
+        .setPrefetchedRecords(Arrays.asList(key1, key2), Arrays.asList(value1, null), Arrays.asList(rmd1, null));
+    Assert.assertNull(pcs.getPrefetchedRecord(key1));
+    Assert.assertNotNull(pcs.getPrefetchedRecord(key2));
+
+    // Clearing a batch keeps the records prefetched by the batch of another consumer
+    PartitionConsumptionState.PrefetchBatch otherPrefetchBatch = pcs.startPrefetchBatch();
+    otherPrefetchBatch.setPrefetchedRecords(Arrays.asList(key1), Arrays.asList(value1), Arrays.asList(rmd1));
+    prefetchBatch.clear();
+    Assert.assertNotNull(pcs.getPrefetchedRecord(key1));
+    Assert.assertNull(pcs.getPrefetchedRecord(key2));
+    otherPrefetchBatch.clear();
+    Assert.assertNull(pcs.getPrefetchedRecord(key1));
+  }
 }
@@ -1,11 +1,14 @@
 package com.linkedin.davinci.kafka.consumer;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -26,6 +29,10 @@ import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.Utils;
 import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -81,6 +88,55 @@ public class StoreBufferServiceTest {
         () -> bufferService.drainBufferedRecordsFromTopicPartition(pubSubTopicPartition1));
   }
 
+  @Test
+  public void testRunInBatchesWithWriteBatch() throws Exception {
+    StoreBufferService bufferService = new StoreBufferService(1, 10000, 1000, true, 100, 10000, true);
+    StoreIngestionTask mockTask = mock(StoreIngestionTask.class);
+    doReturn(1).when(mockTask).getAmplificationFactor();
+    PartitionConsumptionState mockPcs = mock(PartitionConsumptionState.class);
+    doReturn(mockPcs).when(mockTask).getPartitionConsumptionState(anyInt());
+    String topic = Utils.getUniqueString("test_topic") + "_v1";
+    int partition1 = 1;
+    int partition2 = 2;
+    PubSubTopic pubSubTopic = pubSubTopicRepository.getTopic(topic);
+    PubSubTopicPartition pubSubTopicPartition1 = new PubSubTopicPartitionImpl(pubSubTopic, partition1);
+    PubSubTopicPartition pubSubTopicPartition2 = new PubSubTopicPartitionImpl(pubSubTopic, partition2);
+    String kafkaUrl = "blah";
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> cr1 =
+        new ImmutablePubSubMessage<>(key, value, pubSubTopicPartition1, 1, 0, 0);
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> cr2 =
+        new ImmutablePubSubMessage<>(key, value, pubSubTopicPartition1, 2, 0, 0);
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> cr3 =
+        new ImmutablePubSubMessage<>(key, value, pubSubTopicPartition2, 3, 0, 0);
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> cr4 =
+        new ImmutablePubSubMessage<>(key, value, pubSubTopicPartition1, 4, 0, 0);
+
+    // Queue all the records before starting, so that they will be taken within the same batch
+    bufferService.putConsumerRecord(cr1, mockTask, null, partition1, kafkaUrl, 0L);
+    bufferService.putConsumerRecord(cr2, mockTask, null, partition1, kafkaUrl, 0L);
+    bufferService.putConsumerRecord(cr3, mockTask, null, partition2, kafkaUrl, 0L);
+    bufferService.putConsumerRecord(cr4, mockTask, leaderContext, partition1, kafkaUrl, 0L);
+    ArgumentCaptor<CompletableFuture> futureCaptor = ArgumentCaptor.forClass(CompletableFuture.class);
+    verify(mockPcs, times(3)).setLastQueuedRecordPersistedFuture(futureCaptor.capture());
+
+    bufferService.start();
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).commitStorageWriteBatch(partition2);
+    InOrder inOrder = inOrder(mockTask);
+    inOrder.verify(mockTask).beginStorageWriteBatch(partition1);
+    inOrder.verify(mockTask).processConsumerRecord(cr1, null, partition1, kafkaUrl, 0L);
+    inOrder.verify(mockTask).processConsumerRecord(cr2, null, partition1, kafkaUrl, 0L);
+    inOrder.verify(mockTask).beginStorageWriteBatch(partition2);
+    inOrder.verify(mockTask).processConsumerRecord(cr3, null, partition2, kafkaUrl, 0L);
+    // The leader record is persisted right away, after the pending writes of its partition
+    inOrder.verify(mockTask).commitStorageWriteBatch(partition1);
+    inOrder.verify(mockTask).processConsumerRecord(cr4, leaderContext, partition1, kafkaUrl, 0L);
+    inOrder.verify(mockTask).commitStorageWriteBatch(partition2);
+    for (CompletableFuture future: futureCaptor.getAllValues()) {
+      future.get(TIMEOUT_IN_MS, TimeUnit.MILLISECONDS);
+    }
+    bufferService.stop();
+  }
+
   @Test(dataProviderClass = DataProviderUtils.class, dataProvider = "True-and-False")
   public void testRunWhenThrowException(boolean queueLeaderWrites) throws Exception {
     StoreBufferService bufferService = new StoreBufferService(1, 10000, 1000, queueLeaderWrites);
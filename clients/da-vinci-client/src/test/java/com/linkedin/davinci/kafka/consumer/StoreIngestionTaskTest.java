@@ -85,9 +85,11 @@ import com.linkedin.venice.exceptions.validation.MissingDataException;
 import com.linkedin.venice.kafka.TopicManager;
 import com.linkedin.venice.kafka.TopicManagerRepository;
 import com.linkedin.venice.kafka.protocol.ControlMessage;
+import com.linkedin.venice.kafka.protocol.GUID;
 import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
 import com.linkedin.venice.kafka.protocol.ProducerMetadata;
 import com.linkedin.venice.kafka.protocol.Put;
+import com.linkedin.venice.kafka.protocol.StartOfSegment;
 import com.linkedin.venice.kafka.protocol.TopicSwitch;
 import com.linkedin.venice.kafka.protocol.enums.ControlMessageType;
 import com.linkedin.venice.kafka.protocol.enums.MessageType;
@@ -3282,6 +3284,89 @@ public abstract class StoreIngestionTaskTest {
     }, activeActiveEnabled);
   }
 
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testOffsetIsUpdatedAfterStorageWriteBatchIsCommitted(boolean activeActiveEnabled) throws Exception {
+    // The drainer only batches the records a follower consumes from the version topic, so send one of those
+    ProducerMetadata producerMetadata = new ProducerMetadata();
+    producerMetadata.producerGUID = new GUID();
+    producerMetadata.segmentNumber = 0;
+    producerMetadata.messageSequenceNumber = 0;
+    producerMetadata.messageTimestamp = System.currentTimeMillis();
+
+    KafkaMessageEnvelope startOfSegmentEnvelope = new KafkaMessageEnvelope();
+    startOfSegmentEnvelope.messageType = MessageType.CONTROL_MESSAGE.getValue();
+    startOfSegmentEnvelope.producerMetadata = producerMetadata;
+    ControlMessage controlMessage = new ControlMessage();
+    controlMessage.controlMessageType = ControlMessageType.START_OF_SEGMENT.getValue();
+    controlMessage.debugInfo = new HashMap<>();
+    StartOfSegment startOfSegment = new StartOfSegment();
+    startOfSegment.checksumType = CheckSumType.NONE.getValue();
+    startOfSegment.upcomingAggregates = new ArrayList<>();
+    controlMessage.controlMessageUnion = startOfSegment;
+    startOfSegmentEnvelope.payloadUnion = controlMessage;
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> startOfSegmentMessage = new ImmutablePubSubMessage(
+        new KafkaKey(MessageType.CONTROL_MESSAGE, new byte[0]),
+        startOfSegmentEnvelope,
+        new PubSubTopicPartitionImpl(pubSubTopic, PARTITION_FOO),
+        4,
+        0,
+        0);
+
+    KafkaMessageEnvelope putEnvelope = new KafkaMessageEnvelope();
+    putEnvelope.messageType = MessageType.PUT.getValue();
+    putEnvelope.producerMetadata = new ProducerMetadata();
+    putEnvelope.producerMetadata.producerGUID = producerMetadata.producerGUID;
+    putEnvelope.producerMetadata.segmentNumber = producerMetadata.segmentNumber;
+    putEnvelope.producerMetadata.messageSequenceNumber = producerMetadata.messageSequenceNumber + 1;
+    putEnvelope.producerMetadata.messageTimestamp = producerMetadata.messageTimestamp;
+    Put put = new Put();
+    put.putValue = ByteBuffer.allocate(10);
+    put.putValue.position(4);
+    put.replicationMetadataPayload = ByteBuffer.allocate(10);
+    putEnvelope.payloadUnion = put;
+    long offset = 5;
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> putMessage = new ImmutablePubSubMessage(
+        new KafkaKey(MessageType.PUT, new byte[1]),
+        putEnvelope,
+        new PubSubTopicPartitionImpl(pubSubTopic, PARTITION_FOO),
+        offset,
+        0,
+        0);
+
+    runTest(Collections.singleton(PARTITION_FOO), () -> {
+      TestUtils.waitForNonDeterministicAssertion(
+          5,
+          TimeUnit.SECONDS,
+          () -> Assert.assertNotNull(storeIngestionTaskUnderTest.getPartitionConsumptionState(PARTITION_FOO)));
+      PartitionConsumptionState pcs = storeIngestionTaskUnderTest.getPartitionConsumptionState(PARTITION_FOO);
+      Assert.assertNotEquals(pcs.getLeaderFollowerState(), LEADER);
+
+      try {
+        storeIngestionTaskUnderTest.processConsumerRecord(
+            startOfSegmentMessage,
+            null,
+            PARTITION_FOO,
+            localKafkaConsumerService.kafkaUrl,
+            System.nanoTime());
+        storeIngestionTaskUnderTest.beginStorageWriteBatch(PARTITION_FOO);
+        storeIngestionTaskUnderTest.processConsumerRecord(
+            putMessage,
+            null,
+            PARTITION_FOO,
+            localKafkaConsumerService.kafkaUrl,
+            System.nanoTime());
+      } catch (InterruptedException e) {
+        throw new VeniceException(e);
+      }
+      // The record is only buffered in the write batch, so its offset must not be visible to other threads yet
+      Assert.assertNotEquals(pcs.getLatestProcessedLocalVersionTopicOffset(), offset);
+
+      storeIngestionTaskUnderTest.commitStorageWriteBatch(PARTITION_FOO);
+      verify(mockAbstractStorageEngine).commitWriteBatch(PARTITION_FOO);
+      assertEquals(pcs.getLatestProcessedLocalVersionTopicOffset(), offset);
+    }, activeActiveEnabled);
+  }
+
   private void verifyStats(
       HostLevelIngestionStats stats,
       int wantedInvocationsForStatsWhichCanBeDisabled,
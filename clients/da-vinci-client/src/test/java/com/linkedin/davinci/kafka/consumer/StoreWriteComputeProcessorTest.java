@@ -0,0 +1,114 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
+import com.linkedin.venice.schema.SchemaEntry;
+import com.linkedin.venice.schema.merge.CollectionTimestampMergeRecordHelper;
+import com.linkedin.venice.schema.writecompute.DerivedSchemaEntry;
+import com.linkedin.venice.schema.writecompute.WriteComputeSchemaConverter;
+import com.linkedin.venice.serializer.AvroGenericDeserializer;
+import com.linkedin.venice.serializer.AvroSerializer;
+import com.linkedin.venice.writer.update.UpdateBuilderImpl;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class StoreWriteComputeProcessorTest {
+  private static final String STORE_NAME = "test_store";
+  private static final Schema VALUE_SCHEMA_V1 = AvroCompatibilityHelper.parse(
+      "{\"type\":\"record\",\"name\":\"testRecord\",\"fields\":["
+          + "{\"name\":\"intField\",\"type\":\"int\",\"default\":0},"
+          + "{\"name\":\"stringField\",\"type\":\"string\",\"default\":\"\"}]}");
+  private static final Schema VALUE_SCHEMA_V2 = AvroCompatibilityHelper.parse(
+      "{\"type\":\"record\",\"name\":\"testRecord\",\"fields\":["
+          + "{\"name\":\"intField\",\"type\":\"int\",\"default\":0},"
+          + "{\"name\":\"stringField\",\"type\":\"string\",\"default\":\"\"},"
+          + "{\"name\":\"arrayField\",\"type\":{\"type\":\"array\",\"items\":\"int\"},\"default\":[]}]}");
+  private static final Schema UPDATE_SCHEMA_V1 =
+      WriteComputeSchemaConverter.getInstance().convertFromValueRecordSchema(VALUE_SCHEMA_V1);
+  private static final Schema UPDATE_SCHEMA_V2 =
+      WriteComputeSchemaConverter.getInstance().convertFromValueRecordSchema(VALUE_SCHEMA_V2);
+  private static final int UPDATE_PROTOCOL_VERSION = 1;
+
+  @Test
+  public void testBinaryUpdateFallsBackIfCurrentValueIsNotSerializedWithReaderSchema() {
+    StoreWriteComputeProcessor processor = createProcessor();
+    GenericRecord currValue = new GenericData.Record(VALUE_SCHEMA_V1);
+    currValue.put("intField", 1);
+    currValue.put("stringField", "current");
+    GenericRecord updateRecord = new UpdateBuilderImpl(UPDATE_SCHEMA_V2).setNewFieldValue("stringField", "new")
+        .setElementsToAddToListField("arrayField", Arrays.asList(1, 2))
+        .build();
+
+    byte[] updatedValueBytes = processor.applyWriteCompute(
+        ByteBuffer.wrap(serialize(VALUE_SCHEMA_V1, currValue)),
+        1,
+        2,
+        2,
+        ByteBuffer.wrap(serialize(UPDATE_SCHEMA_V2, updateRecord)),
+        UPDATE_PROTOCOL_VERSION,
+        UPDATE_PROTOCOL_VERSION);
+
+    GenericRecord updatedValue = deserialize(updatedValueBytes);
+    Assert.assertEquals(updatedValue.get("intField"), 1);
+    Assert.assertEquals(updatedValue.get("stringField").toString(), "new");
+    Assert.assertEquals(updatedValue.get("arrayField"), Arrays.asList(1, 2));
+  }
+
+  @Test
+  public void testBinaryUpdateReserializesUpdateOfOlderSchema() {
+    StoreWriteComputeProcessor processor = createProcessor();
+    GenericRecord currValue = new GenericData.Record(VALUE_SCHEMA_V2);
+    currValue.put("intField", 1);
+    currValue.put("stringField", "current");
+    currValue.put("arrayField", Collections.singletonList(3));
+    GenericRecord updateRecord = new UpdateBuilderImpl(UPDATE_SCHEMA_V1).setNewFieldValue("intField", 5).build();
+
+    byte[] updatedValueBytes = processor.applyWriteCompute(
+        ByteBuffer.wrap(serialize(VALUE_SCHEMA_V2, currValue)),
+        2,
+        1,
+        2,
+        ByteBuffer.wrap(serialize(UPDATE_SCHEMA_V1, updateRecord)),
+        UPDATE_PROTOCOL_VERSION,
+        UPDATE_PROTOCOL_VERSION);
+
+    // The fields unknown to the older update schema are left as they are
+    GenericRecord updatedValue = deserialize(updatedValueBytes);
+    Assert.assertEquals(updatedValue.get("intField"), 5);
+    Assert.assertEquals(updatedValue.get("stringField").toString(), "current");
+    Assert.assertEquals(updatedValue.get("arrayField"), Collections.singletonList(3));
+  }
+
+  private static StoreWriteComputeProcessor createProcessor() {
+    ReadOnlySchemaRepository schemaRepository = mock(ReadOnlySchemaRepository.class);
+    doReturn(new SchemaEntry(1, VALUE_SCHEMA_V1)).when(schemaRepository).getValueSchema(STORE_NAME, 1);
+    doReturn(new SchemaEntry(2, VALUE_SCHEMA_V2)).when(schemaRepository).getValueSchema(STORE_NAME, 2);
+    doReturn(new DerivedSchemaEntry(1, UPDATE_PROTOCOL_VERSION, UPDATE_SCHEMA_V1)).when(schemaRepository)
+        .getDerivedSchema(STORE_NAME, 1, UPDATE_PROTOCOL_VERSION);
+    doReturn(new DerivedSchemaEntry(2, UPDATE_PROTOCOL_VERSION, UPDATE_SCHEMA_V2)).when(schemaRepository)
+        .getDerivedSchema(STORE_NAME, 2, UPDATE_PROTOCOL_VERSION);
+    return new StoreWriteComputeProcessor(
+        STORE_NAME,
+        schemaRepository,
+        new CollectionTimestampMergeRecordHelper(),
+        false);
+  }
+
+  private static byte[] serialize(Schema schema, GenericRecord record) {
+    return new AvroSerializer<>(schema).serialize(record);
+  }
+
+  private static GenericRecord deserialize(byte[] valueBytes) {
+    return new AvroGenericDeserializer<GenericRecord>(VALUE_SCHEMA_V2, VALUE_SCHEMA_V2).deserialize(valueBytes);
+  }
+}
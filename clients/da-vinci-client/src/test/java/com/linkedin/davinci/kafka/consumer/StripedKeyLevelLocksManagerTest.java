@@ -0,0 +1,113 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.davinci.utils.ByteArrayKey;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class StripedKeyLevelLocksManagerTest {
+  @Test
+  public void testSameLockReturnedForSameKeyBytes() {
+    StripedKeyLevelLocksManager keyLevelLocksManager = new StripedKeyLevelLocksManager(64);
+    byte[] rawKeyBytes = { 'a', 'b', 'c' };
+    ReentrantLock lock1 = keyLevelLocksManager.getLockByKey(ByteArrayKey.wrap(rawKeyBytes));
+    byte[] sameRawKeyBytes = "abc".getBytes(StandardCharsets.UTF_8);
+    ReentrantLock lock2 = keyLevelLocksManager.getLockByKey(ByteArrayKey.wrap(sameRawKeyBytes));
+    Assert.assertSame(lock1, lock2);
+  }
+
+  @Test
+  public void testStripeCount() {
+    Assert.assertEquals(StripedKeyLevelLocksManager.getStripeCount(-1), 1);
+    Assert.assertEquals(StripedKeyLevelLocksManager.getStripeCount(0), 1);
+    Assert.assertEquals(StripedKeyLevelLocksManager.getStripeCount(1), 1);
+    Assert.assertEquals(StripedKeyLevelLocksManager.getStripeCount(2), 2);
+    Assert.assertEquals(StripedKeyLevelLocksManager.getStripeCount(3), 4);
+    Assert.assertEquals(StripedKeyLevelLocksManager.getStripeCount(64), 64);
+    Assert.assertEquals(StripedKeyLevelLocksManager.getStripeCount(65), 128);
+    Assert.assertEquals(StripedKeyLevelLocksManager.getStripeCount(Integer.MAX_VALUE), 1 << 30);
+    Assert.assertEquals(new StripedKeyLevelLocksManager(100).getStripeCount(), 128);
+  }
+
+  @Test
+  public void testKeysAreSpreadAcrossStripes() {
+    int stripeCount = 16;
+    StripedKeyLevelLocksManager keyLevelLocksManager = new StripedKeyLevelLocksManager(stripeCount);
+    // Keys only differing in their last byte should not all end up in the same stripe
+    ReentrantLock firstLock = keyLevelLocksManager.getLockByKey(ByteArrayKey.wrap(new byte[] { 'k', 0 }));
+    boolean differentLockFound = false;
+    for (int i = 1; i < stripeCount; i++) {
+      if (keyLevelLocksManager.getLockByKey(ByteArrayKey.wrap(new byte[] { 'k', (byte) i })) != firstLock) {
+        differentLockFound = true;
+        break;
+      }
+    }
+    Assert.assertTrue(differentLockFound);
+  }
+
+  @Test
+  public void testLocksByKeysAreDistinctAndSortedByStripe() {
+    StripedKeyLevelLocksManager keyLevelLocksManager = new StripedKeyLevelLocksManager(8);
+    List<ByteArrayKey> keys = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      keys.add(ByteArrayKey.wrap(new byte[] { 'k', (byte) i }));
+    }
+    keys.add(ByteArrayKey.wrap(new byte[] { 'k', 0 }));
+    List<ReentrantLock> locks = keyLevelLocksManager.getLocksByKeys(keys);
+    Assert.assertEquals(new HashSet<>(locks).size(), locks.size());
+    for (ByteArrayKey key: keys) {
+      Assert.assertTrue(locks.contains(keyLevelLocksManager.getLockByKey(key)));
+    }
+    // The order must be stable regardless of the order of the keys
+    Collections.reverse(keys);
+    Assert.assertEquals(keyLevelLocksManager.getLocksByKeys(keys), locks);
+    Assert.assertTrue(keyLevelLocksManager.getLocksByKeys(Collections.emptyList()).isEmpty());
+  }
+
+  @Test(timeOut = 30 * 1000)
+  public void testMutualExclusionForSameKey() throws Exception {
+    int threadCount = 8;
+    int iterationsPerThread = 10000;
+    StripedKeyLevelLocksManager keyLevelLocksManager = new StripedKeyLevelLocksManager(threadCount);
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    CountDownLatch startLatch = new CountDownLatch(1);
+    int[] counter = new int[1];
+    try {
+      Future[] futures = new Future[threadCount];
+      for (int t = 0; t < threadCount; t++) {
+        futures[t] = executor.submit(() -> {
+          startLatch.await();
+          for (int i = 0; i < iterationsPerThread; i++) {
+            ReentrantLock lock = keyLevelLocksManager.getLockByKey(ByteArrayKey.wrap(new byte[] { 'a', 'b', 'c' }));
+            lock.lock();
+            try {
+              counter[0]++;
+            } finally {
+              lock.unlock();
+            }
+          }
+          return null;
+        });
+      }
+      startLatch.countDown();
+      for (Future future: futures) {
+        future.get();
+      }
+      Assert.assertEquals(counter[0], threadCount * iterationsPerThread);
+    } finally {
+      executor.shutdownNow();
+      executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+  }
+}
@@ -0,0 +1,136 @@
+package com.linkedin.davinci.storage.chunking;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.davinci.listener.response.ReadResponse;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import com.linkedin.venice.utils.ByteUtils;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class BatchGetChunkingAdapterTest {
+  private static final int PARTITION = 9;
+  private static final int VALUE_SCHEMA_ID = 1;
+
+  @Test
+  public void testMultiGetOfMissingChunkedAndPlainKeys() {
+    Map<ByteBuffer, byte[]> storedValues = new HashMap<>();
+    byte[] plainValue = "plain_value".getBytes();
+    byte[] chunkedValue = new byte[100];
+    for (int i = 0; i < chunkedValue.length; i++) {
+      chunkedValue[i] = (byte) i;
+    }
+    storedValues.put(toStorageKey("plain_key"), withHeader(VALUE_SCHEMA_ID, plainValue));
+    putChunkedValue(storedValues, "chunked_key", chunkedValue);
+    AbstractStorageEngine storageEngine = mockStorageEngine(storedValues);
+    ReadResponse response = mock(ReadResponse.class);
+
+    List<MultiGetResponseRecordV1> records = BatchGetChunkingAdapter.multiGet(
+        storageEngine,
+        PARTITION,
+        Arrays.asList(toKey("chunked_key"), toKey("missing_key"), toKey("plain_key")),
+        true,
+        response);
+
+    Assert.assertEquals(records.size(), 3);
+    Assert.assertEquals(records.get(0).schemaId, VALUE_SCHEMA_ID);
+    Assert.assertEquals(ByteUtils.extractByteArray(records.get(0).value), chunkedValue);
+    Assert.assertNull(records.get(1));
+    Assert.assertEquals(records.get(2).schemaId, VALUE_SCHEMA_ID);
+    Assert.assertEquals(ByteUtils.extractByteArray(records.get(2).value), plainValue);
+    verify(response).incrementMultiChunkLargeValueCount();
+    // The top-level keys are looked up with one call, and the chunks of all the chunked values with another
+    verify(storageEngine, times(2)).multiGet(eq(PARTITION), anyList());
+    verify(storageEngine, never()).get(eq(PARTITION), any(ByteBuffer.class));
+  }
+
+  @Test
+  public void testMultiGetFailsIfChunkIsMissing() {
+    Map<ByteBuffer, byte[]> storedValues = new HashMap<>();
+    putChunkedValue(storedValues, "chunked_key", new byte[100]);
+    storedValues.remove(ByteBuffer.wrap("chunked_key_chunk1".getBytes()));
+    AbstractStorageEngine storageEngine = mockStorageEngine(storedValues);
+
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> BatchGetChunkingAdapter
+            .multiGet(storageEngine, PARTITION, Arrays.asList(toKey("chunked_key")), true, null));
+  }
+
+  private static AbstractStorageEngine mockStorageEngine(Map<ByteBuffer, byte[]> storedValues) {
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    doAnswer(invocation -> {
+      List<byte[]> keys = invocation.getArgument(1);
+      List<byte[]> values = new ArrayList<>(keys.size());
+      for (byte[] key: keys) {
+        values.add(storedValues.get(ByteBuffer.wrap(key)));
+      }
+      return values;
+    }).when(storageEngine).multiGet(eq(PARTITION), anyList());
+    return storageEngine;
+  }
+
+  /**
+   * Stores {@param value} split into two chunks, along with the manifest of the chunks under {@param key}.
+   */
+  private static void putChunkedValue(Map<ByteBuffer, byte[]> storedValues, String key, byte[] value) {
+    int cutOff = value.length / 2;
+    byte[] firstChunkKey = (key + "_chunk0").getBytes();
+    byte[] secondChunkKey = (key + "_chunk1").getBytes();
+    storedValues.put(
+        ByteBuffer.wrap(firstChunkKey),
+        withHeader(AvroProtocolDefinition.CHUNK.currentProtocolVersion.get(), Arrays.copyOfRange(value, 0, cutOff)));
+    storedValues.put(
+        ByteBuffer.wrap(secondChunkKey),
+        withHeader(
+            AvroProtocolDefinition.CHUNK.currentProtocolVersion.get(),
+            Arrays.copyOfRange(value, cutOff, value.length)));
+
+    ChunkedValueManifest chunkedValueManifest = new ChunkedValueManifest();
+    chunkedValueManifest.keysWithChunkIdSuffix = new ArrayList<>(2);
+    chunkedValueManifest.keysWithChunkIdSuffix.add(ByteBuffer.wrap(firstChunkKey));
+    chunkedValueManifest.keysWithChunkIdSuffix.add(ByteBuffer.wrap(secondChunkKey));
+    chunkedValueManifest.schemaId = VALUE_SCHEMA_ID;
+    chunkedValueManifest.size = value.length;
+    byte[] serializedManifest = SerializerDeserializerFactory.getAvroGenericSerializer(ChunkedValueManifest.SCHEMA$)
+        .serialize(chunkedValueManifest);
+    storedValues.put(
+        toStorageKey(key),
+        withHeader(AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.currentProtocolVersion.get(), serializedManifest));
+  }
+
+  private static ByteBuffer toKey(String key) {
+    return ByteBuffer.wrap(key.getBytes());
+  }
+
+  private static ByteBuffer toStorageKey(String key) {
+    return ByteBuffer.wrap(ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(key.getBytes()));
+  }
+
+  private static byte[] withHeader(int schemaId, byte[] bytes) {
+    byte[] bytesWithHeader = new byte[bytes.length + ValueRecord.SCHEMA_HEADER_LENGTH];
+    ByteUtils.writeInt(bytesWithHeader, schemaId, 0);
+    System.arraycopy(bytes, 0, bytesWithHeader, ValueRecord.SCHEMA_HEADER_LENGTH, bytes.length);
+    return bytesWithHeader;
+  }
+}
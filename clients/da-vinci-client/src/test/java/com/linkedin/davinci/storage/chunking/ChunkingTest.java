@@ -1,8 +1,11 @@
 package com.linkedin.davinci.storage.chunking;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
 import com.linkedin.davinci.storage.StorageMetadataService;
@@ -10,12 +13,16 @@ import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.helix.HelixReadOnlySchemaRepository;
 import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.utils.ByteUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
@@ -248,4 +255,50 @@ public class ChunkingTest {
       return null;
     });
   }
+
+  @Test
+  public void testSingleGetWithDirectBufferReusesManifestAndReleasesBuffer() {
+    int partition = 9;
+    byte[] keyBytes = ByteUtils.fromHexString("040647454ff4baf2630a5449544c45440010494d504c49434954");
+    byte[] serializeNonChunkedKey = ByteUtils.fromHexString("040647454ff4baf2630a5449544c45440010494d504c494349540200");
+    byte[] chunkKey = ByteUtils.fromHexString("040647454ff4baf2630a5449544c45440010494d504c494349540001");
+    byte[] chunkBytes = new byte[] { 0, 0, 0, 0, 1, 2, 3 };
+    ByteUtils.writeInt(chunkBytes, AvroProtocolDefinition.CHUNK.currentProtocolVersion.get(), 0);
+
+    ChunkedValueManifest chunkedValueManifest = new ChunkedValueManifest();
+    chunkedValueManifest.keysWithChunkIdSuffix = new ArrayList<>(1);
+    chunkedValueManifest.keysWithChunkIdSuffix.add(ByteBuffer.wrap(chunkKey));
+    chunkedValueManifest.schemaId = 1;
+    chunkedValueManifest.size = chunkBytes.length - ValueRecord.SCHEMA_HEADER_LENGTH;
+    byte[] serializedCVM = SerializerDeserializerFactory.getAvroGenericSerializer(ChunkedValueManifest.SCHEMA$)
+        .serialize(chunkedValueManifest);
+    ByteBufAllocator allocator = PooledByteBufAllocator.DEFAULT;
+
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    ByteBuf manifestBuffer = allocator.directBuffer();
+    manifestBuffer.writeInt(AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.currentProtocolVersion.get());
+    manifestBuffer.writeBytes(serializedCVM);
+    doReturn(manifestBuffer).when(storageEngine)
+        .get(eq(partition), eq(serializeNonChunkedKey), any(ByteBufAllocator.class));
+    doReturn(chunkBytes).when(storageEngine).get(eq(partition), eq(chunkKey));
+
+    ValueRecord valueRecord = SingleGetChunkingAdapter.get(storageEngine, partition, keyBytes, true, null, allocator);
+    Assert.assertEquals(valueRecord.getSchemaId(), 1);
+    Assert.assertEquals(ByteUtils.extractByteArray(valueRecord.getData().nioBuffer()), new byte[] { 1, 2, 3 });
+    Assert.assertEquals(manifestBuffer.refCnt(), 0);
+    // The manifest is not looked up a second time
+    verify(storageEngine, never()).get(eq(partition), any(ByteBuffer.class));
+
+    // A missing chunk fails the lookup, and the manifest buffer is still released
+    ByteBuf brokenManifestBuffer = allocator.directBuffer();
+    brokenManifestBuffer.writeInt(AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.currentProtocolVersion.get());
+    brokenManifestBuffer.writeBytes(serializedCVM);
+    doReturn(brokenManifestBuffer).when(storageEngine)
+        .get(eq(partition), eq(serializeNonChunkedKey), any(ByteBufAllocator.class));
+    doReturn(null).when(storageEngine).get(eq(partition), eq(chunkKey));
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> SingleGetChunkingAdapter.get(storageEngine, partition, keyBytes, true, null, allocator));
+    Assert.assertEquals(brokenManifestBuffer.refCnt(), 0);
+  }
 }
@@ -0,0 +1,128 @@
+package com.linkedin.davinci.store.cache;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class HotKeyValueCacheTest {
+  private static final int PARTITION_ID = 0;
+
+  private static byte[] bytes(String s) {
+    return s.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void testPutAndGet() {
+    HotKeyValueCache cache = new HotKeyValueCache("test_store_v1", 1024 * 1024, 1024);
+    byte[] key = bytes("key");
+    Assert.assertNull(cache.get(key));
+
+    // The value is copied from the current position on, without moving it
+    ByteBuffer value = ByteBuffer.wrap(bytes("xxvalue"));
+    value.position(2);
+    cache.put(PARTITION_ID, key, cache.getWriteGeneration(key), 1, value);
+    Assert.assertEquals(value.position(), 2);
+
+    HotKeyValueCache.CachedValue cachedValue = cache.get(bytes("key"));
+    Assert.assertNotNull(cachedValue);
+    Assert.assertEquals(cachedValue.getSchemaId(), 1);
+    Assert.assertEquals(cachedValue.getValue(), bytes("value"));
+
+    ByteBuf nettyValue = Unpooled.wrappedBuffer(bytes("value2"));
+    byte[] key2 = bytes("key2");
+    cache.put(PARTITION_ID, key2, cache.getWriteGeneration(key2), 2, nettyValue);
+    Assert.assertEquals(nettyValue.readerIndex(), 0);
+    Assert.assertEquals(cache.get(key2).getValue(), bytes("value2"));
+  }
+
+  @Test
+  public void testLargeValueIsNotCached() {
+    HotKeyValueCache cache = new HotKeyValueCache("test_store_v1", 1024 * 1024, 4);
+    byte[] key = bytes("key");
+    cache.put(PARTITION_ID, key, cache.getWriteGeneration(key), 1, ByteBuffer.wrap(bytes("value")));
+    Assert.assertNull(cache.get(key));
+  }
+
+  @Test
+  public void testInvalidate() {
+    HotKeyValueCache cache = new HotKeyValueCache("test_store_v1", 1024 * 1024, 1024);
+    byte[] key = bytes("key");
+    cache.put(PARTITION_ID, key, cache.getWriteGeneration(key), 1, ByteBuffer.wrap(bytes("value")));
+    Assert.assertNotNull(cache.get(key));
+    cache.invalidate(PARTITION_ID, key);
+    Assert.assertNull(cache.get(key));
+  }
+
+  @Test
+  public void testStaleValueIsNotCachedAfterConcurrentWrite() {
+    HotKeyValueCache cache = new HotKeyValueCache("test_store_v1", 1024 * 1024, 1024);
+    byte[] key = bytes("key");
+    // A reader captures the generation before its lookup, and a writer updates the key before the insertion
+    long writeGeneration = cache.getWriteGeneration(key);
+    cache.invalidate(PARTITION_ID, key);
+    cache.put(PARTITION_ID, key, writeGeneration, 1, ByteBuffer.wrap(bytes("old_value")));
+    Assert.assertNull(cache.get(key));
+
+    cache.put(PARTITION_ID, key, cache.getWriteGeneration(key), 1, ByteBuffer.wrap(bytes("new_value")));
+    Assert.assertEquals(cache.get(key).getValue(), bytes("new_value"));
+  }
+
+  @Test
+  public void testWriteBatchInvalidatesAgainOnCommit() {
+    HotKeyValueCache cache = new HotKeyValueCache("test_store_v1", 1024 * 1024, 1024);
+    byte[] key = bytes("key");
+    cache.beginWriteBatch(PARTITION_ID);
+    cache.invalidate(PARTITION_ID, key);
+    // The write is not visible yet, so a reader could still find and cache the old value
+    cache.put(PARTITION_ID, key, cache.getWriteGeneration(key), 1, ByteBuffer.wrap(bytes("old_value")));
+    Assert.assertNotNull(cache.get(key));
+
+    cache.commitWriteBatch(PARTITION_ID);
+    Assert.assertNull(cache.get(key));
+
+    // Writes outside of a write batch are not tracked anymore
+    cache.put(PARTITION_ID, key, cache.getWriteGeneration(key), 1, ByteBuffer.wrap(bytes("new_value")));
+    cache.commitWriteBatch(PARTITION_ID);
+    Assert.assertNotNull(cache.get(key));
+  }
+
+  @Test
+  public void testClear() {
+    HotKeyValueCache cache = new HotKeyValueCache("test_store_v1", 1024 * 1024, 1024);
+    byte[] key = bytes("key");
+    long writeGeneration = cache.getWriteGeneration(key);
+    cache.put(PARTITION_ID, key, writeGeneration, 1, ByteBuffer.wrap(bytes("value")));
+    cache.clear();
+    Assert.assertNull(cache.get(key));
+    // Lookups which started before the clear should not populate the cache
+    cache.put(PARTITION_ID, key, writeGeneration, 1, ByteBuffer.wrap(bytes("value")));
+    Assert.assertNull(cache.get(key));
+  }
+
+  @Test
+  public void testClearPartition() {
+    HotKeyValueCache cache = new HotKeyValueCache("test_store_v1", 1024 * 1024, 1024);
+    byte[] key = bytes("key");
+    byte[] otherPartitionKey = bytes("other_partition_key");
+    cache.put(PARTITION_ID, key, cache.getWriteGeneration(key), 1, ByteBuffer.wrap(bytes("value")));
+    cache.put(
+        PARTITION_ID + 1,
+        otherPartitionKey,
+        cache.getWriteGeneration(otherPartitionKey),
+        1,
+        ByteBuffer.wrap(bytes("value")));
+    long writeGeneration = cache.getWriteGeneration(key);
+
+    // Only the entries of the cleared partition are dropped
+    cache.clear(PARTITION_ID);
+    Assert.assertNull(cache.get(key));
+    Assert.assertNotNull(cache.get(otherPartitionKey));
+    // Lookups which started before the clear should not populate the cache
+    cache.put(PARTITION_ID, key, writeGeneration, 1, ByteBuffer.wrap(bytes("value")));
+    Assert.assertNull(cache.get(key));
+  }
+}
@@ -20,9 +20,16 @@ import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
 import java.io.File;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
@@ -652,4 +659,139 @@ public class RocksDBStoragePartitionTest {
     storagePartition.drop();
     removeDir(storeDir);
   }
+
+  @Test
+  public void testMultiGet() {
+    String storeName = Utils.getUniqueString("test_store");
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    VeniceProperties veniceServerProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+
+    Map<String, String> inputRecords = generateInput(100, false, 0);
+    for (Map.Entry<String, String> entry: inputRecords.entrySet()) {
+      storagePartition.put(entry.getKey().getBytes(), entry.getValue().getBytes());
+    }
+
+    // Mix existing and non-existing keys, in an order which is not bytewise-sorted
+    List<byte[]> keys = new ArrayList<>();
+    for (int i = 99; i >= 0; i -= 3) {
+      keys.add((KEY_PREFIX + i).getBytes());
+      keys.add((KEY_PREFIX + "missing_" + i).getBytes());
+    }
+    List<byte[]> values = storagePartition.multiGet(keys);
+    Assert.assertEquals(values.size(), keys.size());
+    for (int i = 0; i < keys.size(); i++) {
+      String key = new String(keys.get(i));
+      String expectedValue = inputRecords.get(key);
+      if (expectedValue == null) {
+        Assert.assertNull(values.get(i), "Key: " + key + " should not exist");
+      } else {
+        Assert.assertEquals(new String(values.get(i)), expectedValue);
+        Assert.assertEquals(values.get(i), storagePartition.get(keys.get(i)));
+      }
+    }
+    Assert.assertTrue(storagePartition.multiGet(Collections.emptyList()).isEmpty());
+
+    storagePartition.drop();
+    removeDir(storeDir);
+  }
+
+  @Test
+  public void testGetIntoDirectBuffer() {
+    String storeName = Utils.getUniqueString("test_store");
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    VeniceProperties veniceServerProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+
+    // Values both smaller and bigger than the initial buffer size, to exercise the retry path
+    Map<String, String> inputRecords = new HashMap<>();
+    inputRecords.putAll(generateInput(10, false, 10));
+    inputRecords.put(KEY_PREFIX + "large", RandomStringUtils.random(5000, true, true));
+    for (Map.Entry<String, String> entry: inputRecords.entrySet()) {
+      storagePartition.put(entry.getKey().getBytes(), entry.getValue().getBytes());
+    }
+
+    ByteBufAllocator allocator = PooledByteBufAllocator.DEFAULT;
+    for (Map.Entry<String, String> entry: inputRecords.entrySet()) {
+      ByteBuf value = storagePartition.get(entry.getKey().getBytes(), allocator);
+      Assert.assertNotNull(value);
+      Assert.assertTrue(value.isDirect());
+      Assert.assertEquals(value.toString(StandardCharsets.UTF_8), entry.getValue());
+      Assert.assertTrue(value.release());
+    }
+    Assert.assertNull(storagePartition.get((KEY_PREFIX + "missing").getBytes(), allocator));
+
+    storagePartition.drop();
+    removeDir(storeDir);
+  }
+
+  @Test
+  public void testWriteBatch() {
+    String storeName = Utils.getUniqueString("test_store");
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    VeniceProperties veniceServerProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+
+    byte[] key1 = (KEY_PREFIX + "1").getBytes();
+    byte[] key2 = (KEY_PREFIX + "2").getBytes();
+    byte[] key3 = (KEY_PREFIX + "3").getBytes();
+    byte[] value = "value".getBytes();
+    storagePartition.put(key3, value);
+
+    storagePartition.beginWriteBatch();
+    storagePartition.put(key1, value);
+    storagePartition.put(key2, ByteBuffer.wrap(value));
+    storagePartition.delete(key3);
+    // Buffered writes are not visible before the commit
+    Assert.assertNull(storagePartition.get(key1));
+    Assert.assertNull(storagePartition.get(key2));
+    Assert.assertEquals(storagePartition.get(key3), value);
+    storagePartition.commitWriteBatch();
+    Assert.assertEquals(storagePartition.get(key1), value);
+    Assert.assertEquals(storagePartition.get(key2), value);
+    Assert.assertNull(storagePartition.get(key3));
+
+    // Sync should persist the pending writes as well
+    storagePartition.beginWriteBatch();
+    storagePartition.put(key3, value);
+    storagePartition.sync();
+    Assert.assertEquals(storagePartition.get(key3), value);
+    storagePartition.commitWriteBatch();
+
+    storagePartition.drop();
+    removeDir(storeDir);
+  }
 }
@@ -43,7 +43,7 @@ public class BatchGetRequestContext<K, V> extends RequestContext {
   // True if long tail retry was triggered
   boolean longTailRetryTriggered;
   // Number of keys triggered in the retry request
-  int numberOfKeysSentInRetryRequest;
+  AtomicInteger numberOfKeysSentInRetryRequest;
   // Number of keys that were successfully resolved in retry request
   AtomicInteger numberOfKeysCompletedInOriginalRequest;
   AtomicInteger numberOfKeysCompletedInRetryRequest;
@@ -55,7 +55,7 @@ public class BatchGetRequestContext<K, V> extends RequestContext {
     partialResponseException = new AtomicReference<>();
     routesForPartition = new HashMap<>();
     longTailRetryTriggered = false;
-    numberOfKeysSentInRetryRequest = 0;
+    numberOfKeysSentInRetryRequest = new AtomicInteger();
     numberOfKeysCompletedInOriginalRequest = new AtomicInteger();
     numberOfKeysCompletedInRetryRequest = new AtomicInteger();
   }
@@ -143,6 +143,11 @@ public class BatchGetRequestContext<K, V> extends RequestContext {
     firstResponseReceivedTS.compareAndSet(-1, System.nanoTime());
   }
 
+  CompletableFuture<TransportClientResponseForRoute> getRouteFuture(String route) {
+    Validate.notNull(route);
+    return routeRequests.get(route).routeRequestCompletionFuture;
+  }
+
   List<CompletableFuture<TransportClientResponseForRoute>> getAllRouteFutures() {
     return routeRequests.values().stream().map(rrc -> rrc.routeRequestCompletionFuture).collect(Collectors.toList());
   }
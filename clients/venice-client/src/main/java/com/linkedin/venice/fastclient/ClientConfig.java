@@ -6,6 +6,7 @@ import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.store.AvroGenericStoreClient;
 import com.linkedin.venice.client.store.AvroSpecificStoreClient;
 import com.linkedin.venice.fastclient.meta.ClientRoutingStrategy;
+import com.linkedin.venice.fastclient.meta.ClientRoutingStrategyType;
 import com.linkedin.venice.fastclient.stats.ClusterStats;
 import com.linkedin.venice.fastclient.stats.FastClientStats;
 import com.linkedin.venice.read.RequestType;
@@ -29,6 +30,7 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
   private final Map<RequestType, FastClientStats> clientStatsMap = new VeniceConcurrentHashMap<>();
   private final Executor deserializationExecutor;
   private final ClientRoutingStrategy clientRoutingStrategy;
+  private final ClientRoutingStrategyType clientRoutingStrategyType;
   /**
    * For dual-read support.
    */
@@ -45,6 +47,10 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
   private final long routingErrorRequestCounterResetDelayMS;
   private final long routingUnavailableRequestCounterResetDelayMS;
   private final int routingPendingRequestCounterInstanceBlockThreshold;
+  /**
+   * For {@link com.linkedin.venice.fastclient.meta.LatencyBasedClientRoutingStrategy}.
+   */
+  private final long routingLatencyDecayWindowMS;
 
   /**
    * The max allowed key count in batch-get request.
@@ -59,6 +65,22 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
   private final boolean longTailRetryEnabledForBatchGet;
   private final int longTailRetryThresholdForSingleGetInMicroSeconds;
   private final int longTailRetryThresholdForBatchGetInMicroSeconds;
+  /**
+   * When enabled, the long tail retry for batch get will be triggered for each route separately, and only the keys
+   * still pending on the slow route will be retried. The retry threshold of each route is the configured percentile
+   * of its recent latency, and {@link #longTailRetryThresholdForBatchGetInMicroSeconds} will be used until enough
+   * latency samples are collected.
+   */
+  private final boolean perRouteLongTailRetryEnabledForBatchGet;
+  private final double perRouteLongTailRetryLatencyPercentileForBatchGet;
+  /**
+   * The max ratio between the retry requests and the original requests of batch get, so that the retry won't double
+   * the load of the storage nodes when all of them are slow. The budget always applies to the per-route long tail
+   * retry, and it applies to the long tail retry of all the pending keys only if
+   * {@link #longTailRetryBudgetEnabledForBatchGet} is enabled.
+   */
+  private final double longTailRetryBudgetPercentDecimalForBatchGet;
+  private final boolean longTailRetryBudgetEnabledForBatchGet;
   private final ClusterStats clusterStats;
   private final boolean isVsonStore;
   /**
@@ -77,6 +99,7 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       Class<T> specificValueClass,
       Executor deserializationExecutor,
       ClientRoutingStrategy clientRoutingStrategy,
+      ClientRoutingStrategyType clientRoutingStrategyType,
       boolean dualReadEnabled,
       AvroGenericStoreClient<K, V> genericThinClient,
       AvroSpecificStoreClient<K, T> specificThinClient,
@@ -85,6 +108,7 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       long routingErrorRequestCounterResetDelayMS,
       long routingUnavailableRequestCounterResetDelayMS,
       int routingPendingRequestCounterInstanceBlockThreshold,
+      long routingLatencyDecayWindowMS,
       int maxAllowedKeyCntInBatchGetReq,
       AvroSpecificStoreClient<StoreMetaKey, StoreMetaValue> thinClientForMetaStore,
       long metadataRefreshIntervalInSeconds,
@@ -92,6 +116,10 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       int longTailRetryThresholdForSingleGetInMicroSeconds,
       boolean longTailRetryEnabledForBatchGet,
       int longTailRetryThresholdForBatchGetInMicroSeconds,
+      boolean perRouteLongTailRetryEnabledForBatchGet,
+      double perRouteLongTailRetryLatencyPercentileForBatchGet,
+      double longTailRetryBudgetPercentDecimalForBatchGet,
+      boolean longTailRetryBudgetEnabledForBatchGet,
       boolean isVsonStore,
       boolean isRequestBasedMetadata,
       D2Client d2Client,
@@ -120,6 +148,8 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     this.specificValueClass = specificValueClass;
     this.deserializationExecutor = deserializationExecutor;
     this.clientRoutingStrategy = clientRoutingStrategy;
+    this.clientRoutingStrategyType =
+        clientRoutingStrategyType == null ? ClientRoutingStrategyType.LEAST_LOADED : clientRoutingStrategyType;
     this.dualReadEnabled = dualReadEnabled;
     this.genericThinClient = genericThinClient;
     this.specificThinClient = specificThinClient;
@@ -154,6 +184,8 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     this.routingPendingRequestCounterInstanceBlockThreshold = routingPendingRequestCounterInstanceBlockThreshold > 0
         ? routingPendingRequestCounterInstanceBlockThreshold
         : 50;
+    this.routingLatencyDecayWindowMS =
+        routingLatencyDecayWindowMS > 0 ? routingLatencyDecayWindowMS : TimeUnit.SECONDS.toMillis(1); // 1 second
 
     this.maxAllowedKeyCntInBatchGetReq = maxAllowedKeyCntInBatchGetReq;
 
@@ -165,6 +197,10 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
 
     this.longTailRetryEnabledForBatchGet = longTailRetryEnabledForBatchGet;
     this.longTailRetryThresholdForBatchGetInMicroSeconds = longTailRetryThresholdForBatchGetInMicroSeconds;
+    this.perRouteLongTailRetryEnabledForBatchGet = perRouteLongTailRetryEnabledForBatchGet;
+    this.perRouteLongTailRetryLatencyPercentileForBatchGet = perRouteLongTailRetryLatencyPercentileForBatchGet;
+    this.longTailRetryBudgetPercentDecimalForBatchGet = longTailRetryBudgetPercentDecimalForBatchGet;
+    this.longTailRetryBudgetEnabledForBatchGet = longTailRetryBudgetEnabledForBatchGet;
 
     if (this.longTailRetryEnabledForSingleGet) {
       if (this.longTailRetryThresholdForSingleGetInMicroSeconds <= 0) {
@@ -180,6 +216,17 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
             "longTailRetryThresholdForBatchGetInMicroSeconds must be positive, but got: "
                 + this.longTailRetryThresholdForBatchGetInMicroSeconds);
       }
+      if (this.perRouteLongTailRetryLatencyPercentileForBatchGet <= 0
+          || this.perRouteLongTailRetryLatencyPercentileForBatchGet > 100) {
+        throw new VeniceClientException(
+            "perRouteLongTailRetryLatencyPercentileForBatchGet must be in range (0, 100], but got: "
+                + this.perRouteLongTailRetryLatencyPercentileForBatchGet);
+      }
+      if (this.longTailRetryBudgetPercentDecimalForBatchGet <= 0) {
+        throw new VeniceClientException(
+            "longTailRetryBudgetPercentDecimalForBatchGet must be positive, but got: "
+                + this.longTailRetryBudgetPercentDecimalForBatchGet);
+      }
     }
 
     // TODO: Need to check whether this case applies for BatchGet
@@ -257,6 +304,10 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     return routingPendingRequestCounterInstanceBlockThreshold;
   }
 
+  public long getRoutingLatencyDecayWindowMS() {
+    return routingLatencyDecayWindowMS;
+  }
+
   public int getMaxAllowedKeyCntInBatchGetReq() {
     return maxAllowedKeyCntInBatchGetReq;
   }
@@ -285,6 +336,22 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     return longTailRetryThresholdForBatchGetInMicroSeconds;
   }
 
+  public boolean isPerRouteLongTailRetryEnabledForBatchGet() {
+    return perRouteLongTailRetryEnabledForBatchGet;
+  }
+
+  public double getPerRouteLongTailRetryLatencyPercentileForBatchGet() {
+    return perRouteLongTailRetryLatencyPercentileForBatchGet;
+  }
+
+  public double getLongTailRetryBudgetPercentDecimalForBatchGet() {
+    return longTailRetryBudgetPercentDecimalForBatchGet;
+  }
+
+  public boolean isLongTailRetryBudgetEnabledForBatchGet() {
+    return longTailRetryBudgetEnabledForBatchGet;
+  }
+
   @Deprecated
   public boolean isVsonStore() {
     return isVsonStore;
@@ -294,6 +361,10 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     return clientRoutingStrategy;
   }
 
+  public ClientRoutingStrategyType getClientRoutingStrategyType() {
+    return clientRoutingStrategyType;
+  }
+
   public ClusterStats getClusterStats() {
     return this.clusterStats;
   }
@@ -318,6 +389,7 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     private String storeName;
     private Executor deserializationExecutor;
     private ClientRoutingStrategy clientRoutingStrategy;
+    private ClientRoutingStrategyType clientRoutingStrategyType = ClientRoutingStrategyType.LEAST_LOADED;
     private Client r2Client;
     private boolean dualReadEnabled = false;
     private AvroGenericStoreClient<K, V> genericThinClient;
@@ -328,6 +400,7 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     private long routingErrorRequestCounterResetDelayMS = -1;
     private long routingUnavailableRequestCounterResetDelayMS = -1;
     private int routingPendingRequestCounterInstanceBlockThreshold = -1;
+    private long routingLatencyDecayWindowMS = -1;
     /**
      * TODO:
      * maxAllowedKeyCntInBatchGetReq was set to 2 initially for singleGet based multiGet
@@ -349,6 +422,10 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
 
     private boolean longTailRetryEnabledForBatchGet = false;
     private int longTailRetryThresholdForBatchGetInMicroSeconds = 10000; // 10ms.
+    private boolean perRouteLongTailRetryEnabledForBatchGet = false;
+    private double perRouteLongTailRetryLatencyPercentileForBatchGet = 95;
+    private double longTailRetryBudgetPercentDecimalForBatchGet = 0.1; // 10% of the batch get requests.
+    private boolean longTailRetryBudgetEnabledForBatchGet = false;
 
     private boolean isVsonStore = false;
     private boolean isRequestBasedMetadata = false;
@@ -390,6 +467,15 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       return this;
     }
 
+    /**
+     * The routing strategy to use when {@link #setClientRoutingStrategy} is not specified.
+     */
+    public ClientConfigBuilder<K, V, T> setClientRoutingStrategyType(
+        ClientRoutingStrategyType clientRoutingStrategyType) {
+      this.clientRoutingStrategyType = clientRoutingStrategyType;
+      return this;
+    }
+
     public ClientConfigBuilder<K, V, T> setR2Client(Client r2Client) {
       this.r2Client = r2Client;
       return this;
@@ -440,6 +526,11 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       return this;
     }
 
+    public ClientConfigBuilder<K, V, T> setRoutingLatencyDecayWindowMS(long routingLatencyDecayWindowMS) {
+      this.routingLatencyDecayWindowMS = routingLatencyDecayWindowMS;
+      return this;
+    }
+
     public ClientConfigBuilder<K, V, T> setThinClientForMetaStore(
         AvroSpecificStoreClient<StoreMetaKey, StoreMetaValue> thinClientForMetaStore) {
       this.thinClientForMetaStore = thinClientForMetaStore;
@@ -478,6 +569,30 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       return this;
     }
 
+    public ClientConfigBuilder<K, V, T> setPerRouteLongTailRetryEnabledForBatchGet(
+        boolean perRouteLongTailRetryEnabledForBatchGet) {
+      this.perRouteLongTailRetryEnabledForBatchGet = perRouteLongTailRetryEnabledForBatchGet;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setPerRouteLongTailRetryLatencyPercentileForBatchGet(
+        double perRouteLongTailRetryLatencyPercentileForBatchGet) {
+      this.perRouteLongTailRetryLatencyPercentileForBatchGet = perRouteLongTailRetryLatencyPercentileForBatchGet;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setLongTailRetryBudgetPercentDecimalForBatchGet(
+        double longTailRetryBudgetPercentDecimalForBatchGet) {
+      this.longTailRetryBudgetPercentDecimalForBatchGet = longTailRetryBudgetPercentDecimalForBatchGet;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setLongTailRetryBudgetEnabledForBatchGet(
+        boolean longTailRetryBudgetEnabledForBatchGet) {
+      this.longTailRetryBudgetEnabledForBatchGet = longTailRetryBudgetEnabledForBatchGet;
+      return this;
+    }
+
     @Deprecated
     public ClientConfigBuilder<K, V, T> setVsonStore(boolean vsonStore) {
       isVsonStore = vsonStore;
@@ -508,6 +623,7 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           .setSpecificValueClass(specificValueClass)
           .setDeserializationExecutor(deserializationExecutor)
           .setClientRoutingStrategy(clientRoutingStrategy)
+          .setClientRoutingStrategyType(clientRoutingStrategyType)
           .setDualReadEnabled(dualReadEnabled)
           .setGenericThinClient(genericThinClient)
           .setSpecificThinClient(specificThinClient)
@@ -516,6 +632,7 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           .setRoutingErrorRequestCounterResetDelayMS(routingErrorRequestCounterResetDelayMS)
           .setRoutingUnavailableRequestCounterResetDelayMS(routingUnavailableRequestCounterResetDelayMS)
           .setRoutingPendingRequestCounterInstanceBlockThreshold(routingPendingRequestCounterInstanceBlockThreshold)
+          .setRoutingLatencyDecayWindowMS(routingLatencyDecayWindowMS)
           .setMaxAllowedKeyCntInBatchGetReq(maxAllowedKeyCntInBatchGetReq)
           .setThinClientForMetaStore(thinClientForMetaStore)
           .setMetadataRefreshIntervalInSeconds(metadataRefreshIntervalInSeconds)
@@ -523,6 +640,10 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           .setLongTailRetryThresholdForSingleGetInMicroSeconds(longTailRetryThresholdForSingleGetInMicroSeconds)
           .setLongTailRetryEnabledForBatchGet(longTailRetryEnabledForBatchGet)
           .setLongTailRetryThresholdForBatchGetInMicroSeconds(longTailRetryThresholdForBatchGetInMicroSeconds)
+          .setPerRouteLongTailRetryEnabledForBatchGet(perRouteLongTailRetryEnabledForBatchGet)
+          .setPerRouteLongTailRetryLatencyPercentileForBatchGet(perRouteLongTailRetryLatencyPercentileForBatchGet)
+          .setLongTailRetryBudgetPercentDecimalForBatchGet(longTailRetryBudgetPercentDecimalForBatchGet)
+          .setLongTailRetryBudgetEnabledForBatchGet(longTailRetryBudgetEnabledForBatchGet)
           .setVsonStore(isVsonStore)
           .setRequestBasedMetadata(isRequestBasedMetadata)
           .setD2Client(d2Client)
@@ -539,6 +660,7 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           specificValueClass,
           deserializationExecutor,
           clientRoutingStrategy,
+          clientRoutingStrategyType,
           dualReadEnabled,
           genericThinClient,
           specificThinClient,
@@ -547,6 +669,7 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           routingErrorRequestCounterResetDelayMS,
           routingUnavailableRequestCounterResetDelayMS,
           routingPendingRequestCounterInstanceBlockThreshold,
+          routingLatencyDecayWindowMS,
           maxAllowedKeyCntInBatchGetReq,
           thinClientForMetaStore,
           metadataRefreshIntervalInSeconds,
@@ -554,6 +677,10 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           longTailRetryThresholdForSingleGetInMicroSeconds,
           longTailRetryEnabledForBatchGet,
           longTailRetryThresholdForBatchGetInMicroSeconds,
+          perRouteLongTailRetryEnabledForBatchGet,
+          perRouteLongTailRetryLatencyPercentileForBatchGet,
+          longTailRetryBudgetPercentDecimalForBatchGet,
+          longTailRetryBudgetEnabledForBatchGet,
           isVsonStore,
           isRequestBasedMetadata,
           d2Client,
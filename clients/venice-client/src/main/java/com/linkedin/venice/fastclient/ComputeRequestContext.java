@@ -0,0 +1,13 @@
+package com.linkedin.venice.fastclient;
+
+/**
+ * Keep track of the progress of a compute request. Compute is a multi-key request scattered to the storage nodes the
+ * same way as batch get, so it shares the tracking of {@link BatchGetRequestContext}.
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+public class ComputeRequestContext<K, V> extends BatchGetRequestContext<K, V> {
+  ComputeRequestContext() {
+    super();
+  }
+}
@@ -2,8 +2,10 @@ package com.linkedin.venice.fastclient;
 
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.store.AvroGenericStoreClient;
+import com.linkedin.venice.client.store.ComputeGenericRecord;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.client.store.streaming.VeniceResponseMap;
+import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.fastclient.factory.ClientFactory;
 import java.util.Map;
 import java.util.Set;
@@ -102,6 +104,17 @@ public class DelegatingAvroStoreClient<K, V> extends InternalAvroStoreClient<K,
     return delegate.streamingBatchGet(requestContext, keys);
   }
 
+  @Override
+  protected void compute(
+      ComputeRequestContext<K, V> requestContext,
+      ComputeRequestWrapper computeRequestWrapper,
+      Set<K> keys,
+      Schema resultSchema,
+      StreamingCallback<K, ComputeGenericRecord> callback,
+      long preRequestTimeInNS) throws VeniceClientException {
+    delegate.compute(requestContext, computeRequestWrapper, keys, resultSchema, callback, preRequestTimeInNS);
+  }
+
   @Override
   public void start() throws VeniceClientException {
     delegate.start();
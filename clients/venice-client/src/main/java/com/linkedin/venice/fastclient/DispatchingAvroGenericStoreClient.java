@@ -5,6 +5,7 @@ import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.exceptions.VeniceClientHttpException;
 import com.linkedin.venice.client.store.AbstractAvroStoreClient;
+import com.linkedin.venice.client.store.ComputeGenericRecord;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.client.store.streaming.VeniceResponseCompletableFuture;
 import com.linkedin.venice.client.store.streaming.VeniceResponseMap;
@@ -13,6 +14,9 @@ import com.linkedin.venice.client.store.transport.TransportClient;
 import com.linkedin.venice.client.store.transport.TransportClientResponse;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.compute.ComputeRequestWrapper;
+import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
+import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
 import com.linkedin.venice.fastclient.meta.StoreMetadata;
 import com.linkedin.venice.fastclient.transport.R2TransportClient;
 import com.linkedin.venice.fastclient.transport.TransportClientResponseForRoute;
@@ -42,7 +46,10 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
 import org.apache.avro.io.ByteBufferOptimizedBinaryDecoder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -66,6 +73,7 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
   // Key serializer
   private RecordSerializer<K> keySerializer;
   private RecordSerializer<MultiGetRouterRequestKeyV1> multiGetSerializer;
+  private RecordSerializer<ComputeRouterRequestKeyV1> computeRequestKeySerializer;
 
   public DispatchingAvroGenericStoreClient(StoreMetadata metadata, ClientConfig config) {
     this.metadata = metadata;
@@ -103,13 +111,13 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
     return sb;
   }
 
-  private String composeURIForBatchGetRequest(BatchGetRequestContext<K, V> requestContext) {
+  private String composeURIForMultiKeyRequest(BatchGetRequestContext<K, V> requestContext, String requestType) {
     int currentVersion = getCurrentVersion();
     String resourceName = getResourceName(currentVersion);
 
     requestContext.currentVersion = currentVersion;
     StringBuilder sb = new StringBuilder();
-    sb.append(URI_SEPARATOR).append(AbstractAvroStoreClient.TYPE_STORAGE).append(URI_SEPARATOR).append(resourceName);
+    sb.append(URI_SEPARATOR).append(requestType).append(URI_SEPARATOR).append(resourceName);
     return sb.toString();
   }
 
@@ -363,9 +371,54 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
       // This method binds the internal transport client response to the events delivered to the callback
       transportRequestCompletionHandler(requestContext, transportClientResponse, throwable, callback);
     });
+    completeWhenAllRoutesComplete(requestContext, callback);
+  }
+
+  /**
+   * Compute is scattered to the storage nodes the same way as {@link #streamingBatchGet}, and the compute results
+   * returned by each route are decoded one by one and delivered to the callback.
+   */
+  @Override
+  protected void compute(
+      ComputeRequestContext<K, V> requestContext,
+      ComputeRequestWrapper computeRequestWrapper,
+      Set<K> keys,
+      Schema resultSchema,
+      StreamingCallback<K, ComputeGenericRecord> callback,
+      long preRequestTimeInNS) throws VeniceClientException {
+    verifyMetadataInitialized();
+    int valueSchemaId = metadata.getValueSchemaId(computeRequestWrapper.getValueSchema());
+    Map<String, String> headers = new HashMap<>();
+    headers.put(HttpConstants.VENICE_API_VERSION, Integer.toString(computeRequestWrapper.getComputeRequestVersion()));
+    headers.put(HttpConstants.VENICE_COMPUTE_VALUE_SCHEMA_ID, Integer.toString(valueSchemaId));
+    // The compute request is the same for all the routes, so it is only serialized once
+    ByteBuffer serializedComputeRequest = ByteBuffer.wrap(computeRequestWrapper.serialize());
+    RecordDeserializer<GenericRecord> computeResultDeserializer =
+        FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(resultSchema, resultSchema);
+
+    multiKeyRequestInternal(
+        requestContext,
+        keys,
+        composeURIForMultiKeyRequest(requestContext, AbstractAvroStoreClient.TYPE_COMPUTE),
+        headers,
+        keyList -> serializeComputeRequest(keyList, serializedComputeRequest),
+        (transportClientResponse, throwable) -> computeRequestCompletionHandler(
+            requestContext,
+            transportClientResponse,
+            throwable,
+            computeResultDeserializer,
+            computeRequestWrapper.getValueSchema(),
+            callback));
+    completeWhenAllRoutesComplete(requestContext, callback);
+  }
 
-    /* Wiring in a callback for when all events have been received. If any route failed with an exception,
-     * that exception will be passed to the aggregate future's next stages. */
+  /**
+   * Wiring in a callback for when all events have been received. If any route failed with an exception,
+   * that exception will be passed to the aggregate future's next stages.
+   */
+  private void completeWhenAllRoutesComplete(
+      BatchGetRequestContext<K, V> requestContext,
+      StreamingCallback<K, ?> callback) {
     CompletableFuture.allOf(requestContext.getAllRouteFutures().toArray(new CompletableFuture[0]))
         .whenComplete((response, throwable) -> {
           if (throwable == null) {
@@ -393,9 +446,32 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
       BatchGetRequestContext<K, V> requestContext,
       Set<K> keys,
       BiConsumer<TransportClientResponseForRoute, Throwable> transportClientResponseCompletionHandler) {
+    Map<String, String> headers = new HashMap<>();
+    headers.put(
+        HttpConstants.VENICE_API_VERSION,
+        Integer.toString(ReadAvroProtocolDefinition.MULTI_GET_ROUTER_REQUEST_V1.getProtocolVersion()));
+    multiKeyRequestInternal(
+        requestContext,
+        keys,
+        composeURIForMultiKeyRequest(requestContext, AbstractAvroStoreClient.TYPE_STORAGE),
+        headers,
+        this::serializeMultiGetRequest,
+        transportClientResponseCompletionHandler);
+  }
+
+  /**
+   * This internal method scatters a multi-key request, which is sent to the specified uri of each route with the
+   * keys of the route serialized by the request serializer.
+   */
+  private void multiKeyRequestInternal(
+      BatchGetRequestContext<K, V> requestContext,
+      Set<K> keys,
+      String uri,
+      Map<String, String> headers,
+      Function<List<BatchGetRequestContext.KeyInfo<K>>, byte[]> requestSerializer,
+      BiConsumer<TransportClientResponseForRoute, Throwable> transportClientResponseCompletionHandler) {
     /* Prepare each of the routes needed to query the keys */
     requestContext.instanceHealthMonitor = metadata.getInstanceHealthMonitor();
-    String uriForBatchGetRequest = composeURIForBatchGetRequest(requestContext);
     int currentVersion = requestContext.currentVersion;
     Map<Integer, List<String>> partitionRouteMap = new HashMap<>();
     RecordSerializer.ReusableObjects reusableObjects = AvroSerializer.REUSE.get();
@@ -435,13 +511,9 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
     }
     // Start the request and invoke handler for response
     for (String route: requestContext.getRoutes()) {
-      String url = route + uriForBatchGetRequest;
-      Map<String, String> headers = new HashMap<>();
-      headers.put(
-          HttpConstants.VENICE_API_VERSION,
-          Integer.toString(ReadAvroProtocolDefinition.MULTI_GET_ROUTER_REQUEST_V1.getProtocolVersion()));
+      String url = route + uri;
       long tsBeforeSerialization = System.nanoTime();
-      byte[] serializedKeys = serializeMultiGetRequest(requestContext.keysForRoutes(route));
+      byte[] serializedKeys = requestSerializer.apply(requestContext.keysForRoutes(route));
       requestContext.recordRequestSerializationTime(route, getLatencyInNS(tsBeforeSerialization));
       requestContext.recordRequestSentTimeStamp(route);
       transportClient.post(url, headers, serializedKeys).whenComplete((transportClientResponse, throwable) -> {
@@ -513,6 +585,68 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
     requestContext.markComplete(transportClientResponse);
   }
 
+  /**
+   * This callback handles the compute results from one route. Instead of deserializing all the records of the response
+   * up front, every record is decoded from the response body and delivered to the callback right away.
+   */
+  private void computeRequestCompletionHandler(
+      ComputeRequestContext<K, V> requestContext,
+      TransportClientResponseForRoute transportClientResponse,
+      Throwable exception,
+      RecordDeserializer<GenericRecord> computeResultDeserializer,
+      Schema valueSchema,
+      StreamingCallback<K, ComputeGenericRecord> callback) {
+    if (exception != null) {
+      LOGGER.error("Exception received from transport. ExMsg: {}", exception.getMessage());
+      requestContext.markCompleteExceptionally(transportClientResponse, exception);
+      return;
+    }
+    String routeId = transportClientResponse.getRouteId();
+    List<BatchGetRequestContext.KeyInfo<K>> keyInfos = requestContext.keysForRoutes(routeId);
+    boolean[] keysSeen = new boolean[keyInfos.size()];
+    try {
+      int protocolVersion = ReadAvroProtocolDefinition.COMPUTE_RESPONSE_V1.getProtocolVersion();
+      if (transportClientResponse.getSchemaId() != protocolVersion) {
+        throw new VeniceClientException(
+            "schemaId: " + transportClientResponse.getSchemaId() + " is not expected, should be " + protocolVersion);
+      }
+      RecordDeserializer<ComputeResponseRecordV1> deserializer = getComputeResponseRecordDeserializer();
+      BinaryDecoder decoder = new ByteBufferOptimizedBinaryDecoder(transportClientResponse.getBody());
+      while (!decoder.isEnd()) {
+        long timestampBeforeRequestDeserialization = System.nanoTime();
+        ComputeResponseRecordV1 record = deserializer.deserialize(decoder);
+        requestContext
+            .recordRequestDeserializationTime(routeId, getLatencyInNS(timestampBeforeRequestDeserialization));
+        // Negative key index indicates a non-existing key
+        int keyIndex = Math.abs(record.keyIndex);
+        ComputeGenericRecord computeResult = null;
+        if (record.keyIndex >= 0 && record.value.hasRemaining()) {
+          long timeStampBeforeDeserialization = System.nanoTime();
+          computeResult = new ComputeGenericRecord(computeResultDeserializer.deserialize(record.value), valueSchema);
+          requestContext.recordRecordDeserializationTime(routeId, getLatencyInNS(timeStampBeforeDeserialization));
+        }
+        keysSeen[keyIndex] = true;
+        callback.onRecordReceived(keyInfos.get(keyIndex).getKey(), computeResult);
+      }
+    } catch (Exception e) {
+      LOGGER.error("Failed to handle the compute response from route: {}", routeId, e);
+      requestContext.markCompleteExceptionally(transportClientResponse, e);
+      return;
+    }
+    for (int i = 0; i < keyInfos.size(); i++) {
+      if (!keysSeen[i]) {
+        callback.onRecordReceived(keyInfos.get(i).getKey(), null);
+      }
+    }
+    requestContext.markComplete(transportClientResponse);
+  }
+
+  /* Compute helper methods */
+  protected RecordDeserializer<ComputeResponseRecordV1> getComputeResponseRecordDeserializer() {
+    return FastSerializerDeserializerFactory
+        .getFastAvroSpecificDeserializer(ComputeResponseRecordV1.SCHEMA$, ComputeResponseRecordV1.class);
+  }
+
   /* Batch get helper methods */
   protected RecordDeserializer<MultiGetResponseRecordV1> getMultiGetResponseRecordDeserializer(int schemaId) {
     // TODO: get multi-get response write schema from Router
@@ -594,6 +728,24 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
     return multiGetSerializer.serializeObjects(routerRequestKeys);
   }
 
+  private byte[] serializeComputeRequest(
+      List<BatchGetRequestContext.KeyInfo<K>> keyList,
+      ByteBuffer serializedComputeRequest) {
+    List<ComputeRouterRequestKeyV1> routerRequestKeys = new ArrayList<>(keyList.size());
+    AvroSerializer.ReusableObjects reusableObjects = AvroSerializer.REUSE.get();
+    for (int i = 0; i < keyList.size(); i++) {
+      BatchGetRequestContext.KeyInfo<K> keyInfo = keyList.get(i);
+      ComputeRouterRequestKeyV1 routerRequestKey = new ComputeRouterRequestKeyV1();
+      routerRequestKey.keyBytes = ByteBuffer.wrap(keySerializer.serialize(keyInfo.getKey(), reusableObjects));
+      routerRequestKey.keyIndex = i;
+      routerRequestKey.partitionId = keyInfo.getPartitionId();
+      routerRequestKeys.add(routerRequestKey);
+    }
+    // The serialized compute request is shared by all the routes, so it is duplicated before being consumed
+    return computeRequestKeySerializer
+        .serializeObjects(routerRequestKeys, serializedComputeRequest.duplicate(), reusableObjects);
+  }
+
   private long getLatencyInNS(long startTimeStamp) {
     return System.nanoTime() - startTimeStamp;
   }
@@ -613,6 +765,8 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
 
     this.multiGetSerializer =
         FastSerializerDeserializerFactory.getAvroGenericSerializer(MultiGetRouterRequestKeyV1.SCHEMA$);
+    this.computeRequestKeySerializer =
+        FastSerializerDeserializerFactory.getAvroGenericSerializer(ComputeRouterRequestKeyV1.SCHEMA$);
   }
 
   protected RecordSerializer getKeySerializer(Schema keySchema) {
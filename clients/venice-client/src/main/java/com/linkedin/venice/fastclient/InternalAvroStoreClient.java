@@ -1,13 +1,22 @@
 package com.linkedin.venice.fastclient;
 
 import com.linkedin.venice.client.exceptions.VeniceClientException;
-import com.linkedin.venice.client.store.AvroGenericStoreClient;
+import com.linkedin.venice.client.stats.ClientStats;
+import com.linkedin.venice.client.store.AvroComputeRequestBuilderV3;
+import com.linkedin.venice.client.store.AvroGenericReadComputeStoreClient;
+import com.linkedin.venice.client.store.ComputeGenericRecord;
 import com.linkedin.venice.client.store.ComputeRequestBuilder;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.client.store.streaming.VeniceResponseMap;
+import com.linkedin.venice.compute.ComputeRequestWrapper;
+import java.io.ByteArrayOutputStream;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
 
 
 /**
@@ -15,7 +24,7 @@ import java.util.concurrent.CompletableFuture;
  * This class adds in {@link RequestContext} object for the communication among different tiers.
  */
 
-public abstract class InternalAvroStoreClient<K, V> implements AvroGenericStoreClient<K, V> {
+public abstract class InternalAvroStoreClient<K, V> implements AvroGenericReadComputeStoreClient<K, V> {
   public CompletableFuture<V> get(K key) throws VeniceClientException {
     return get(new GetRequestContext(), key);
   }
@@ -59,6 +68,55 @@ public abstract class InternalAvroStoreClient<K, V> implements AvroGenericStoreC
       Set<K> keys);
 
   public ComputeRequestBuilder<K> compute() {
-    throw new VeniceClientException("'compute' is not supported.");
+    return compute(Optional.empty(), Optional.empty(), 0);
+  }
+
+  /**
+   * The stats are recorded by {@link StatsAvroGenericStoreClient}, so the stats params are ignored.
+   */
+  @Override
+  public ComputeRequestBuilder<K> compute(
+      Optional<ClientStats> stats,
+      Optional<ClientStats> streamingStats,
+      long preRequestTimeInNS) throws VeniceClientException {
+    return new AvroComputeRequestBuilderV3<>(this, getLatestValueSchema());
+  }
+
+  @Override
+  public void compute(
+      ComputeRequestWrapper computeRequestWrapper,
+      Set<K> keys,
+      Schema resultSchema,
+      StreamingCallback<K, ComputeGenericRecord> callback,
+      long preRequestTimeInNS) throws VeniceClientException {
+    compute(new ComputeRequestContext<>(), computeRequestWrapper, keys, resultSchema, callback, preRequestTimeInNS);
+  }
+
+  @Override
+  public void compute(
+      ComputeRequestWrapper computeRequestWrapper,
+      Set<K> keys,
+      Schema resultSchema,
+      StreamingCallback<K, ComputeGenericRecord> callback,
+      long preRequestTimeInNS,
+      BinaryEncoder reusedEncoder,
+      ByteArrayOutputStream reusedOutputStream) throws VeniceClientException {
+    compute(computeRequestWrapper, keys, resultSchema, callback, preRequestTimeInNS);
+  }
+
+  protected abstract void compute(
+      ComputeRequestContext<K, V> requestContext,
+      ComputeRequestWrapper computeRequestWrapper,
+      Set<K> keys,
+      Schema resultSchema,
+      StreamingCallback<K, ComputeGenericRecord> callback,
+      long preRequestTimeInNS) throws VeniceClientException;
+
+  @Override
+  public void computeWithKeyPrefixFilter(
+      byte[] prefixBytes,
+      ComputeRequestWrapper computeRequestWrapper,
+      StreamingCallback<GenericRecord, GenericRecord> callback) {
+    throw new VeniceClientException("'computeWithKeyPrefixFilter' is not supported.");
   }
 }
@@ -2,16 +2,27 @@ package com.linkedin.venice.fastclient;
 
 import com.linkedin.alpini.base.concurrency.TimeoutProcessor;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.store.ComputeGenericRecord;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.fastclient.transport.TransportClientResponseForRoute;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.apache.avro.Schema;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -21,17 +32,28 @@ import org.apache.logging.log4j.Logger;
  * 1. The original request latency exceeds the retry threshold.
  * 2. The original request fails.
  *
+ * For batch get and compute, the retry could be triggered for each route separately based on the latency of the route,
+ * check {@link #retryMultiKeyRequestPerRoute} for details. The volume of the per-route retry is always limited by
+ * {@link RetryManager}, while the volume of the retry of all the pending keys is only limited when
+ * {@link ClientConfig#isLongTailRetryBudgetEnabledForBatchGet()} is enabled.
+ *
  * TODO:
- * 1. Limit the retry volume.
- * 2. Leverage some smart logic to avoid useless retry, such as retry triggered by heavy GC.
+ * 1. Leverage some smart logic to avoid useless retry, such as retry triggered by heavy GC.
  */
 public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient<K, V> {
   private final boolean longTailRetryEnabledForSingleGet;
   private final boolean longTailRetryEnabledForBatchGet;
   private final int longTailRetryThresholdForSingleGetInMicroseconds;
   private final int longTailRetryThresholdForBatchGetInMicroseconds;
+  private final boolean perRouteLongTailRetryEnabledForBatchGet;
+  private final boolean longTailRetryBudgetEnabledForBatchGet;
+  private final RouteLatencyTracker routeLatencyTracker;
+  private final RetryManager retryManagerForBatchGet;
   private TimeoutProcessor timeoutProcessor;
   private static final Logger LOGGER = LogManager.getLogger(RetriableAvroGenericStoreClient.class);
+  private static final long RETRY_BUDGET_ENFORCEMENT_WINDOW_MS = TimeUnit.SECONDS.toMillis(1);
+  private static final VeniceClientException RETRY_REJECTED_EXCEPTION =
+      new VeniceClientException("Long tail retry is rejected by the retry budget");
 
   public RetriableAvroGenericStoreClient(InternalAvroStoreClient<K, V> delegate, ClientConfig clientConfig) {
     super(delegate);
@@ -44,6 +66,13 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
         clientConfig.getLongTailRetryThresholdForSingleGetInMicroSeconds();
     this.longTailRetryThresholdForBatchGetInMicroseconds =
         clientConfig.getLongTailRetryThresholdForBatchGetInMicroSeconds();
+    this.perRouteLongTailRetryEnabledForBatchGet = clientConfig.isPerRouteLongTailRetryEnabledForBatchGet();
+    this.longTailRetryBudgetEnabledForBatchGet = clientConfig.isLongTailRetryBudgetEnabledForBatchGet();
+    this.routeLatencyTracker =
+        new RouteLatencyTracker(clientConfig.getPerRouteLongTailRetryLatencyPercentileForBatchGet());
+    this.retryManagerForBatchGet = new RetryManager(
+        clientConfig.getLongTailRetryBudgetPercentDecimalForBatchGet(),
+        RETRY_BUDGET_ENFORCEMENT_WINDOW_MS);
   }
 
   enum RetryType {
@@ -162,6 +191,14 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
     return finalFuture;
   }
 
+  /**
+   * This interface is used to send a multi-key request with the given request context to the delegate, so that the
+   * long tail retry logic could be shared by batch get and compute.
+   */
+  private interface MultiKeyRequestSender<C extends BatchGetRequestContext<K, ?>, K, R> {
+    void send(C requestContext, Set<K> keys, StreamingCallback<K, R> callback);
+  }
+
   @Override
   public void streamingBatchGet(
       BatchGetRequestContext<K, V> requestContext,
@@ -172,6 +209,46 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
       super.streamingBatchGet(requestContext, keys, callback);
       return;
     }
+    retryMultiKeyRequest(requestContext, keys, callback, BatchGetRequestContext::new, super::streamingBatchGet);
+  }
+
+  /**
+   * Compute is retried the same way as batch get, and it follows the long tail retry config of batch get.
+   */
+  @Override
+  protected void compute(
+      ComputeRequestContext<K, V> requestContext,
+      ComputeRequestWrapper computeRequestWrapper,
+      Set<K> keys,
+      Schema resultSchema,
+      StreamingCallback<K, ComputeGenericRecord> callback,
+      long preRequestTimeInNS) throws VeniceClientException {
+    MultiKeyRequestSender<ComputeRequestContext<K, V>, K, ComputeGenericRecord> computeRequestSender =
+        (context, keysToSend, callbackForKeys) -> super.compute(
+            context,
+            computeRequestWrapper,
+            keysToSend,
+            resultSchema,
+            callbackForKeys,
+            preRequestTimeInNS);
+    if (!longTailRetryEnabledForBatchGet) {
+      computeRequestSender.send(requestContext, keys, callback);
+      return;
+    }
+    retryMultiKeyRequest(requestContext, keys, callback, ComputeRequestContext::new, computeRequestSender);
+  }
+
+  private <C extends BatchGetRequestContext<K, V>, R> void retryMultiKeyRequest(
+      C requestContext,
+      Set<K> keys,
+      StreamingCallback<K, R> callback,
+      Supplier<C> retryContextSupplier,
+      MultiKeyRequestSender<C, K, R> requestSender) {
+    retryManagerForBatchGet.recordRequest();
+    if (perRouteLongTailRetryEnabledForBatchGet) {
+      retryMultiKeyRequestPerRoute(requestContext, keys, callback, retryContextSupplier, requestSender);
+      return;
+    }
     /** Track the final completion of the request. It will be completed normally if
      1. the original requests calls onCompletion with no exception
      2. the retry request calls onCompletion with no exception
@@ -182,16 +259,9 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
     AtomicReference<Exception> savedException = new AtomicReference<>();
     /** Track all keys with a future. We remove the key when we receive value from either the original or the retry
      callback. Removal is thread safe, so we will do it only once. We can then complete the future for that key */
-    VeniceConcurrentHashMap<K, CompletableFuture<V>> pendingKeysFuture = new VeniceConcurrentHashMap<>();
-    for (K key: keys) {
-      CompletableFuture<V> originalCompletion = new CompletableFuture<V>();
-      originalCompletion.whenComplete((value, throwable) -> {
-        callback.onRecordReceived(key, value);
-      });
-      pendingKeysFuture.put(key, originalCompletion);
-    }
+    VeniceConcurrentHashMap<K, CompletableFuture<R>> pendingKeysFuture = getPendingKeysFuture(keys, callback);
 
-    super.streamingBatchGet(
+    requestSender.send(
         requestContext,
         keys,
         getStreamingCallback(
@@ -207,14 +277,22 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
     }
 
     Runnable retryTask = () -> { // Look at the remaining keys and setup completion
-      if (!pendingKeysFuture.isEmpty()) {
+      if (!pendingKeysFuture.isEmpty() && longTailRetryBudgetEnabledForBatchGet
+          && !retryManagerForBatchGet.isRetryAllowed()) {
+        /** The retry is rejected by the retry budget, so the original request is the only request, and its exception
+         should fail the final request directly */
+        LOGGER.debug("Retry of {} incomplete keys is rejected by the retry budget", pendingKeysFuture.size());
+        if (!savedException.compareAndSet(null, RETRY_REJECTED_EXCEPTION)) {
+          finalRequestCompletionFuture.completeExceptionally(savedException.get());
+        }
+      } else if (!pendingKeysFuture.isEmpty()) {
         requestContext.longTailRetryTriggered = true;
-        requestContext.numberOfKeysSentInRetryRequest = pendingKeysFuture.size();
+        requestContext.numberOfKeysSentInRetryRequest.set(pendingKeysFuture.size());
         LOGGER.debug("Retrying {} incomplete keys ", pendingKeysFuture.size());
         // Prepare the retry context and track excluded routes on a per partition basis
-        BatchGetRequestContext<K, V> retryContext = new BatchGetRequestContext<>();
+        C retryContext = retryContextSupplier.get();
         retryContext.setRoutesForPartitionMapping(requestContext.getRoutesForPartitionMapping());
-        super.streamingBatchGet(
+        requestSender.send(
             retryContext,
             Collections.unmodifiableSet(pendingKeysFuture.keySet()),
             getStreamingCallback(
@@ -244,16 +322,196 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
     });
   }
 
-  private StreamingCallback<K, V> getStreamingCallback(
+  /**
+   * Different from {@link #retryMultiKeyRequest}, which retries all the pending keys after a fixed threshold, the long
+   * tail retry is scheduled for each route of the original request separately, and the threshold of each route is a
+   * percentile of its recent latency tracked by {@link RouteLatencyTracker}. When the threshold is reached or the
+   * route fails, only the keys of this route, which are still pending, will be retried with other replicas, so one
+   * slow partition won't trigger the retry of all the keys.
+   *
+   * The final request is completed once all the keys are resolved, or completed exceptionally once neither the
+   * original request nor any retry could resolve the pending keys anymore.
+   */
+  private <C extends BatchGetRequestContext<K, V>, R> void retryMultiKeyRequestPerRoute(
+      C requestContext,
+      Set<K> keys,
+      StreamingCallback<K, R> callback,
+      Supplier<C> retryContextSupplier,
+      MultiKeyRequestSender<C, K, R> requestSender) {
+    CompletableFuture<Void> finalRequestCompletionFuture = new CompletableFuture<>();
+    AtomicReference<Exception> savedException = new AtomicReference<>();
+    VeniceConcurrentHashMap<K, CompletableFuture<R>> pendingKeysFuture = getPendingKeysFuture(keys, callback);
+    /** Track the original request, the scheduled route retries and the retry requests, which could still resolve
+     the pending keys. It starts with 2 to prevent the final request from completing before all the route retries
+     are scheduled. */
+    AtomicInteger outstandingRequestCount = new AtomicInteger(2);
+    Runnable requestCompletionHandler = () -> {
+      if (outstandingRequestCount.decrementAndGet() == 0 && !finalRequestCompletionFuture.isDone()) {
+        if (pendingKeysFuture.isEmpty()) {
+          finalRequestCompletionFuture.complete(null);
+        } else {
+          Exception exception = savedException.get();
+          finalRequestCompletionFuture.completeExceptionally(
+              exception != null
+                  ? exception
+                  : new VeniceClientException(pendingKeysFuture.size() + " keys are not resolved by any route"));
+        }
+      }
+    };
+
+    long requestSentTimeNS = System.nanoTime();
+    requestSender.send(
+        requestContext,
+        keys,
+        getPerRouteStreamingCallback(
+            finalRequestCompletionFuture,
+            savedException,
+            pendingKeysFuture,
+            requestContext.numberOfKeysCompletedInOriginalRequest,
+            requestCompletionHandler));
+
+    if (timeoutProcessor == null) {
+      timeoutProcessor = requestContext.instanceHealthMonitor.getTimeoutProcessor();
+    }
+
+    List<TimeoutProcessor.TimeoutFuture> scheduledRetryTasks = new ArrayList<>();
+    for (String route: requestContext.getRoutes()) {
+      AtomicBoolean routeRetryHandled = new AtomicBoolean(false);
+      outstandingRequestCount.incrementAndGet();
+      Runnable routeRetryTask = () -> {
+        if (!routeRetryHandled.compareAndSet(false, true)) {
+          return;
+        }
+        Set<K> pendingRouteKeys = new HashSet<>();
+        for (BatchGetRequestContext.KeyInfo<K> keyInfo: requestContext.keysForRoutes(route)) {
+          if (pendingKeysFuture.containsKey(keyInfo.getKey())) {
+            pendingRouteKeys.add(keyInfo.getKey());
+          }
+        }
+        if (pendingRouteKeys.isEmpty() || finalRequestCompletionFuture.isDone()
+            || !retryManagerForBatchGet.isRetryAllowed()) {
+          requestCompletionHandler.run();
+          return;
+        }
+        requestContext.longTailRetryTriggered = true;
+        requestContext.numberOfKeysSentInRetryRequest.addAndGet(pendingRouteKeys.size());
+        LOGGER.debug("Retrying {} incomplete keys of route {}", pendingRouteKeys.size(), route);
+        C retryContext = retryContextSupplier.get();
+        retryContext.setRoutesForPartitionMapping(copyRoutesForPartitionMapping(requestContext));
+        requestSender.send(
+            retryContext,
+            pendingRouteKeys,
+            getPerRouteStreamingCallback(
+                finalRequestCompletionFuture,
+                savedException,
+                pendingKeysFuture,
+                requestContext.numberOfKeysCompletedInRetryRequest,
+                requestCompletionHandler));
+      };
+
+      long retryThresholdInMicroseconds = routeLatencyTracker.getLatencyPercentileInMicroSeconds(route);
+      if (retryThresholdInMicroseconds <= 0) {
+        retryThresholdInMicroseconds = longTailRetryThresholdForBatchGetInMicroseconds;
+      }
+      TimeoutProcessor.TimeoutFuture scheduledRetryTask =
+          timeoutProcessor.schedule(routeRetryTask, retryThresholdInMicroseconds, TimeUnit.MICROSECONDS);
+      scheduledRetryTasks.add(scheduledRetryTask);
+
+      CompletableFuture<TransportClientResponseForRoute> routeFuture = requestContext.getRouteFuture(route);
+      routeFuture.whenComplete((response, throwable) -> {
+        if (throwable != null) {
+          // Retry the pending keys of the failed route right away
+          routeRetryTask.run();
+          return;
+        }
+        routeLatencyTracker
+            .recordLatency(route, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - requestSentTimeNS));
+        if (routeRetryHandled.compareAndSet(false, true)) {
+          scheduledRetryTask.cancel();
+          requestCompletionHandler.run();
+        }
+      });
+    }
+    // All the route retries are scheduled
+    requestCompletionHandler.run();
+
+    finalRequestCompletionFuture.whenComplete((ignore, finalException) -> {
+      for (TimeoutProcessor.TimeoutFuture scheduledRetryTask: scheduledRetryTasks) {
+        if (!scheduledRetryTask.isDone()) {
+          scheduledRetryTask.cancel();
+        }
+      }
+      if (finalException == null) {
+        callback.onCompletion(Optional.empty());
+      } else {
+        callback.onCompletion(Optional.of(new VeniceClientException("Request failed with exception ", finalException)));
+      }
+    });
+  }
+
+  private <R> VeniceConcurrentHashMap<K, CompletableFuture<R>> getPendingKeysFuture(
+      Set<K> keys,
+      StreamingCallback<K, R> callback) {
+    VeniceConcurrentHashMap<K, CompletableFuture<R>> pendingKeysFuture = new VeniceConcurrentHashMap<>();
+    for (K key: keys) {
+      CompletableFuture<R> originalCompletion = new CompletableFuture<R>();
+      originalCompletion.whenComplete((value, throwable) -> {
+        callback.onRecordReceived(key, value);
+      });
+      pendingKeysFuture.put(key, originalCompletion);
+    }
+    return pendingKeysFuture;
+  }
+
+  /**
+   * Each retry request gets its own copy to track the excluded routes, since the retries of different routes could
+   * be sent concurrently.
+   */
+  private static Map<Integer, Set<String>> copyRoutesForPartitionMapping(BatchGetRequestContext<?, ?> requestContext) {
+    Map<Integer, Set<String>> routesForPartition = new HashMap<>();
+    requestContext.getRoutesForPartitionMapping()
+        .forEach((partitionId, routes) -> routesForPartition.put(partitionId, new HashSet<>(routes)));
+    return routesForPartition;
+  }
+
+  private <R> StreamingCallback<K, R> getPerRouteStreamingCallback(
+      CompletableFuture<Void> finalRequestCompletionFuture,
+      AtomicReference<Exception> savedException,
+      VeniceConcurrentHashMap<K, CompletableFuture<R>> pendingKeysFuture,
+      AtomicInteger successfulKeysCounter,
+      Runnable requestCompletionHandler) {
+    return new StreamingCallback<K, R>() {
+      @Override
+      public void onRecordReceived(K key, R value) {
+        CompletableFuture<R> removed = pendingKeysFuture.remove(key);
+        if (removed != null) {
+          removed.complete(value);
+          successfulKeysCounter.incrementAndGet();
+        }
+        if (pendingKeysFuture.isEmpty() && !finalRequestCompletionFuture.isDone()) {
+          finalRequestCompletionFuture.complete(null);
+        }
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        // The pending keys might still be resolved by other requests, so the first exception is saved for later
+        exception.ifPresent(e -> savedException.compareAndSet(null, e));
+        requestCompletionHandler.run();
+      }
+    };
+  }
+
+  private <R> StreamingCallback<K, R> getStreamingCallback(
       CompletableFuture<Void> finalRequestCompletionFuture,
       AtomicReference<Exception> savedException,
-      VeniceConcurrentHashMap<K, CompletableFuture<V>> pendingKeysFuture,
+      VeniceConcurrentHashMap<K, CompletableFuture<R>> pendingKeysFuture,
       AtomicInteger successfulKeysCounter) {
-    return new StreamingCallback<K, V>() {
+    return new StreamingCallback<K, R>() {
       @Override
-      public void onRecordReceived(K key, V value) {
+      public void onRecordReceived(K key, R value) {
         // Remove the key and if successful , mark it as complete
-        CompletableFuture<V> removed = pendingKeysFuture.remove(key);
+        CompletableFuture<R> removed = pendingKeysFuture.remove(key);
         if (removed != null) {
           removed.complete(value);
           successfulKeysCounter.incrementAndGet();
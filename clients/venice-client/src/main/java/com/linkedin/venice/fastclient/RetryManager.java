@@ -0,0 +1,54 @@
+package com.linkedin.venice.fastclient;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * This class enforces the retry budget: the retry requests within an enforcement window can't exceed the specified
+ * ratio of the original requests within the same window, so that the retry won't amplify the load of the storage
+ * nodes when most of the requests are slow, such as during an incident.
+ *
+ * The counters are reset at the beginning of every window. It is fine that a few requests are counted in the previous
+ * window when racing with the reset, since the budget doesn't need to be accurate.
+ */
+public class RetryManager {
+  private final double retryBudgetInPercentDecimal;
+  private final long enforcementWindowInNS;
+  private final AtomicLong windowStartTimeInNS;
+  private final AtomicLong requestCount = new AtomicLong();
+  private final AtomicLong retryCount = new AtomicLong();
+
+  public RetryManager(double retryBudgetInPercentDecimal, long enforcementWindowInMS) {
+    this.retryBudgetInPercentDecimal = retryBudgetInPercentDecimal;
+    this.enforcementWindowInNS = TimeUnit.MILLISECONDS.toNanos(enforcementWindowInMS);
+    this.windowStartTimeInNS = new AtomicLong(System.nanoTime());
+  }
+
+  public void recordRequest() {
+    maybeStartNewWindow();
+    requestCount.incrementAndGet();
+  }
+
+  /**
+   * @return whether a retry request is allowed, and the retry request will be counted against the budget if allowed.
+   */
+  public boolean isRetryAllowed() {
+    maybeStartNewWindow();
+    long retries = retryCount.incrementAndGet();
+    if (retries - 1 < requestCount.get() * retryBudgetInPercentDecimal) {
+      return true;
+    }
+    retryCount.decrementAndGet();
+    return false;
+  }
+
+  private void maybeStartNewWindow() {
+    long windowStartTime = windowStartTimeInNS.get();
+    long now = System.nanoTime();
+    if (now - windowStartTime >= enforcementWindowInNS && windowStartTimeInNS.compareAndSet(windowStartTime, now)) {
+      requestCount.set(0);
+      retryCount.set(0);
+    }
+  }
+}
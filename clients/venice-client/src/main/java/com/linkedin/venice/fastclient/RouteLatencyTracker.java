@@ -0,0 +1,74 @@
+package com.linkedin.venice.fastclient;
+
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * This class keeps the most recent latency samples of each route, and it is used to decide the long tail retry
+ * threshold of each route based on its own latency distribution instead of a fixed threshold for all the routes.
+ *
+ * The latency percentile is re-calculated after every {@link #RECALCULATION_INTERVAL} samples instead of every lookup,
+ * since the lookup happens for every route of every request.
+ */
+public class RouteLatencyTracker {
+  static final int SAMPLE_SIZE = 256;
+  static final int RECALCULATION_INTERVAL = 32;
+
+  private final double percentile;
+  private final Map<String, RouteLatencySamples> routeLatencySamplesMap = new VeniceConcurrentHashMap<>();
+
+  /**
+   * @param percentile in range (0, 100]
+   */
+  public RouteLatencyTracker(double percentile) {
+    this.percentile = percentile;
+  }
+
+  public void recordLatency(String route, long latencyInMicroSeconds) {
+    routeLatencySamplesMap.computeIfAbsent(route, r -> new RouteLatencySamples()).record(latencyInMicroSeconds);
+  }
+
+  /**
+   * @return the latency percentile of the specified route, or -1 if there are not enough samples yet.
+   */
+  public long getLatencyPercentileInMicroSeconds(String route) {
+    RouteLatencySamples samples = routeLatencySamplesMap.get(route);
+    return samples == null ? -1 : samples.getLatencyPercentile(percentile);
+  }
+
+  private static class RouteLatencySamples {
+    private final AtomicLongArray samples = new AtomicLongArray(SAMPLE_SIZE);
+    private final AtomicLong sampleCount = new AtomicLong();
+    private volatile long latencyPercentile = -1;
+    private volatile long sampleCountAtLastCalculation = 0;
+
+    void record(long latency) {
+      long count = sampleCount.getAndIncrement();
+      samples.set((int) (count % SAMPLE_SIZE), latency);
+    }
+
+    long getLatencyPercentile(double percentile) {
+      long count = sampleCount.get();
+      if (count < RECALCULATION_INTERVAL) {
+        return -1;
+      }
+      if (count - sampleCountAtLastCalculation >= RECALCULATION_INTERVAL) {
+        // Concurrent re-calculation is harmless since every calculation is based on the recent samples
+        sampleCountAtLastCalculation = count;
+        int size = (int) Math.min(count, SAMPLE_SIZE);
+        long[] sortedSamples = new long[size];
+        for (int i = 0; i < size; i++) {
+          sortedSamples[i] = samples.get(i);
+        }
+        Arrays.sort(sortedSamples);
+        int index = (int) Math.ceil(percentile / 100 * size) - 1;
+        latencyPercentile = sortedSamples[Math.max(0, Math.min(index, size - 1))];
+      }
+      return latencyPercentile;
+    }
+  }
+}
@@ -3,8 +3,10 @@ package com.linkedin.venice.fastclient;
 import com.linkedin.restli.common.HttpStatus;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.store.AppTimeOutTrackingCompletableFuture;
+import com.linkedin.venice.client.store.ComputeGenericRecord;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.client.store.streaming.VeniceResponseMap;
+import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.fastclient.meta.InstanceHealthMonitor;
 import com.linkedin.venice.fastclient.stats.ClusterStats;
 import com.linkedin.venice.fastclient.stats.FastClientStats;
@@ -17,6 +19,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import org.apache.avro.Schema;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -30,6 +33,7 @@ public class StatsAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient
 
   private final FastClientStats clientStatsForSingleGet;
   private final FastClientStats clientStatsForBatchGet;
+  private final FastClientStats clientStatsForCompute;
   private final ClusterStats clusterStats;
 
   private final int maxAllowedKeyCntInBatchGetReq;
@@ -38,6 +42,7 @@ public class StatsAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient
     super(delegate);
     this.clientStatsForSingleGet = clientConfig.getStats(RequestType.SINGLE_GET);
     this.clientStatsForBatchGet = clientConfig.getStats(RequestType.MULTI_GET);
+    this.clientStatsForCompute = clientConfig.getStats(RequestType.COMPUTE);
     this.clusterStats = clientConfig.getClusterStats();
     this.maxAllowedKeyCntInBatchGetReq = clientConfig.getMaxAllowedKeyCntInBatchGetReq();
   }
@@ -80,6 +85,26 @@ public class StatsAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient
         new StatTrackingStreamingCallBack<>(callback, statFuture, requestContext));
   }
 
+  @Override
+  protected void compute(
+      ComputeRequestContext<K, V> requestContext,
+      ComputeRequestWrapper computeRequestWrapper,
+      Set<K> keys,
+      Schema resultSchema,
+      StreamingCallback<K, ComputeGenericRecord> callback,
+      long preRequestTimeInNS) throws VeniceClientException {
+    long startTimeInNS = System.nanoTime();
+    CompletableFuture<Void> statFuture = new CompletableFuture<>();
+    recordMetrics(requestContext, keys.size(), statFuture, startTimeInNS, clientStatsForCompute);
+    super.compute(
+        requestContext,
+        computeRequestWrapper,
+        keys,
+        resultSchema,
+        new StatTrackingStreamingCallBack<>(callback, statFuture, requestContext),
+        preRequestTimeInNS);
+  }
+
   @Override
   protected CompletableFuture<VeniceResponseMap<K, V>> streamingBatchGet(
       BatchGetRequestContext<K, V> requestContext,
@@ -179,7 +204,7 @@ public class StatsAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient
         BatchGetRequestContext<K, V> batchGetRequestContext = (BatchGetRequestContext<K, V>) requestContext;
         if (batchGetRequestContext.longTailRetryTriggered) {
           clientStats.recordLongTailRetryRequest();
-          clientStats.recordRetryRequestKeyCount(batchGetRequestContext.numberOfKeysSentInRetryRequest);
+          clientStats.recordRetryRequestKeyCount(batchGetRequestContext.numberOfKeysSentInRetryRequest.get());
           clientStats
               .recordRetryRequestSuccessKeyCount(batchGetRequestContext.numberOfKeysCompletedInRetryRequest.get());
         }
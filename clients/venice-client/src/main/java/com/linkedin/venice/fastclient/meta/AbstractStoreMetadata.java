@@ -25,6 +25,11 @@ public abstract class AbstractStoreMetadata implements StoreMetadata {
     this.instanceHealthMonitor = new InstanceHealthMonitor(clientConfig);
     if (clientConfig.getClientRoutingStrategy() != null) {
       this.routingStrategy = clientConfig.getClientRoutingStrategy();
+    } else if (clientConfig.getClientRoutingStrategyType() == ClientRoutingStrategyType.LATENCY_BASED) {
+      this.routingStrategy = new LatencyBasedClientRoutingStrategy(
+          this.instanceHealthMonitor,
+          clientConfig.getClusterStats(),
+          clientConfig.getRoutingLatencyDecayWindowMS());
     } else {
       this.routingStrategy = new LeastLoadedClientRoutingStrategy(this.instanceHealthMonitor);
     }
@@ -70,7 +75,9 @@ public abstract class AbstractStoreMetadata implements StoreMetadata {
       String instance,
       int version,
       int partitionId) {
-    return instanceHealthMonitor.trackHealthBasedOnRequestToInstance(instance);
+    CompletableFuture<HttpStatus> requestFuture = instanceHealthMonitor.trackHealthBasedOnRequestToInstance(instance);
+    routingStrategy.trackRequest(instance, requestFuture);
+    return requestFuture;
   }
 
   @Override
@@ -1,9 +1,17 @@
 package com.linkedin.venice.fastclient.meta;
 
+import com.linkedin.restli.common.HttpStatus;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 
 public interface ClientRoutingStrategy {
   List<String> getReplicas(long requestId, List<String> replicas, int requiredReplicaCount);
 
+  /**
+   * This function will be invoked for every request sent to a selected replica, and the request future will be
+   * completed with the response status, so the strategy could track the state of each replica if necessary.
+   */
+  default void trackRequest(String replica, CompletableFuture<HttpStatus> requestFuture) {
+  }
 }
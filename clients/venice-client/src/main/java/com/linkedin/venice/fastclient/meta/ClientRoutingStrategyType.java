@@ -0,0 +1,17 @@
+package com.linkedin.venice.fastclient.meta;
+
+/**
+ * The built-in {@link ClientRoutingStrategy} implementations, which could be picked through
+ * {@link com.linkedin.venice.fastclient.ClientConfig.ClientConfigBuilder#setClientRoutingStrategyType}.
+ */
+public enum ClientRoutingStrategyType {
+  /**
+   * {@link LeastLoadedClientRoutingStrategy}, and {@link RequestBasedMetadata} will switch to
+   * {@link HelixScatterGatherRoutingStrategy} once the Helix group info is available.
+   */
+  LEAST_LOADED,
+  /**
+   * {@link LatencyBasedClientRoutingStrategy}.
+   */
+  LATENCY_BASED
+}
@@ -0,0 +1,185 @@
+package com.linkedin.venice.fastclient.meta;
+
+import com.linkedin.restli.common.HttpStatus;
+import com.linkedin.venice.fastclient.stats.ClusterStats;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * This strategy is trying to route the request to the instances, which are expected to respond the fastest, so that a
+ * slow instance, such as an instance in a long GC pause or busy with compaction, will receive less requests even it
+ * is not slow enough to be blocked by {@link InstanceHealthMonitor}.
+ *
+ * 1. For each instance, this strategy keeps a decayed latency estimate and the number of in-flight requests, and the
+ *    expected completion time of a new request is: latency estimate * (in-flight requests + 1).
+ * 2. The latency estimate is peak-sensitive: a higher latency will be taken right away, and a lower latency will be
+ *    averaged in with a weight based on the time elapsed since the last update. When an instance doesn't receive any
+ *    request, the estimate will decay over time, so an instance, which was slow, will be tried again.
+ * 3. The instances are selected by power-of-two-choices: two random instances are compared, and the one with the
+ *    smaller expected completion time is selected, which avoids sending all the requests to the fastest instance.
+ * 4. Same as {@link LeastLoadedClientRoutingStrategy}, this strategy will skip any blocked instance, and it will try to
+ *    back-fill with the healthy instances when any selected instance is marked as unhealthy.
+ */
+public class LatencyBasedClientRoutingStrategy implements ClientRoutingStrategy {
+  /**
+   * The latency of an error response is not meaningful, and a fast-failing instance shouldn't attract more requests.
+   */
+  private static final long ERROR_RESPONSE_LATENCY_NS = TimeUnit.SECONDS.toNanos(1);
+  /**
+   * The latency estimate of an instance without any response yet, and the lower bound of the latency estimate, so that
+   * the in-flight requests will still be considered.
+   */
+  private static final double MIN_LATENCY_NS = TimeUnit.MICROSECONDS.toNanos(100);
+
+  private final InstanceHealthMonitor instanceHealthMonitor;
+  private final ClusterStats clusterStats;
+  private final double decayWindowNS;
+  private final Map<String, ReplicaState> replicaStateMap = new VeniceConcurrentHashMap<>();
+
+  public LatencyBasedClientRoutingStrategy(
+      InstanceHealthMonitor instanceHealthMonitor,
+      ClusterStats clusterStats,
+      long decayWindowMS) {
+    this.instanceHealthMonitor = instanceHealthMonitor;
+    this.clusterStats = clusterStats;
+    this.decayWindowNS = TimeUnit.MILLISECONDS.toNanos(decayWindowMS);
+  }
+
+  @Override
+  public List<String> getReplicas(long requestId, List<String> replicas, int requiredReplicaCount) {
+    if (replicas.isEmpty()) {
+      return Collections.emptyList();
+    }
+    List<String> availReplicas = new ArrayList<>(replicas.size());
+    for (String replica: replicas) {
+      if (!instanceHealthMonitor.isInstanceBlocked(replica)) {
+        availReplicas.add(replica);
+      }
+    }
+    if (requiredReplicaCount >= availReplicas.size()) {
+      availReplicas.forEach(this::recordReplicaSelection);
+      return availReplicas;
+    }
+
+    long nowNS = System.nanoTime();
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    List<String> selectedReplicas = new ArrayList<>(requiredReplicaCount);
+    /**
+     * The candidates are kept in the head of the list, and every selected replica will be swapped to the tail.
+     */
+    int candidateCnt = availReplicas.size();
+    int selectedUnhealthyReplicaCnt = 0;
+    for (int i = 0; i < requiredReplicaCount; ++i) {
+      int selectedPos = random.nextInt(candidateCnt);
+      if (candidateCnt > 1) {
+        int anotherPos = random.nextInt(candidateCnt - 1);
+        if (anotherPos >= selectedPos) {
+          ++anotherPos;
+        }
+        double expectedLatency = getExpectedLatency(availReplicas.get(selectedPos), nowNS);
+        if (getExpectedLatency(availReplicas.get(anotherPos), nowNS) < expectedLatency) {
+          selectedPos = anotherPos;
+        }
+      }
+      String selectedReplica = availReplicas.get(selectedPos);
+      Collections.swap(availReplicas, selectedPos, --candidateCnt);
+      selectedReplicas.add(selectedReplica);
+      if (!instanceHealthMonitor.isInstanceHealthy(selectedReplica)) {
+        ++selectedUnhealthyReplicaCnt;
+      }
+    }
+
+    /**
+     * Check {@link LeastLoadedClientRoutingStrategy} for the reason of back-filling.
+     */
+    for (int i = 0; i < candidateCnt && selectedUnhealthyReplicaCnt > 0; ++i) {
+      String currentReplica = availReplicas.get(i);
+      if (instanceHealthMonitor.isInstanceHealthy(currentReplica)) {
+        selectedReplicas.add(currentReplica);
+        --selectedUnhealthyReplicaCnt;
+      }
+    }
+    selectedReplicas.forEach(this::recordReplicaSelection);
+
+    return selectedReplicas;
+  }
+
+  @Override
+  public void trackRequest(String replica, CompletableFuture<HttpStatus> requestFuture) {
+    ReplicaState replicaState = getReplicaState(replica);
+    long requestStartTimeNS = System.nanoTime();
+    replicaState.inFlightRequestCounter.incrementAndGet();
+    requestFuture.whenComplete((httpStatus, throwable) -> {
+      replicaState.inFlightRequestCounter.decrementAndGet();
+      long nowNS = System.nanoTime();
+      long latencyNS = nowNS - requestStartTimeNS;
+      if (throwable != null || (httpStatus != HttpStatus.S_200_OK && httpStatus != HttpStatus.S_404_NOT_FOUND)) {
+        latencyNS = Math.max(latencyNS, ERROR_RESPONSE_LATENCY_NS);
+      }
+      double latencyEstimateNS = replicaState.recordLatency(latencyNS, nowNS, decayWindowNS);
+      if (clusterStats != null) {
+        clusterStats.recordReplicaLatencyEstimate(replica, latencyEstimateNS / TimeUnit.MILLISECONDS.toNanos(1));
+      }
+    });
+  }
+
+  /**
+   * @return the expected latency of a new request to the specified replica.
+   */
+  double getExpectedLatency(String replica, long nowNS) {
+    ReplicaState replicaState = replicaStateMap.get(replica);
+    if (replicaState == null) {
+      return MIN_LATENCY_NS;
+    }
+    return Math.max(replicaState.getLatencyEstimate(nowNS, decayWindowNS), MIN_LATENCY_NS)
+        * (replicaState.inFlightRequestCounter.get() + 1);
+  }
+
+  private ReplicaState getReplicaState(String replica) {
+    return replicaStateMap.computeIfAbsent(replica, k -> new ReplicaState());
+  }
+
+  private void recordReplicaSelection(String replica) {
+    if (clusterStats != null) {
+      clusterStats.recordReplicaSelection(replica);
+    }
+  }
+
+  /**
+   * The latency estimate is updated with the lock of each replica, and read without any lock, since the estimate
+   * doesn't need to be accurate.
+   */
+  private static class ReplicaState {
+    private final AtomicInteger inFlightRequestCounter = new AtomicInteger();
+    private volatile boolean hasLatency = false;
+    private volatile double latencyEstimateNS;
+    private volatile long lastUpdateTimeNS;
+
+    synchronized double recordLatency(long latencyNS, long nowNS, double decayWindowNS) {
+      if (!hasLatency || latencyNS >= latencyEstimateNS) {
+        latencyEstimateNS = latencyNS;
+      } else {
+        double weight = Math.exp(-Math.max(nowNS - lastUpdateTimeNS, 0) / decayWindowNS);
+        latencyEstimateNS = latencyEstimateNS * weight + latencyNS * (1 - weight);
+      }
+      lastUpdateTimeNS = nowNS;
+      hasLatency = true;
+      return latencyEstimateNS;
+    }
+
+    double getLatencyEstimate(long nowNS, double decayWindowNS) {
+      if (!hasLatency) {
+        return 0;
+      }
+      return latencyEstimateNS * Math.exp(-Math.max(nowNS - lastUpdateTimeNS, 0) / decayWindowNS);
+    }
+  }
+}
@@ -264,7 +264,8 @@ public class RequestBasedMetadata extends AbstractStoreMetadata {
 
   private void refresh() {
     try {
-      if (updateCache(false)) {
+      // The latency based strategy is picked explicitly, so it won't be replaced by the Helix assisted strategy
+      if (updateCache(false) && !(routingStrategy instanceof LatencyBasedClientRoutingStrategy)) {
         if (routingStrategy instanceof HelixScatterGatherRoutingStrategy) {
           ((HelixScatterGatherRoutingStrategy) routingStrategy).updateHelixGroupInfo(helixGroupInfo);
         } else {
@@ -58,6 +58,17 @@ public class ClusterStats extends AbstractVeniceStats {
     getRouteStats(instance).recordPendingRequestCount(count);
   }
 
+  /**
+   * The selection rate of each route shows how the requests are skewed among the replicas.
+   */
+  public void recordReplicaSelection(String instance) {
+    getRouteStats(instance).recordSelection();
+  }
+
+  public void recordReplicaLatencyEstimate(String instance, double latencyEstimateInMS) {
+    getRouteStats(instance).recordLatencyEstimate(latencyEstimateInMS);
+  }
+
   public void updateCurrentVersion(int currentVersion) {
     this.currentVersion = currentVersion;
   }
@@ -90,15 +101,27 @@ public class ClusterStats extends AbstractVeniceStats {
 
   private static class RouteStats extends AbstractVeniceStats {
     private final Sensor pendingRequestCounterSensor;
+    private final Sensor selectionSensor;
+    private final Sensor latencyEstimateSensor;
 
     public RouteStats(MetricsRepository metricsRepository, String storeName, String instanceName) {
       super(metricsRepository, storeName + "." + StatsUtils.convertHostnameToMetricName(instanceName));
 
       this.pendingRequestCounterSensor = registerSensor("pending_request_count", new Avg(), new Max());
+      this.selectionSensor = registerSensor("replica_selection", new OccurrenceRate());
+      this.latencyEstimateSensor = registerSensor("latency_estimate", new Avg(), new Max());
     }
 
     public void recordPendingRequestCount(int count) {
       pendingRequestCounterSensor.record(count);
     }
+
+    public void recordSelection() {
+      selectionSensor.record();
+    }
+
+    public void recordLatencyEstimate(double latencyEstimateInMS) {
+      latencyEstimateSensor.record(latencyEstimateInMS);
+    }
   }
 }
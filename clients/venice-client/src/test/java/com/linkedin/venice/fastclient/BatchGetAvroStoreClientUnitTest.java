@@ -10,12 +10,14 @@ import io.tehuti.Metric;
 import io.tehuti.metrics.MetricsRepository;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.avro.util.Utf8;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -38,6 +40,14 @@ public class BatchGetAvroStoreClientUnitTest {
   private static final int RETRY_THRESHOLD_IN_MS = 50;
   private static final int NUM_KEYS = 12;
   private static final int NUM_PARTITIONS = 3;
+  private static final int LONG_RETRY_THRESHOLD_IN_MICROSECONDS =
+      (int) TimeUnit.SECONDS.toMicros(TIME_OUT_IN_SECONDS * 2);
+  private static final int WARM_UP_RESPONSE_TIME_TICKS = 20;
+  /**
+   * The latency of the last warm-up request might be recorded after its caller is completed, so one more warm-up
+   * request is sent to make sure there are enough latency samples for the percentile of each route.
+   */
+  private static final int WARM_UP_REQUEST_COUNT = RouteLatencyTracker.RECALCULATION_INTERVAL + 1;
 
   /**
    * Basic test with 1 partition, 1 replica and 1000 keys
@@ -783,6 +793,189 @@ public class BatchGetAvroStoreClientUnitTest {
         metrics.get("." + client.UNIT_TEST_STORE_NAME + "--multiget_retry_request_success_key_count.Rate").value() > 0);
   }
 
+  /**
+   * With per route long tail retry, only the keys of the failed route (requestId 3) are retried right away, and the
+   * other routes are not affected.
+   */
+  @Test
+  public void testStreamingBatchGetPerRouteLongTailRetryOriginalRequestError()
+      throws InterruptedException, ExecutionException, TimeoutException {
+
+    TestClientSimulator client = new TestClientSimulator();
+    setupLongTailRetryWithMultiplePartitions(client).setPerRouteLongTailRetryEnabledForBatchGet(true)
+        .expectRequestWithKeysForPartitionOnRoute(1, 1, "https://host0.linkedin.com", 0)
+        .expectRequestWithKeysForPartitionOnRoute(1, 2, "https://host1.linkedin.com", 1)
+        .expectRequestWithKeysForPartitionOnRoute(1, 3, "https://host2.linkedin.com", 2)
+        .respondToRequestWithKeyValues(5, 1)
+        .respondToRequestWithError(10, 3, 500)
+        .expectRequestWithKeysForPartitionOnRoute(11, 4, "https://host1.linkedin.com", 2) // retry for requestId 3
+        .respondToRequestWithKeyValues(15, 2)
+        .respondToRequestWithKeyValues(20, 4)
+        .simulate();
+
+    callStreamingBatchGetAndVerifyResults(
+        client.getFastClient(),
+        client.getRequestedKeyValues(),
+        client.getSimulatorCompleteFuture());
+
+    Map<String, ? extends Metric> metrics = getStats(client.getClientConfig());
+    int expectedNumberOfKeysToBeRetried = NUM_KEYS / NUM_PARTITIONS; // get for 1 partition is retried
+    Assert.assertTrue(
+        metrics.get("." + client.UNIT_TEST_STORE_NAME + "--multiget_healthy_request.OccurrenceRate").value() > 0);
+    Assert.assertFalse(
+        metrics.get("." + client.UNIT_TEST_STORE_NAME + "--multiget_unhealthy_request.OccurrenceRate").value() > 0);
+    Assert.assertTrue(
+        metrics.get("." + client.UNIT_TEST_STORE_NAME + "--multiget_long_tail_retry_request.OccurrenceRate")
+            .value() > 0);
+    Assert.assertTrue(
+        metrics.get("." + client.UNIT_TEST_STORE_NAME + "--multiget_retry_request_key_count.Max")
+            .value() == expectedNumberOfKeysToBeRetried);
+    Assert.assertTrue(
+        metrics.get("." + client.UNIT_TEST_STORE_NAME + "--multiget_retry_request_success_key_count.Max")
+            .value() == expectedNumberOfKeysToBeRetried);
+  }
+
+  /**
+   * With per route long tail retry, the retry threshold of each route is a percentile of its recent latency. After
+   * the routes are warmed up with responses arriving {@link #WARM_UP_RESPONSE_TIME_TICKS} timeticks after their
+   * requests, the pending keys of the slow route (requestId 3) are retried long before the fixed retry threshold, which
+   * is longer than the test timeout, while the routes responding faster than their percentile are not retried.
+   */
+  @Test
+  public void testStreamingBatchGetPerRouteLongTailRetrySlowRoute()
+      throws InterruptedException, ExecutionException, TimeoutException {
+
+    TestClientSimulator client = new TestClientSimulator();
+    setupLongTailRetryWithMultiplePartitions(client).setPerRouteLongTailRetryEnabledForBatchGet(true)
+        .setLongTailRetryThresholdForBatchGetInMicroseconds(LONG_RETRY_THRESHOLD_IN_MICROSECONDS);
+    int timeTick = expectRouteLatencyWarmUpRequests(client);
+    client.expectRequestWithKeysForPartitionOnRoute(timeTick, 1, "https://host0.linkedin.com", 0)
+        .expectRequestWithKeysForPartitionOnRoute(timeTick, 2, "https://host1.linkedin.com", 1)
+        // Simulate slow route, which never responds
+        .expectRequestWithKeysForPartitionOnRoute(timeTick, 3, "https://host2.linkedin.com", 2)
+        .respondToRequestWithKeyValues(timeTick + 1, 1)
+        .respondToRequestWithKeyValues(timeTick + 1, 2)
+        .expectRequestWithKeysForPartitionOnRoute(timeTick + 2, 4, "https://host1.linkedin.com", 2) // retry for 3
+        .respondToRequestWithKeyValues(timeTick + 3, 4)
+        .simulate();
+
+    AvroGenericStoreClient<String, Utf8> fastClient = client.getFastClient();
+    warmUpRouteLatencies(fastClient, client.getRequestedKeyValues().keySet());
+    callStreamingBatchGetAndVerifyResults(
+        fastClient,
+        client.getRequestedKeyValues(),
+        client.getSimulatorCompleteFuture());
+
+    Map<String, ? extends Metric> metrics = getStats(client.getClientConfig());
+    int expectedNumberOfKeysToBeRetried = NUM_KEYS / NUM_PARTITIONS; // get for 1 partition is retried
+    Assert.assertTrue(
+        metrics.get("." + client.UNIT_TEST_STORE_NAME + "--multiget_healthy_request.OccurrenceRate").value() > 0);
+    Assert.assertFalse(
+        metrics.get("." + client.UNIT_TEST_STORE_NAME + "--multiget_unhealthy_request.OccurrenceRate").value() > 0);
+    Assert.assertTrue(
+        metrics.get("." + client.UNIT_TEST_STORE_NAME + "--multiget_long_tail_retry_request.OccurrenceRate")
+            .value() > 0);
+    Assert.assertTrue(
+        metrics.get("." + client.UNIT_TEST_STORE_NAME + "--multiget_retry_request_key_count.Max")
+            .value() == expectedNumberOfKeysToBeRetried);
+    Assert.assertTrue(
+        metrics.get("." + client.UNIT_TEST_STORE_NAME + "--multiget_retry_request_success_key_count.Max")
+            .value() == expectedNumberOfKeysToBeRetried);
+  }
+
+  /**
+   * The retry budget of 10% only allows 1 retry for the single request, so the failed route requestId 3 is retried,
+   * while the retry of the failed route requestId 1 is rejected, and the request fails without sending another retry.
+   */
+  @Test
+  public void testStreamingBatchGetPerRouteLongTailRetryRejectedByRetryBudget()
+      throws InterruptedException, ExecutionException, TimeoutException {
+
+    TestClientSimulator client = new TestClientSimulator();
+    setupLongTailRetryWithMultiplePartitions(client).setPerRouteLongTailRetryEnabledForBatchGet(true)
+        .setLongTailRetryThresholdForBatchGetInMicroseconds(LONG_RETRY_THRESHOLD_IN_MICROSECONDS)
+        .expectRequestWithKeysForPartitionOnRoute(1, 1, "https://host0.linkedin.com", 0)
+        .expectRequestWithKeysForPartitionOnRoute(1, 2, "https://host1.linkedin.com", 1)
+        .expectRequestWithKeysForPartitionOnRoute(1, 3, "https://host2.linkedin.com", 2)
+        .respondToRequestWithError(10, 3, 500)
+        .expectRequestWithKeysForPartitionOnRoute(11, 4, "https://host1.linkedin.com", 2) // retry for requestId 3
+        .respondToRequestWithError(15, 1, 500) // No retry for requestId 1 since the retry budget is used up
+        .respondToRequestWithKeyValues(16, 2)
+        .respondToRequestWithKeyValues(20, 4)
+        .simulate();
+
+    AvroGenericStoreClient<String, Utf8> fastClient = client.getFastClient();
+    CompletableFuture<Optional<Exception>> completionFuture = new CompletableFuture<>();
+    Map<String, String> results = new ConcurrentHashMap<>();
+    fastClient.streamingBatchGet(client.getRequestedKeyValues().keySet(), new StreamingCallback<String, Utf8>() {
+      @Override
+      public void onRecordReceived(String key, Utf8 value) {
+        results.put(key, value.toString());
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        completionFuture.complete(exception);
+      }
+    });
+
+    // The request must fail once all the routes are resolved instead of waiting for a retry that is never sent
+    Assert.assertTrue(completionFuture.get(TIME_OUT_IN_SECONDS, TimeUnit.SECONDS).isPresent());
+    client.getSimulatorCompleteFuture().get(TIME_OUT_IN_SECONDS, TimeUnit.SECONDS);
+    Assert.assertEquals(results.size(), NUM_KEYS - NUM_KEYS / NUM_PARTITIONS);
+
+    Map<String, ? extends Metric> metrics = getStats(client.getClientConfig());
+    Assert.assertTrue(
+        metrics.get("." + client.UNIT_TEST_STORE_NAME + "--multiget_unhealthy_request.OccurrenceRate").value() > 0);
+  }
+
+  /**
+   * Sets up {@link #WARM_UP_REQUEST_COUNT} requests for all the partitions, which are responded
+   * {@link #WARM_UP_RESPONSE_TIME_TICKS} timeticks later, so that the latency percentile of each route is tracked.
+   *
+   * @return the timetick after the warm-up requests
+   */
+  private int expectRouteLatencyWarmUpRequests(TestClientSimulator client) {
+    int timeTick = 1;
+    int requestId = 100;
+    for (int i = 0; i < WARM_UP_REQUEST_COUNT; i++) {
+      client.expectRequestWithKeysForPartitionOnRoute(timeTick, requestId, "https://host0.linkedin.com", 0)
+          .expectRequestWithKeysForPartitionOnRoute(timeTick, requestId + 1, "https://host1.linkedin.com", 1)
+          .expectRequestWithKeysForPartitionOnRoute(timeTick, requestId + 2, "https://host2.linkedin.com", 2)
+          .respondToRequestWithKeyValues(timeTick + WARM_UP_RESPONSE_TIME_TICKS, requestId)
+          .respondToRequestWithKeyValues(timeTick + WARM_UP_RESPONSE_TIME_TICKS, requestId + 1)
+          .respondToRequestWithKeyValues(timeTick + WARM_UP_RESPONSE_TIME_TICKS, requestId + 2);
+      timeTick += WARM_UP_RESPONSE_TIME_TICKS + 1;
+      requestId += 3;
+    }
+    return timeTick;
+  }
+
+  /**
+   * The warm-up requests go through the streaming callback, since only the callback variant of streaming batch get
+   * goes through {@link RetriableAvroGenericStoreClient}, which tracks the route latency.
+   */
+  private void warmUpRouteLatencies(AvroGenericStoreClient<String, Utf8> fastClient, Set<String> keys)
+      throws InterruptedException, ExecutionException, TimeoutException {
+    for (int i = 0; i < WARM_UP_REQUEST_COUNT; i++) {
+      AtomicInteger receivedRecordCount = new AtomicInteger();
+      CompletableFuture<Optional<Exception>> completionFuture = new CompletableFuture<>();
+      fastClient.streamingBatchGet(keys, new StreamingCallback<String, Utf8>() {
+        @Override
+        public void onRecordReceived(String key, Utf8 value) {
+          receivedRecordCount.incrementAndGet();
+        }
+
+        @Override
+        public void onCompletion(Optional<Exception> exception) {
+          completionFuture.complete(exception);
+        }
+      });
+      Assert.assertFalse(completionFuture.get(TIME_OUT_IN_SECONDS, TimeUnit.SECONDS).isPresent());
+      Assert.assertEquals(receivedRecordCount.get(), NUM_KEYS);
+    }
+  }
+
   private TestClientSimulator setupLongTailRetryWithMultiplePartitions(TestClientSimulator client) {
     return client.generateKeyValues(0, NUM_KEYS) // generate NUM_KEYS keys
         .partitionKeys(NUM_PARTITIONS) // partition into NUM_PARTITIONS partitions
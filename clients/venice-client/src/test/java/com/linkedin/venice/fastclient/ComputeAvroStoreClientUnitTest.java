@@ -0,0 +1,277 @@
+package com.linkedin.venice.fastclient;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.common.callback.Callback;
+import com.linkedin.r2.message.rest.RestException;
+import com.linkedin.r2.message.rest.RestRequest;
+import com.linkedin.r2.message.rest.RestResponseBuilder;
+import com.linkedin.r2.transport.common.Client;
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.VeniceConstants;
+import com.linkedin.venice.client.store.AvroGenericStoreClient;
+import com.linkedin.venice.client.store.ComputeGenericRecord;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.CompressorFactory;
+import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.compute.ComputeRequestWrapper;
+import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
+import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
+import com.linkedin.venice.fastclient.factory.ClientFactory;
+import com.linkedin.venice.fastclient.meta.AbstractStoreMetadata;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import io.tehuti.Metric;
+import io.tehuti.metrics.MetricsRepository;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.ByteBufferOptimizedBinaryDecoder;
+import org.apache.avro.util.Utf8;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+/**
+ * This class tests the compute requests of fast client, which are scattered to the storage nodes the same way as
+ * batch get. {@link BatchGetAvroStoreClientUnitTest} tests the scatter-gather and retry logic in more detail.
+ */
+public class ComputeAvroStoreClientUnitTest {
+  private static final long TIME_OUT_IN_SECONDS = 10;
+  private static final String STORE_NAME = "test_store";
+  private static final int NUM_PARTITIONS = 2;
+  private static final String[] ROUTES = new String[] { "https://host1.linkedin.com", "https://host2.linkedin.com" };
+  private static final Schema KEY_SCHEMA = Schema.create(Schema.Type.STRING);
+  private static final Schema VALUE_SCHEMA = new Schema.Parser().parse(
+      "{\"type\": \"record\", \"name\": \"User\", \"fields\": ["
+          + "{\"name\": \"name\", \"type\": \"string\", \"default\": \"\"},"
+          + "{\"name\": \"age\", \"type\": \"int\", \"default\": 0}]}");
+
+  private final RecordDeserializer<Utf8> keyDeserializer =
+      FastSerializerDeserializerFactory.getAvroGenericDeserializer(KEY_SCHEMA, KEY_SCHEMA);
+  private final RecordSerializer<ComputeResponseRecordV1> computeResponseSerializer =
+      FastSerializerDeserializerFactory.getFastAvroGenericSerializer(ComputeResponseRecordV1.SCHEMA$);
+  private final RecordDeserializer<ComputeRouterRequestKeyV1> computeRequestKeyDeserializer =
+      FastSerializerDeserializerFactory
+          .getFastAvroSpecificDeserializer(ComputeRouterRequestKeyV1.SCHEMA$, ComputeRouterRequestKeyV1.class);
+
+  /**
+   * Mock the storage nodes, which will return the projected "name" field for all the keys except the missing keys,
+   * and fail all the requests sent to the failed routes.
+   */
+  private Client mockStorageNodes(Set<String> missingKeys, Set<String> failedRoutes, List<String> receivedRoutes) {
+    Client r2Client = mock(Client.class);
+    doAnswer(invocation -> {
+      RestRequest request = invocation.getArgument(0);
+      Callback callback = invocation.getArgument(1);
+      String route = request.getURI().getScheme() + "://" + request.getURI().getHost();
+      synchronized (receivedRoutes) {
+        receivedRoutes.add(route);
+      }
+      Assert.assertEquals(request.getURI().getPath(), "/compute/" + STORE_NAME + "_v1");
+      Assert.assertEquals(request.getHeader(HttpConstants.VENICE_COMPUTE_VALUE_SCHEMA_ID), "1");
+      if (failedRoutes.contains(route)) {
+        callback.onError(RestException.forError(500, "Something is rotten"));
+        return null;
+      }
+
+      byte[] requestBody = request.getEntity().copyBytes();
+      ComputeRequestWrapper computeRequestWrapper =
+          new ComputeRequestWrapper(Integer.parseInt(request.getHeader(HttpConstants.VENICE_API_VERSION)));
+      BinaryDecoder decoder = new ByteBufferOptimizedBinaryDecoder(requestBody);
+      computeRequestWrapper.deserialize(decoder, true);
+      Schema resultSchema = new Schema.Parser().parse(computeRequestWrapper.getResultSchemaStr().toString());
+      RecordSerializer<GenericRecord> resultSerializer =
+          FastSerializerDeserializerFactory.getFastAvroGenericSerializer(resultSchema);
+
+      List<ComputeResponseRecordV1> computeResponse = new ArrayList<>();
+      for (ComputeRouterRequestKeyV1 requestKey: computeRequestKeyDeserializer.deserializeObjects(decoder)) {
+        String key = keyDeserializer.deserialize(requestKey.keyBytes).toString();
+        if (missingKeys.contains(key)) {
+          continue;
+        }
+        GenericRecord result = new GenericData.Record(resultSchema);
+        result.put("name", "name_" + key);
+        result.put(VeniceConstants.VENICE_COMPUTATION_ERROR_MAP_FIELD_NAME, Collections.emptyMap());
+        ComputeResponseRecordV1 record = new ComputeResponseRecordV1();
+        record.keyIndex = requestKey.keyIndex;
+        record.value = ByteBuffer.wrap(resultSerializer.serialize(result));
+        computeResponse.add(record);
+      }
+      callback.onSuccess(
+          new RestResponseBuilder().setStatus(200)
+              .setHeader(HttpConstants.VENICE_SCHEMA_ID, "1")
+              .setEntity(computeResponseSerializer.serializeObjects(computeResponse))
+              .build());
+      return null;
+    }).when(r2Client).restRequest(any(RestRequest.class), any(Callback.class));
+    return r2Client;
+  }
+
+  private AvroGenericStoreClient<String, GenericRecord> getFastClient(Client r2Client, MetricsRepository repository) {
+    ClientConfig clientConfig = new ClientConfig.ClientConfigBuilder<>().setStoreName(STORE_NAME)
+        .setR2Client(r2Client)
+        .setMetricsRepository(repository)
+        .setDualReadEnabled(false)
+        .build();
+
+    AbstractStoreMetadata metadata = new AbstractStoreMetadata(clientConfig) {
+      @Override
+      public int getCurrentStoreVersion() {
+        return 1;
+      }
+
+      @Override
+      public int getPartitionId(int version, ByteBuffer key) {
+        String keyStr = keyDeserializer.deserialize(key.array()).toString();
+        return Integer.parseInt(keyStr.substring(keyStr.indexOf('_') + 1)) % NUM_PARTITIONS;
+      }
+
+      @Override
+      public List<String> getReplicas(int version, int partitionId) {
+        return Collections.singletonList(ROUTES[partitionId]);
+      }
+
+      @Override
+      public VeniceCompressor getCompressor(CompressionStrategy compressionStrategy, int version) {
+        return new CompressorFactory().getCompressor(compressionStrategy);
+      }
+
+      @Override
+      public void start() {
+      }
+
+      @Override
+      public Schema getKeySchema() {
+        return KEY_SCHEMA;
+      }
+
+      @Override
+      public Schema getValueSchema(int id) {
+        return VALUE_SCHEMA;
+      }
+
+      @Override
+      public int getValueSchemaId(Schema schema) {
+        return 1;
+      }
+
+      @Override
+      public Schema getLatestValueSchema() {
+        return VALUE_SCHEMA;
+      }
+
+      @Override
+      public Integer getLatestValueSchemaId() {
+        return 1;
+      }
+    };
+    return ClientFactory.getAndStartGenericStoreClient(metadata, clientConfig);
+  }
+
+  private static Set<String> generateKeys(int numKeys) {
+    Set<String> keys = new HashSet<>();
+    for (int i = 0; i < numKeys; i++) {
+      keys.add("k_" + i);
+    }
+    return keys;
+  }
+
+  @Test
+  public void testCompute() throws InterruptedException, ExecutionException, TimeoutException {
+    MetricsRepository metricsRepository = new MetricsRepository();
+    Set<String> missingKeys = new HashSet<>(Arrays.asList("k_3", "k_4"));
+    List<String> receivedRoutes = new ArrayList<>();
+    AvroGenericStoreClient<String, GenericRecord> client =
+        getFastClient(mockStorageNodes(missingKeys, Collections.emptySet(), receivedRoutes), metricsRepository);
+    Set<String> keys = generateKeys(10);
+
+    Map<String, ComputeGenericRecord> results =
+        client.compute().project("name").execute(keys).get(TIME_OUT_IN_SECONDS, TimeUnit.SECONDS);
+
+    // Each route should only receive one request for all the keys of its partition
+    Assert.assertEquals(new HashSet<>(receivedRoutes), new HashSet<>(Arrays.asList(ROUTES)));
+    Assert.assertEquals(receivedRoutes.size(), ROUTES.length);
+    Assert.assertEquals(results.size(), keys.size() - missingKeys.size());
+    for (String key: keys) {
+      if (missingKeys.contains(key)) {
+        Assert.assertFalse(results.containsKey(key));
+      } else {
+        Assert.assertEquals(results.get(key).get("name").toString(), "name_" + key);
+      }
+    }
+
+    Map<String, ? extends Metric> metrics = metricsRepository.metrics();
+    Assert.assertTrue(metrics.get("." + STORE_NAME + "--compute_healthy_request.OccurrenceRate").value() > 0);
+    Assert.assertFalse(metrics.get("." + STORE_NAME + "--compute_unhealthy_request.OccurrenceRate").value() > 0);
+    client.close();
+  }
+
+  @Test
+  public void testComputeWithFailedRoute() throws InterruptedException {
+    MetricsRepository metricsRepository = new MetricsRepository();
+    AvroGenericStoreClient<String, GenericRecord> client = getFastClient(
+        mockStorageNodes(Collections.emptySet(), Collections.singleton(ROUTES[1]), new ArrayList<>()),
+        metricsRepository);
+    Set<String> keys = generateKeys(10);
+    Map<String, ComputeGenericRecord> receivedResults = new HashMap<>();
+    CompletableFuture<Void> completionFuture = new CompletableFuture<>();
+
+    client.compute().project("name").streamingExecute(keys, new StreamingCallback<String, ComputeGenericRecord>() {
+      @Override
+      public void onRecordReceived(String key, ComputeGenericRecord value) {
+        synchronized (receivedResults) {
+          receivedResults.put(key, value);
+        }
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        if (exception.isPresent()) {
+          completionFuture.completeExceptionally(exception.get());
+        } else {
+          completionFuture.complete(null);
+        }
+      }
+    });
+
+    try {
+      completionFuture.get(TIME_OUT_IN_SECONDS, TimeUnit.SECONDS);
+      Assert.fail("The compute request should fail since one of the routes failed");
+    } catch (ExecutionException e) {
+      // expected
+    } catch (TimeoutException e) {
+      Assert.fail("The compute request should complete before timeout");
+    }
+    // The keys of the healthy route should still be delivered
+    for (String key: keys) {
+      if (Integer.parseInt(key.substring(2)) % NUM_PARTITIONS == 0) {
+        Assert.assertEquals(receivedResults.get(key).get("name").toString(), "name_" + key);
+      } else {
+        Assert.assertFalse(receivedResults.containsKey(key));
+      }
+    }
+    Assert.assertTrue(
+        metricsRepository.metrics().get("." + STORE_NAME + "--compute_unhealthy_request.OccurrenceRate").value() > 0);
+    client.close();
+  }
+}
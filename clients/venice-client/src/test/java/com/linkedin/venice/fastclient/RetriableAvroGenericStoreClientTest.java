@@ -8,6 +8,7 @@ import com.linkedin.r2.transport.common.Client;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.client.store.streaming.VeniceResponseMap;
+import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.fastclient.meta.InstanceHealthMonitor;
 import com.linkedin.venice.fastclient.stats.FastClientStats;
 import com.linkedin.venice.read.RequestType;
@@ -153,6 +154,16 @@ public class RetriableAvroGenericStoreClientTest {
           Set keys) {
         return null;
       }
+
+      @Override
+      protected void compute(
+          ComputeRequestContext requestContext,
+          ComputeRequestWrapper computeRequestWrapper,
+          Set keys,
+          Schema resultSchema,
+          StreamingCallback callback,
+          long preRequestTimeInNS) throws VeniceClientException {
+      }
     };
   }
 
@@ -0,0 +1,38 @@
+package com.linkedin.venice.fastclient;
+
+import com.linkedin.venice.utils.Utils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class RetryManagerTest {
+  @Test
+  public void testRetryBudget() {
+    RetryManager retryManager = new RetryManager(0.1, 100000);
+    // The first retry in the window is allowed, since the budget is based on the requests of the same window
+    retryManager.recordRequest();
+    Assert.assertTrue(retryManager.isRetryAllowed());
+    Assert.assertFalse(retryManager.isRetryAllowed());
+
+    for (int i = 0; i < 19; i++) {
+      retryManager.recordRequest();
+    }
+    // 20 requests allow 2 retries in total
+    Assert.assertTrue(retryManager.isRetryAllowed());
+    Assert.assertFalse(retryManager.isRetryAllowed());
+  }
+
+  @Test
+  public void testRetryBudgetIsResetInNewWindow() {
+    RetryManager retryManager = new RetryManager(0.1, 10);
+    retryManager.recordRequest();
+    Assert.assertTrue(retryManager.isRetryAllowed());
+    Assert.assertFalse(retryManager.isRetryAllowed());
+
+    Utils.sleep(20);
+    // The requests of the previous window don't count any more
+    Assert.assertFalse(retryManager.isRetryAllowed());
+    retryManager.recordRequest();
+    Assert.assertTrue(retryManager.isRetryAllowed());
+  }
+}
@@ -0,0 +1,45 @@
+package com.linkedin.venice.fastclient;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class RouteLatencyTrackerTest {
+  private static final String ROUTE_1 = "https://host1.linkedin.com";
+  private static final String ROUTE_2 = "https://host2.linkedin.com";
+
+  @Test
+  public void testLatencyPercentile() {
+    RouteLatencyTracker tracker = new RouteLatencyTracker(90);
+    Assert.assertEquals(tracker.getLatencyPercentileInMicroSeconds(ROUTE_1), -1);
+
+    for (int i = 1; i < RouteLatencyTracker.RECALCULATION_INTERVAL; i++) {
+      tracker.recordLatency(ROUTE_1, 1000);
+    }
+    // Not enough samples yet
+    Assert.assertEquals(tracker.getLatencyPercentileInMicroSeconds(ROUTE_1), -1);
+
+    for (int i = 1; i <= 100; i++) {
+      tracker.recordLatency(ROUTE_2, i);
+    }
+    Assert.assertEquals(tracker.getLatencyPercentileInMicroSeconds(ROUTE_2), 90);
+    Assert.assertEquals(tracker.getLatencyPercentileInMicroSeconds(ROUTE_1), -1);
+    tracker.recordLatency(ROUTE_1, 1000);
+    Assert.assertEquals(tracker.getLatencyPercentileInMicroSeconds(ROUTE_1), 1000);
+  }
+
+  @Test
+  public void testLatencyPercentileFollowsRecentSamples() {
+    RouteLatencyTracker tracker = new RouteLatencyTracker(50);
+    for (int i = 0; i < RouteLatencyTracker.SAMPLE_SIZE; i++) {
+      tracker.recordLatency(ROUTE_1, 100);
+    }
+    Assert.assertEquals(tracker.getLatencyPercentileInMicroSeconds(ROUTE_1), 100);
+
+    // The route becomes slow, and the old samples are replaced
+    for (int i = 0; i < RouteLatencyTracker.SAMPLE_SIZE; i++) {
+      tracker.recordLatency(ROUTE_1, 5000);
+    }
+    Assert.assertEquals(tracker.getLatencyPercentileInMicroSeconds(ROUTE_1), 5000);
+  }
+}
@@ -0,0 +1,153 @@
+package com.linkedin.venice.fastclient.meta;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.restli.common.HttpStatus;
+import com.linkedin.venice.fastclient.stats.ClusterStats;
+import com.linkedin.venice.utils.Utils;
+import io.tehuti.Metric;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.testng.annotations.Test;
+
+
+public class LatencyBasedClientRoutingStrategyTest {
+  private final static String storeName = "test_store";
+  private final static String instance1 = "https://instance1:1234";
+  private final static String instance2 = "https://instance2:1234";
+  private final static String instance3 = "https://instance3:1234";
+
+  private InstanceHealthMonitor mockInstanceHealthyMonitor(String[] instances, boolean[] blocked, boolean[] healthy) {
+    InstanceHealthMonitor instanceHealthMonitor = mock(InstanceHealthMonitor.class);
+    for (int i = 0; i < instances.length; ++i) {
+      doReturn(blocked[i]).when(instanceHealthMonitor).isInstanceBlocked(instances[i]);
+      doReturn(healthy[i]).when(instanceHealthMonitor).isInstanceHealthy(instances[i]);
+    }
+    return instanceHealthMonitor;
+  }
+
+  private InstanceHealthMonitor mockAllHealthyMonitor(String... instances) {
+    boolean[] blocked = new boolean[instances.length];
+    boolean[] healthy = new boolean[instances.length];
+    Arrays.fill(healthy, true);
+    return mockInstanceHealthyMonitor(instances, blocked, healthy);
+  }
+
+  private static void completeRequest(
+      LatencyBasedClientRoutingStrategy strategy,
+      String instance,
+      long latencyMS,
+      HttpStatus httpStatus) {
+    CompletableFuture<HttpStatus> requestFuture = new CompletableFuture<>();
+    strategy.trackRequest(instance, requestFuture);
+    if (latencyMS > 0) {
+      Utils.sleep(latencyMS);
+    }
+    requestFuture.complete(httpStatus);
+  }
+
+  private static void assertAlwaysSelected(
+      LatencyBasedClientRoutingStrategy strategy,
+      List<String> replicas,
+      String expectedReplica) {
+    for (int i = 0; i < 100; ++i) {
+      assertEquals(strategy.getReplicas(i, replicas, 1), Arrays.asList(expectedReplica));
+    }
+  }
+
+  @Test
+  public void testSlowReplicaIsAvoided() {
+    MetricsRepository metricsRepository = new MetricsRepository();
+    List<String> replicas = Arrays.asList(instance1, instance2);
+    LatencyBasedClientRoutingStrategy strategy = new LatencyBasedClientRoutingStrategy(
+        mockAllHealthyMonitor(instance1, instance2),
+        new ClusterStats(metricsRepository, storeName),
+        10000);
+    completeRequest(strategy, instance1, 50, HttpStatus.S_200_OK);
+    completeRequest(strategy, instance2, 0, HttpStatus.S_200_OK);
+    assertAlwaysSelected(strategy, replicas, instance2);
+
+    Metric selectionMetric =
+        metricsRepository.getMetric("." + storeName + ".instance2_1234--replica_selection.OccurrenceRate");
+    assertNotNull(selectionMetric);
+    assertTrue(selectionMetric.value() > 0);
+    Metric latencyMetric = metricsRepository.getMetric("." + storeName + ".instance1_1234--latency_estimate.Max");
+    assertNotNull(latencyMetric);
+    assertTrue(latencyMetric.value() >= 50);
+  }
+
+  @Test
+  public void testReplicaWithLessInFlightRequestsIsPreferred() {
+    List<String> replicas = Arrays.asList(instance1, instance2);
+    LatencyBasedClientRoutingStrategy strategy =
+        new LatencyBasedClientRoutingStrategy(mockAllHealthyMonitor(instance1, instance2), null, 10000);
+    CompletableFuture<HttpStatus> pendingRequest = new CompletableFuture<>();
+    strategy.trackRequest(instance1, pendingRequest);
+    assertAlwaysSelected(strategy, replicas, instance2);
+
+    pendingRequest.complete(HttpStatus.S_200_OK);
+    strategy.trackRequest(instance2, new CompletableFuture<>());
+    strategy.trackRequest(instance2, new CompletableFuture<>());
+    assertAlwaysSelected(strategy, replicas, instance1);
+  }
+
+  @Test
+  public void testErrorResponseIsPenalized() {
+    List<String> replicas = Arrays.asList(instance1, instance2);
+    LatencyBasedClientRoutingStrategy strategy =
+        new LatencyBasedClientRoutingStrategy(mockAllHealthyMonitor(instance1, instance2), null, 10000);
+    completeRequest(strategy, instance1, 0, HttpStatus.S_503_SERVICE_UNAVAILABLE);
+    completeRequest(strategy, instance2, 20, HttpStatus.S_200_OK);
+    assertAlwaysSelected(strategy, replicas, instance2);
+  }
+
+  @Test
+  public void testLatencyEstimateDecays() {
+    List<String> replicas = Arrays.asList(instance1, instance2);
+    LatencyBasedClientRoutingStrategy strategy =
+        new LatencyBasedClientRoutingStrategy(mockAllHealthyMonitor(instance1, instance2), null, 10);
+    completeRequest(strategy, instance1, 50, HttpStatus.S_200_OK);
+    strategy.trackRequest(instance2, new CompletableFuture<>());
+    // The slow replica will be tried again once its latency estimate has decayed
+    Utils.sleep(200);
+    assertAlwaysSelected(strategy, replicas, instance1);
+  }
+
+  @Test
+  public void testBlockedAndUnhealthyReplicas() {
+    String[] instances = new String[] { instance1, instance2, instance3 };
+    List<String> replicas = Arrays.asList(instances);
+    LatencyBasedClientRoutingStrategy strategy = new LatencyBasedClientRoutingStrategy(
+        mockInstanceHealthyMonitor(instances, new boolean[] { true, false, false }, new boolean[] { true, true, true }),
+        null,
+        10000);
+    for (int i = 0; i < 100; ++i) {
+      List<String> selectedReplicas = strategy.getReplicas(i, replicas, 1);
+      assertEquals(selectedReplicas.size(), 1);
+      assertFalse(selectedReplicas.contains(instance1));
+    }
+    assertEquals(
+        new HashSet<>(strategy.getReplicas(0, replicas, 2)),
+        new HashSet<>(Arrays.asList(instance2, instance3)));
+
+    boolean[] blocked = new boolean[] { false, false, false };
+    boolean[] healthy = new boolean[] { false, true, true };
+    InstanceHealthMonitor monitor = mockInstanceHealthyMonitor(instances, blocked, healthy);
+    strategy = new LatencyBasedClientRoutingStrategy(monitor, null, 10000);
+    for (int i = 0; i < 100; ++i) {
+      List<String> selectedReplicas = strategy.getReplicas(i, replicas, 2);
+      // A healthy replica will be back-filled when the unhealthy replica is selected
+      assertEquals(selectedReplicas.size(), selectedReplicas.contains(instance1) ? 3 : 2);
+      assertEquals(new HashSet<>(selectedReplicas).size(), selectedReplicas.size());
+    }
+    assertTrue(strategy.getReplicas(0, Arrays.asList(), 1).isEmpty());
+  }
+}
@@ -102,6 +102,7 @@ public class TestClientSimulator implements Client {
   private int longTailRetryThresholdForSingleGetInMicroseconds = 0;
   private boolean longTailRetryEnabledForBatchGet = false;
   private int longTailRetryThresholdForBatchGetInMicroseconds = 0;
+  private boolean perRouteLongTailRetryEnabledForBatchGet = false;
 
   public TestClientSimulator() {
     // get()
@@ -501,6 +502,12 @@ public class TestClientSimulator implements Client {
     return this;
   }
 
+  public TestClientSimulator setPerRouteLongTailRetryEnabledForBatchGet(
+      boolean perRouteLongTailRetryEnabledForBatchGet) {
+    this.perRouteLongTailRetryEnabledForBatchGet = perRouteLongTailRetryEnabledForBatchGet;
+    return this;
+  }
+
   public AvroGenericStoreClient<String, Utf8> getFastClient() {
     // Test generic store client
     ClientConfig.ClientConfigBuilder clientConfigBuilder =
@@ -513,6 +520,7 @@ public class TestClientSimulator implements Client {
       clientConfigBuilder.setLongTailRetryEnabledForBatchGet(true);
       clientConfigBuilder
           .setLongTailRetryThresholdForBatchGetInMicroSeconds(longTailRetryThresholdForBatchGetInMicroseconds);
+      clientConfigBuilder.setPerRouteLongTailRetryEnabledForBatchGet(perRouteLongTailRetryEnabledForBatchGet);
     }
     if (longTailRetryEnabledForSingleGet) {
       clientConfigBuilder.setLongTailRetryEnabledForSingleGet(true);
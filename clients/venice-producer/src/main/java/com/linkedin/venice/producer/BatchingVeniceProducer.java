@@ -0,0 +1,420 @@
+package com.linkedin.venice.producer;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.kafka.protocol.enums.MessageType;
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
+import com.linkedin.venice.partitioner.VenicePartitioner;
+import com.linkedin.venice.pubsub.api.PubSubProducerCallback;
+import com.linkedin.venice.schema.SchemaData;
+import com.linkedin.venice.schema.SchemaEntry;
+import com.linkedin.venice.schema.writecompute.DerivedSchemaEntry;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.LatencyUtils;
+import com.linkedin.venice.utils.Time;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import com.linkedin.venice.writer.VeniceWriter;
+import com.linkedin.venice.writer.update.UpdateBuilder;
+import com.linkedin.venice.writer.update.UpdateBuilderImpl;
+import io.tehuti.metrics.MetricsRepository;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericContainer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A {@link VeniceProducer} which writes to the real-time topic of a store through a {@link VeniceWriter}.
+ *
+ * Keys, values and partial updates are serialized with fast-avro in the caller thread, and the write is appended to
+ * the batch of the partition that the key belongs to according to the store's {@link VenicePartitioner}. The batch of
+ * a partition is handed over to the {@link VeniceWriter} once its size reaches
+ * {@link VeniceProducerConfig#getBatchSizeInBytes()}, or once it has been lingering for
+ * {@link VeniceProducerConfig#getLingerMs()}. All the batches are sent by a single thread in the order they are
+ * closed, so the writes of the same key are produced in the order they are issued.
+ *
+ * The size of the writes which are not durable yet is bounded by {@link VeniceProducerConfig#getMaxInFlightBytes()}.
+ * Once the bound is reached, new writes block the caller for up to {@link VeniceProducerConfig#getMaxBlockMs()}, and
+ * fail afterward.
+ *
+ * @param <K> Key of the record that needs to be updated
+ * @param <V> Value that needs to be written
+ */
+public class BatchingVeniceProducer<K, V> implements VeniceProducer<K, V>, Closeable {
+  private static final Logger LOGGER = LogManager.getLogger(BatchingVeniceProducer.class);
+
+  private final String storeName;
+  private final ReadOnlySchemaRepository schemaRepository;
+  private final VeniceWriter<byte[], byte[], byte[]> veniceWriter;
+  private final VenicePartitioner partitioner;
+  private final int partitionCount;
+  private final VeniceProducerConfig config;
+  private final Time time;
+  private final VeniceProducerStats stats;
+  private final RecordSerializer<K> keySerializer;
+  private final Map<Schema, Integer> valueSchemaToIdMap = new VeniceConcurrentHashMap<>();
+  private final Map<Integer, DerivedSchemaEntry> valueSchemaIdToUpdateSchemaMap = new VeniceConcurrentHashMap<>();
+  private final PartitionBatch[] partitionBatches;
+  private final Semaphore inFlightBytes;
+  private final ScheduledExecutorService sendExecutor;
+
+  private volatile boolean closed = false;
+
+  /**
+   * @param veniceWriter writes to the real-time topic of the store, and it is closed together with this producer.
+   * @param partitioner the partitioner of the real-time topic.
+   * @param partitionCount the partition count of the real-time topic.
+   */
+  public BatchingVeniceProducer(
+      String storeName,
+      ReadOnlySchemaRepository schemaRepository,
+      VeniceWriter<byte[], byte[], byte[]> veniceWriter,
+      VenicePartitioner partitioner,
+      int partitionCount,
+      VeniceProducerConfig config,
+      MetricsRepository metricsRepository,
+      Time time) {
+    this.storeName = storeName;
+    this.schemaRepository = schemaRepository;
+    this.veniceWriter = veniceWriter;
+    this.partitioner = partitioner;
+    this.partitionCount = partitionCount;
+    this.config = config;
+    this.time = time;
+    this.keySerializer = FastSerializerDeserializerFactory
+        .getFastAvroGenericSerializer(schemaRepository.getKeySchema(storeName).getSchema());
+    this.partitionBatches = new PartitionBatch[partitionCount];
+    for (int i = 0; i < partitionCount; i++) {
+      this.partitionBatches[i] = new PartitionBatch();
+    }
+    this.inFlightBytes = new Semaphore(config.getMaxInFlightBytes());
+    this.stats = new VeniceProducerStats(
+        metricsRepository,
+        storeName,
+        () -> config.getMaxInFlightBytes() - inFlightBytes.availablePermits());
+    this.sendExecutor =
+        Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("BatchingVeniceProducer-" + storeName));
+    this.sendExecutor.scheduleWithFixedDelay(
+        this::sendLingeringBatches,
+        config.getLingerMs(),
+        config.getLingerMs(),
+        TimeUnit.MILLISECONDS);
+    LOGGER.info("Started producer for store: {} with {}", storeName, config);
+  }
+
+  @Override
+  public CompletableFuture<DurableWrite> asyncPut(K key, V value) {
+    return put(VeniceWriter.APP_DEFAULT_LOGICAL_TS, key, value);
+  }
+
+  @Override
+  public CompletableFuture<DurableWrite> asyncPut(long logicalTime, K key, V value) {
+    return put(validateLogicalTime(logicalTime), key, value);
+  }
+
+  @Override
+  public CompletableFuture<DurableWrite> asyncDelete(K key) {
+    return delete(VeniceWriter.APP_DEFAULT_LOGICAL_TS, key);
+  }
+
+  @Override
+  public CompletableFuture<DurableWrite> asyncDelete(long logicalTime, K key) {
+    return delete(validateLogicalTime(logicalTime), key);
+  }
+
+  @Override
+  public CompletableFuture<DurableWrite> asyncUpdate(K key, Consumer<UpdateBuilder> updateFunction) {
+    return update(VeniceWriter.APP_DEFAULT_LOGICAL_TS, key, updateFunction);
+  }
+
+  @Override
+  public CompletableFuture<DurableWrite> asyncUpdate(long logicalTime, K key, Consumer<UpdateBuilder> updateFunction) {
+    return update(validateLogicalTime(logicalTime), key, updateFunction);
+  }
+
+  private CompletableFuture<DurableWrite> put(long logicalTime, K key, V value) {
+    return write(() -> {
+      Schema valueSchema = value instanceof GenericContainer
+          ? ((GenericContainer) value).getSchema()
+          : schemaRepository.getSupersetOrLatestValueSchema(storeName).getSchema();
+      int valueSchemaId = getValueSchemaId(valueSchema);
+      byte[] serializedValue =
+          FastSerializerDeserializerFactory.getFastAvroGenericSerializer(valueSchema).serialize(value);
+      return new PendingWrite(
+          MessageType.PUT,
+          keySerializer.serialize(key),
+          serializedValue,
+          valueSchemaId,
+          -1,
+          logicalTime);
+    });
+  }
+
+  private CompletableFuture<DurableWrite> delete(long logicalTime, K key) {
+    return write(() -> new PendingWrite(MessageType.DELETE, keySerializer.serialize(key), null, -1, -1, logicalTime));
+  }
+
+  private CompletableFuture<DurableWrite> update(long logicalTime, K key, Consumer<UpdateBuilder> updateFunction) {
+    return write(() -> {
+      SchemaEntry valueSchemaEntry = schemaRepository.getSupersetOrLatestValueSchema(storeName);
+      DerivedSchemaEntry updateSchemaEntry = valueSchemaIdToUpdateSchemaMap.computeIfAbsent(
+          valueSchemaEntry.getId(),
+          valueSchemaId -> schemaRepository.getLatestDerivedSchema(storeName, valueSchemaId));
+      UpdateBuilder updateBuilder = new UpdateBuilderImpl(updateSchemaEntry.getSchema());
+      updateFunction.accept(updateBuilder);
+      byte[] serializedUpdate =
+          FastSerializerDeserializerFactory.getFastAvroGenericSerializer(updateSchemaEntry.getSchema())
+              .serialize(updateBuilder.build());
+      return new PendingWrite(
+          MessageType.UPDATE,
+          keySerializer.serialize(key),
+          serializedUpdate,
+          updateSchemaEntry.getValueSchemaID(),
+          updateSchemaEntry.getId(),
+          logicalTime);
+    });
+  }
+
+  private long validateLogicalTime(long logicalTime) {
+    if (logicalTime < 0) {
+      throw new IllegalArgumentException("Logical time must not be negative. Got: " + logicalTime);
+    }
+    return logicalTime;
+  }
+
+  private int getValueSchemaId(Schema valueSchema) {
+    Integer valueSchemaId = valueSchemaToIdMap.get(valueSchema);
+    if (valueSchemaId == null) {
+      // Only cache the valid IDs, so that a value schema registered later can be picked up
+      valueSchemaId = schemaRepository.getValueSchemaId(storeName, valueSchema.toString());
+      if (valueSchemaId == SchemaData.INVALID_VALUE_SCHEMA_ID) {
+        throw new VeniceException("Value schema: " + valueSchema + " is not registered in store: " + storeName);
+      }
+      valueSchemaToIdMap.put(valueSchema, valueSchemaId);
+    }
+    return valueSchemaId;
+  }
+
+  private CompletableFuture<DurableWrite> write(Supplier<PendingWrite> pendingWriteSupplier) {
+    PendingWrite pendingWrite;
+    try {
+      if (closed) {
+        throw new VeniceException("Producer for store: " + storeName + " is already closed");
+      }
+      pendingWrite = pendingWriteSupplier.get();
+    } catch (Exception e) {
+      stats.recordFailedWrite();
+      CompletableFuture<DurableWrite> future = new CompletableFuture<>();
+      future.completeExceptionally(e);
+      return future;
+    }
+
+    if (!inFlightBytes.tryAcquire(pendingWrite.permits)) {
+      long blockStartTimeInNs = System.nanoTime();
+      boolean acquired;
+      try {
+        acquired = inFlightBytes.tryAcquire(pendingWrite.permits, config.getMaxBlockMs(), TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        acquired = false;
+      }
+      stats.recordBlockedTime(LatencyUtils.getLatencyInMS(blockStartTimeInNs));
+      if (!acquired) {
+        stats.recordFailedWrite();
+        pendingWrite.future.completeExceptionally(
+            new VeniceException(
+                "Failed to acquire " + pendingWrite.permits + " in-flight bytes within " + config.getMaxBlockMs()
+                    + "ms for store: " + storeName));
+        return pendingWrite.future;
+      }
+    }
+
+    try {
+      partitionBatches[partitioner.getPartitionId(pendingWrite.key, partitionCount)].append(pendingWrite);
+    } catch (Exception e) {
+      pendingWrite.complete(e);
+    }
+    return pendingWrite.future;
+  }
+
+  private void sendLingeringBatches() {
+    long currentTimeMs = time.getMilliseconds();
+    for (PartitionBatch partitionBatch: partitionBatches) {
+      partitionBatch.closeIfLingering(currentTimeMs);
+    }
+  }
+
+  /**
+   * Only invoked by {@link #sendExecutor}.
+   */
+  private void send(List<PendingWrite> batch) {
+    stats.recordBatchRecordCount(batch.size());
+    for (PendingWrite pendingWrite: batch) {
+      PubSubProducerCallback callback = (produceResult, exception) -> pendingWrite.complete(exception);
+      try {
+        switch (pendingWrite.messageType) {
+          case PUT:
+            veniceWriter.put(
+                pendingWrite.key,
+                pendingWrite.value,
+                pendingWrite.valueSchemaId,
+                pendingWrite.logicalTime,
+                callback);
+            break;
+          case DELETE:
+            veniceWriter.delete(pendingWrite.key, pendingWrite.logicalTime, callback);
+            break;
+          case UPDATE:
+            veniceWriter.update(
+                pendingWrite.key,
+                pendingWrite.value,
+                pendingWrite.valueSchemaId,
+                pendingWrite.updateSchemaId,
+                callback,
+                pendingWrite.logicalTime);
+            break;
+          default:
+            throw new VeniceException("Unsupported message type: " + pendingWrite.messageType);
+        }
+      } catch (Exception e) {
+        pendingWrite.complete(e);
+      }
+    }
+  }
+
+  /**
+   * Sends all the batches regardless of the linger time, and blocks until all the writes issued before this call
+   * are completed.
+   */
+  public void flush() {
+    for (PartitionBatch partitionBatch: partitionBatches) {
+      partitionBatch.close();
+    }
+    try {
+      sendExecutor.submit(veniceWriter::flush).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new VeniceException("Interrupted while flushing producer for store: " + storeName, e);
+    } catch (ExecutionException e) {
+      throw new VeniceException("Failed to flush producer for store: " + storeName, e.getCause());
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    // New writes are rejected from now on, and the writes appended before are sent by the flush below
+    closed = true;
+    try {
+      flush();
+    } finally {
+      sendExecutor.shutdownNow();
+      veniceWriter.close();
+    }
+    LOGGER.info("Closed producer for store: {}", storeName);
+  }
+
+  /**
+   * The writes of a partition which are not handed over to the {@link VeniceWriter} yet.
+   */
+  private class PartitionBatch {
+    private List<PendingWrite> pendingWrites = new ArrayList<>();
+    private int sizeInBytes = 0;
+    private long firstAppendTimeMs;
+
+    synchronized void append(PendingWrite pendingWrite) {
+      if (closed) {
+        throw new VeniceException("Producer for store: " + storeName + " is already closed");
+      }
+      if (pendingWrites.isEmpty()) {
+        firstAppendTimeMs = time.getMilliseconds();
+      }
+      pendingWrites.add(pendingWrite);
+      sizeInBytes += pendingWrite.permits;
+      if (sizeInBytes >= config.getBatchSizeInBytes()) {
+        close();
+      }
+    }
+
+    synchronized void closeIfLingering(long currentTimeMs) {
+      if (!pendingWrites.isEmpty() && currentTimeMs - firstAppendTimeMs >= config.getLingerMs()) {
+        close();
+      }
+    }
+
+    /**
+     * The batch is submitted while holding the lock, so that the batches of a partition are sent in the order they are
+     * closed.
+     */
+    synchronized void close() {
+      if (pendingWrites.isEmpty()) {
+        return;
+      }
+      List<PendingWrite> batch = pendingWrites;
+      pendingWrites = new ArrayList<>();
+      sizeInBytes = 0;
+      sendExecutor.execute(() -> send(batch));
+    }
+  }
+
+  private class PendingWrite {
+    private final MessageType messageType;
+    private final byte[] key;
+    private final byte[] value;
+    private final int valueSchemaId;
+    private final int updateSchemaId;
+    private final long logicalTime;
+    /**
+     * The in-flight bytes taken by this write, which is capped so that a single large write can still go through.
+     */
+    private final int permits;
+    private final long startTimeInNs = System.nanoTime();
+    private final CompletableFuture<DurableWrite> future = new CompletableFuture<>();
+
+    PendingWrite(
+        MessageType messageType,
+        byte[] key,
+        byte[] value,
+        int valueSchemaId,
+        int updateSchemaId,
+        long logicalTime) {
+      this.messageType = messageType;
+      this.key = key;
+      this.value = value;
+      this.valueSchemaId = valueSchemaId;
+      this.updateSchemaId = updateSchemaId;
+      this.logicalTime = logicalTime;
+      this.permits = Math.min(key.length + (value == null ? 0 : value.length), config.getMaxInFlightBytes());
+    }
+
+    void complete(Exception exception) {
+      boolean completed =
+          exception == null ? future.complete(new DurableWrite()) : future.completeExceptionally(exception);
+      if (!completed) {
+        // The callback could be invoked more than once for the same write
+        return;
+      }
+      inFlightBytes.release(permits);
+      if (exception == null) {
+        stats.recordSuccessfulWrite(messageType, LatencyUtils.getLatencyInMS(startTimeInNs));
+      } else {
+        stats.recordFailedWrite();
+      }
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package com.linkedin.venice.producer;
+
+/**
+ * VeniceProducerConfig is used to tune the client-side batching and the backpressure of {@link BatchingVeniceProducer}.
+ */
+public class VeniceProducerConfig {
+  private final long lingerMs;
+  private final int batchSizeInBytes;
+  private final int maxInFlightBytes;
+  private final long maxBlockMs;
+
+  private VeniceProducerConfig(Builder builder) {
+    this.lingerMs = builder.lingerMs;
+    this.batchSizeInBytes = builder.batchSizeInBytes;
+    this.maxInFlightBytes = builder.maxInFlightBytes;
+    this.maxBlockMs = builder.maxBlockMs;
+  }
+
+  /**
+   * @return the max time a write waits in the batch of its partition before the batch is sent.
+   */
+  public long getLingerMs() {
+    return lingerMs;
+  }
+
+  /**
+   * @return the size of the serialized keys and values in the batch of a partition, above which the batch is sent
+   *         right away.
+   */
+  public int getBatchSizeInBytes() {
+    return batchSizeInBytes;
+  }
+
+  /**
+   * @return the max size of the serialized keys and values of all the writes which are not durable yet.
+   */
+  public int getMaxInFlightBytes() {
+    return maxInFlightBytes;
+  }
+
+  /**
+   * @return the max time a write blocks the caller when {@link #getMaxInFlightBytes()} is reached, before it fails.
+   */
+  public long getMaxBlockMs() {
+    return maxBlockMs;
+  }
+
+  @Override
+  public String toString() {
+    return new StringBuilder("VeniceProducerConfig:{").append("lingerMs:")
+        .append(lingerMs)
+        .append(", ")
+        .append("batchSizeInBytes:")
+        .append(batchSizeInBytes)
+        .append(", ")
+        .append("maxInFlightBytes:")
+        .append(maxInFlightBytes)
+        .append(", ")
+        .append("maxBlockMs:")
+        .append(maxBlockMs)
+        .append("}")
+        .toString();
+  }
+
+  public static class Builder {
+    private long lingerMs = 5;
+    private int batchSizeInBytes = 64 * 1024;
+    private int maxInFlightBytes = 32 * 1024 * 1024;
+    private long maxBlockMs = 60 * 1000;
+
+    public VeniceProducerConfig build() {
+      if (lingerMs <= 0) {
+        throw new IllegalArgumentException("lingerMs must be positive. Got: " + lingerMs);
+      }
+      if (batchSizeInBytes <= 0) {
+        throw new IllegalArgumentException("batchSizeInBytes must be positive. Got: " + batchSizeInBytes);
+      }
+      if (maxInFlightBytes < batchSizeInBytes) {
+        throw new IllegalArgumentException(
+            "maxInFlightBytes: " + maxInFlightBytes + " must not be smaller than batchSizeInBytes: "
+                + batchSizeInBytes);
+      }
+      if (maxBlockMs < 0) {
+        throw new IllegalArgumentException("maxBlockMs must not be negative. Got: " + maxBlockMs);
+      }
+      return new VeniceProducerConfig(this);
+    }
+
+    public Builder setLingerMs(long lingerMs) {
+      this.lingerMs = lingerMs;
+      return this;
+    }
+
+    public Builder setBatchSizeInBytes(int batchSizeInBytes) {
+      this.batchSizeInBytes = batchSizeInBytes;
+      return this;
+    }
+
+    public Builder setMaxInFlightBytes(int maxInFlightBytes) {
+      this.maxInFlightBytes = maxInFlightBytes;
+      return this;
+    }
+
+    public Builder setMaxBlockMs(long maxBlockMs) {
+      this.maxBlockMs = maxBlockMs;
+      return this;
+    }
+  }
+}
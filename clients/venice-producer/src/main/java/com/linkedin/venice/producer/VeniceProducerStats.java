@@ -0,0 +1,69 @@
+package com.linkedin.venice.producer;
+
+import com.linkedin.venice.kafka.protocol.enums.MessageType;
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import com.linkedin.venice.stats.Gauge;
+import com.linkedin.venice.stats.TehutiUtils;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.Avg;
+import io.tehuti.metrics.stats.Max;
+import io.tehuti.metrics.stats.OccurrenceRate;
+import java.util.function.LongSupplier;
+
+
+/**
+ * Metrics of {@link BatchingVeniceProducer}. The latency of a write is measured from the time it is issued to the time
+ * it is durable, so it includes the time spent waiting in the batch and the time blocked by backpressure.
+ */
+public class VeniceProducerStats extends AbstractVeniceStats {
+  private final Sensor putLatencySensor;
+  private final Sensor deleteLatencySensor;
+  private final Sensor updateLatencySensor;
+  private final Sensor failedWriteSensor;
+  private final Sensor batchRecordCountSensor;
+  private final Sensor blockedTimeSensor;
+
+  public VeniceProducerStats(MetricsRepository metricsRepository, String storeName, LongSupplier inFlightBytes) {
+    super(metricsRepository, "venice_producer_" + storeName);
+    putLatencySensor =
+        registerSensor("put_latency", TehutiUtils.getPercentileStatWithAvgAndMax(getName(), "put_latency"));
+    deleteLatencySensor =
+        registerSensor("delete_latency", TehutiUtils.getPercentileStatWithAvgAndMax(getName(), "delete_latency"));
+    updateLatencySensor =
+        registerSensor("update_latency", TehutiUtils.getPercentileStatWithAvgAndMax(getName(), "update_latency"));
+    failedWriteSensor = registerSensor("failed_write", new OccurrenceRate());
+    batchRecordCountSensor = registerSensor("batch_record_count", new Avg(), new Max());
+    // The time spent by the caller waiting for in-flight writes to become durable, when the in-flight bytes are full
+    blockedTimeSensor = registerSensor("blocked_time", new Avg(), new Max());
+    registerSensor("in_flight_bytes", new Gauge(() -> inFlightBytes.getAsLong()));
+  }
+
+  public void recordSuccessfulWrite(MessageType messageType, double latencyInMs) {
+    switch (messageType) {
+      case PUT:
+        putLatencySensor.record(latencyInMs);
+        break;
+      case DELETE:
+        deleteLatencySensor.record(latencyInMs);
+        break;
+      case UPDATE:
+        updateLatencySensor.record(latencyInMs);
+        break;
+      default:
+        break;
+    }
+  }
+
+  public void recordFailedWrite() {
+    failedWriteSensor.record();
+  }
+
+  public void recordBatchRecordCount(int recordCount) {
+    batchRecordCountSensor.record(recordCount);
+  }
+
+  public void recordBlockedTime(double blockedTimeInMs) {
+    blockedTimeSensor.record(blockedTimeInMs);
+  }
+}
@@ -0,0 +1,237 @@
+package com.linkedin.venice.producer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.kafka.protocol.Delete;
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.kafka.protocol.Put;
+import com.linkedin.venice.kafka.protocol.Update;
+import com.linkedin.venice.kafka.protocol.enums.MessageType;
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
+import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
+import com.linkedin.venice.partitioner.VenicePartitioner;
+import com.linkedin.venice.pubsub.api.PubSubProducerCallback;
+import com.linkedin.venice.schema.SchemaData;
+import com.linkedin.venice.schema.SchemaEntry;
+import com.linkedin.venice.schema.writecompute.DerivedSchemaEntry;
+import com.linkedin.venice.schema.writecompute.WriteComputeSchemaConverter;
+import com.linkedin.venice.serializer.AvroSerializer;
+import com.linkedin.venice.unit.kafka.InMemoryKafkaBroker;
+import com.linkedin.venice.unit.kafka.InMemoryKafkaMessage;
+import com.linkedin.venice.unit.kafka.producer.MockInMemoryProducerAdapter;
+import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.writer.VeniceWriter;
+import com.linkedin.venice.writer.VeniceWriterOptions;
+import io.tehuti.metrics.MetricsRepository;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.mockito.ArgumentCaptor;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class BatchingVeniceProducerTest {
+  private static final String STORE_NAME = "test_store";
+  private static final String TOPIC_NAME = STORE_NAME + "_rt";
+  private static final int PARTITION_COUNT = 3;
+  private static final Schema KEY_SCHEMA = Schema.create(Schema.Type.STRING);
+  private static final Schema VALUE_SCHEMA = AvroCompatibilityHelper.parse(
+      "{\"type\":\"record\",\"name\":\"TestValue\",\"fields\":["
+          + "{\"name\":\"name\",\"type\":\"string\",\"default\":\"\"},"
+          + "{\"name\":\"count\",\"type\":\"int\",\"default\":0}]}");
+  private static final Schema UPDATE_SCHEMA =
+      WriteComputeSchemaConverter.getInstance().convertFromValueRecordSchema(VALUE_SCHEMA);
+
+  private final VenicePartitioner partitioner = new DefaultVenicePartitioner();
+  private InMemoryKafkaBroker broker;
+  private ReadOnlySchemaRepository schemaRepository;
+  private MetricsRepository metricsRepository;
+
+  @BeforeMethod
+  public void setUp() {
+    broker = new InMemoryKafkaBroker("local");
+    broker.createTopic(TOPIC_NAME, PARTITION_COUNT);
+    schemaRepository = mock(ReadOnlySchemaRepository.class);
+    doReturn(new SchemaEntry(1, KEY_SCHEMA)).when(schemaRepository).getKeySchema(STORE_NAME);
+    doReturn(SchemaData.INVALID_VALUE_SCHEMA_ID).when(schemaRepository).getValueSchemaId(eq(STORE_NAME), anyString());
+    doReturn(1).when(schemaRepository).getValueSchemaId(STORE_NAME, VALUE_SCHEMA.toString());
+    doReturn(new SchemaEntry(1, VALUE_SCHEMA)).when(schemaRepository).getSupersetOrLatestValueSchema(STORE_NAME);
+    doReturn(new DerivedSchemaEntry(1, 1, UPDATE_SCHEMA)).when(schemaRepository)
+        .getLatestDerivedSchema(STORE_NAME, 1);
+    metricsRepository = new MetricsRepository();
+  }
+
+  @Test
+  public void testWritesOfSameKeyAreProducedInOrder() throws Exception {
+    try (BatchingVeniceProducer<String, Object> producer =
+        createProducer(createVeniceWriter(), new VeniceProducerConfig.Builder().setLingerMs(60 * 1000).build())) {
+      List<CompletableFuture<DurableWrite>> futures = new ArrayList<>();
+      futures.add(producer.asyncPut("key1", createValue("value1", 1)));
+      futures.add(producer.asyncUpdate("key1", updateBuilder -> updateBuilder.setNewFieldValue("count", 2)));
+      futures.add(producer.asyncDelete("key2"));
+      futures.add(producer.asyncPut(100L, "key1", createValue("value2", 3)));
+      futures.add(producer.asyncDelete(200L, "key1"));
+      // Nothing is sent before the batches are full or lingering
+      for (CompletableFuture<DurableWrite> future: futures) {
+        Assert.assertFalse(future.isDone());
+      }
+
+      producer.flush();
+      for (CompletableFuture<DurableWrite> future: futures) {
+        Assert.assertNotNull(future.get());
+      }
+    }
+
+    List<KafkaMessageEnvelope> key1Messages = consumeMessages("key1");
+    Assert.assertEquals(key1Messages.size(), 4);
+    Assert.assertEquals(MessageType.valueOf(key1Messages.get(0)), MessageType.PUT);
+    Put put = (Put) key1Messages.get(0).payloadUnion;
+    Assert.assertEquals(put.schemaId, 1);
+    Assert.assertEquals(
+        put.putValue,
+        ByteBuffer.wrap(new AvroSerializer<>(VALUE_SCHEMA).serialize(createValue("value1", 1))));
+
+    Assert.assertEquals(MessageType.valueOf(key1Messages.get(1)), MessageType.UPDATE);
+    Update update = (Update) key1Messages.get(1).payloadUnion;
+    Assert.assertEquals(update.schemaId, 1);
+    Assert.assertEquals(update.updateSchemaId, 1);
+
+    Assert.assertEquals(MessageType.valueOf(key1Messages.get(2)), MessageType.PUT);
+    Assert.assertEquals(key1Messages.get(2).producerMetadata.logicalTimestamp, 100L);
+    Assert.assertEquals(MessageType.valueOf(key1Messages.get(3)), MessageType.DELETE);
+    Assert.assertEquals(key1Messages.get(3).producerMetadata.logicalTimestamp, 200L);
+
+    List<KafkaMessageEnvelope> key2Messages = consumeMessages("key2");
+    Assert.assertEquals(key2Messages.size(), 1);
+    Assert.assertTrue(key2Messages.get(0).payloadUnion instanceof Delete);
+
+    Assert.assertTrue(metricsRepository.getMetric(".venice_producer_test_store--put_latency.Max").value() > 0);
+    Assert.assertEquals(metricsRepository.getMetric(".venice_producer_test_store--in_flight_bytes.Gauge").value(), 0.0);
+  }
+
+  @Test
+  public void testBatchIsSentWhenLingeringOrFull() throws Exception {
+    try (BatchingVeniceProducer<String, Object> producer =
+        createProducer(createVeniceWriter(), new VeniceProducerConfig.Builder().setLingerMs(10).build())) {
+      Assert.assertNotNull(producer.asyncPut("key1", createValue("value1", 1)).get(10, TimeUnit.SECONDS));
+    }
+
+    try (BatchingVeniceProducer<String, Object> producer = createProducer(
+        createVeniceWriter(),
+        new VeniceProducerConfig.Builder().setLingerMs(60 * 60 * 1000).setBatchSizeInBytes(1).build())) {
+      Assert.assertNotNull(producer.asyncPut("key1", createValue("value1", 1)).get(10, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  public void testWriteBlocksWhenInFlightBytesAreFull() throws Exception {
+    VeniceWriter<byte[], byte[], byte[]> veniceWriter = mock(VeniceWriter.class);
+    VeniceProducerConfig config = new VeniceProducerConfig.Builder().setBatchSizeInBytes(1)
+        .setMaxInFlightBytes(20)
+        .setMaxBlockMs(10)
+        .build();
+    try (BatchingVeniceProducer<String, Object> producer = createProducer(veniceWriter, config)) {
+      // Each write takes 12 bytes: 5 bytes for the key and 7 bytes for the value
+      CompletableFuture<DurableWrite> firstFuture = producer.asyncPut("key1", createValue("name1", 1));
+      ArgumentCaptor<PubSubProducerCallback> callbackCaptor = ArgumentCaptor.forClass(PubSubProducerCallback.class);
+      verify(veniceWriter, timeout(10 * 1000)).put(any(), any(), anyInt(), anyLong(), callbackCaptor.capture());
+
+      CompletableFuture<DurableWrite> blockedFuture = producer.asyncPut("key2", createValue("name2", 2));
+      Assert.assertTrue(blockedFuture.isCompletedExceptionally());
+      ExecutionException exception = Assert.expectThrows(ExecutionException.class, blockedFuture::get);
+      Assert.assertTrue(exception.getCause() instanceof VeniceException);
+
+      callbackCaptor.getValue().onCompletion(null, null);
+      Assert.assertTrue(firstFuture.isDone());
+      Assert.assertFalse(producer.asyncPut("key2", createValue("name2", 2)).isCompletedExceptionally());
+    }
+    Assert.assertTrue(metricsRepository.getMetric(".venice_producer_test_store--blocked_time.Max").value() > 0);
+  }
+
+  @Test
+  public void testWriteFailsWithUnregisteredValueSchema() {
+    Schema unregisteredSchema = AvroCompatibilityHelper
+        .parse("{\"type\":\"record\",\"name\":\"OtherValue\",\"fields\":[{\"name\":\"id\",\"type\":\"int\"}]}");
+    GenericRecord value = new GenericData.Record(unregisteredSchema);
+    value.put("id", 1);
+    BatchingVeniceProducer<String, Object> producer =
+        createProducer(createVeniceWriter(), new VeniceProducerConfig.Builder().build());
+    ExecutionException exception =
+        Assert.expectThrows(ExecutionException.class, () -> producer.asyncPut("key1", value).get());
+    Assert.assertTrue(exception.getCause() instanceof VeniceException);
+
+    producer.close();
+    exception = Assert.expectThrows(ExecutionException.class, () -> producer.asyncDelete("key1").get());
+    Assert.assertTrue(exception.getCause() instanceof VeniceException);
+  }
+
+  private BatchingVeniceProducer<String, Object> createProducer(
+      VeniceWriter<byte[], byte[], byte[]> veniceWriter,
+      VeniceProducerConfig config) {
+    return new BatchingVeniceProducer<>(
+        STORE_NAME,
+        schemaRepository,
+        veniceWriter,
+        partitioner,
+        PARTITION_COUNT,
+        config,
+        metricsRepository,
+        SystemTime.INSTANCE);
+  }
+
+  private VeniceWriter<byte[], byte[], byte[]> createVeniceWriter() {
+    return new VeniceWriter<>(
+        new VeniceWriterOptions.Builder(TOPIC_NAME).setPartitioner(partitioner)
+            .setPartitionCount(PARTITION_COUNT)
+            .build(),
+        new VeniceProperties(new Properties()),
+        new MockInMemoryProducerAdapter(broker));
+  }
+
+  private GenericRecord createValue(String name, int count) {
+    GenericRecord value = new GenericData.Record(VALUE_SCHEMA);
+    value.put("name", name);
+    value.put("count", count);
+    return value;
+  }
+
+  /**
+   * @return the data messages of the given key in the order they were produced.
+   */
+  private List<KafkaMessageEnvelope> consumeMessages(String key) {
+    byte[] serializedKey = new AvroSerializer<>(KEY_SCHEMA).serialize(key);
+    int partition = partitioner.getPartitionId(serializedKey, PARTITION_COUNT);
+    List<KafkaMessageEnvelope> messages = new ArrayList<>();
+    for (long offset = 0;; offset++) {
+      Optional<InMemoryKafkaMessage> message = broker.consume(TOPIC_NAME, partition, offset);
+      if (!message.isPresent()) {
+        return messages;
+      }
+      if (!message.get().key.isControlMessage() && Arrays.equals(message.get().key.getKey(), serializedKey)) {
+        messages.add(message.get().value);
+      }
+    }
+  }
+}
@@ -4,7 +4,9 @@ import com.linkedin.avro.api.PrimitiveFloatList;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.utils.CollectionUtils;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.apache.avro.Schema;
@@ -14,41 +16,39 @@ import org.apache.avro.generic.GenericRecord;
 /**
  * This class provides utilities for float-vector operations, and it also handles {@link PrimitiveFloatList}
  * transparently to the user of this class.
+ *
+ * The vectors are copied into primitive float arrays before operating on them, which avoids boxing the elements and
+ * lets the JIT compiler turn the loops over them into tight loops, instead of calling into the list for each element.
  */
 public class ComputeOperationUtils {
   public static final String CACHED_SQUARED_L2_NORM_KEY = "CACHED_SQUARED_L2_NORM_KEY";
+  public static final String CACHED_FLOAT_ARRAY_KEY = "CACHED_FLOAT_ARRAY_KEY";
+  public static final String REUSABLE_FLOAT_ARRAY_KEY = "REUSABLE_FLOAT_ARRAY_KEY";
 
   public static float dotProduct(List<Float> list1, List<Float> list2) {
     if (list1.size() != list2.size()) {
       throw new VeniceException("Two lists are with different dimensions: " + list1.size() + ", and " + list2.size());
     }
-    if (list1 instanceof PrimitiveFloatList && list2 instanceof PrimitiveFloatList) {
-      PrimitiveFloatList primitiveFloatList1 = (PrimitiveFloatList) list1;
-      PrimitiveFloatList primitiveFloatList2 = (PrimitiveFloatList) list2;
-      return dotProduct(list1.size(), primitiveFloatList1::getPrimitive, primitiveFloatList2::getPrimitive);
-    } else {
-      return dotProduct(list1.size(), list1::get, list2::get);
-    }
+    return dotProduct(toFloatArray(list1, null), toFloatArray(list2, null), list1.size());
   }
 
   public static List<Float> hadamardProduct(List<Float> list1, List<Float> list2) {
     if (list1.size() != list2.size()) {
       throw new VeniceException("Two lists are with different dimensions: " + list1.size() + ", and " + list2.size());
     }
-    if (list1 instanceof PrimitiveFloatList && list2 instanceof PrimitiveFloatList) {
-      PrimitiveFloatList primitiveFloatList1 = (PrimitiveFloatList) list1;
-      PrimitiveFloatList primitiveFloatList2 = (PrimitiveFloatList) list2;
-      return hadamardProduct(list1.size(), primitiveFloatList1::getPrimitive, primitiveFloatList2::getPrimitive);
-    } else {
-      return hadamardProduct(list1.size(), list1::get, list2::get);
-    }
+    return CollectionUtils
+        .asUnmodifiableList(hadamardProduct(toFloatArray(list1, null), toFloatArray(list2, null), list1.size()));
   }
 
-  private interface FloatSupplierByIndex {
-    float get(int index);
+  public static float squaredL2Norm(List<Float> list) {
+    float[] floats = toFloatArray(list, null);
+    return dotProduct(floats, floats, list.size());
   }
 
-  private static float dotProduct(int size, FloatSupplierByIndex floatSupplier1, FloatSupplierByIndex floatSupplier2) {
+  /**
+   * Computes the dot product of the first {@param size} elements of the two arrays.
+   */
+  public static float dotProduct(float[] floats1, float[] floats2, int size) {
     float dotProductResult = 0.0f;
 
     // round up size to the largest multiple of 4
@@ -58,58 +58,89 @@ public class ComputeOperationUtils {
     // Unrolling mult-add into blocks of 4 multiply op and assign to 4 different variables so that CPU can take
     // advantage of out of order execution, making the operation faster (on a single thread ~2x improvement)
     for (; i < limit; i += 4) {
-      float s0 = floatSupplier1.get(i) * floatSupplier2.get(i);
-      float s1 = floatSupplier1.get(i + 1) * floatSupplier2.get(i + 1);
-      float s2 = floatSupplier1.get(i + 2) * floatSupplier2.get(i + 2);
-      float s3 = floatSupplier1.get(i + 3) * floatSupplier2.get(i + 3);
+      float s0 = floats1[i] * floats2[i];
+      float s1 = floats1[i + 1] * floats2[i + 1];
+      float s2 = floats1[i + 2] * floats2[i + 2];
+      float s3 = floats1[i + 3] * floats2[i + 3];
 
       dotProductResult += (s0 + s1 + s2 + s3);
     }
 
     // Multiply the remaining elements
     for (; i < size; i++) {
-      dotProductResult += floatSupplier1.get(i) * floatSupplier2.get(i);
+      dotProductResult += floats1[i] * floats2[i];
     }
     return dotProductResult;
   }
 
-  private static List<Float> hadamardProduct(
-      int size,
-      FloatSupplierByIndex floatSupplier1,
-      FloatSupplierByIndex floatSupplier2) {
+  /**
+   * Computes the element-wise product of the first {@param size} elements of the two arrays.
+   */
+  public static float[] hadamardProduct(float[] floats1, float[] floats2, int size) {
     float[] floats = new float[size];
-
-    // round up size to the largest multiple of 4
-    int i = 0;
-    int limit = (size >> 2) << 2;
-
-    // Unrolling mult-add into blocks of 4 multiply op and assign to 4 different variables so that CPU can take
-    // advantage of out of order execution, making the operation faster (on a single thread ~2x improvement)
-    for (; i < limit; i += 4) {
-      floats[i] = floatSupplier1.get(i) * floatSupplier2.get(i);
-      floats[i + 1] = floatSupplier1.get(i + 1) * floatSupplier2.get(i + 1);
-      floats[i + 2] = floatSupplier1.get(i + 2) * floatSupplier2.get(i + 2);
-      floats[i + 3] = floatSupplier1.get(i + 3) * floatSupplier2.get(i + 3);
+    // A plain loop over arrays, which the JIT compiler vectorizes
+    for (int i = 0; i < size; i++) {
+      floats[i] = floats1[i] * floats2[i];
     }
-
-    // Multiply the remaining elements
-    for (; i < size; i++) {
-      floats[i] = floatSupplier1.get(i) * floatSupplier2.get(i);
-    }
-    return CollectionUtils.asUnmodifiableList(floats);
+    return floats;
   }
 
-  public static float squaredL2Norm(List<Float> list) {
+  /**
+   * Copies the elements of the given list into a float array, without boxing them if the list is a
+   * {@link PrimitiveFloatList}, which is what the fast-avro deserializers produce for float arrays.
+   *
+   * @param reuse the array to copy the elements into if it is large enough, otherwise a new array is allocated
+   * @return an array whose first {@code list.size()} elements are the elements of the list
+   */
+  public static float[] toFloatArray(List<Float> list, float[] reuse) {
+    int size = list.size();
+    float[] floats = (reuse != null && reuse.length >= size) ? reuse : new float[size];
     if (list instanceof PrimitiveFloatList) {
       PrimitiveFloatList primitiveFloatList = (PrimitiveFloatList) list;
-      int size = primitiveFloatList.size();
-      FloatSupplierByIndex floatSupplierByIndex = primitiveFloatList::getPrimitive;
-      return dotProduct(size, floatSupplierByIndex, floatSupplierByIndex);
+      for (int i = 0; i < size; i++) {
+        floats[i] = primitiveFloatList.getPrimitive(i);
+      }
     } else {
-      int size = list.size();
-      FloatSupplierByIndex floatSupplierByIndex = list::get;
-      return dotProduct(size, floatSupplierByIndex, floatSupplierByIndex);
+      for (int i = 0; i < size; i++) {
+        floats[i] = list.get(i);
+      }
+    }
+    return floats;
+  }
+
+  /**
+   * @return the elements of the given compute parameter as a float array, which is cached in the context since the
+   *         parameters of a compute request are the same for all the records it computes on.
+   */
+  public static float[] getCachedFloatArray(List<Float> parameter, Map<String, Object> context) {
+    // The following caching is assuming the float vector is immutable, which is the case for compute.
+    IdentityHashMap<List<Float>, float[]> cachedFloatArrays =
+        (IdentityHashMap<List<Float>, float[]>) context.get(CACHED_FLOAT_ARRAY_KEY);
+    if (cachedFloatArrays == null) {
+      cachedFloatArrays = new IdentityHashMap<>();
+      context.put(CACHED_FLOAT_ARRAY_KEY, cachedFloatArrays);
+    }
+    float[] floats = cachedFloatArrays.get(parameter);
+    if (floats == null) {
+      floats = toFloatArray(parameter, null);
+      cachedFloatArrays.put(parameter, floats);
+    }
+    return floats;
+  }
+
+  /**
+   * Copies the given value vector into a float array kept in the context, which gets reused for the next records, so
+   * the returned array must not be retained after the computation on the current record.
+   *
+   * @return an array whose first {@code valueVector.size()} elements are the elements of the value vector
+   */
+  public static float[] copyToReusableFloatArray(List<Float> valueVector, Map<String, Object> context) {
+    float[] reusableFloats = (float[]) context.get(REUSABLE_FLOAT_ARRAY_KEY);
+    float[] floats = toFloatArray(valueVector, reusableFloats);
+    if (floats != reusableFloats) {
+      context.put(REUSABLE_FLOAT_ARRAY_KEY, floats);
     }
+    return floats;
   }
 
   /**
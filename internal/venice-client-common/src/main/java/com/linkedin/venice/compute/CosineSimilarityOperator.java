@@ -38,8 +38,11 @@ public class CosineSimilarityOperator implements ReadComputeOperator {
         return;
       }
 
-      float dotProductResult = ComputeOperationUtils.dotProduct(cosSimilarityParam, valueVector);
-      float valueVectorSquaredL2Norm = ComputeOperationUtils.squaredL2Norm(valueVector);
+      int size = valueVector.size();
+      float[] cosSimilarityParamFloats = ComputeOperationUtils.getCachedFloatArray(cosSimilarityParam, context);
+      float[] valueVectorFloats = ComputeOperationUtils.copyToReusableFloatArray(valueVector, context);
+      float dotProductResult = ComputeOperationUtils.dotProduct(cosSimilarityParamFloats, valueVectorFloats, size);
+      float valueVectorSquaredL2Norm = ComputeOperationUtils.dotProduct(valueVectorFloats, valueVectorFloats, size);
       float cosSimilarityParamSquaredL2Norm;
       // Build the context as we go though all the computations
       // The following caching is assuming the float vector is immutable, which is the case for compute.
@@ -55,7 +58,8 @@ public class CosineSimilarityOperator implements ReadComputeOperator {
         cosSimilarityParamSquaredL2Norm = cachedResult;
       } else {
         // Cache the computed result
-        cosSimilarityParamSquaredL2Norm = ComputeOperationUtils.squaredL2Norm(cosSimilarityParam);
+        cosSimilarityParamSquaredL2Norm =
+            ComputeOperationUtils.dotProduct(cosSimilarityParamFloats, cosSimilarityParamFloats, size);
         cachedSquareL2Norm.put(cosSimilarityParam, cosSimilarityParamSquaredL2Norm);
       }
 
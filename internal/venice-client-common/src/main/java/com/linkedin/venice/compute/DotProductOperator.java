@@ -34,7 +34,10 @@ public class DotProductOperator implements ReadComputeOperator {
         return;
       }
 
-      float dotProductResult = ComputeOperationUtils.dotProduct(dotProductParam, valueVector);
+      float dotProductResult = ComputeOperationUtils.dotProduct(
+          ComputeOperationUtils.getCachedFloatArray(dotProductParam, context),
+          ComputeOperationUtils.copyToReusableFloatArray(valueVector, context),
+          valueVector.size());
       /**
        * Up-casting float to double for V1 users because of backward-compatibility support;
        * V1 users don't require the extra precision in double and it's on purpose that
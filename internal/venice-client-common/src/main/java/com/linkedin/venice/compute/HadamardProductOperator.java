@@ -2,6 +2,7 @@ package com.linkedin.venice.compute;
 
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
 import com.linkedin.venice.compute.protocol.request.HadamardProduct;
+import com.linkedin.venice.utils.CollectionUtils;
 import java.util.List;
 import java.util.Map;
 import org.apache.avro.generic.GenericRecord;
@@ -35,8 +36,12 @@ public class HadamardProductOperator implements ReadComputeOperator {
         return;
       }
 
-      List<Float> hadamardProductResult = ComputeOperationUtils.hadamardProduct(dotProductParam, valueVector);
-      resultRecord.put(hadamardProduct.resultFieldName.toString(), hadamardProductResult);
+      float[] hadamardProductResult = ComputeOperationUtils.hadamardProduct(
+          ComputeOperationUtils.getCachedFloatArray(dotProductParam, context),
+          ComputeOperationUtils.copyToReusableFloatArray(valueVector, context),
+          valueVector.size());
+      resultRecord
+          .put(hadamardProduct.resultFieldName.toString(), CollectionUtils.asUnmodifiableList(hadamardProductResult));
     } catch (Exception e) {
       resultRecord.put(hadamardProduct.resultFieldName.toString(), null);
       String msg = e.getClass().getSimpleName() + " : "
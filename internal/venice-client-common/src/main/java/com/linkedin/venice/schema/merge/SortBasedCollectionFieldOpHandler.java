@@ -499,7 +499,7 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
     }
 
     final Comparator<Object> listElementComparator = getListElementComparator(currValueRecord, fieldName);
-    sortElementAndTimestampList(deletedElementAndTsList, listElementComparator);
+    sortElementAndTimestampList(deletedElementAndTsList, modifyTimestamp, listElementComparator);
 
     // Step 3: Set new active elements and their active timestamps.
     List<ElementAndTimestamp> activeElementAndTsList = new ArrayList<>(activeElementToTsMap.size());
@@ -509,6 +509,7 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
     sortElementAndTimestampList(
         // Only sort the collection-merge part of the list and leave the put-only part as is.
         activeElementAndTsList.subList(newPutOnlyPartLength, activeElementAndTsList.size()),
+        modifyTimestamp,
         listElementComparator);
     setNewListActiveElementAndTs(
         activeElementAndTsList,
@@ -635,6 +636,7 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
     sortElementAndTimestampList(
         // Only sort the collection-merge part of the list and leave the put-only part as is.
         activeElementAndTsList.subList(newPutOnlyPartLength, activeElementAndTsList.size()),
+        modifyTimestamp,
         listElementComparator);
     setNewListActiveElementAndTs(
         activeElementAndTsList,
@@ -649,7 +651,7 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
       deletedElementAndTsList.add(new ElementAndTimestamp(element, timestamp));
     });
 
-    sortElementAndTimestampList(deletedElementAndTsList, listElementComparator);
+    sortElementAndTimestampList(deletedElementAndTsList, modifyTimestamp, listElementComparator);
     setDeletedDeletedElementAndTsList(deletedElementAndTsList, collectionFieldRmd);
 
     return updated ? UpdateResultStatus.PARTIALLY_UPDATED : UpdateResultStatus.NOT_UPDATED_AT_ALL;
@@ -689,16 +691,88 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
     collectionFieldRmd.setDeletedElementsAndTimestamps(deletedElements, deletedTimestamps);
   }
 
+  /**
+   * Sort the given list by timestamp first and then by element. The elements which do not carry the modify timestamp
+   * come from the existing RMD, where they were already sorted in the same order when it was persisted. So only the
+   * elements carrying the modify timestamp, which are the ones touched by the current operation, need to be sorted
+   * with the (potentially expensive) element comparator, and they are then placed as a whole right after the last
+   * element with a smaller timestamp. If the untouched elements turn out not to be sorted, fall back to sorting the
+   * whole list.
+   */
   private void sortElementAndTimestampList(
       List<ElementAndTimestamp> elementAndTsList,
+      final long modifyTimestamp,
       Comparator<Object> elementComparator) {
-    elementAndTsList.sort((o1, o2) -> {
-      final int timestampCompareResult = Long.compare(o1.getTimestamp(), o2.getTimestamp());
-      if (timestampCompareResult == 0) {
-        return elementComparator.compare(o1.getElement(), o2.getElement());
+    final List<ElementAndTimestamp> modifiedElementAndTsList = new ArrayList<>();
+    final List<ElementAndTimestamp> sortedElementAndTsList = new ArrayList<>(elementAndTsList.size());
+    ElementAndTimestamp prevElementAndTs = null;
+    for (ElementAndTimestamp elementAndTs: elementAndTsList) {
+      if (elementAndTs.getTimestamp() == modifyTimestamp) {
+        modifiedElementAndTsList.add(elementAndTs);
+        continue;
       }
-      return timestampCompareResult;
-    });
+      if (prevElementAndTs != null
+          && compareElementAndTimestamp(prevElementAndTs, elementAndTs, elementComparator) > 0) {
+        sortElementAndTimestampList(elementAndTsList, elementComparator);
+        return;
+      }
+      sortedElementAndTsList.add(elementAndTs);
+      prevElementAndTs = elementAndTs;
+    }
+    if (modifiedElementAndTsList.isEmpty()) {
+      return;
+    }
+    modifiedElementAndTsList.sort((o1, o2) -> elementComparator.compare(o1.getElement(), o2.getElement()));
+
+    final int insertionIndex = findFirstIndexWithLargerTimestamp(sortedElementAndTsList, modifyTimestamp);
+    final ListIterator<ElementAndTimestamp> iterator = elementAndTsList.listIterator();
+    for (int i = 0; i < insertionIndex; i++) {
+      iterator.next();
+      iterator.set(sortedElementAndTsList.get(i));
+    }
+    for (ElementAndTimestamp modifiedElementAndTs: modifiedElementAndTsList) {
+      iterator.next();
+      iterator.set(modifiedElementAndTs);
+    }
+    for (int i = insertionIndex; i < sortedElementAndTsList.size(); i++) {
+      iterator.next();
+      iterator.set(sortedElementAndTsList.get(i));
+    }
+  }
+
+  private void sortElementAndTimestampList(
+      List<ElementAndTimestamp> elementAndTsList,
+      Comparator<Object> elementComparator) {
+    elementAndTsList.sort((o1, o2) -> compareElementAndTimestamp(o1, o2, elementComparator));
+  }
+
+  private int compareElementAndTimestamp(
+      ElementAndTimestamp o1,
+      ElementAndTimestamp o2,
+      Comparator<Object> elementComparator) {
+    final int timestampCompareResult = Long.compare(o1.getTimestamp(), o2.getTimestamp());
+    if (timestampCompareResult == 0) {
+      return elementComparator.compare(o1.getElement(), o2.getElement());
+    }
+    return timestampCompareResult;
+  }
+
+  /**
+   * @return the index of the first element whose timestamp is larger than the given timestamp in the list sorted by
+   *         timestamp, or the size of the list if there is no such element.
+   */
+  private int findFirstIndexWithLargerTimestamp(List<ElementAndTimestamp> sortedElementAndTsList, long timestamp) {
+    int low = 0;
+    int high = sortedElementAndTsList.size();
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (sortedElementAndTsList.get(mid).getTimestamp() <= timestamp) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
   }
 
   private void removeIntersectionElements(Set<Object> set1, Set<Object> set2) {
@@ -962,6 +1036,7 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
     sortElementAndTimestampList(
         // Only sort the collection-merge part of the list and leave the put-only part as is.
         newActiveEntriesAndTsList.subList(newPutOnlyPartLength, newActiveEntriesAndTsList.size()),
+        modifyTimestamp,
         mapValueComparator);
     setNewMapActiveElementAndTs(
         newActiveEntriesAndTsList,
@@ -976,7 +1051,7 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
     deletedKeyToTsMap.forEach((k, v) -> newDeletedKeyAndTsList.add(new ElementAndTimestamp(k, v)));
 
     // The element here is String (as deleted key). So, we can use a String comparator.
-    sortElementAndTimestampList(newDeletedKeyAndTsList, Comparator.comparing(o -> ((String) o)));
+    sortElementAndTimestampList(newDeletedKeyAndTsList, modifyTimestamp, Comparator.comparing(o -> ((String) o)));
     setDeletedDeletedKeyAndTsList(newDeletedKeyAndTsList, collectionFieldRmd);
     return UpdateResultStatus.PARTIALLY_UPDATED;
   }
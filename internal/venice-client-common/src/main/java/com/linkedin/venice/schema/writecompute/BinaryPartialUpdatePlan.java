@@ -0,0 +1,443 @@
+package com.linkedin.venice.schema.writecompute;
+
+import static com.linkedin.venice.schema.writecompute.WriteComputeConstants.WRITE_COMPUTE_RECORD_SCHEMA_SUFFIX;
+import static com.linkedin.venice.schema.writecompute.WriteComputeOperation.LIST_OPS;
+import static com.linkedin.venice.schema.writecompute.WriteComputeOperation.MAP_OPS;
+import static com.linkedin.venice.schema.writecompute.WriteComputeOperation.NO_OP_ON_FIELD;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.serializer.avro.MapOrderPreservingDatumReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import javax.annotation.concurrent.ThreadSafe;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+
+
+/**
+ * This class applies a partial update on the serialized bytes of a value record directly, instead of deserializing the
+ * whole value record, applying the update with {@link WriteComputeProcessor} and serializing the whole record again.
+ *
+ * A plan is compiled once for a pair of value schema and write compute schema derived from it, and it is then used
+ * for every partial update of this schema pair. The serialized value and the serialized partial update are walked
+ * field by field in lockstep:
+ * 1. A field with the NoOp operation is copied from the current value as a raw byte range, or from the serialized
+ *    default value if there is no current value.
+ * 2. A field which is set to a new value is copied from the partial update as a raw byte range, after translating
+ *    the union branch index if the value field is a union.
+ * 3. Only a field with a collection merging operation is decoded, merged by {@link WriteComputeHandlerV1} and
+ *    re-encoded.
+ *
+ * The serialized value must be written with the value schema of this plan, and the serialized partial update must be
+ * written with the write compute schema of this plan. Callers are responsible for falling back to the
+ * {@link WriteComputeProcessor} path otherwise.
+ */
+@ThreadSafe
+public class BinaryPartialUpdatePlan {
+  private static final WriteComputeHandlerV1 WRITE_COMPUTE_HANDLER = new WriteComputeHandlerV1();
+
+  private final Schema valueSchema;
+  private final Schema writeComputeSchema;
+  private final FieldPlan[] fieldPlans;
+
+  private BinaryPartialUpdatePlan(Schema valueSchema, Schema writeComputeSchema, FieldPlan[] fieldPlans) {
+    this.valueSchema = valueSchema;
+    this.writeComputeSchema = writeComputeSchema;
+    this.fieldPlans = fieldPlans;
+  }
+
+  /**
+   * @param valueSchema a record value schema.
+   * @param writeComputeSchema the write compute schema derived from the given value schema.
+   */
+  public static BinaryPartialUpdatePlan compile(Schema valueSchema, Schema writeComputeSchema) {
+    if (valueSchema.getType() != Schema.Type.RECORD) {
+      throw new IllegalStateException("Expect a Record value schema. Got: " + valueSchema);
+    }
+    if (writeComputeSchema.getType() != Schema.Type.RECORD
+        || !writeComputeSchema.getName().endsWith(WRITE_COMPUTE_RECORD_SCHEMA_SUFFIX)) {
+      throw new IllegalStateException(
+          "Write Compute only support partial update. Got unexpected Write Compute schema: " + writeComputeSchema);
+    }
+    List<Schema.Field> valueFields = valueSchema.getFields();
+    List<Schema.Field> writeComputeFields = writeComputeSchema.getFields();
+    if (valueFields.size() != writeComputeFields.size()) {
+      throw new IllegalStateException(
+          String.format(
+              "Write compute schema has %d fields while value schema has %d fields",
+              writeComputeFields.size(),
+              valueFields.size()));
+    }
+
+    FieldPlan[] fieldPlans = new FieldPlan[valueFields.size()];
+    for (int i = 0; i < valueFields.size(); i++) {
+      Schema.Field valueField = valueFields.get(i);
+      Schema.Field writeComputeField = writeComputeFields.get(i);
+      if (!valueField.name().equals(writeComputeField.name())) {
+        throw new IllegalStateException(
+            String.format(
+                "Write compute field %s does not match value field %s at position %d",
+                writeComputeField.name(),
+                valueField.name(),
+                i));
+      }
+      fieldPlans[i] = compileField(valueField, writeComputeField.schema());
+    }
+    return new BinaryPartialUpdatePlan(valueSchema, writeComputeSchema, fieldPlans);
+  }
+
+  private static FieldPlan compileField(Schema.Field valueField, Schema writeComputeFieldSchema) {
+    Schema valueFieldSchema = valueField.schema();
+    if (writeComputeFieldSchema.getType() != Schema.Type.UNION) {
+      throw new IllegalStateException(
+          "Expect a union schema for write compute field " + valueField.name() + ". Got: " + writeComputeFieldSchema);
+    }
+    List<Schema> operationSchemas = writeComputeFieldSchema.getTypes();
+    OperationPlan[] operationPlans = new OperationPlan[operationSchemas.size()];
+    boolean hasCollectionMerge = false;
+    for (int i = 0; i < operationSchemas.size(); i++) {
+      Schema operationSchema = operationSchemas.get(i);
+      OperationType type = getOperationType(valueFieldSchema, operationSchema);
+      int valueUnionIndex = -1;
+      if (type == OperationType.PUT && valueFieldSchema.getType() == Schema.Type.UNION) {
+        valueUnionIndex = getUnionBranchIndex(valueFieldSchema, operationSchema);
+        if (valueUnionIndex < 0) {
+          throw new IllegalStateException(
+              String.format(
+                  "Cannot find branch %s of write compute field %s in value field schema: %s",
+                  operationSchema.getFullName(),
+                  valueField.name(),
+                  valueFieldSchema));
+        }
+      }
+      hasCollectionMerge |= (type == OperationType.COLLECTION_MERGE);
+      operationPlans[i] = new OperationPlan(
+          type,
+          operationSchema,
+          valueUnionIndex,
+          type == OperationType.COLLECTION_MERGE
+              ? new MapOrderPreservingDatumReader<>(operationSchema, operationSchema)
+              : null);
+    }
+
+    byte[] defaultValueBytes = null;
+    if (AvroCompatibilityHelper.fieldHasDefault(valueField)) {
+      defaultValueBytes = encode(
+          new GenericDatumWriter<>(valueFieldSchema),
+          AvroCompatibilityHelper.getGenericDefaultValue(valueField));
+    }
+    return new FieldPlan(
+        valueField.name(),
+        valueFieldSchema,
+        operationPlans,
+        defaultValueBytes,
+        hasCollectionMerge ? new GenericDatumReader<>(valueFieldSchema, valueFieldSchema) : null,
+        hasCollectionMerge ? new GenericDatumWriter<>(valueFieldSchema) : null);
+  }
+
+  /**
+   * Mirror how {@link WriteComputeHandlerV1} interprets the write compute object of a field.
+   */
+  private static OperationType getOperationType(Schema valueFieldSchema, Schema operationSchema) {
+    if (operationSchema.getType() == Schema.Type.RECORD && operationSchema.getName().equals(NO_OP_ON_FIELD.name)) {
+      return OperationType.NO_OP;
+    }
+    switch (valueFieldSchema.getType()) {
+      case ARRAY:
+        return operationSchema.getType() == Schema.Type.ARRAY ? OperationType.PUT : OperationType.COLLECTION_MERGE;
+      case MAP:
+        return operationSchema.getType() == Schema.Type.MAP ? OperationType.PUT : OperationType.COLLECTION_MERGE;
+      case UNION:
+        if (operationSchema.getType() == Schema.Type.RECORD) {
+          for (Schema subSchema: valueFieldSchema.getTypes()) {
+            if ((subSchema.getType() == Schema.Type.ARRAY && operationSchema.getName().endsWith(LIST_OPS.name))
+                || (subSchema.getType() == Schema.Type.MAP && operationSchema.getName().endsWith(MAP_OPS.name))) {
+              return OperationType.COLLECTION_MERGE;
+            }
+          }
+        }
+        return OperationType.PUT;
+      default:
+        return OperationType.PUT;
+    }
+  }
+
+  private static int getUnionBranchIndex(Schema unionSchema, Schema branchSchema) {
+    List<Schema> types = unionSchema.getTypes();
+    for (int i = 0; i < types.size(); i++) {
+      if (types.get(i).getFullName().equals(branchSchema.getFullName())) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  public Schema getValueSchema() {
+    return valueSchema;
+  }
+
+  public Schema getWriteComputeSchema() {
+    return writeComputeSchema;
+  }
+
+  /**
+   * Apply the partial update on the current value.
+   *
+   * @param currValueBytes serialized current value, which is written with the value schema of this plan. It is null
+   *                       when there is no current value, in which case the fields take their default values.
+   * @param writeComputeBytes serialized partial update, which is written with the write compute schema of this plan.
+   * @return serialized updated value, which is written with the value schema of this plan.
+   */
+  public byte[] updateRecord(ByteBuffer currValueBytes, ByteBuffer writeComputeBytes) {
+    BinaryCursor currValueCursor = currValueBytes == null ? null : new BinaryCursor(currValueBytes);
+    BinaryCursor writeComputeCursor = new BinaryCursor(writeComputeBytes);
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream(
+        (currValueBytes == null ? 0 : currValueBytes.remaining()) + writeComputeBytes.remaining());
+    BinaryEncoder encoder = AvroCompatibilityHelper.newBinaryEncoder(outputStream, false, null);
+    try {
+      for (FieldPlan fieldPlan: fieldPlans) {
+        int currFieldStart = -1;
+        int currFieldEnd = -1;
+        if (currValueCursor != null) {
+          currFieldStart = currValueCursor.position;
+          currValueCursor.skip(fieldPlan.valueFieldSchema);
+          currFieldEnd = currValueCursor.position;
+        }
+        long operationIndex = writeComputeCursor.readLong();
+        if (operationIndex < 0 || operationIndex >= fieldPlan.operationPlans.length) {
+          throw new VeniceException(
+              "Invalid operation index: " + operationIndex + " for write compute field: " + fieldPlan.fieldName);
+        }
+        OperationPlan operationPlan = fieldPlan.operationPlans[(int) operationIndex];
+        int operationStart = writeComputeCursor.position;
+        writeComputeCursor.skip(operationPlan.operationSchema);
+        int operationEnd = writeComputeCursor.position;
+
+        switch (operationPlan.type) {
+          case NO_OP:
+            if (currValueCursor != null) {
+              encoder.writeFixed(currValueCursor.bytes, currFieldStart, currFieldEnd - currFieldStart);
+            } else {
+              byte[] defaultValueBytes = fieldPlan.getDefaultValueBytes();
+              encoder.writeFixed(defaultValueBytes, 0, defaultValueBytes.length);
+            }
+            break;
+          case PUT:
+            if (operationPlan.valueUnionIndex >= 0) {
+              encoder.writeIndex(operationPlan.valueUnionIndex);
+            }
+            encoder.writeFixed(writeComputeCursor.bytes, operationStart, operationEnd - operationStart);
+            break;
+          case COLLECTION_MERGE:
+            Object currFieldValue = currValueCursor != null
+                ? fieldPlan.valueFieldReader
+                    .read(null, newDecoder(currValueCursor.bytes, currFieldStart, currFieldEnd - currFieldStart))
+                : fieldPlan.valueFieldReader.read(
+                    null,
+                    newDecoder(fieldPlan.getDefaultValueBytes(), 0, fieldPlan.getDefaultValueBytes().length));
+            Object operation = operationPlan.operationReader
+                .read(null, newDecoder(writeComputeCursor.bytes, operationStart, operationEnd - operationStart));
+            fieldPlan.valueFieldWriter.write(
+                WRITE_COMPUTE_HANDLER.updateFieldValue(fieldPlan.valueFieldSchema, currFieldValue, operation),
+                encoder);
+            break;
+          default:
+            throw new IllegalStateException("Unexpected operation type: " + operationPlan.type);
+        }
+      }
+      encoder.flush();
+    } catch (IOException e) {
+      throw new VeniceException("Could not apply partial update on the serialized value", e);
+    }
+    return outputStream.toByteArray();
+  }
+
+  private static BinaryDecoder newDecoder(byte[] bytes, int offset, int length) {
+    return AvroCompatibilityHelper.newBinaryDecoder(bytes, offset, length, null);
+  }
+
+  private static byte[] encode(GenericDatumWriter<Object> writer, Object datum) {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    BinaryEncoder encoder = AvroCompatibilityHelper.newBinaryEncoder(outputStream, false, null);
+    try {
+      writer.write(datum, encoder);
+      encoder.flush();
+    } catch (IOException e) {
+      throw new VeniceException("Could not serialize the default value", e);
+    }
+    return outputStream.toByteArray();
+  }
+
+  private enum OperationType {
+    NO_OP, PUT, COLLECTION_MERGE
+  }
+
+  private static class OperationPlan {
+    private final OperationType type;
+    private final Schema operationSchema;
+    /** The branch index in the value field union to write before the new field value, or -1 if it is not a union. */
+    private final int valueUnionIndex;
+    private final GenericDatumReader<Object> operationReader;
+
+    OperationPlan(
+        OperationType type,
+        Schema operationSchema,
+        int valueUnionIndex,
+        GenericDatumReader<Object> operationReader) {
+      this.type = type;
+      this.operationSchema = operationSchema;
+      this.valueUnionIndex = valueUnionIndex;
+      this.operationReader = operationReader;
+    }
+  }
+
+  private static class FieldPlan {
+    private final String fieldName;
+    private final Schema valueFieldSchema;
+    private final OperationPlan[] operationPlans;
+    private final byte[] defaultValueBytes;
+    private final GenericDatumReader<Object> valueFieldReader;
+    private final GenericDatumWriter<Object> valueFieldWriter;
+
+    FieldPlan(
+        String fieldName,
+        Schema valueFieldSchema,
+        OperationPlan[] operationPlans,
+        byte[] defaultValueBytes,
+        GenericDatumReader<Object> valueFieldReader,
+        GenericDatumWriter<Object> valueFieldWriter) {
+      this.fieldName = fieldName;
+      this.valueFieldSchema = valueFieldSchema;
+      this.operationPlans = operationPlans;
+      this.defaultValueBytes = defaultValueBytes;
+      this.valueFieldReader = valueFieldReader;
+      this.valueFieldWriter = valueFieldWriter;
+    }
+
+    byte[] getDefaultValueBytes() {
+      if (defaultValueBytes == null) {
+        throw new VeniceException(
+            String.format(
+                "Cannot apply updates because Field: %s is null and " + "default value is not defined",
+                fieldName));
+      }
+      return defaultValueBytes;
+    }
+  }
+
+  /**
+   * A cursor over Avro binary encoded bytes, which is able to skip a datum of any schema without decoding it, so that
+   * the byte range of every field can be located.
+   */
+  private static class BinaryCursor {
+    private final byte[] bytes;
+    private final int limit;
+    private int position;
+
+    BinaryCursor(ByteBuffer byteBuffer) {
+      if (byteBuffer.hasArray()) {
+        this.bytes = byteBuffer.array();
+        this.position = byteBuffer.arrayOffset() + byteBuffer.position();
+        this.limit = byteBuffer.arrayOffset() + byteBuffer.limit();
+      } else {
+        this.bytes = new byte[byteBuffer.remaining()];
+        byteBuffer.duplicate().get(bytes);
+        this.position = 0;
+        this.limit = bytes.length;
+      }
+    }
+
+    long readLong() {
+      long n = 0;
+      int shift = 0;
+      byte b;
+      do {
+        if (position >= limit || shift > 63) {
+          throw new VeniceException("Malformed Avro binary data at position: " + position);
+        }
+        b = bytes[position++];
+        n |= (b & 0x7FL) << shift;
+        shift += 7;
+      } while ((b & 0x80) != 0);
+      return (n >>> 1) ^ -(n & 1);
+    }
+
+    void advance(long length) {
+      if (length < 0 || length > limit - position) {
+        throw new VeniceException("Malformed Avro binary data at position: " + position);
+      }
+      position += (int) length;
+    }
+
+    void skip(Schema schema) {
+      switch (schema.getType()) {
+        case NULL:
+          break;
+        case BOOLEAN:
+          advance(1);
+          break;
+        case INT:
+        case LONG:
+        case ENUM:
+          readLong();
+          break;
+        case FLOAT:
+          advance(4);
+          break;
+        case DOUBLE:
+          advance(8);
+          break;
+        case STRING:
+        case BYTES:
+          advance(readLong());
+          break;
+        case FIXED:
+          advance(schema.getFixedSize());
+          break;
+        case ARRAY:
+          skipBlocks(schema.getElementType(), false);
+          break;
+        case MAP:
+          skipBlocks(schema.getValueType(), true);
+          break;
+        case UNION:
+          long index = readLong();
+          if (index < 0 || index >= schema.getTypes().size()) {
+            throw new VeniceException("Invalid union branch index: " + index + " for schema: " + schema);
+          }
+          skip(schema.getTypes().get((int) index));
+          break;
+        case RECORD:
+          for (Schema.Field field: schema.getFields()) {
+            skip(field.schema());
+          }
+          break;
+        default:
+          throw new VeniceException("Unsupported schema type: " + schema.getType());
+      }
+    }
+
+    private void skipBlocks(Schema itemSchema, boolean isMap) {
+      long count;
+      while ((count = readLong()) != 0) {
+        if (count < 0) {
+          // A negative count is followed by the size of the block in bytes, so that the block can be skipped at once.
+          advance(readLong());
+          continue;
+        }
+        for (long i = 0; i < count; i++) {
+          if (isMap) {
+            advance(readLong());
+          }
+          skip(itemSchema);
+        }
+      }
+    }
+  }
+}
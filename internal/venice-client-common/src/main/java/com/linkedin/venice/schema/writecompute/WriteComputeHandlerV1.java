@@ -71,7 +71,7 @@ public class WriteComputeHandlerV1 implements WriteComputeHandler {
    *                          on top of original value.
    * @return The updated value
    */
-  private Object updateFieldValue(Schema valueFieldSchema, Object originalFieldValue, Object writeComputeFieldValue) {
+  Object updateFieldValue(Schema valueFieldSchema, Object originalFieldValue, Object writeComputeFieldValue) {
     switch (valueFieldSchema.getType()) {
       case ARRAY:
         return updateArray(valueFieldSchema, (List) originalFieldValue, writeComputeFieldValue);
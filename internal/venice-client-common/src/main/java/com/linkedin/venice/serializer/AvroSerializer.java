@@ -5,6 +5,7 @@ import com.linkedin.avroutil1.compatibility.AvroVersion;
 import com.linkedin.venice.exceptions.VeniceException;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.DeterministicMapOrderGenericDatumWriter;
@@ -138,6 +139,17 @@ public class AvroSerializer<K> implements RecordSerializer<K> {
     return reusedOutputStream.toByteArray();
   }
 
+  @Override
+  public void serialize(K object, OutputStream output, ReusableObjects reuse) throws VeniceException {
+    Encoder encoder = AvroCompatibilityHelper.newBinaryEncoder(output, buffered, reuse.getBinaryEncoder());
+    try {
+      write(object, encoder);
+      encoder.flush();
+    } catch (IOException e) {
+      throw new VeniceException("Could not serialize the Avro object", e);
+    }
+  }
+
   @Override
   public byte[] serializeObjects(Iterable<K> objects) throws VeniceException {
     return serializeObjects(objects, null, new ByteArrayOutputStream());
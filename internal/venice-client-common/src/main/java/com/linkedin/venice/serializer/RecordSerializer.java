@@ -2,6 +2,8 @@ package com.linkedin.venice.serializer;
 
 import com.linkedin.venice.exceptions.VeniceException;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import org.apache.avro.io.BinaryEncoder;
 
@@ -20,6 +22,18 @@ public interface RecordSerializer<T> {
   byte[] serialize(T object, BinaryEncoder reusedEncoder, ByteArrayOutputStream reusedOutputStream)
       throws VeniceException;
 
+  /**
+   * Serializes {@param object} straight into {@param output}, instead of into a new byte array, and reuses the encoder
+   * of {@param reuse}.
+   */
+  default void serialize(T object, OutputStream output, ReusableObjects reuse) throws VeniceException {
+    try {
+      output.write(serialize(object, reuse));
+    } catch (IOException e) {
+      throw new VeniceException("Could not write the serialized object", e);
+    }
+  }
+
   byte[] serializeObjects(Iterable<T> objects) throws VeniceException;
 
   byte[] serializeObjects(Iterable<T> objects, ReusableObjects reuse) throws VeniceException;
@@ -0,0 +1,67 @@
+package com.linkedin.venice.compute;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class ComputeOperationUtilsTest {
+  private static final float DELTA = 0.0001f;
+
+  @Test
+  public void testFloatArrayOperations() {
+    // Odd size, so that both the unrolled loop and the remainder loop are exercised
+    List<Float> list1 = Arrays.asList(1.0f, 2.0f, 3.0f, 4.0f, 5.0f);
+    List<Float> list2 = Arrays.asList(2.0f, 0.5f, -1.0f, 3.0f, 1.0f);
+    float[] floats1 = ComputeOperationUtils.toFloatArray(list1, null);
+    float[] floats2 = ComputeOperationUtils.toFloatArray(list2, null);
+
+    Assert.assertEquals(ComputeOperationUtils.dotProduct(floats1, floats2, list1.size()), 18.0f, DELTA);
+    Assert.assertEquals(ComputeOperationUtils.dotProduct(list1, list2), 18.0f, DELTA);
+    Assert.assertEquals(ComputeOperationUtils.squaredL2Norm(list1), 55.0f, DELTA);
+    Assert.assertEquals(
+        ComputeOperationUtils.hadamardProduct(floats1, floats2, list1.size()),
+        new float[] { 2.0f, 1.0f, -3.0f, 12.0f, 5.0f });
+    Assert.assertEquals(
+        ComputeOperationUtils.hadamardProduct(list1, list2),
+        Arrays.asList(2.0f, 1.0f, -3.0f, 12.0f, 5.0f));
+  }
+
+  @Test
+  public void testToFloatArrayReusesLargeEnoughArray() {
+    List<Float> list = Arrays.asList(1.0f, 2.0f);
+    float[] largeEnough = new float[3];
+    Assert.assertSame(ComputeOperationUtils.toFloatArray(list, largeEnough), largeEnough);
+    Assert.assertEquals(largeEnough, new float[] { 1.0f, 2.0f, 0.0f });
+
+    float[] tooSmall = new float[1];
+    float[] floats = ComputeOperationUtils.toFloatArray(list, tooSmall);
+    Assert.assertNotSame(floats, tooSmall);
+    Assert.assertEquals(floats, new float[] { 1.0f, 2.0f });
+  }
+
+  @Test
+  public void testFloatArraysInContext() {
+    Map<String, Object> context = new HashMap<>();
+    List<Float> parameter = new ArrayList<>(Arrays.asList(1.0f, 2.0f));
+    float[] parameterFloats = ComputeOperationUtils.getCachedFloatArray(parameter, context);
+    // The parameters of a request are converted once
+    Assert.assertSame(ComputeOperationUtils.getCachedFloatArray(parameter, context), parameterFloats);
+    Assert.assertNotSame(
+        ComputeOperationUtils.getCachedFloatArray(new ArrayList<>(parameter), context),
+        parameterFloats);
+
+    // The value vectors of the records are copied into the same array, which grows when needed
+    float[] valueFloats = ComputeOperationUtils.copyToReusableFloatArray(Arrays.asList(1.0f, 2.0f, 3.0f), context);
+    Assert.assertSame(ComputeOperationUtils.copyToReusableFloatArray(Arrays.asList(4.0f, 5.0f), context), valueFloats);
+    Assert.assertEquals(valueFloats, new float[] { 4.0f, 5.0f, 3.0f });
+    float[] grownValueFloats =
+        ComputeOperationUtils.copyToReusableFloatArray(Arrays.asList(1.0f, 2.0f, 3.0f, 4.0f), context);
+    Assert.assertEquals(grownValueFloats, new float[] { 1.0f, 2.0f, 3.0f, 4.0f });
+    Assert.assertSame(ComputeOperationUtils.copyToReusableFloatArray(Arrays.asList(1.0f), context), grownValueFloats);
+  }
+}
@@ -291,6 +291,82 @@ public class CollectionMergeTest {
     Assert.assertEquals(updatedMap, Arrays.asList("key1", "key2", "key3", "key4"));
   }
 
+  @Test
+  public void testCollectionMergeListKeepsElementsSortedByTimestampAndElement() {
+    CollectionRmdTimestamp<Object> collectionMetadata =
+        createCollectionMergeListRmd(Arrays.asList(2L, 3L, 3L, 5L), Collections.singletonList(4L), "key8");
+    GenericRecord currValueRecord = new GenericData.Record(VALUE_SCHEMA);
+    currValueRecord.put(LIST_FIELD_NAME, Arrays.asList("key3", "key1", "key2", "key4"));
+    SortBasedCollectionFieldOpHandler handlerToTest =
+        new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE);
+
+    // New elements are sorted together with the existing elements carrying the same timestamp.
+    handlerToTest.handleModifyList(
+        3L,
+        collectionMetadata,
+        currValueRecord,
+        LIST_FIELD_NAME,
+        Arrays.asList("key5", "key0"),
+        Collections.singletonList("key7"));
+    Assert.assertEquals(
+        currValueRecord.get(LIST_FIELD_NAME),
+        Arrays.asList("key3", "key0", "key1", "key2", "key5", "key4"));
+    Assert.assertEquals(collectionMetadata.getActiveElementTimestamps(), Arrays.asList(2L, 3L, 3L, 3L, 3L, 5L));
+    Assert.assertEquals(collectionMetadata.getDeletedElements(), Arrays.asList("key7", "key8"));
+    Assert.assertEquals(collectionMetadata.getDeletedElementTimestamps(), Arrays.asList(3L, 4L));
+
+    // Elements are placed between the existing elements with smaller and larger timestamps.
+    handlerToTest.handleModifyList(
+        4L,
+        collectionMetadata,
+        currValueRecord,
+        LIST_FIELD_NAME,
+        Arrays.asList("key6", "key1"),
+        Arrays.asList("key3", "key9"));
+    Assert.assertEquals(
+        currValueRecord.get(LIST_FIELD_NAME),
+        Arrays.asList("key0", "key2", "key5", "key1", "key6", "key4"));
+    Assert.assertEquals(collectionMetadata.getActiveElementTimestamps(), Arrays.asList(3L, 3L, 3L, 4L, 4L, 5L));
+    Assert.assertEquals(collectionMetadata.getDeletedElements(), Arrays.asList("key7", "key3", "key8", "key9"));
+    Assert.assertEquals(collectionMetadata.getDeletedElementTimestamps(), Arrays.asList(3L, 4L, 4L, 4L));
+  }
+
+  @Test
+  public void testCollectionMergeListSortsUnsortedExistingElements() {
+    CollectionRmdTimestamp<Object> collectionMetadata =
+        createCollectionMergeListRmd(Arrays.asList(2L, 2L), Collections.emptyList());
+    GenericRecord currValueRecord = new GenericData.Record(VALUE_SCHEMA);
+    currValueRecord.put(LIST_FIELD_NAME, Arrays.asList("key2", "key1"));
+    SortBasedCollectionFieldOpHandler handlerToTest =
+        new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE);
+
+    handlerToTest.handleModifyList(
+        3L,
+        collectionMetadata,
+        currValueRecord,
+        LIST_FIELD_NAME,
+        Collections.singletonList("key0"),
+        Collections.emptyList());
+    Assert.assertEquals(currValueRecord.get(LIST_FIELD_NAME), Arrays.asList("key1", "key2", "key0"));
+    Assert.assertEquals(collectionMetadata.getActiveElementTimestamps(), Arrays.asList(2L, 2L, 3L));
+  }
+
+  private CollectionRmdTimestamp<Object> createCollectionMergeListRmd(
+      List<Long> activeTimestamps,
+      List<Long> deletedTimestamps,
+      Object... deletedElements) {
+    CollectionTimestampBuilder collectionTimestampBuilder =
+        new CollectionTimestampBuilder(Schema.create(Schema.Type.STRING));
+    collectionTimestampBuilder.setTopLevelTimestamps(1L);
+    collectionTimestampBuilder.setTopLevelColoID(1);
+    collectionTimestampBuilder.setPutOnlyPartLength(0);
+    collectionTimestampBuilder.setActiveElementsTimestamps(activeTimestamps);
+    collectionTimestampBuilder.setDeletedElementTimestamps(deletedTimestamps);
+    collectionTimestampBuilder.setDeletedElements(Schema.create(Schema.Type.STRING), Arrays.asList(deletedElements));
+    collectionTimestampBuilder.setCollectionTimestampSchema(RMD_TIMESTAMP_SCHEMA.getField(LIST_FIELD_NAME).schema());
+    return new CollectionRmdTimestamp<>(collectionTimestampBuilder.build());
+  }
+
   private GenericRecord initiateFieldLevelRmdRecord() {
     GenericRecord rmdRecord = new GenericData.Record(RMD_SCHEMA);
     Schema fieldLevelTimestampSchema =
@@ -0,0 +1,179 @@
+package com.linkedin.venice.schema.writecompute;
+
+import static com.linkedin.venice.schema.writecompute.WriteComputeConstants.LIST_OPS_NAME;
+import static com.linkedin.venice.schema.writecompute.WriteComputeConstants.MAP_DIFF;
+import static com.linkedin.venice.schema.writecompute.WriteComputeConstants.MAP_OPS_NAME;
+import static com.linkedin.venice.schema.writecompute.WriteComputeConstants.MAP_UNION;
+import static com.linkedin.venice.schema.writecompute.WriteComputeConstants.SET_DIFF;
+import static com.linkedin.venice.schema.writecompute.WriteComputeConstants.SET_UNION;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.schema.merge.CollectionTimestampMergeRecordHelper;
+import com.linkedin.venice.serializer.AvroGenericDeserializer;
+import com.linkedin.venice.serializer.AvroSerializer;
+import com.linkedin.venice.serializer.avro.MapOrderingPreservingSerDeFactory;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestBinaryPartialUpdatePlan {
+  private static final String VALUE_SCHEMA_STR = "{\"type\":\"record\",\"name\":\"testRecord\",\"fields\":["
+      + "{\"name\":\"intField\",\"type\":\"int\",\"default\":0},"
+      + "{\"name\":\"stringField\",\"type\":\"string\",\"default\":\"\"},"
+      + "{\"name\":\"arrayField\",\"type\":{\"type\":\"array\",\"items\":\"int\"},\"default\":[]},"
+      + "{\"name\":\"mapField\",\"type\":{\"type\":\"map\",\"values\":\"int\"},\"default\":{}},"
+      + "{\"name\":\"nullableArrayField\",\"type\":[\"null\",{\"type\":\"array\",\"items\":\"int\"}],\"default\":null},"
+      + "{\"name\":\"nullableIntField\",\"type\":[\"null\",\"int\"],\"default\":null}]}";
+
+  private final Schema valueSchema = AvroCompatibilityHelper.parse(VALUE_SCHEMA_STR);
+  private final Schema writeComputeSchema =
+      WriteComputeSchemaConverter.getInstance().convertFromValueRecordSchema(valueSchema);
+  private final BinaryPartialUpdatePlan plan = BinaryPartialUpdatePlan.compile(valueSchema, writeComputeSchema);
+  private final WriteComputeProcessor writeComputeProcessor =
+      new WriteComputeProcessor(new CollectionTimestampMergeRecordHelper());
+
+  @Test
+  public void testUpdateFieldsAndCollections() {
+    GenericRecord updateRecord = createNoOpUpdateRecord();
+    updateRecord.put("intField", 5);
+    updateRecord.put("nullableIntField", 7);
+    updateRecord.put("arrayField", createListOps("arrayField", Arrays.asList(3, 4), Collections.singletonList(1)));
+    Map<String, Integer> mapUnion = new HashMap<>();
+    mapUnion.put("c", 3);
+    updateRecord.put("mapField", createMapOps(mapUnion, Collections.singletonList("a")));
+    updateRecord
+        .put("nullableArrayField", createListOps("nullableArrayField", Arrays.asList(8, 9), Collections.emptyList()));
+
+    verifyUpdate(createCurrentValue(), updateRecord);
+  }
+
+  @Test
+  public void testUpdateWithoutCurrentValue() {
+    GenericRecord updateRecord = createNoOpUpdateRecord();
+    updateRecord.put("stringField", "new");
+    updateRecord.put("arrayField", createListOps("arrayField", Arrays.asList(1, 2), Collections.emptyList()));
+
+    verifyUpdate(null, updateRecord);
+  }
+
+  @Test
+  public void testSetFieldsToNewValuesAndNull() {
+    GenericRecord updateRecord = createNoOpUpdateRecord();
+    updateRecord.put("stringField", "new");
+    updateRecord.put("arrayField", Arrays.asList(7, 8));
+    updateRecord.put("mapField", Collections.singletonMap("z", 26));
+    updateRecord.put("nullableArrayField", null);
+    updateRecord.put("nullableIntField", null);
+
+    verifyUpdate(createCurrentValue(), updateRecord);
+  }
+
+  @Test
+  public void testNoOpUpdateCopiesCurrentValueBytes() {
+    byte[] currValueBytes = new AvroSerializer<>(valueSchema).serialize(createCurrentValue());
+    byte[] updatedValueBytes = plan.updateRecord(ByteBuffer.wrap(currValueBytes), serialize(createNoOpUpdateRecord()));
+    Assert.assertEquals(updatedValueBytes, currValueBytes);
+  }
+
+  @Test
+  public void testUpdateCurrentValueWithOffset() {
+    byte[] currValueBytes = new AvroSerializer<>(valueSchema).serialize(createCurrentValue());
+    byte[] paddedBytes = new byte[currValueBytes.length + 8];
+    System.arraycopy(currValueBytes, 0, paddedBytes, 4, currValueBytes.length);
+    GenericRecord updateRecord = createNoOpUpdateRecord();
+    updateRecord.put("intField", 100);
+
+    byte[] updatedValueBytes = plan.updateRecord(
+        ByteBuffer.wrap(paddedBytes, 4, currValueBytes.length).slice(),
+        serialize(updateRecord));
+    GenericRecord updatedValue = deserialize(updatedValueBytes);
+    Assert.assertEquals(updatedValue.get("intField"), 100);
+    Assert.assertEquals(updatedValue.get("stringField").toString(), "current");
+  }
+
+  @Test(expectedExceptions = IllegalStateException.class)
+  public void testCompileRejectsMismatchedSchemas() {
+    Schema otherValueSchema = AvroCompatibilityHelper.parse(
+        "{\"type\":\"record\",\"name\":\"otherRecord\",\"fields\":["
+            + "{\"name\":\"otherField\",\"type\":\"int\",\"default\":0}]}");
+    BinaryPartialUpdatePlan.compile(otherValueSchema, writeComputeSchema);
+  }
+
+  private void verifyUpdate(GenericRecord currValue, GenericRecord updateRecord) {
+    ByteBuffer currValueBytes =
+        currValue == null ? null : ByteBuffer.wrap(new AvroSerializer<>(valueSchema).serialize(currValue));
+    ByteBuffer updateBytes = serialize(updateRecord);
+    byte[] updatedValueBytes = plan.updateRecord(currValueBytes, updateBytes);
+
+    GenericRecord expectedValue = writeComputeProcessor.updateRecord(
+        valueSchema,
+        currValue == null ? null : deserialize(currValueBytes.array()),
+        MapOrderingPreservingSerDeFactory.getDeserializer(writeComputeSchema, writeComputeSchema)
+            .deserialize(updateBytes));
+    // Compare the deserialized records, since the ordering of map entries in the serialized bytes is not deterministic.
+    Assert.assertEquals(
+        deserialize(updatedValueBytes),
+        deserialize(new AvroSerializer<>(valueSchema).serialize(expectedValue)));
+  }
+
+  private GenericRecord createCurrentValue() {
+    GenericRecord currValue = new GenericData.Record(valueSchema);
+    currValue.put("intField", 1);
+    currValue.put("stringField", "current");
+    currValue.put("arrayField", Arrays.asList(1, 2, 3));
+    Map<String, Integer> map = new HashMap<>();
+    map.put("a", 1);
+    map.put("b", 2);
+    currValue.put("mapField", map);
+    currValue.put("nullableArrayField", null);
+    currValue.put("nullableIntField", 6);
+    return currValue;
+  }
+
+  private GenericRecord createNoOpUpdateRecord() {
+    GenericRecord updateRecord = new GenericData.Record(writeComputeSchema);
+    for (Schema.Field field: writeComputeSchema.getFields()) {
+      updateRecord.put(field.name(), new GenericData.Record(field.schema().getTypes().get(0)));
+    }
+    return updateRecord;
+  }
+
+  private GenericRecord createListOps(String fieldName, Object setUnion, Object setDiff) {
+    GenericRecord listOps = new GenericData.Record(getOperationSchema(fieldName, LIST_OPS_NAME));
+    listOps.put(SET_UNION, setUnion);
+    listOps.put(SET_DIFF, setDiff);
+    return listOps;
+  }
+
+  private GenericRecord createMapOps(Object mapUnion, Object mapDiff) {
+    GenericRecord mapOps = new GenericData.Record(getOperationSchema("mapField", MAP_OPS_NAME));
+    mapOps.put(MAP_UNION, mapUnion);
+    mapOps.put(MAP_DIFF, mapDiff);
+    return mapOps;
+  }
+
+  private Schema getOperationSchema(String fieldName, String operationName) {
+    for (Schema schema: writeComputeSchema.getField(fieldName).schema().getTypes()) {
+      if (schema.getType() == Schema.Type.RECORD && schema.getName().endsWith(operationName)) {
+        return schema;
+      }
+    }
+    throw new IllegalArgumentException("Cannot find " + operationName + " for field " + fieldName);
+  }
+
+  private ByteBuffer serialize(GenericRecord updateRecord) {
+    return ByteBuffer.wrap(new AvroSerializer<>(writeComputeSchema).serialize(updateRecord));
+  }
+
+  private GenericRecord deserialize(byte[] valueBytes) {
+    return new AvroGenericDeserializer<GenericRecord>(valueSchema, valueSchema).deserialize(valueBytes);
+  }
+}
@@ -388,6 +388,20 @@ public class ConfigKeys {
       "store.writer.buffer.after.leader.logic.enabled";
   public static final String STORE_WRITER_BUFFER_MEMORY_CAPACITY = "store.writer.buffer.memory.capacity";
   public static final String STORE_WRITER_BUFFER_NOTIFY_DELTA = "store.writer.buffer.notify.delta";
+  /**
+   * The max number of records each store writer (drainer) takes out of its buffer per wake-up. 1 means no batching.
+   */
+  public static final String STORE_WRITER_DRAIN_BATCH_MAX_RECORDS = "store.writer.drain.batch.max.records";
+  /**
+   * The max size of the records each store writer (drainer) takes out of its buffer per wake-up.
+   */
+  public static final String STORE_WRITER_DRAIN_BATCH_MAX_BYTES = "store.writer.drain.batch.max.bytes";
+  /**
+   * Whether the store writer should persist the follower records of the same partition, taken out of its buffer
+   * within the same wake-up, with a single RocksDB write batch. Only effective when
+   * {@link #STORE_WRITER_DRAIN_BATCH_MAX_RECORDS} is bigger than 1.
+   */
+  public static final String STORE_WRITER_ROCKSDB_WRITE_BATCH_ENABLED = "store.writer.rocksdb.write.batch.enabled";
   public static final String SERVER_REST_SERVICE_STORAGE_THREAD_NUM = "server.rest.service.storage.thread.num";
   public static final String SERVER_NETTY_IDLE_TIME_SECONDS = "server.netty.idle.time.seconds";
   public static final String SERVER_MAX_REQUEST_SIZE = "server.max.request.size";
@@ -527,6 +541,101 @@ public class ConfigKeys {
    */
   public static final String SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE = "server.parallel.batch.get.chunk.size";
 
+  /**
+   * Whether parallel batch-get lookups should run in a dedicated work-stealing pool, with the number of chunks picked
+   * for each request from its key count, the load of the pool and the observed lookup latency, instead of using
+   * {@link #SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE}. Only takes effect if {@link #SERVER_ENABLE_PARALLEL_BATCH_GET} is
+   * enabled.
+   */
+  public static final String SERVER_ADAPTIVE_PARALLEL_BATCH_GET_ENABLED = "server.adaptive.parallel.batch.get.enabled";
+
+  /**
+   * Number of threads of the work-stealing pool used by adaptive parallel batch-get.
+   */
+  public static final String SERVER_ADAPTIVE_PARALLEL_BATCH_GET_THREAD_NUM =
+      "server.adaptive.parallel.batch.get.thread.num";
+
+  /**
+   * The amount of lookup work, in microseconds, that adaptive parallel batch-get aims to put into each chunk.
+   */
+  public static final String SERVER_ADAPTIVE_PARALLEL_BATCH_GET_TARGET_CHUNK_LATENCY_US =
+      "server.adaptive.parallel.batch.get.target.chunk.latency.us";
+
+  /**
+   * Whether read and compute requests should each run on their own virtual thread, with the concurrency bounded by
+   * {@link #SERVER_VIRTUAL_THREAD_READ_MAX_CONCURRENCY} and {@link #SERVER_VIRTUAL_THREAD_COMPUTE_MAX_CONCURRENCY},
+   * instead of running on the fixed thread pools sized by {@link #SERVER_REST_SERVICE_STORAGE_THREAD_NUM} and
+   * {@link #SERVER_COMPUTE_THREAD_NUM}. The runtime needs to support virtual threads (Java 21+), otherwise the requests
+   * run on platform threads, with the same concurrency bounds.
+   */
+  public static final String SERVER_VIRTUAL_THREAD_EXECUTION_ENABLED = "server.virtual.thread.execution.enabled";
+
+  /**
+   * Max number of single-get and batch-get requests executing at the same time when
+   * {@link #SERVER_VIRTUAL_THREAD_EXECUTION_ENABLED} is enabled.
+   */
+  public static final String SERVER_VIRTUAL_THREAD_READ_MAX_CONCURRENCY = "server.virtual.thread.read.max.concurrency";
+
+  /**
+   * Max number of compute requests executing at the same time when {@link #SERVER_VIRTUAL_THREAD_EXECUTION_ENABLED} is
+   * enabled.
+   */
+  public static final String SERVER_VIRTUAL_THREAD_COMPUTE_MAX_CONCURRENCY =
+      "server.virtual.thread.compute.max.concurrency";
+
+  /**
+   * Max number of read or compute requests waiting for their turn to execute when
+   * {@link #SERVER_VIRTUAL_THREAD_EXECUTION_ENABLED} is enabled, above which requests are executed by the caller thread
+   * to push back on the intake of new requests.
+   */
+  public static final String SERVER_VIRTUAL_THREAD_QUEUE_CAPACITY = "server.virtual.thread.queue.capacity";
+
+  /**
+   * Max number of idle sets of reusable objects (decoders, records and scratch buffers) kept around for compute
+   * requests. Compute requests which find none idle allocate a new set, which is dropped afterwards if the pool is full.
+   */
+  public static final String SERVER_COMPUTE_REUSABLE_OBJECTS_POOL_SIZE = "server.compute.reusable.objects.pool.size";
+
+  /**
+   * Size of the scratch buffer of each set of compute reusable objects, which holds the values read from the storage
+   * engine. Sets which serialized a compute result larger than this are not returned to the pool.
+   */
+  public static final String SERVER_COMPUTE_REUSABLE_BYTE_BUFFER_SIZE = "server.compute.reusable.byte.buffer.size";
+
+  /**
+   * Max number of schemas for which each set of compute reusable objects keeps a value record and a result record,
+   * the least recently used ones being evicted beyond that.
+   */
+  public static final String SERVER_COMPUTE_REUSABLE_RECORD_CACHE_SIZE = "server.compute.reusable.record.cache.size";
+
+  /**
+   * Whether to look up the keys of batch-get and compute requests with a single batched storage engine call per
+   * sub-partition, instead of one lookup per key.
+   */
+  public static final String SERVER_ENABLE_BATCH_LOOKUP = "server.enable.batch.lookup";
+
+  /**
+   * Whether to read the values of single-get requests straight into direct buffers from the channel allocator, which
+   * are then handed over to Netty without any heap copy.
+   */
+  public static final String SERVER_ENABLE_DIRECT_BUFFER_READ = "server.enable.direct.buffer.read";
+
+  /**
+   * Whether to keep a size bounded cache of the hot values of each store version in front of the storage engine, to
+   * serve single-get and batch-get requests.
+   */
+  public static final String SERVER_HOT_KEY_CACHE_ENABLED = "server.hot.key.cache.enabled";
+
+  /**
+   * The capacity of the hot key cache of each store version, in bytes.
+   */
+  public static final String SERVER_HOT_KEY_CACHE_CAPACITY_PER_VERSION = "server.hot.key.cache.capacity.per.version";
+
+  /**
+   * Values larger than this size, in bytes, are never put into the hot key cache.
+   */
+  public static final String SERVER_HOT_KEY_CACHE_MAX_VALUE_SIZE = "server.hot.key.cache.max.value.size";
+
   /**
    * The request early termination threshold map:
    * The key will be store name, and the value will be the actual threshold.
@@ -921,6 +1030,13 @@ public class ConfigKeys {
    */
   public static final String ROUTER_STORAGE_NODE_CLIENT_TYPE = "router.storage.node.client.type";
 
+  /**
+   * Max size of the content of a storage node response, above which the request fails, when the router uses the
+   * NETTY_4_CLIENT {@link #ROUTER_STORAGE_NODE_CLIENT_TYPE}, which aggregates the response content in memory.
+   */
+  public static final String ROUTER_STORAGE_NODE_RESPONSE_MAX_CONTENT_LENGTH =
+      "router.storage.node.response.max.content.length";
+
   /**
    * Netty graceful shutdown period considering the following factors:
    * 1. D2 de-announcement could take some time;
@@ -1768,6 +1884,29 @@ public class ConfigKeys {
    */
   public static final String ROUTER_META_STORE_SHADOW_READ_ENABLED = "router.meta.store.shadow.read.enabled";
 
+  /**
+   * The comma separated list of the stores whose single-get and multi-get responses are cached by the router, which
+   * means the response cache is disabled when the list is empty.
+   */
+  public static final String ROUTER_RESPONSE_CACHE_ENABLED_STORES = "router.response.cache.enabled.stores";
+
+  /**
+   * The max off-heap memory used to cache the responses of each store, e.g. 256MB.
+   */
+  public static final String ROUTER_RESPONSE_CACHE_MAX_MEMORY_PER_STORE = "router.response.cache.max.memory.per.store";
+
+  /**
+   * How long the cached responses of a hybrid store stay valid, since the values of hybrid stores keep being updated
+   * between the pushes.
+   */
+  public static final String ROUTER_RESPONSE_CACHE_HYBRID_STORE_TTL_MS = "router.response.cache.hybrid.store.ttl.ms";
+
+  /**
+   * The comma separated list of the stores whose concurrent single-get requests of the same key are coalesced by the
+   * router, so that they share the same storage node request.
+   */
+  public static final String ROUTER_REQUEST_COALESCING_ENABLED_STORES = "router.request.coalescing.enabled.stores";
+
   /**
    * Defines the key names in venice.server.kafkaClustersMap
    */
@@ -1794,6 +1933,37 @@ public class ConfigKeys {
   public static final String SERVER_INGESTION_CHECKPOINT_DURING_GRACEFUL_SHUTDOWN_ENABLED =
       "server.ingestion.checkpoint.during.graceful.shutdown.enabled";
 
+  /**
+   * Whether the leader of an active/active store version looks up the values and replication metadata of all the keys
+   * of a polled real-time batch with a single storage engine call ahead of conflict resolution, instead of doing two
+   * lookups per record.
+   */
+  public static final String SERVER_ACTIVE_ACTIVE_BATCH_PREFETCH_ENABLED =
+      "server.active.active.batch.prefetch.enabled";
+
+  /**
+   * Whether the leader of an active/active store version shards a polled real-time batch of a partition by key across
+   * a thread pool to run conflict resolution and write compute merge in parallel, instead of processing the batch
+   * record by record in the consumer thread. The records are still produced to the version topic in the consumed
+   * order.
+   */
+  public static final String SERVER_ACTIVE_ACTIVE_KEY_PARALLEL_PROCESSING_ENABLED =
+      "server.active.active.key.parallel.processing.enabled";
+
+  /**
+   * Size of the thread pool shared by all the ingestion tasks for key-parallel processing, which only takes effect when
+   * {@link #SERVER_ACTIVE_ACTIVE_KEY_PARALLEL_PROCESSING_ENABLED} is true.
+   */
+  public static final String SERVER_ACTIVE_ACTIVE_KEY_PARALLEL_PROCESSING_THREAD_POOL_SIZE =
+      "server.active.active.key.parallel.processing.thread.pool.size";
+
+  /**
+   * Whether the leader applies a write compute partial update on the serialized bytes of the current value directly,
+   * which copies the untouched fields as raw bytes and only decodes and re-encodes the updated fields, instead of
+   * deserializing and re-serializing the whole value record.
+   */
+  public static final String SERVER_BINARY_PARTIAL_UPDATE_ENABLED = "server.binary.partial.update.enabled";
+
   /**
    * A config to control which status store to use for fetching incremental push job status from the controller. This config
    * should be removed once the migration of push status to push status system store is complete.
@@ -22,8 +22,13 @@ public class ResourceAssignment {
   private volatile Map<String, PartitionAssignment> resourceToAssignmentsMap = new HashMap<>();
 
   public PartitionAssignment getPartitionAssignment(String resource) {
-    checkResource(resource);
-    return resourceToAssignmentsMap.get(resource);
+    // Read the map only once, as it could be swapped between a containsKey and a get.
+    Map<String, PartitionAssignment> assignments = resourceToAssignmentsMap;
+    PartitionAssignment partitionAssignment = assignments.get(resource);
+    if (partitionAssignment == null && !assignments.containsKey(resource)) {
+      throwResourceNotFound(resource);
+    }
+    return partitionAssignment;
   }
 
   public void setPartitionAssignment(String resource, PartitionAssignment partitionAssignment) {
@@ -42,14 +47,12 @@ public class ResourceAssignment {
     return resourceToAssignmentsMap.keySet();
   }
 
-  private void checkResource(String resourceName) {
-    if (!resourceToAssignmentsMap.containsKey(resourceName)) {
-      String errorMessage = "Resource '" + resourceName + "' does not exist";
-      LOGGER.trace(errorMessage);
-      // TODO: Might want to add some (configurable) retries here or higher up the stack. If the Helix spectator is out
-      // of sync, this fails...
-      throw new VeniceNoHelixResourceException(resourceName);
-    }
+  private void throwResourceNotFound(String resourceName) {
+    String errorMessage = "Resource '" + resourceName + "' does not exist";
+    LOGGER.trace(errorMessage);
+    // TODO: Might want to add some (configurable) retries here or higher up the stack. If the Helix spectator is out
+    // of sync, this fails...
+    throw new VeniceNoHelixResourceException(resourceName);
   }
 
   /**
@@ -31,9 +31,19 @@ public class Partition {
 
   private final Map<String, List<Instance>> stateToInstancesMap;
 
+  /**
+   * Partition is immutable, so the ready to serve instances are computed once here instead of for every lookup, which
+   * happens for every partition of every read request in router.
+   */
+  private final List<Instance> readyToServeInstances;
+
   public Partition(int id, Map<String, List<Instance>> stateToInstancesMap) {
     this.id = id;
     this.stateToInstancesMap = stateToInstancesMap;
+    List<Instance> completedInstances = getInstancesInState(ExecutionStatus.COMPLETED.name());
+    this.readyToServeInstances = completedInstances.size() > getInstancesInState(HelixState.ONLINE_STATE).size()
+        ? completedInstances
+        : getReadyInstances();
   }
 
   public List<Instance> getInstancesInState(String state) {
@@ -50,8 +60,7 @@ public class Partition {
    * TODO: remove this API once we've fully migrate to L/F model.
    */
   public List<Instance> getReadyToServeInstances() {
-    return getInstancesInState(ExecutionStatus.COMPLETED.name()).size() > getInstancesInState(HelixState.ONLINE_STATE)
-        .size() ? getInstancesInState(ExecutionStatus.COMPLETED.name()) : getReadyInstances();
+    return readyToServeInstances;
   }
 
   private List<Instance> getReadyInstances() {
@@ -20,6 +20,11 @@ public class PartitionAssignment {
   // TODO will remove the Partition class in the next change, instead, use map of <partitionId,List<Replica>> and expose
   // TODO the methods like getInstance(partitionId), getAllPartitionIds() from PartitionAssignment class.
   private final Map<Integer, Partition> idToPartitionMap;
+  /**
+   * Same partitions as {@link #idToPartitionMap} indexed by partition id, so that the partition lookup in the read path
+   * is an array access instead of a map lookup with a boxed key.
+   */
+  private final Partition[] partitions;
 
   public PartitionAssignment(String topic, int numberOfPartition) {
     this.topic = topic;
@@ -30,10 +35,14 @@ public class PartitionAssignment {
     }
     this.expectedNumberOfPartitions = numberOfPartition;
     idToPartitionMap = new HashMap<>();
+    partitions = new Partition[numberOfPartition];
   }
 
   public Partition getPartition(int partitionId) {
-    return idToPartitionMap.get(partitionId);
+    if (partitionId < 0 || partitionId >= expectedNumberOfPartitions) {
+      return null;
+    }
+    return partitions[partitionId];
   }
 
   public void addPartition(Partition partition) {
@@ -43,10 +52,13 @@ public class PartitionAssignment {
               + expectedNumberOfPartitions + "]");
     }
     idToPartitionMap.put(partition.getId(), partition);
+    partitions[partition.getId()] = partition;
   }
 
   public void removePartition(int partitionId) {
-    idToPartitionMap.remove(partitionId);
+    if (idToPartitionMap.remove(partitionId) != null) {
+      partitions[partitionId] = null;
+    }
   }
 
   public Collection<Partition> getAllPartitions() {
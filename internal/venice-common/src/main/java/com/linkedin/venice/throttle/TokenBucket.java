@@ -3,23 +3,36 @@ package com.linkedin.venice.throttle;
 import java.time.Clock;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
 
 
 /**
  * @see <a href="http://en.wikipedia.org/wiki/Token_bucket">Token Bucket on Wikipedia</a>
  * This implementation aims to be very high performance with the goal of supporting a very large number of
  * TokenBuckets in an application; thus avoiding an auxilliary thread to refill the bucket.
+ *
+ * The tokens could be split into multiple stripes to avoid the contention of all the threads on the same counter when
+ * the bucket is shared by a lot of threads. Each thread consumes from its own stripe first, and only falls back to the
+ * other stripes when its own one doesn't have enough tokens, so the bucket still admits up to its total tokens.
+ * The stripes are reconciled on every refill: the refill that overflows the full stripes goes to the other ones.
  */
 public class TokenBucket {
-  private final long capacity;
+  /**
+   * Each stripe takes a whole cache line (8 longs) to avoid false sharing between the stripes.
+   */
+  private static final int STRIPE_PADDING = 8;
+
   private final long refillAmount;
   private final long refillIntervalMs;
   private final float refillPerSecond;// only used for logging
   private final Clock clock;
-  private final AtomicLong tokens;
+  private final int stripeCount;
+  private final long[] stripeCapacities;
+  private final AtomicLongArray stripeTokens;
   private final AtomicLong tokensCountAfterLastRefill;
-  private final AtomicLong tokensConsumedSinceLastRefill;
-  private volatile long nextUpdateTime;
+  private final LongAdder tokensConsumedSinceLastRefill;
+  private final AtomicLong nextUpdateTime;
 
   /**
    * This constructor should only be used by tests.  Application should not specify it's own instance of Clock
@@ -30,11 +43,29 @@ public class TokenBucket {
    * @param clock
    */
   public TokenBucket(long capacity, long refillAmount, long refillInterval, TimeUnit refillUnit, Clock clock) {
+    this(capacity, refillAmount, refillInterval, refillUnit, clock, 1);
+  }
+
+  /**
+   * This constructor should only be used by tests.  Application should not specify it's own instance of Clock
+   * @param capacity
+   * @param refillAmount
+   * @param refillInterval
+   * @param refillUnit
+   * @param clock
+   * @param stripeCount
+   */
+  public TokenBucket(
+      long capacity,
+      long refillAmount,
+      long refillInterval,
+      TimeUnit refillUnit,
+      Clock clock,
+      int stripeCount) {
 
     if (capacity <= 0) {
       throw new IllegalArgumentException("TokenBucket capacity " + capacity + " is not valid.  Must be greater than 0");
     }
-    this.capacity = capacity;
 
     if (refillAmount <= 0) {
       throw new IllegalArgumentException(
@@ -49,10 +80,21 @@ public class TokenBucket {
     this.refillIntervalMs = refillUnit.toMillis(refillInterval);
     this.clock = clock;
 
-    tokens = new AtomicLong(capacity);
-    tokensCountAfterLastRefill = new AtomicLong(tokens.get());
-    tokensConsumedSinceLastRefill = new AtomicLong(0);
-    nextUpdateTime = clock.millis() + refillIntervalMs;
+    if (stripeCount <= 0) {
+      throw new IllegalArgumentException(
+          "TokenBucket stripeCount " + stripeCount + " is not valid.  Must be greater than 0");
+    }
+    // Every stripe should be able to hold at least one token
+    this.stripeCount = (int) Math.min(stripeCount, capacity);
+    stripeCapacities = new long[this.stripeCount];
+    stripeTokens = new AtomicLongArray(this.stripeCount * STRIPE_PADDING);
+    for (int i = 0; i < this.stripeCount; i++) {
+      stripeCapacities[i] = capacity / this.stripeCount + (i < capacity % this.stripeCount ? 1 : 0);
+      stripeTokens.set(i * STRIPE_PADDING, stripeCapacities[i]);
+    }
+    tokensCountAfterLastRefill = new AtomicLong(capacity);
+    tokensConsumedSinceLastRefill = new LongAdder();
+    nextUpdateTime = new AtomicLong(clock.millis() + refillIntervalMs);
 
     float refillIntervalSeconds = refillIntervalMs / (float) 1000;
     refillPerSecond = refillAmount / refillIntervalSeconds;
@@ -70,33 +112,57 @@ public class TokenBucket {
     this(capacity, refillAmount, refillInterval, refillUnit, Clock.systemUTC());
   }
 
+  /**
+   *
+   * @param capacity The maximum number of tokens that the bucket can have at any one time.  Any refill beyond the
+   *                 capacity is lost.  A capacity larger than the refillAmount supports bursting.
+   * @param refillAmount The number of tokens added to the bucket each interval
+   * @param refillInterval The interval of time between refills of the bucket
+   * @param refillUnit The TimeUnit for the refillInterval
+   * @param stripeCount The number of stripes the tokens are split into, e.g. the number of cores for a bucket shared
+   *                    by all the request handling threads.  It is capped by the capacity.
+   */
+  public TokenBucket(long capacity, long refillAmount, long refillInterval, TimeUnit refillUnit, int stripeCount) {
+    this(capacity, refillAmount, refillInterval, refillUnit, Clock.systemUTC(), stripeCount);
+  }
+
   /**
    *
    * @return true if tokens may have been added, false if short circuited and no tokens were added
    */
   private boolean update() {
-    if (clock.millis() > nextUpdateTime) {
-      synchronized (this) {
-        if (clock.millis() > nextUpdateTime) {
-          long refillCount = (clock.millis() - nextUpdateTime) / refillIntervalMs + 1;
-          long totalRefillAmount = refillCount * refillAmount;
-          tokens.getAndAccumulate(totalRefillAmount, (existing, toAdd) -> {
-            long newTokens = existing + toAdd;
-            if (newTokens > capacity) {
-              return capacity;
-            } else {
-              return newTokens;
-            }
-          });
-          tokensCountAfterLastRefill.set(tokens.get());
-          tokensConsumedSinceLastRefill.set(0);
-          nextUpdateTime += refillCount * refillIntervalMs;
+    long now = clock.millis();
+    long updateTime = nextUpdateTime.get();
+    if (now <= updateTime) {
+      return false;
+    }
+    long refillCount = (now - updateTime) / refillIntervalMs + 1;
+    // Only the thread winning the race refills the bucket
+    if (nextUpdateTime.compareAndSet(updateTime, updateTime + refillCount * refillIntervalMs)) {
+      long remainingRefillAmount = refillCount * refillAmount;
+      // The first round adds an even share to each stripe, and the second round adds what overflows the full stripes
+      for (int round = 0; round < 2 && remainingRefillAmount > 0; round++) {
+        long share = round == 0 ? (remainingRefillAmount + stripeCount - 1) / stripeCount : remainingRefillAmount;
+        for (int i = 0; i < stripeCount && remainingRefillAmount > 0; i++) {
+          remainingRefillAmount -= addTokens(i, Math.min(share, remainingRefillAmount));
         }
       }
-      return true;
-    } else {
-      return false;
+      tokensCountAfterLastRefill.set(getStaleTokenCount());
+      tokensConsumedSinceLastRefill.reset();
     }
+    return true;
+  }
+
+  /**
+   * @return the number of tokens added, which is less than the specified number if the stripe becomes full
+   */
+  private long addTokens(int stripe, long tokensToAdd) {
+    long stripeCapacity = stripeCapacities[stripe];
+    long existing = stripeTokens.getAndAccumulate(
+        stripe * STRIPE_PADDING,
+        tokensToAdd,
+        (tokens, toAdd) -> Math.min(tokens + toAdd, stripeCapacity));
+    return Math.min(existing + tokensToAdd, stripeCapacity) - existing;
   }
 
   /**
@@ -105,7 +171,11 @@ public class TokenBucket {
    */
   public long getStaleTokenCount() {
     // TODO: maybe update the token after getting the stale token count
-    return tokens.get();
+    long tokens = 0;
+    for (int i = 0; i < stripeCount; i++) {
+      tokens += stripeTokens.get(i * STRIPE_PADDING);
+    }
+    return tokens;
   }
 
   /**
@@ -113,7 +183,7 @@ public class TokenBucket {
    * @return ratio between number of tokens consumed since last refill over the total token count after the last refill
    */
   public double getStaleUsageRatio() {
-    return (double) tokensConsumedSinceLastRefill.get() / (double) tokensCountAfterLastRefill.get();
+    return (double) tokensConsumedSinceLastRefill.sum() / (double) tokensCountAfterLastRefill.get();
   }
 
   public boolean tryConsume(long tokensToConsume) {
@@ -121,15 +191,54 @@ public class TokenBucket {
   }
 
   private boolean noRetryTryConsume(long tokensToConsume) {
-    long tokensThatWereAvailable = tokens.getAndAccumulate(tokensToConsume, (existing, toConsume) -> {
-      if (toConsume <= existing) { // there are sufficient tokens
-        tokensConsumedSinceLastRefill.getAndAdd(toConsume);
-        return existing - toConsume;
-      } else {
-        return existing; // insufficient tokens, do not consume any
+    int homeStripe = stripeCount == 1 ? 0 : (int) (Thread.currentThread().getId() % stripeCount);
+    if (takeTokens(homeStripe, tokensToConsume, true) == tokensToConsume) {
+      tokensConsumedSinceLastRefill.add(tokensToConsume);
+      return true;
+    }
+    if (stripeCount == 1) {
+      return false;
+    }
+    // Skip collecting the tokens when the other stripes obviously can't make up the shortfall, e.g. while throttling
+    if (getStaleTokenCount() < tokensToConsume) {
+      return false;
+    }
+    // Collect the tokens from all the stripes, and give them back if they are not enough in total
+    long remainingTokens = tokensToConsume;
+    for (int i = 0; i < stripeCount && remainingTokens > 0; i++) {
+      remainingTokens -= takeTokens((homeStripe + i) % stripeCount, remainingTokens, false);
+    }
+    if (remainingTokens == 0) {
+      tokensConsumedSinceLastRefill.add(tokensToConsume);
+      return true;
+    }
+    /**
+     * The taken tokens are given back to the stripes from the home stripe on, which may differ from the stripes they
+     * were taken from, but the total is the same. They could only overflow if a refill fills the stripes meanwhile.
+     */
+    long tokensToGiveBack = tokensToConsume - remainingTokens;
+    for (int i = 0; i < stripeCount && tokensToGiveBack > 0; i++) {
+      tokensToGiveBack -= addTokens((homeStripe + i) % stripeCount, tokensToGiveBack);
+    }
+    return false;
+  }
+
+  /**
+   * @param allOrNothing whether to take nothing if the stripe doesn't have enough tokens, or take all its tokens
+   * @return the number of tokens taken from the stripe
+   */
+  private long takeTokens(int stripe, long tokensToTake, boolean allOrNothing) {
+    int index = stripe * STRIPE_PADDING;
+    while (true) {
+      long existing = stripeTokens.get(index);
+      long taken = Math.min(existing, tokensToTake);
+      if (taken <= 0 || (allOrNothing && taken < tokensToTake)) {
+        return 0;
+      }
+      if (stripeTokens.compareAndSet(index, existing, existing - taken)) {
+        return taken;
       }
-    });
-    return tokensToConsume <= tokensThatWereAvailable;
+    }
   }
 
   public boolean tryConsume() {
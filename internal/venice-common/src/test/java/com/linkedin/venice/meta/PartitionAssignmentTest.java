@@ -65,4 +65,22 @@ public class PartitionAssignmentTest {
         0,
         "Partition 1 is deleted, there is no partition assigned.");
   }
+
+  @Test
+  public void testGetPartitionById() {
+    PartitionAssignment partitionAssignment = new PartitionAssignment("test", 3);
+    Map<String, List<Instance>> stateToInstancesMap = new HashMap<>();
+    Partition partition = new Partition(1, stateToInstancesMap);
+    partitionAssignment.addPartition(partition);
+    Assert.assertSame(partitionAssignment.getPartition(1), partition);
+    Assert.assertNull(partitionAssignment.getPartition(0), "Partition 0 has not been assigned.");
+    Assert.assertNull(partitionAssignment.getPartition(-1));
+    Assert.assertNull(partitionAssignment.getPartition(3));
+
+    Partition newPartition = new Partition(1, stateToInstancesMap);
+    partitionAssignment.addPartition(newPartition);
+    Assert.assertSame(partitionAssignment.getPartition(1), newPartition);
+    partitionAssignment.removePartition(1);
+    Assert.assertNull(partitionAssignment.getPartition(1), "Partition 1 has been removed.");
+  }
 }
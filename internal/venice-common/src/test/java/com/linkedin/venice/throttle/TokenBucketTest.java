@@ -8,6 +8,7 @@ import static org.testng.Assert.assertTrue;
 
 import java.time.Clock;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.testng.annotations.Test;
 
 
@@ -50,4 +51,52 @@ public class TokenBucketTest {
         (double) 40 / (double) 50,
         "After 3 refills and the most recent consumption of 40 the usage ratio should be 40/50");
   }
+
+  @Test
+  public static void testConsumeWithStripes() throws InterruptedException {
+    Clock mockClock = mock(Clock.class);
+    long start = System.currentTimeMillis();
+    doReturn(start).when(mockClock).millis();
+
+    TokenBucket tokenBucket = new TokenBucket(100, 30, 1, TimeUnit.SECONDS, mockClock, 4);
+    assertEquals(tokenBucket.getStaleTokenCount(), 100, "TokenBucket must start with full capacity");
+    // The request which doesn't fit in a single stripe is served by the tokens of all the stripes
+    assertTrue(tokenBucket.tryConsume(80), "TokenBucket must allow consuming available tokens");
+    assertEquals(tokenBucket.getStaleTokenCount(), 20);
+    assertFalse(tokenBucket.tryConsume(40), "TokenBucket must not allow consuming more tokens than available");
+    assertEquals(
+        tokenBucket.getStaleTokenCount(),
+        20,
+        "After failing to consume tokens, the remaining tokens in the bucket must be unchanged");
+
+    // The tokens are consumed from different stripes by different threads
+    AtomicInteger consumedTokens = new AtomicInteger();
+    Thread[] threads = new Thread[4];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] = new Thread(() -> {
+        for (int j = 0; j < 10; j++) {
+          if (tokenBucket.tryConsume()) {
+            consumedTokens.incrementAndGet();
+          }
+        }
+      });
+      threads[i].start();
+    }
+    for (Thread thread: threads) {
+      thread.join();
+    }
+    assertEquals(consumedTokens.get(), 20, "All the remaining tokens must be consumed, and no more");
+    assertEquals(tokenBucket.getStaleTokenCount(), 0);
+    assertFalse(tokenBucket.tryConsume(), "TokenBucket must not allow consuming more tokens than available");
+
+    doReturn(start + 1500).when(mockClock).millis(); // 1 refill of 30
+    assertTrue(tokenBucket.tryConsume(30), "After refill, bucket must support consumption");
+    assertEquals(tokenBucket.getStaleTokenCount(), 0);
+
+    // The refill overflowing the full stripes goes to the other ones
+    doReturn(start + 10500).when(mockClock).millis(); // 9 refills of 30 fill up the bucket
+    assertTrue(tokenBucket.tryConsume(10), "After refill, bucket must support consumption");
+    assertEquals(tokenBucket.getStaleTokenCount(), 90);
+    assertTrue(tokenBucket.tryConsume(90), "All the tokens in the bucket must be available");
+  }
 }
@@ -0,0 +1,16 @@
+package com.linkedin.venice.router;
+
+import com.linkedin.venice.router.httpclient.StorageNodeClientType;
+
+
+public class TestReadForNettyClient extends TestRead {
+  @Override
+  protected StorageNodeClientType getStorageNodeClientType() {
+    return StorageNodeClientType.NETTY_4_CLIENT;
+  }
+
+  @Override
+  protected boolean isRouterHttp2ClientEnabled() {
+    return true;
+  }
+}
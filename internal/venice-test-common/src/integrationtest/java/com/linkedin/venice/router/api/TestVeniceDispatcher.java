@@ -4,10 +4,13 @@ import static com.linkedin.venice.HttpConstants.VENICE_COMPRESSION_STRATEGY;
 import static com.linkedin.venice.HttpConstants.VENICE_REQUEST_RCU;
 import static com.linkedin.venice.HttpConstants.VENICE_SUPPORTED_COMPRESSION_STRATEGY;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -27,17 +30,29 @@ import com.linkedin.venice.integration.utils.ServiceFactory;
 import com.linkedin.venice.meta.Instance;
 import com.linkedin.venice.meta.LiveInstanceMonitor;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VeniceMultiGetPath;
 import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.cache.RouterResponseCache;
+import com.linkedin.venice.router.cache.StoreVersionResponseCache;
 import com.linkedin.venice.router.httpclient.ApacheHttpAsyncStorageNodeClient;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
 import com.linkedin.venice.router.httpclient.StorageNodeClient;
 import com.linkedin.venice.router.stats.AggHostHealthStats;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouteHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.utils.TestUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
@@ -50,7 +65,10 @@ import io.netty.handler.codec.http.HttpVersion;
 import io.tehuti.metrics.MetricsRepository;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -59,6 +77,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import org.apache.http.client.methods.HttpGet;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -66,6 +85,12 @@ import org.testng.annotations.Test;
 
 //TODO: refactor Dispatcher to take a HttpClient Factory, so we don't need to spin up an HTTP server for these tests
 public class TestVeniceDispatcher {
+  private static final RecordSerializer<MultiGetResponseRecordV1> MULTI_GET_RECORD_SERIALIZER =
+      FastSerializerDeserializerFactory.getFastAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema());
+  private static final RecordDeserializer<MultiGetResponseRecordV1> MULTI_GET_RECORD_DESERIALIZER =
+      FastSerializerDeserializerFactory
+          .getFastAvroSpecificDeserializer(MultiGetResponseRecordV1.getClassSchema(), MultiGetResponseRecordV1.class);
+
   @Test
   public void testErrorRetry() {
     VeniceDispatcher dispatcher = getMockDispatcher(false, false);
@@ -313,6 +338,380 @@ public class TestVeniceDispatcher {
     }
   }
 
+  @Test
+  public void testSingleGetRequestCoalescing() throws Exception {
+    VeniceRouterConfig routerConfig = mock(VeniceRouterConfig.class);
+    doReturn(10l).when(routerConfig).getMaxPendingRequest();
+    doReturn(TimeUnit.MINUTES.toMillis(1)).when(routerConfig).getLeakedFutureCleanupPollIntervalMs();
+    doReturn(TimeUnit.MINUTES.toMillis(1)).when(routerConfig).getLeakedFutureCleanupThresholdMs();
+    doReturn(Collections.singleton("test_store")).when(routerConfig).getRequestCoalescingEnabledStores();
+
+    StorageNodeClient storageNodeClient = mock(StorageNodeClient.class);
+    List<Consumer<PortableHttpResponse>> responseCallbacks = new ArrayList<>();
+    doAnswer(invocation -> {
+      responseCallbacks.add(invocation.getArgument(2));
+      return null;
+    }).when(storageNodeClient).query(any(), any(), any(), any(), any(), anyLong());
+
+    RouterStats<AggRouterHttpRequestStats> perStoreStats = mock(RouterStats.class);
+    AggRouterHttpRequestStats stats = mock(AggRouterHttpRequestStats.class);
+    doReturn(stats).when(perStoreStats).getStatsByType(any());
+
+    VeniceDispatcher dispatcher = new VeniceDispatcher(
+        routerConfig,
+        mock(ReadOnlyStoreRepository.class),
+        perStoreStats,
+        new MetricsRepository(),
+        storageNodeClient,
+        mock(RouteHttpRequestStats.class),
+        mock(AggHostHealthStats.class),
+        mock(RouterStats.class));
+    try {
+      ScatterGatherRequest part = mock(ScatterGatherRequest.class);
+      doReturn(Collections.singletonList(new Instance("host_1", "host", 1))).when(part).getHosts();
+      VeniceResponseDecompressor responseDecompressor = mock(VeniceResponseDecompressor.class);
+      doAnswer(invocation -> new ContentDecompressResult(invocation.getArgument(1), CompressionStrategy.NO_OP, 0))
+          .when(responseDecompressor)
+          .decompressSingleGetContent(any(), any());
+
+      RouterKey key = RouterKey.fromString("key");
+      List<FullHttpResponse> responses = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        VenicePath path = mock(VenicePath.class);
+        doReturn("test_store").when(path).getStoreName();
+        doReturn("test_store_v1").when(path).getResourceName();
+        doReturn(RequestType.SINGLE_GET).when(path).getRequestType();
+        doReturn(key).when(path).getPartitionKey();
+        doReturn(responseDecompressor).when(path).getResponseDecompressor();
+        AsyncPromise<List<FullHttpResponse>> responseFuture = mock(AsyncPromise.class);
+        doAnswer(invocation -> {
+          responses.addAll(invocation.getArgument(0));
+          return null;
+        }).when(responseFuture).setSuccess(any());
+
+        dispatcher.dispatch(
+            mock(Scatter.class),
+            part,
+            path,
+            mock(BasicFullHttpRequest.class),
+            mock(AsyncPromise.class),
+            responseFuture,
+            mock(AsyncPromise.class),
+            mock(AsyncPromise.class),
+            Runnable::run);
+      }
+      // Only the first request is sent to the storage node
+      Assert.assertEquals(responseCallbacks.size(), 1);
+      verify(stats, times(2)).recordCoalescedRequest("test_store");
+
+      ByteBuf content = Unpooled.wrappedBuffer("value".getBytes(StandardCharsets.UTF_8));
+      PortableHttpResponse response = mock(PortableHttpResponse.class);
+      doReturn(HttpResponseStatus.OK.code()).when(response).getStatusCode();
+      doReturn(content).when(response).getContentInByteBuf();
+      doReturn(HttpConstants.AVRO_BINARY).when(response).getFirstHeader(HttpHeaderNames.CONTENT_TYPE.toString());
+      doReturn("1").when(response).getFirstHeader(HttpConstants.VENICE_SCHEMA_ID);
+      responseCallbacks.get(0).accept(response);
+
+      Assert.assertEquals(responses.size(), 3);
+      Assert.assertEquals(content.refCnt(), 3);
+      for (FullHttpResponse fullHttpResponse: responses) {
+        Assert.assertEquals(fullHttpResponse.status(), HttpResponseStatus.OK);
+        Assert.assertEquals(fullHttpResponse.content().toString(StandardCharsets.UTF_8), "value");
+        fullHttpResponse.release();
+      }
+      Assert.assertEquals(content.refCnt(), 0);
+
+      // The request arriving after the response is sent to the storage node again
+      VenicePath path = mock(VenicePath.class);
+      doReturn("test_store").when(path).getStoreName();
+      doReturn("test_store_v1").when(path).getResourceName();
+      doReturn(RequestType.SINGLE_GET).when(path).getRequestType();
+      doReturn(key).when(path).getPartitionKey();
+      dispatcher.dispatch(
+          mock(Scatter.class),
+          part,
+          path,
+          mock(BasicFullHttpRequest.class),
+          mock(AsyncPromise.class),
+          mock(AsyncPromise.class),
+          mock(AsyncPromise.class),
+          mock(AsyncPromise.class),
+          Runnable::run);
+      Assert.assertEquals(responseCallbacks.size(), 2);
+    } finally {
+      dispatcher.stop();
+    }
+  }
+
+  @Test
+  public void testSingleGetServedByResponseCache() throws Exception {
+    StorageNodeClient storageNodeClient = mock(StorageNodeClient.class);
+    List<Consumer<PortableHttpResponse>> responseCallbacks = new ArrayList<>();
+    doAnswer(invocation -> {
+      responseCallbacks.add(invocation.getArgument(2));
+      return null;
+    }).when(storageNodeClient).query(any(), any(), any(), any(), any(), anyLong());
+    RouterResponseCache responseCache = createResponseCache();
+    VeniceDispatcher dispatcher = getResponseCacheDispatcher(storageNodeClient, responseCache);
+    try {
+      ScatterGatherRequest part = mock(ScatterGatherRequest.class);
+      doReturn(Collections.singletonList(new Instance("host_1", "host", 1))).when(part).getHosts();
+      RouterKey key = RouterKey.fromString("key");
+
+      // The first request misses the cache, and its response populates it
+      List<FullHttpResponse> responses = new ArrayList<>();
+      dispatcher.dispatch(
+          mock(Scatter.class),
+          part,
+          mockSingleGetPath(key),
+          mock(BasicFullHttpRequest.class),
+          mock(AsyncPromise.class),
+          mockResponseFuture(responses),
+          mock(AsyncPromise.class),
+          mock(AsyncPromise.class),
+          Runnable::run);
+      Assert.assertEquals(responseCallbacks.size(), 1);
+      PortableHttpResponse response = mock(PortableHttpResponse.class);
+      doReturn(HttpResponseStatus.OK.code()).when(response).getStatusCode();
+      doReturn(Unpooled.wrappedBuffer("value".getBytes(StandardCharsets.UTF_8))).when(response).getContentInByteBuf();
+      doReturn(HttpConstants.AVRO_BINARY).when(response).getFirstHeader(HttpHeaderNames.CONTENT_TYPE.toString());
+      doReturn("1").when(response).getFirstHeader(HttpConstants.VENICE_SCHEMA_ID);
+      responseCallbacks.get(0).accept(response);
+      Assert.assertEquals(responses.size(), 1);
+      responses.get(0).release();
+
+      // The second request is served by the cache, without going to the storage node
+      responses.clear();
+      dispatcher.dispatch(
+          mock(Scatter.class),
+          part,
+          mockSingleGetPath(key),
+          mock(BasicFullHttpRequest.class),
+          mock(AsyncPromise.class),
+          mockResponseFuture(responses),
+          mock(AsyncPromise.class),
+          mock(AsyncPromise.class),
+          Runnable::run);
+      Assert.assertEquals(responseCallbacks.size(), 1);
+      Assert.assertEquals(responses.size(), 1);
+      FullHttpResponse cachedResponse = responses.get(0);
+      Assert.assertEquals(cachedResponse.status(), HttpResponseStatus.OK);
+      Assert.assertEquals(cachedResponse.headers().get(HttpConstants.VENICE_SCHEMA_ID), "1");
+      Assert.assertEquals(cachedResponse.content().toString(StandardCharsets.UTF_8), "value");
+      cachedResponse.release();
+    } finally {
+      dispatcher.stop();
+      responseCache.clear();
+    }
+  }
+
+  @Test
+  public void testMultiGetMergesCachedRecords() throws Exception {
+    StorageNodeClient storageNodeClient = mock(StorageNodeClient.class);
+    List<Consumer<PortableHttpResponse>> responseCallbacks = new ArrayList<>();
+    doAnswer(invocation -> {
+      responseCallbacks.add(invocation.getArgument(2));
+      return null;
+    }).when(storageNodeClient).query(any(), any(), any(), any(), any(), anyLong());
+    RouterResponseCache responseCache = createResponseCache();
+    VeniceDispatcher dispatcher = getResponseCacheDispatcher(storageNodeClient, responseCache);
+    try {
+      ScatterGatherRequest part = mock(ScatterGatherRequest.class);
+      doReturn(Collections.singletonList(new Instance("host_1", "host", 1))).when(part).getHosts();
+      RouterKey key0 = RouterKey.fromString("key0");
+      RouterKey key1 = RouterKey.fromString("key1");
+      RouterKey key2 = RouterKey.fromString("key2");
+      StoreVersionResponseCache storeVersionCache = responseCache.getStoreVersionCache("test_store", 1);
+      storeVersionCache.putValue(key1.getKeyBuffer(), 1, ByteBuffer.wrap("cached".getBytes(StandardCharsets.UTF_8)));
+
+      Map<Integer, RouterKey> keyIdxToRouterKey = new HashMap<>();
+      keyIdxToRouterKey.put(0, key0);
+      keyIdxToRouterKey.put(1, key1);
+      keyIdxToRouterKey.put(2, key2);
+      VeniceMultiGetPath path = mock(VeniceMultiGetPath.class);
+      doReturn("test_store").when(path).getStoreName();
+      doReturn("test_store_v1").when(path).getResourceName();
+      doReturn(1).when(path).getVersionNumber();
+      doReturn(keyIdxToRouterKey.entrySet()).when(path).getKeyIdxToRouterKeySet();
+      doAnswer(invocation -> keyIdxToRouterKey.get(invocation.<Integer>getArgument(0)))
+          .when(path)
+          .getRouterKeyByKeyIdx(anyInt());
+      // The keys left in the sub-request once the cached key is removed
+      doReturn(Arrays.asList(key0, key2)).when(path).getPartitionKeys();
+      doReturn(mockResponseDecompressor()).when(path).getResponseDecompressor();
+
+      List<FullHttpResponse> responses = new ArrayList<>();
+      dispatcher.dispatch(
+          mock(Scatter.class),
+          part,
+          path,
+          mock(BasicFullHttpRequest.class),
+          mock(AsyncPromise.class),
+          mockResponseFuture(responses),
+          mock(AsyncPromise.class),
+          mock(AsyncPromise.class),
+          Runnable::run);
+      verify(path).removeFromRequest(key1);
+      verify(path, never()).removeFromRequest(key0);
+      verify(path, never()).removeFromRequest(key2);
+      Assert.assertEquals(responseCallbacks.size(), 1);
+
+      // The storage node only returns key0, since key2 doesn't exist
+      MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+      record.keyIndex = 0;
+      record.schemaId = 1;
+      record.value = ByteBuffer.wrap("value0".getBytes(StandardCharsets.UTF_8));
+      PortableHttpResponse response = mock(PortableHttpResponse.class);
+      doReturn(HttpResponseStatus.OK.code()).when(response).getStatusCode();
+      doReturn(Unpooled.wrappedBuffer(MULTI_GET_RECORD_SERIALIZER.serializeObjects(Collections.singletonList(record))))
+          .when(response)
+          .getContentInByteBuf();
+      doReturn(HttpConstants.AVRO_BINARY).when(response).getFirstHeader(HttpHeaderNames.CONTENT_TYPE.toString());
+      responseCallbacks.get(0).accept(response);
+
+      Assert.assertEquals(responses.size(), 1);
+      FullHttpResponse fullHttpResponse = responses.get(0);
+      Assert.assertEquals(fullHttpResponse.status(), HttpResponseStatus.OK);
+      Map<Integer, String> values = new HashMap<>();
+      for (MultiGetResponseRecordV1 responseRecord: MULTI_GET_RECORD_DESERIALIZER
+          .deserializeObjects(ByteBufUtil.getBytes(fullHttpResponse.content()))) {
+        values.put(responseRecord.keyIndex, StandardCharsets.UTF_8.decode(responseRecord.value).toString());
+      }
+      fullHttpResponse.release();
+      Assert.assertEquals(values.size(), 2);
+      Assert.assertEquals(values.get(0), "value0");
+      Assert.assertEquals(values.get(1), "cached");
+
+      // The response of the storage node is cached, including the key which doesn't exist
+      Assert.assertTrue(storeVersionCache.get(key0.getKeyBuffer()).isFound());
+      Assert.assertFalse(storeVersionCache.get(key2.getKeyBuffer()).isFound());
+    } finally {
+      dispatcher.stop();
+      responseCache.clear();
+    }
+  }
+
+  @Test
+  public void testContentIsReleasedWhenResponseCannotBeBuilt() throws Exception {
+    StorageNodeClient storageNodeClient = mock(StorageNodeClient.class);
+    List<Consumer<PortableHttpResponse>> responseCallbacks = new ArrayList<>();
+    doAnswer(invocation -> {
+      responseCallbacks.add(invocation.getArgument(2));
+      return null;
+    }).when(storageNodeClient).query(any(), any(), any(), any(), any(), anyLong());
+    VeniceRouterConfig routerConfig = mock(VeniceRouterConfig.class);
+    doReturn(10l).when(routerConfig).getMaxPendingRequest();
+    doReturn(TimeUnit.MINUTES.toMillis(1)).when(routerConfig).getLeakedFutureCleanupPollIntervalMs();
+    doReturn(TimeUnit.MINUTES.toMillis(1)).when(routerConfig).getLeakedFutureCleanupThresholdMs();
+    RouterStats<AggRouterHttpRequestStats> perStoreStats = mock(RouterStats.class);
+    doReturn(mock(AggRouterHttpRequestStats.class)).when(perStoreStats).getStatsByType(any());
+    VeniceDispatcher dispatcher = new VeniceDispatcher(
+        routerConfig,
+        mock(ReadOnlyStoreRepository.class),
+        perStoreStats,
+        new MetricsRepository(),
+        storageNodeClient,
+        mock(RouteHttpRequestStats.class),
+        mock(AggHostHealthStats.class),
+        mock(RouterStats.class));
+    try {
+      ScatterGatherRequest part = mock(ScatterGatherRequest.class);
+      doReturn(Collections.singletonList(new Instance("host_1", "host", 1))).when(part).getHosts();
+      AsyncPromise<List<FullHttpResponse>> responseFuture = mock(AsyncPromise.class);
+      dispatcher.dispatch(
+          mock(Scatter.class),
+          part,
+          mockSingleGetPath(RouterKey.fromString("key")),
+          mock(BasicFullHttpRequest.class),
+          mock(AsyncPromise.class),
+          responseFuture,
+          mock(AsyncPromise.class),
+          mock(AsyncPromise.class),
+          Runnable::run);
+      Assert.assertEquals(responseCallbacks.size(), 1);
+
+      // The response misses the schema id header, so the response to the client can't be built
+      ByteBuf content = Unpooled.wrappedBuffer("value".getBytes(StandardCharsets.UTF_8));
+      PortableHttpResponse response = mock(PortableHttpResponse.class);
+      doReturn(HttpResponseStatus.OK.code()).when(response).getStatusCode();
+      doReturn(content).when(response).getContentInByteBuf();
+      doReturn(HttpConstants.AVRO_BINARY).when(response).getFirstHeader(HttpHeaderNames.CONTENT_TYPE.toString());
+      responseCallbacks.get(0).accept(response);
+
+      verify(responseFuture).setFailure(any());
+      Assert.assertEquals(content.refCnt(), 0);
+    } finally {
+      dispatcher.stop();
+    }
+  }
+
+  private static RouterResponseCache createResponseCache() {
+    VeniceRouterConfig routerConfig = mock(VeniceRouterConfig.class);
+    doReturn(Collections.singleton("test_store")).when(routerConfig).getResponseCacheEnabledStores();
+    doReturn(1024L * 1024L).when(routerConfig).getResponseCacheMaxMemoryPerStore();
+    doReturn(-1L).when(routerConfig).getResponseCacheHybridStoreTtlMs();
+    RouterResponseCache responseCache = new RouterResponseCache(routerConfig);
+    Store store = mock(Store.class);
+    doReturn("test_store").when(store).getName();
+    Version version = mock(Version.class);
+    doReturn(CompressionStrategy.NO_OP).when(version).getCompressionStrategy();
+    doReturn(Optional.of(version)).when(store).getVersion(1);
+    responseCache.updateServingVersion(store, 1);
+    return responseCache;
+  }
+
+  private static VeniceDispatcher getResponseCacheDispatcher(
+      StorageNodeClient storageNodeClient,
+      RouterResponseCache responseCache) {
+    VeniceRouterConfig routerConfig = mock(VeniceRouterConfig.class);
+    doReturn(10l).when(routerConfig).getMaxPendingRequest();
+    doReturn(TimeUnit.MINUTES.toMillis(1)).when(routerConfig).getLeakedFutureCleanupPollIntervalMs();
+    doReturn(TimeUnit.MINUTES.toMillis(1)).when(routerConfig).getLeakedFutureCleanupThresholdMs();
+    RouterStats<AggRouterHttpRequestStats> perStoreStats = mock(RouterStats.class);
+    doReturn(mock(AggRouterHttpRequestStats.class)).when(perStoreStats).getStatsByType(any());
+    return new VeniceDispatcher(
+        routerConfig,
+        mock(ReadOnlyStoreRepository.class),
+        perStoreStats,
+        new MetricsRepository(),
+        storageNodeClient,
+        mock(RouteHttpRequestStats.class),
+        mock(AggHostHealthStats.class),
+        mock(RouterStats.class),
+        Optional.of(responseCache));
+  }
+
+  private static VenicePath mockSingleGetPath(RouterKey key) {
+    VenicePath path = mock(VenicePath.class);
+    doReturn("test_store").when(path).getStoreName();
+    doReturn("test_store_v1").when(path).getResourceName();
+    doReturn(1).when(path).getVersionNumber();
+    doReturn(RequestType.SINGLE_GET).when(path).getRequestType();
+    doReturn(key).when(path).getPartitionKey();
+    doReturn(mockResponseDecompressor()).when(path).getResponseDecompressor();
+    return path;
+  }
+
+  private static VeniceResponseDecompressor mockResponseDecompressor() {
+    VeniceResponseDecompressor responseDecompressor = mock(VeniceResponseDecompressor.class);
+    doAnswer(invocation -> new ContentDecompressResult(invocation.getArgument(1), CompressionStrategy.NO_OP, 0))
+        .when(responseDecompressor)
+        .decompressSingleGetContent(any(), any());
+    doAnswer(invocation -> new ContentDecompressResult(invocation.getArgument(1), CompressionStrategy.NO_OP, 0))
+        .when(responseDecompressor)
+        .decompressMultiGetContent(any(), any());
+    return responseDecompressor;
+  }
+
+  private static AsyncPromise<List<FullHttpResponse>> mockResponseFuture(List<FullHttpResponse> responses) {
+    AsyncPromise<List<FullHttpResponse>> responseFuture = mock(AsyncPromise.class);
+    doAnswer(invocation -> {
+      responses.addAll(invocation.getArgument(0));
+      return null;
+    }).when(responseFuture).setSuccess(any());
+    return responseFuture;
+  }
+
   private VeniceDispatcher getMockDispatcher(boolean forcePendingCheck, boolean forceLeakPending) {
     VeniceRouterConfig routerConfig = mock(VeniceRouterConfig.class);
     doReturn(2).when(routerConfig).getHttpClientPoolSize();
@@ -0,0 +1,113 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.davinci.utils.ByteArrayKey;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares {@link KeyLevelLocksManager} with {@link StripedKeyLevelLocksManager} when several drainer threads of the
+ * same Active/Active store version lock keys concurrently, mimicking the critical section in
+ * {@link ActiveActiveStoreIngestionTask#delegateConsumerRecord}.
+ *
+ * This benchmark lives in the same package as the lock managers since their APIs are package-private.
+ *
+ * To run it: ./gradlew internal:venice-test-common:jmh after setting the include pattern in the jmh task.
+ */
+@Fork(value = 2)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Threads(8)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class KeyLevelLocksManagerBenchmark {
+  private static final int CONCURRENT_KEYS = 8 * 3 + 1;
+
+  /**
+   * A small key space simulates a hot store where the same keys get updated from several regions at the same time.
+   */
+  @Param({ "16", "100000" })
+  private int keySpaceSize;
+
+  /**
+   * Simulated work inside the critical section, in JMH tokens.
+   */
+  @Param({ "0", "100" })
+  private int workTokens;
+
+  private ByteArrayKey[] keys;
+  private KeyLevelLocksManager pooledLocksManager;
+  private StripedKeyLevelLocksManager stripedLocksManager;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(0);
+    keys = new ByteArrayKey[keySpaceSize];
+    for (int i = 0; i < keySpaceSize; i++) {
+      byte[] keyBytes = new byte[16];
+      random.nextBytes(keyBytes);
+      keys[i] = ByteArrayKey.wrap(keyBytes);
+    }
+    // Same sizing as in ActiveActiveStoreIngestionTask
+    pooledLocksManager = new KeyLevelLocksManager("benchmark_store_v1", 4, CONCURRENT_KEYS);
+    stripedLocksManager = new StripedKeyLevelLocksManager(CONCURRENT_KEYS * 16);
+  }
+
+  @Benchmark
+  public void measurePooledKeyLevelLocks(Blackhole bh) {
+    ByteArrayKey key = nextKey();
+    ReentrantLock lock = pooledLocksManager.acquireLockByKey(key);
+    lock.lock();
+    try {
+      Blackhole.consumeCPU(workTokens);
+      bh.consume(key);
+    } finally {
+      lock.unlock();
+      pooledLocksManager.releaseLock(key);
+    }
+  }
+
+  @Benchmark
+  public void measureStripedKeyLevelLocks(Blackhole bh) {
+    ByteArrayKey key = nextKey();
+    ReentrantLock lock = stripedLocksManager.getLockByKey(key);
+    lock.lock();
+    try {
+      Blackhole.consumeCPU(workTokens);
+      bh.consume(key);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private ByteArrayKey nextKey() {
+    return keys[ThreadLocalRandom.current().nextInt(keySpaceSize)];
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(KeyLevelLocksManagerBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+}
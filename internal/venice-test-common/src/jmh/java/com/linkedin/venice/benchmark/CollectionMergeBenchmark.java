@@ -0,0 +1,162 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.schema.merge.AvroCollectionElementComparator;
+import com.linkedin.venice.schema.merge.CollectionTimestampBuilder;
+import com.linkedin.venice.schema.merge.SortBasedCollectionFieldOpHandler;
+import com.linkedin.venice.schema.rmd.RmdConstants;
+import com.linkedin.venice.schema.rmd.RmdSchemaGenerator;
+import com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp;
+import com.linkedin.venice.utils.IndexedHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the collection merge of a single element, the way a partial update adding or removing one element is
+ * applied by {@link SortBasedCollectionFieldOpHandler}, on a list field and a map field which are already in the
+ * collection-merge state with the given number of elements.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CollectionMergeBenchmark {
+  private static final String LIST_FIELD = "listField";
+  private static final String MAP_FIELD = "mapField";
+  private static final String MODIFIED_ELEMENT = "modified_element";
+  private static final Schema VALUE_SCHEMA = AvroCompatibilityHelper.parse(
+      "{\"type\": \"record\", \"name\": \"CollectionRecord\", \"fields\": [{\"name\": \"" + LIST_FIELD
+          + "\", \"type\": {\"type\": \"array\", \"items\": \"string\"}, \"default\": []}, {\"name\": \"" + MAP_FIELD
+          + "\", \"type\": {\"type\": \"map\", \"values\": \"int\"}, \"default\": {}}]}");
+  private static final Schema RMD_TIMESTAMP_SCHEMA = RmdSchemaGenerator.generateMetadataSchema(VALUE_SCHEMA)
+      .getField(RmdConstants.TIMESTAMP_FIELD_NAME)
+      .schema()
+      .getTypes()
+      .get(1);
+
+  @Param({ "10", "100", "1000", "10000", "100000" })
+  private int collectionSize;
+
+  private final SortBasedCollectionFieldOpHandler handler =
+      new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE);
+  private GenericRecord valueRecord;
+  private CollectionRmdTimestamp<Object> listRmd;
+  private CollectionRmdTimestamp<String> mapRmd;
+  private long modifyTimestamp;
+
+  @Setup
+  public void setUp() {
+    List<Object> listValue = new ArrayList<>(collectionSize);
+    Map<String, Integer> mapValue = new IndexedHashMap<>(collectionSize);
+    List<Long> activeTimestamps = new ArrayList<>(collectionSize);
+    for (int i = 0; i < collectionSize; i++) {
+      listValue.add("element_" + i);
+      mapValue.put("key_" + i, i);
+      activeTimestamps.add((long) i + 1);
+    }
+    valueRecord = new GenericData.Record(VALUE_SCHEMA);
+    valueRecord.put(LIST_FIELD, listValue);
+    valueRecord.put(MAP_FIELD, mapValue);
+    listRmd = new CollectionRmdTimestamp<>(createCollectionRmdRecord(LIST_FIELD, activeTimestamps));
+    mapRmd = new CollectionRmdTimestamp<>(createCollectionRmdRecord(MAP_FIELD, activeTimestamps));
+    modifyTimestamp = collectionSize;
+  }
+
+  /**
+   * Alternately adds and removes the same element with increasing timestamps, so that every invocation updates the
+   * collection while its size stays stable across invocations.
+   */
+  @Benchmark
+  public void measureModifyList(Blackhole bh) {
+    long timestamp = ++modifyTimestamp;
+    List<Object> modifiedElements = Collections.singletonList(MODIFIED_ELEMENT);
+    if (timestamp % 2 == 0) {
+      bh.consume(
+          handler.handleModifyList(
+              timestamp,
+              listRmd,
+              valueRecord,
+              LIST_FIELD,
+              modifiedElements,
+              Collections.emptyList()));
+    } else {
+      bh.consume(
+          handler.handleModifyList(
+              timestamp,
+              listRmd,
+              valueRecord,
+              LIST_FIELD,
+              Collections.emptyList(),
+              modifiedElements));
+    }
+  }
+
+  @Benchmark
+  public void measureModifyMap(Blackhole bh) {
+    long timestamp = ++modifyTimestamp;
+    if (timestamp % 2 == 0) {
+      bh.consume(
+          handler.handleModifyMap(
+              timestamp,
+              mapRmd,
+              valueRecord,
+              MAP_FIELD,
+              Collections.singletonMap(MODIFIED_ELEMENT, 0),
+              Collections.emptyList()));
+    } else {
+      bh.consume(
+          handler.handleModifyMap(
+              timestamp,
+              mapRmd,
+              valueRecord,
+              MAP_FIELD,
+              Collections.emptyMap(),
+              Collections.singletonList(MODIFIED_ELEMENT)));
+    }
+  }
+
+  private GenericRecord createCollectionRmdRecord(String fieldName, List<Long> activeTimestamps) {
+    CollectionTimestampBuilder collectionTimestampBuilder =
+        new CollectionTimestampBuilder(Schema.create(Schema.Type.STRING));
+    collectionTimestampBuilder.setTopLevelTimestamps(0L);
+    collectionTimestampBuilder.setTopLevelColoID(0);
+    collectionTimestampBuilder.setPutOnlyPartLength(0);
+    collectionTimestampBuilder.setActiveElementsTimestamps(activeTimestamps);
+    collectionTimestampBuilder.setDeletedElementTimestamps(Collections.emptyList());
+    collectionTimestampBuilder.setDeletedElements(Schema.create(Schema.Type.STRING), Collections.emptyList());
+    collectionTimestampBuilder.setCollectionTimestampSchema(RMD_TIMESTAMP_SCHEMA.getField(fieldName).schema());
+    return collectionTimestampBuilder.build();
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(CollectionMergeBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+}
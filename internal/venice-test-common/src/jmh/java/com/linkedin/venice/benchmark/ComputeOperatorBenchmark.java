@@ -0,0 +1,165 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.avro.api.PrimitiveFloatList;
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.compute.ReadComputeOperator;
+import com.linkedin.venice.compute.protocol.request.ComputeOperation;
+import com.linkedin.venice.compute.protocol.request.CosineSimilarity;
+import com.linkedin.venice.compute.protocol.request.DotProduct;
+import com.linkedin.venice.compute.protocol.request.HadamardProduct;
+import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the float vector compute operators on a batch of records, the way they are invoked for the records of a
+ * compute request, with the value vectors either deserialized by fast-avro into a {@link PrimitiveFloatList}, or
+ * deserialized by vanilla Avro into a list of boxed floats.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ComputeOperatorBenchmark {
+  private static final int RECORD_COUNT = 1_000;
+  private static final int COMPUTE_REQUEST_VERSION = 3;
+  private static final String EMBEDDING_FIELD = "embedding";
+  private static final String RESULT_FIELD = "result";
+  private static final Schema VALUE_SCHEMA = AvroCompatibilityHelper.parse(
+      "{\"type\": \"record\", \"name\": \"EmbeddingRecord\", \"fields\": [{\"name\": \"" + EMBEDDING_FIELD
+          + "\", \"type\": {\"type\": \"array\", \"items\": \"float\"}}]}");
+
+  @Param({ "DOT_PRODUCT", "COSINE_SIMILARITY", "HADAMARD_PRODUCT" })
+  private String computeOperation;
+
+  @Param({ "32", "256", "1024" })
+  private int dimension;
+
+  @Param({ "true", "false" })
+  private boolean fastAvro;
+
+  private final Random random = new Random(0);
+  private ReadComputeOperator operator;
+  private ComputeOperation operation;
+  private GenericRecord[] valueRecords;
+  private GenericRecord resultRecord;
+
+  @Setup
+  public void setUp() {
+    ComputeOperationType operationType = ComputeOperationType.valueOf(computeOperation);
+    operator = operationType.getOperator();
+    operation = new ComputeOperation();
+    operation.operationType = operationType.getValue();
+    operation.operation = createComputeOperation(operationType);
+
+    RecordSerializer<GenericRecord> serializer = SerializerDeserializerFactory.getAvroGenericSerializer(VALUE_SCHEMA);
+    RecordDeserializer<GenericRecord> deserializer;
+    if (fastAvro) {
+      FastSerializerDeserializerFactory.cacheFastAvroGenericDeserializer(VALUE_SCHEMA, VALUE_SCHEMA, 60_000);
+      deserializer = FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(VALUE_SCHEMA, VALUE_SCHEMA);
+    } else {
+      deserializer = SerializerDeserializerFactory.getAvroGenericDeserializer(VALUE_SCHEMA, VALUE_SCHEMA);
+    }
+    valueRecords = new GenericRecord[RECORD_COUNT];
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      GenericRecord valueRecord = new GenericData.Record(VALUE_SCHEMA);
+      valueRecord.put(EMBEDDING_FIELD, randomVector());
+      valueRecords[i] = deserializer.deserialize(serializer.serialize(valueRecord));
+      if (fastAvro != (valueRecords[i].get(EMBEDDING_FIELD) instanceof PrimitiveFloatList)) {
+        throw new VeniceException("Unexpected list type: " + valueRecords[i].get(EMBEDDING_FIELD).getClass());
+      }
+    }
+
+    Schema resultFieldSchema = operationType == ComputeOperationType.HADAMARD_PRODUCT
+        ? Schema.createArray(Schema.create(Schema.Type.FLOAT))
+        : Schema.create(Schema.Type.FLOAT);
+    resultRecord = new GenericData.Record(
+        AvroCompatibilityHelper.parse(
+            "{\"type\": \"record\", \"name\": \"EmbeddingRecord_result\", \"fields\": [{\"name\": \"" + RESULT_FIELD
+                + "\", \"type\": [\"null\", " + resultFieldSchema + "], \"default\": null}]}"));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORD_COUNT)
+  public void measureCompute(Blackhole bh) {
+    // The context and the error map are per compute request
+    Map<String, Object> context = new HashMap<>();
+    Map<String, String> computationErrorMap = new HashMap<>();
+    for (GenericRecord valueRecord: valueRecords) {
+      operator.compute(COMPUTE_REQUEST_VERSION, operation, valueRecord, resultRecord, computationErrorMap, context);
+      bh.consume(resultRecord.get(0));
+    }
+  }
+
+  private Object createComputeOperation(ComputeOperationType operationType) {
+    switch (operationType) {
+      case DOT_PRODUCT:
+        DotProduct dotProduct = (DotProduct) operationType.getNewInstance();
+        dotProduct.field = EMBEDDING_FIELD;
+        dotProduct.dotProductParam = randomVector();
+        dotProduct.resultFieldName = RESULT_FIELD;
+        return dotProduct;
+      case COSINE_SIMILARITY:
+        CosineSimilarity cosineSimilarity = (CosineSimilarity) operationType.getNewInstance();
+        cosineSimilarity.field = EMBEDDING_FIELD;
+        cosineSimilarity.cosSimilarityParam = randomVector();
+        cosineSimilarity.resultFieldName = RESULT_FIELD;
+        return cosineSimilarity;
+      case HADAMARD_PRODUCT:
+        HadamardProduct hadamardProduct = (HadamardProduct) operationType.getNewInstance();
+        hadamardProduct.field = EMBEDDING_FIELD;
+        hadamardProduct.hadamardProductParam = randomVector();
+        hadamardProduct.resultFieldName = RESULT_FIELD;
+        return hadamardProduct;
+      default:
+        throw new VeniceException("Unsupported compute operation: " + operationType);
+    }
+  }
+
+  private List<Float> randomVector() {
+    List<Float> vector = new ArrayList<>(dimension);
+    for (int i = 0; i < dimension; i++) {
+      vector.add(random.nextFloat());
+    }
+    return vector;
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(ComputeOperatorBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+}
@@ -0,0 +1,180 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.alpini.base.concurrency.TimeoutProcessor;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.router.api.routing.helix.HelixGroupLeastLoadedStrategy;
+import com.linkedin.venice.router.api.routing.helix.HelixGroupSelectionStrategy;
+import com.linkedin.venice.utils.Pair;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the throughput of the Helix group selection of the router under contention, with many threads selecting a
+ * group and finishing the request the way the router does for each request, comparing
+ * {@link HelixGroupLeastLoadedStrategy} with the previous implementation, which synchronized every call and scheduled
+ * a timeout for every request.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms2G", "-Xmx2G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HelixGroupSelectionBenchmark {
+  private static final long TIMEOUT_MS = TimeUnit.SECONDS.toMillis(10);
+
+  @Param({ "LOCK_FREE", "SYNCHRONIZED" })
+  private String implementation;
+
+  @Param({ "2", "10", "50" })
+  private int groupCount;
+
+  private final AtomicLong requestIdGenerator = new AtomicLong();
+  private TimeoutProcessor timeoutProcessor;
+  private HelixGroupSelectionStrategy strategy;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    timeoutProcessor = new TimeoutProcessor(null, true, 1);
+    if (implementation.equals("LOCK_FREE")) {
+      strategy = new HelixGroupLeastLoadedStrategy(timeoutProcessor, TIMEOUT_MS);
+    } else {
+      strategy = new SynchronizedLeastLoadedStrategy(timeoutProcessor, TIMEOUT_MS);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void cleanUp() {
+    timeoutProcessor.shutdownNow();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public int selectAndFinishWithOneThread() {
+    return selectAndFinish();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public int selectAndFinishWithEightThreads() {
+    return selectAndFinish();
+  }
+
+  @Benchmark
+  @Threads(32)
+  public int selectAndFinishWithThirtyTwoThreads() {
+    return selectAndFinish();
+  }
+
+  private int selectAndFinish() {
+    long requestId = requestIdGenerator.getAndIncrement();
+    int groupId = strategy.selectGroup(requestId, groupCount);
+    strategy.finishRequest(requestId, groupId);
+    return groupId;
+  }
+
+  /**
+   * The previous implementation of {@link HelixGroupLeastLoadedStrategy}, as the baseline.
+   */
+  private static class SynchronizedLeastLoadedStrategy implements HelixGroupSelectionStrategy {
+    private final int[] counters = new int[HelixGroupLeastLoadedStrategy.MAX_ALLOWED_GROUP];
+    private final TimeoutProcessor timeoutProcessor;
+    private final long timeoutInMS;
+    private final Map<Long, Pair<Integer, TimeoutProcessor.TimeoutFuture>> requestTimeoutFutureMap = new HashMap<>();
+
+    SynchronizedLeastLoadedStrategy(TimeoutProcessor timeoutProcessor, long timeoutInMS) {
+      this.timeoutProcessor = timeoutProcessor;
+      this.timeoutInMS = timeoutInMS;
+    }
+
+    @Override
+    public int selectGroup(long requestId, int groupCount) {
+      long smallestCounter = Integer.MAX_VALUE;
+      int leastLoadedGroup = 0;
+      int startGroupId = (int) (requestId % groupCount);
+      synchronized (this) {
+        if (requestTimeoutFutureMap.containsKey(requestId)) {
+          throw new VeniceException("Request with request id: " + requestId + " has selected a group already");
+        }
+        for (int i = 0; i < groupCount; ++i) {
+          int currentGroup = (i + startGroupId) % groupCount;
+          long currentGroupCounter = counters[currentGroup];
+          if (currentGroupCounter < smallestCounter) {
+            smallestCounter = currentGroupCounter;
+            leastLoadedGroup = currentGroup;
+          }
+        }
+        final int finalLeastLoadedGroup = leastLoadedGroup;
+        requestTimeoutFutureMap.put(
+            requestId,
+            new Pair<>(
+                leastLoadedGroup,
+                timeoutProcessor.schedule(
+                    () -> timeoutRequest(requestId, finalLeastLoadedGroup, false),
+                    timeoutInMS,
+                    TimeUnit.MILLISECONDS)));
+        ++counters[leastLoadedGroup];
+      }
+      return leastLoadedGroup;
+    }
+
+    private void timeoutRequest(long requestId, int groupId, boolean cancelTimeoutFuture) {
+      synchronized (this) {
+        Pair<Integer, TimeoutProcessor.TimeoutFuture> timeoutFuturePair = requestTimeoutFutureMap.get(requestId);
+        if (timeoutFuturePair == null) {
+          return;
+        }
+        --counters[groupId];
+        if (cancelTimeoutFuture) {
+          timeoutFuturePair.getSecond().cancel();
+        }
+        requestTimeoutFutureMap.remove(requestId);
+      }
+    }
+
+    @Override
+    public void finishRequest(long requestId, int groupId) {
+      timeoutRequest(requestId, groupId, true);
+    }
+
+    @Override
+    public int getMaxGroupPendingRequest() {
+      return -1;
+    }
+
+    @Override
+    public int getMinGroupPendingRequest() {
+      return -1;
+    }
+
+    @Override
+    public int getAvgGroupPendingRequest() {
+      return -1;
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(HelixGroupSelectionBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+}
@@ -0,0 +1,112 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.listener.VirtualThreadRequestExecutor;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the throughput of the storage execution pool of the server, with the default sizing, against the virtual
+ * thread execution mode, for requests which block in the storage engine for {@link #blockingTimeUs} and then spend
+ * {@link #cpuTokens} worth of CPU on deserialization and response building.
+ *
+ * Virtual threads are only used when running this benchmark with Java 21+, otherwise both modes run on platform
+ * threads and only differ by their concurrency bound.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ReadExecutionModeBenchmark {
+  private static final int REQUEST_COUNT = 10_000;
+  /**
+   * Defaults of the server configs for both modes.
+   */
+  private static final int THREAD_POOL_SIZE = 16;
+  private static final int VIRTUAL_THREAD_MAX_CONCURRENCY = 1024;
+
+  @Param({ "THREAD_POOL", "VIRTUAL_THREAD" })
+  private String executionMode;
+
+  @Param({ "0", "100", "1000" })
+  private int blockingTimeUs;
+
+  @Param({ "100" })
+  private int cpuTokens;
+
+  private ExecutorService executor;
+
+  @Setup
+  public void setUp() {
+    if (executionMode.equals("THREAD_POOL")) {
+      ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+          THREAD_POOL_SIZE,
+          THREAD_POOL_SIZE,
+          0,
+          TimeUnit.MILLISECONDS,
+          new LinkedBlockingQueue<>(),
+          new DaemonThreadFactory("StorageExecutionThread"));
+      threadPoolExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+      executor = threadPoolExecutor;
+    } else {
+      executor =
+          new VirtualThreadRequestExecutor("StorageExecutionThread", VIRTUAL_THREAD_MAX_CONCURRENCY, Integer.MAX_VALUE);
+    }
+  }
+
+  @TearDown
+  public void cleanUp() {
+    executor.shutdownNow();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(REQUEST_COUNT)
+  public void measureRequestExecution(Blackhole bh) throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(REQUEST_COUNT);
+    long blockingTimeNs = TimeUnit.MICROSECONDS.toNanos(blockingTimeUs);
+    for (int i = 0; i < REQUEST_COUNT; i++) {
+      executor.execute(() -> {
+        if (blockingTimeNs > 0) {
+          // Simulates a storage engine lookup which misses the block cache
+          LockSupport.parkNanos(blockingTimeNs);
+        }
+        Blackhole.consumeCPU(cpuTokens);
+        latch.countDown();
+      });
+    }
+    latch.await();
+    bh.consume(latch);
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(ReadExecutionModeBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+}
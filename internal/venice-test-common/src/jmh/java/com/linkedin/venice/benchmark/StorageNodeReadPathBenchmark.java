@@ -0,0 +1,550 @@
+package com.linkedin.venice.benchmark;
+
+import static com.linkedin.venice.ConfigKeys.ADMIN_PORT;
+import static com.linkedin.venice.ConfigKeys.CLUSTER_NAME;
+import static com.linkedin.venice.ConfigKeys.DATA_BASE_PATH;
+import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
+import static com.linkedin.venice.ConfigKeys.LISTENER_PORT;
+import static com.linkedin.venice.ConfigKeys.PERSISTENCE_TYPE;
+import static com.linkedin.venice.ConfigKeys.ZOOKEEPER_ADDRESS;
+import static com.linkedin.venice.router.api.VenicePathParser.TYPE_COMPUTE;
+import static com.linkedin.venice.router.api.VenicePathParser.TYPE_STORAGE;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.listener.response.ReadResponse;
+import com.linkedin.davinci.storage.MetadataRetriever;
+import com.linkedin.davinci.storage.StorageEngineMetadataService;
+import com.linkedin.davinci.storage.StorageEngineRepository;
+import com.linkedin.davinci.storage.chunking.ChunkingUtils;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.davinci.store.rocksdb.RocksDBStorageEngineFactory;
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.RequestConstants;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.compression.ZstdWithDictCompressor;
+import com.linkedin.venice.compute.ComputeRequestWrapper;
+import com.linkedin.venice.compute.protocol.request.ComputeOperation;
+import com.linkedin.venice.compute.protocol.request.CosineSimilarity;
+import com.linkedin.venice.compute.protocol.request.Count;
+import com.linkedin.venice.compute.protocol.request.DotProduct;
+import com.linkedin.venice.compute.protocol.request.HadamardProduct;
+import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
+import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.kafka.protocol.GUID;
+import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
+import com.linkedin.venice.listener.StorageReadRequestsHandler;
+import com.linkedin.venice.listener.request.ComputeRouterRequestWrapper;
+import com.linkedin.venice.listener.request.GetRouterRequest;
+import com.linkedin.venice.listener.request.MultiGetRouterRequestWrapper;
+import com.linkedin.venice.listener.request.RouterRequest;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
+import com.linkedin.venice.schema.SchemaEntry;
+import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
+import com.linkedin.venice.serialization.VeniceKafkaSerializer;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serialization.avro.VeniceAvroKafkaSerializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.storage.protocol.ChunkId;
+import com.linkedin.venice.storage.protocol.ChunkedKeySuffix;
+import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.EncodingUtils;
+import com.linkedin.venice.utils.PropertyBuilder;
+import com.linkedin.venice.utils.TestUtils;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the read path of the storage node, from {@link StorageReadRequestsHandler} down to the chunking adapters
+ * and the RocksDB storage partition, against an embedded RocksDB storage engine holding a synthetic store version.
+ *
+ * Each benchmark submits one request to the handler and waits for the response it writes out, so the measured time
+ * includes the hand-off to the storage execution pool, and the response body is released once it has been written
+ * out, like the Netty pipeline would do.
+ *
+ * Run it with {@code ./gradlew internal:venice-test-common:jmh -Pjmh.include=StorageNodeReadPathBenchmark}, which
+ * writes the results as JSON, so that they can be compared across runs to catch regressions.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StorageNodeReadPathBenchmark {
+  private static final int KEY_COUNT = 100_000;
+  /**
+   * The number of distinct requests of each type, which are cycled through by the benchmarks.
+   */
+  private static final int REQUEST_COUNT = 1_000;
+  private static final int PARTITION_ID = 0;
+  private static final int VALUE_SCHEMA_ID = 1;
+  private static final int EMBEDDING_DIMENSION = 256;
+  /**
+   * The number of chunks each value is split into, when {@link #chunked} is set.
+   */
+  private static final int CHUNK_COUNT = 4;
+  private static final String STORE_NAME = "read_path_benchmark_store";
+  private static final String TOPIC = Version.composeKafkaTopic(STORE_NAME, 1);
+  private static final String KEY_PREFIX = "key_";
+  private static final String EMBEDDING_FIELD = "embedding";
+  private static final String RESULT_FIELD = "result";
+  private static final Schema VALUE_SCHEMA = AvroCompatibilityHelper.parse(
+      "{\"type\": \"record\", \"name\": \"BenchmarkValue\", \"fields\": ["
+          + " {\"name\": \"id\", \"type\": \"string\"},"
+          + " {\"name\": \"" + EMBEDDING_FIELD + "\", \"type\": {\"type\": \"array\", \"items\": \"float\"}}]}");
+
+  @Param({ "NO_OP", "GZIP", "ZSTD_WITH_DICT" })
+  private String compressionStrategy;
+
+  @Param({ "false", "true" })
+  private boolean chunked;
+
+  @Param({ "100" })
+  private int batchKeyCount;
+
+  private final Random random = new Random(0);
+  private File dataDirectory;
+  private RocksDBStorageEngineFactory storageEngineFactory;
+  private AbstractStorageEngine storageEngine;
+  private StorageEngineBackedCompressorFactory compressorFactory;
+  private ExecutorService executor;
+  private ExecutorService computeExecutor;
+  private StorageReadRequestsHandler requestHandler;
+  private StorageReadRequestsHandler parallelBatchGetRequestHandler;
+  private ChannelHandlerContext context;
+  private CompletableFuture<Object> pendingResponse;
+
+  private byte[][] keys;
+  private GetRouterRequest[] singleGetRequests;
+  private MultiGetRouterRequestWrapper[] multiGetRequests;
+  private int singleGetRequestIndex = 0;
+  private int multiGetRequestIndex = 0;
+
+  @State(Scope.Benchmark)
+  public static class ComputeState {
+    @Param({ "DOT_PRODUCT", "COSINE_SIMILARITY", "HADAMARD_PRODUCT", "COUNT" })
+    private String computeOperation;
+
+    private ComputeRouterRequestWrapper[] requests;
+    private int requestIndex = 0;
+
+    @Setup
+    public void setUp(StorageNodeReadPathBenchmark benchmark) {
+      requests = benchmark.createComputeRequests(ComputeOperationType.valueOf(computeOperation));
+    }
+
+    private ComputeRouterRequestWrapper nextRequest() {
+      requestIndex = (requestIndex + 1) % requests.length;
+      return requests[requestIndex];
+    }
+  }
+
+  @Setup
+  public void setUp() throws Exception {
+    Utils.thisIsLocalhost();
+    dataDirectory = Utils.getTempDataDirectory();
+    VeniceProperties serverProperties = getServerProperties(dataDirectory);
+    VeniceServerConfig serverConfig = new VeniceServerConfig(serverProperties);
+    storageEngineFactory = new RocksDBStorageEngineFactory(serverConfig);
+    storageEngine = storageEngineFactory.getStorageEngine(new VeniceStoreVersionConfig(TOPIC, serverProperties));
+    storageEngine.addStoragePartition(PARTITION_ID);
+    StorageEngineRepository storageEngineRepository = new StorageEngineRepository();
+    storageEngineRepository.addLocalStorageEngine(storageEngine);
+    compressorFactory = new StorageEngineBackedCompressorFactory(
+        new StorageEngineMetadataService(
+            storageEngineRepository,
+            AvroProtocolDefinition.PARTITION_STATE.getSerializer()));
+
+    CompressionStrategy strategy = CompressionStrategy.valueOf(compressionStrategy);
+    StoreVersionState storeVersionState = new StoreVersionState();
+    storeVersionState.sorted = true;
+    storeVersionState.chunked = chunked;
+    storeVersionState.compressionStrategy = strategy.getValue();
+    if (strategy == CompressionStrategy.ZSTD_WITH_DICT) {
+      storeVersionState.compressionDictionary =
+          ByteBuffer.wrap(ZstdWithDictCompressor.buildDictionaryOnSyntheticAvroData());
+    }
+    storageEngine.putStoreVersionState(storeVersionState);
+    populateStorageEngine(compressorFactory.getCompressor(strategy, TOPIC));
+
+    ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    Store store = mock(Store.class);
+    doReturn(Optional.of(mock(Version.class))).when(store).getVersion(anyInt());
+    doReturn(store).when(storeRepository).getStoreOrThrow(STORE_NAME);
+    ReadOnlySchemaRepository schemaRepository = mock(ReadOnlySchemaRepository.class);
+    SchemaEntry valueSchemaEntry = new SchemaEntry(VALUE_SCHEMA_ID, VALUE_SCHEMA);
+    doReturn(valueSchemaEntry).when(schemaRepository).getValueSchema(STORE_NAME, VALUE_SCHEMA_ID);
+    doReturn(valueSchemaEntry).when(schemaRepository).getSupersetOrLatestValueSchema(STORE_NAME);
+
+    executor = createThreadPool(serverConfig.getRestServiceStorageThreadNum(), "StorageExecutionThread");
+    computeExecutor = createThreadPool(serverConfig.getServerComputeThreadNum(), "StorageComputeThread");
+    requestHandler =
+        createRequestHandler(serverConfig, storageEngineRepository, storeRepository, schemaRepository, false);
+    parallelBatchGetRequestHandler =
+        createRequestHandler(serverConfig, storageEngineRepository, storeRepository, schemaRepository, true);
+
+    context = mock(ChannelHandlerContext.class);
+    doReturn(PooledByteBufAllocator.DEFAULT).when(context).alloc();
+    doAnswer(invocation -> {
+      pendingResponse.complete(invocation.getArguments()[0]);
+      return null;
+    }).when(context).writeAndFlush(any());
+
+    singleGetRequests = new GetRouterRequest[REQUEST_COUNT];
+    multiGetRequests = new MultiGetRouterRequestWrapper[REQUEST_COUNT];
+    for (int i = 0; i < REQUEST_COUNT; i++) {
+      singleGetRequests[i] = createSingleGetRequest(randomKey());
+      multiGetRequests[i] = createMultiGetRequest();
+    }
+
+    // JMH benchmark relies on System.exit to finish one round of benchmark run, otherwise it will hang there.
+    TestUtils.restoreSystemExit();
+  }
+
+  @TearDown
+  public void cleanUp() throws Exception {
+    executor.shutdownNow();
+    computeExecutor.shutdownNow();
+    compressorFactory.close();
+    storageEngineFactory.removeStorageEngine(storageEngine);
+    storageEngineFactory.close();
+    FileUtils.deleteDirectory(dataDirectory);
+  }
+
+  @Benchmark
+  public int measureSingleGet() throws Exception {
+    singleGetRequestIndex = (singleGetRequestIndex + 1) % REQUEST_COUNT;
+    return execute(requestHandler, singleGetRequests[singleGetRequestIndex]);
+  }
+
+  @Benchmark
+  public int measureMultiGet() throws Exception {
+    multiGetRequestIndex = (multiGetRequestIndex + 1) % REQUEST_COUNT;
+    return execute(requestHandler, multiGetRequests[multiGetRequestIndex]);
+  }
+
+  @Benchmark
+  public int measureParallelMultiGet() throws Exception {
+    multiGetRequestIndex = (multiGetRequestIndex + 1) % REQUEST_COUNT;
+    return execute(parallelBatchGetRequestHandler, multiGetRequests[multiGetRequestIndex]);
+  }
+
+  @Benchmark
+  public int measureCompute(ComputeState computeState) throws Exception {
+    return execute(requestHandler, computeState.nextRequest());
+  }
+
+  /**
+   * @return the size of the response body, after checking that the request was successful.
+   */
+  private int execute(StorageReadRequestsHandler handler, RouterRequest request) throws Exception {
+    CompletableFuture<Object> responseFuture = new CompletableFuture<>();
+    pendingResponse = responseFuture;
+    handler.channelRead(context, request);
+    Object response = responseFuture.get();
+    if (!(response instanceof ReadResponse)) {
+      throw new VeniceException("Unexpected response: " + response);
+    }
+    ByteBuf body = ((ReadResponse) response).getResponseBody();
+    int responseSize = body.readableBytes();
+    body.release();
+    return responseSize;
+  }
+
+  private void populateStorageEngine(VeniceCompressor compressor) throws Exception {
+    VeniceKafkaSerializer keySerializer = new VeniceAvroKafkaSerializer("\"string\"");
+    RecordSerializer<GenericRecord> valueSerializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(VALUE_SCHEMA);
+    keys = new byte[KEY_COUNT][];
+    for (int i = 0; i < KEY_COUNT; i++) {
+      keys[i] = keySerializer.serialize(TOPIC, KEY_PREFIX + i);
+      GenericRecord value = new GenericData.Record(VALUE_SCHEMA);
+      value.put("id", "value_" + i);
+      value.put(EMBEDDING_FIELD, randomEmbedding());
+      byte[] compressedValue = compressor.compress(valueSerializer.serialize(value));
+      if (chunked) {
+        putChunkedValue(keys[i], compressedValue, i);
+      } else {
+        storageEngine.put(PARTITION_ID, keys[i], ValueRecord.create(VALUE_SCHEMA_ID, compressedValue).serialize());
+      }
+    }
+  }
+
+  /**
+   * Writes the value the same way as the chunking writer does, which is as {@link #CHUNK_COUNT} chunks under keys
+   * with a chunk suffix, and a {@link ChunkedValueManifest} under the top level key.
+   */
+  private void putChunkedValue(byte[] key, byte[] value, int sequenceNumber) {
+    ChunkedKeySuffix chunkedKeySuffix = new ChunkedKeySuffix();
+    chunkedKeySuffix.isChunk = true;
+    chunkedKeySuffix.chunkId = new ChunkId();
+    chunkedKeySuffix.chunkId.producerGUID = new GUID();
+    chunkedKeySuffix.chunkId.segmentNumber = 0;
+    chunkedKeySuffix.chunkId.messageSequenceNumber = sequenceNumber;
+
+    ChunkedValueManifest chunkedValueManifest = new ChunkedValueManifest();
+    chunkedValueManifest.keysWithChunkIdSuffix = new ArrayList<>(CHUNK_COUNT);
+    chunkedValueManifest.schemaId = VALUE_SCHEMA_ID;
+    chunkedValueManifest.size = value.length;
+    int chunkSize = (value.length + CHUNK_COUNT - 1) / CHUNK_COUNT;
+    for (int chunkIndex = 0; chunkIndex * chunkSize < value.length; chunkIndex++) {
+      chunkedKeySuffix.chunkId.chunkIndex = chunkIndex;
+      ByteBuffer chunkKey =
+          ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeChunkedKey(key, chunkedKeySuffix);
+      byte[] chunk =
+          Arrays.copyOfRange(value, chunkIndex * chunkSize, Math.min((chunkIndex + 1) * chunkSize, value.length));
+      storageEngine.put(
+          PARTITION_ID,
+          ByteUtils.extractByteArray(chunkKey),
+          ValueRecord.create(AvroProtocolDefinition.CHUNK.currentProtocolVersion.get(), chunk).serialize());
+      chunkedValueManifest.keysWithChunkIdSuffix.add(chunkKey);
+    }
+
+    byte[] serializedManifest = SerializerDeserializerFactory.getAvroGenericSerializer(ChunkedValueManifest.SCHEMA$)
+        .serialize(chunkedValueManifest);
+    storageEngine.put(
+        PARTITION_ID,
+        ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(key),
+        ValueRecord
+            .create(AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.currentProtocolVersion.get(), serializedManifest)
+            .serialize());
+  }
+
+  private GetRouterRequest createSingleGetRequest(byte[] key) {
+    // [0]""/[1]"storage"/[2]{$resourceName}/[3]{$partition}/[4]{$key}
+    String uri = "/" + TYPE_STORAGE + "/" + TOPIC + "/" + PARTITION_ID + "/" + EncodingUtils.base64EncodeToString(key)
+        + "?" + RequestConstants.FORMAT_KEY + "=" + RequestConstants.B64_FORMAT;
+    return GetRouterRequest.parseGetHttpRequest(new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri));
+  }
+
+  private MultiGetRouterRequestWrapper createMultiGetRequest() {
+    List<MultiGetRouterRequestKeyV1> requestKeys = new ArrayList<>(batchKeyCount);
+    for (int i = 0; i < batchKeyCount; i++) {
+      MultiGetRouterRequestKeyV1 requestKey = new MultiGetRouterRequestKeyV1();
+      requestKey.keyIndex = i;
+      requestKey.keyBytes = ByteBuffer.wrap(randomKey());
+      requestKey.partitionId = PARTITION_ID;
+      requestKeys.add(requestKey);
+    }
+    byte[] body = SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetRouterRequestKeyV1.SCHEMA$)
+        .serializeObjects(requestKeys);
+    FullHttpRequest httpRequest = createPostRequest("/" + TYPE_STORAGE + "/" + TOPIC, body);
+    httpRequest.headers()
+        .set(
+            HttpConstants.VENICE_API_VERSION,
+            ReadAvroProtocolDefinition.MULTI_GET_ROUTER_REQUEST_V1.getProtocolVersion());
+    return MultiGetRouterRequestWrapper.parseMultiGetHttpRequest(httpRequest);
+  }
+
+  private ComputeRouterRequestWrapper[] createComputeRequests(ComputeOperationType operationType) {
+    Schema resultFieldSchema;
+    switch (operationType) {
+      case HADAMARD_PRODUCT:
+        resultFieldSchema = Schema.createArray(Schema.create(Schema.Type.FLOAT));
+        break;
+      case COUNT:
+        resultFieldSchema = Schema.create(Schema.Type.INT);
+        break;
+      default:
+        resultFieldSchema = Schema.create(Schema.Type.FLOAT);
+    }
+    String resultSchemaStr = "{\"type\": \"record\", \"name\": \"BenchmarkValue_result\", \"fields\": ["
+        + " {\"name\": \"" + RESULT_FIELD + "\", \"type\": [\"null\", " + resultFieldSchema + "], \"default\": null},"
+        + " {\"name\": \"__veniceComputationError__\", \"type\": {\"type\": \"map\", \"values\": \"string\"}}]}";
+
+    ComputeOperation operation = new ComputeOperation();
+    operation.operationType = operationType.getValue();
+    operation.operation = createComputeOperation(operationType);
+    ComputeRequestWrapper computeRequest =
+        new ComputeRequestWrapper(ComputeRequestWrapper.LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST);
+    computeRequest.setResultSchemaStr(resultSchemaStr);
+    computeRequest.setOperations(Arrays.asList(operation));
+    byte[] serializedComputeRequest = computeRequest.serialize();
+
+    RecordSerializer<ComputeRouterRequestKeyV1> keySerializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(ComputeRouterRequestKeyV1.SCHEMA$);
+    ComputeRouterRequestWrapper[] requests = new ComputeRouterRequestWrapper[REQUEST_COUNT];
+    for (int i = 0; i < REQUEST_COUNT; i++) {
+      List<ComputeRouterRequestKeyV1> requestKeys = new ArrayList<>(batchKeyCount);
+      for (int j = 0; j < batchKeyCount; j++) {
+        ComputeRouterRequestKeyV1 requestKey = new ComputeRouterRequestKeyV1();
+        requestKey.keyIndex = j;
+        requestKey.keyBytes = ByteBuffer.wrap(randomKey());
+        requestKey.partitionId = PARTITION_ID;
+        requestKeys.add(requestKey);
+      }
+      byte[] serializedKeys = keySerializer.serializeObjects(requestKeys);
+      byte[] body = new byte[serializedComputeRequest.length + serializedKeys.length];
+      System.arraycopy(serializedComputeRequest, 0, body, 0, serializedComputeRequest.length);
+      System.arraycopy(serializedKeys, 0, body, serializedComputeRequest.length, serializedKeys.length);
+
+      FullHttpRequest httpRequest = createPostRequest("/" + TYPE_COMPUTE + "/" + TOPIC, body);
+      httpRequest.headers()
+          .set(HttpConstants.VENICE_API_VERSION, ComputeRequestWrapper.LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST);
+      httpRequest.headers().set(HttpConstants.VENICE_COMPUTE_VALUE_SCHEMA_ID, VALUE_SCHEMA_ID);
+      requests[i] = ComputeRouterRequestWrapper.parseComputeRequest(httpRequest, true);
+    }
+    return requests;
+  }
+
+  private Object createComputeOperation(ComputeOperationType operationType) {
+    switch (operationType) {
+      case DOT_PRODUCT:
+        DotProduct dotProduct = (DotProduct) operationType.getNewInstance();
+        dotProduct.field = EMBEDDING_FIELD;
+        dotProduct.dotProductParam = randomEmbedding();
+        dotProduct.resultFieldName = RESULT_FIELD;
+        return dotProduct;
+      case COSINE_SIMILARITY:
+        CosineSimilarity cosineSimilarity = (CosineSimilarity) operationType.getNewInstance();
+        cosineSimilarity.field = EMBEDDING_FIELD;
+        cosineSimilarity.cosSimilarityParam = randomEmbedding();
+        cosineSimilarity.resultFieldName = RESULT_FIELD;
+        return cosineSimilarity;
+      case HADAMARD_PRODUCT:
+        HadamardProduct hadamardProduct = (HadamardProduct) operationType.getNewInstance();
+        hadamardProduct.field = EMBEDDING_FIELD;
+        hadamardProduct.hadamardProductParam = randomEmbedding();
+        hadamardProduct.resultFieldName = RESULT_FIELD;
+        return hadamardProduct;
+      case COUNT:
+        Count count = (Count) operationType.getNewInstance();
+        count.field = EMBEDDING_FIELD;
+        count.resultFieldName = RESULT_FIELD;
+        return count;
+      default:
+        throw new VeniceException("Unsupported compute operation: " + operationType);
+    }
+  }
+
+  private StorageReadRequestsHandler createRequestHandler(
+      VeniceServerConfig serverConfig,
+      StorageEngineRepository storageEngineRepository,
+      ReadOnlyStoreRepository storeRepository,
+      ReadOnlySchemaRepository schemaRepository,
+      boolean parallelBatchGetEnabled) {
+    return new StorageReadRequestsHandler(
+        executor,
+        computeExecutor,
+        storageEngineRepository,
+        storeRepository,
+        schemaRepository,
+        mock(MetadataRetriever.class),
+        null,
+        serverConfig.isComputeFastAvroEnabled(),
+        parallelBatchGetEnabled,
+        serverConfig.getParallelBatchGetChunkSize(),
+        serverConfig,
+        compressorFactory,
+        Optional.empty());
+  }
+
+  private static ExecutorService createThreadPool(int threadCount, String threadNamePrefix) {
+    return new ThreadPoolExecutor(
+        threadCount,
+        threadCount,
+        0,
+        TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<>(),
+        new DaemonThreadFactory(threadNamePrefix));
+  }
+
+  private static FullHttpRequest createPostRequest(String uri, byte[] body) {
+    return new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, uri, Unpooled.wrappedBuffer(body));
+  }
+
+  private byte[] randomKey() {
+    return keys[random.nextInt(KEY_COUNT)];
+  }
+
+  /**
+   * The values are rounded to one decimal, so that the values are somewhat compressible.
+   */
+  private List<Float> randomEmbedding() {
+    List<Float> embedding = new ArrayList<>(EMBEDDING_DIMENSION);
+    for (int i = 0; i < EMBEDDING_DIMENSION; i++) {
+      embedding.add(random.nextInt(100) / 10f);
+    }
+    return embedding;
+  }
+
+  private static VeniceProperties getServerProperties(File dataDirectory) {
+    return new PropertyBuilder().put(CLUSTER_NAME, "read_path_benchmark")
+        .put(ZOOKEEPER_ADDRESS, "localhost:2181")
+        .put(PERSISTENCE_TYPE, PersistenceType.ROCKS_DB.toString())
+        .put(KAFKA_BOOTSTRAP_SERVERS, "127.0.0.1:9092")
+        .put(LISTENER_PORT, 7072)
+        .put(ADMIN_PORT, 7073)
+        .put(DATA_BASE_PATH, dataDirectory.getAbsolutePath())
+        .build();
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(StorageNodeReadPathBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .resultFormat(ResultFormatType.JSON)
+        .build();
+    new Runner(opt).run();
+  }
+}
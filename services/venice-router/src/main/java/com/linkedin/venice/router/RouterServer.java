@@ -50,8 +50,10 @@ import com.linkedin.venice.router.api.VeniceRoleFinder;
 import com.linkedin.venice.router.api.VeniceVersionFinder;
 import com.linkedin.venice.router.api.path.VenicePath;
 import com.linkedin.venice.router.api.routing.helix.HelixGroupSelector;
+import com.linkedin.venice.router.cache.RouterResponseCache;
 import com.linkedin.venice.router.httpclient.ApacheHttpAsyncStorageNodeClient;
 import com.linkedin.venice.router.httpclient.HttpClient5StorageNodeClient;
+import com.linkedin.venice.router.httpclient.NettyStorageNodeClient;
 import com.linkedin.venice.router.httpclient.StorageNodeClient;
 import com.linkedin.venice.router.stats.AdminOperationsStats;
 import com.linkedin.venice.router.stats.AggHostHealthStats;
@@ -86,8 +88,10 @@ import io.netty.channel.EventLoopGroup;
 import io.netty.channel.MultithreadEventLoopGroup;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.util.concurrent.DefaultThreadFactory;
 import io.tehuti.metrics.MetricsRepository;
 import java.net.InetSocketAddress;
@@ -149,6 +153,7 @@ public class RouterServer extends AbstractVeniceService {
   private ResourceRegistry registry = null;
   private StorageNodeClient storageNodeClient;
   private VeniceDispatcher dispatcher;
+  private Optional<RouterResponseCache> responseCache = Optional.empty();
   private RouterHeartbeat heartbeat = null;
   private VeniceDelegateMode scatterGatherMode;
   private final HelixAdapterSerializer adapter;
@@ -416,6 +421,14 @@ public class RouterServer extends AbstractVeniceService {
         LOGGER.info("Router will use HTTP CLIENT5");
         storageNodeClient = new HttpClient5StorageNodeClient(sslFactoryForRequests, config);
         break;
+      case NETTY_4_CLIENT:
+        LOGGER.info("Router will use NETTY_4_CLIENT");
+        storageNodeClient = new NettyStorageNodeClient(
+            config,
+            sslFactoryForRequests,
+            workerEventLoopGroup,
+            useEpoll ? EpollSocketChannel.class : NioSocketChannel.class);
+        break;
       default:
         throw new VeniceException(
             "Router client type " + config.getStorageNodeClientType().toString() + " is not supported!");
@@ -425,6 +438,9 @@ public class RouterServer extends AbstractVeniceService {
 
     VeniceHostHealth healthMonitor =
         new VeniceHostHealth(liveInstanceMonitor, storageNodeClient, config, routeHttpRequestStats, aggHostHealthStats);
+    if (!config.getResponseCacheEnabledStores().isEmpty()) {
+      responseCache = Optional.of(new RouterResponseCache(config));
+    }
     dispatcher = new VeniceDispatcher(
         config,
         metadataRepository,
@@ -433,7 +449,8 @@ public class RouterServer extends AbstractVeniceService {
         storageNodeClient,
         routeHttpRequestStats,
         aggHostHealthStats,
-        routerStats);
+        routerStats,
+        responseCache);
     scatterGatherMode = new VeniceDelegateMode(config, routerStats, routeHttpRequestStats);
 
     if (config.isRouterHeartBeatEnabled()) {
@@ -481,7 +498,8 @@ public class RouterServer extends AbstractVeniceService {
         storeConfigRepository,
         config.getClusterToD2Map(),
         config.getClusterName(),
-        compressorFactory);
+        compressorFactory,
+        responseCache);
     VenicePathParser pathParser = new VenicePathParser(
         versionFinder,
         partitionFinder,
@@ -764,6 +782,7 @@ public class RouterServer extends AbstractVeniceService {
     }
 
     dispatcher.stop();
+    responseCache.ifPresent(RouterResponseCache::clear);
 
     router.ifPresent(Router::shutdown);
     secureRouter.shutdown();
@@ -786,6 +805,9 @@ public class RouterServer extends AbstractVeniceService {
     storeConfigRepository.clear();
     hybridStoreQuotaRepository.ifPresent(repo -> repo.clear());
     liveInstanceMonitor.clear();
+    if (helixGroupSelector != null) {
+      helixGroupSelector.close();
+    }
     timeoutProcessor.shutdownNow();
     dictionaryRetrievalService.stop();
     if (instanceConfigRepository != null) {
@@ -77,12 +77,17 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_PER_STORAGE_NODE_THROTTLER_E
 import static com.linkedin.venice.ConfigKeys.ROUTER_PER_STORE_ROUTER_QUOTA_BUFFER;
 import static com.linkedin.venice.ConfigKeys.ROUTER_QUOTA_CHECK_WINDOW;
 import static com.linkedin.venice.ConfigKeys.ROUTER_READ_QUOTA_THROTTLING_LEASE_TIMEOUT_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_REQUEST_COALESCING_ENABLED_STORES;
+import static com.linkedin.venice.ConfigKeys.ROUTER_RESPONSE_CACHE_ENABLED_STORES;
+import static com.linkedin.venice.ConfigKeys.ROUTER_RESPONSE_CACHE_HYBRID_STORE_TTL_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_RESPONSE_CACHE_MAX_MEMORY_PER_STORE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLEGET_TARDY_LATENCY_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SMART_LONG_TAIL_RETRY_ABORT_THRESHOLD_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SMART_LONG_TAIL_RETRY_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SOCKET_TIMEOUT;
 import static com.linkedin.venice.ConfigKeys.ROUTER_STATEFUL_HEALTHCHECK_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_STORAGE_NODE_CLIENT_TYPE;
+import static com.linkedin.venice.ConfigKeys.ROUTER_STORAGE_NODE_RESPONSE_MAX_CONTENT_LENGTH;
 import static com.linkedin.venice.ConfigKeys.ROUTER_THROTTLE_CLIENT_SSL_HANDSHAKES;
 import static com.linkedin.venice.ConfigKeys.ROUTER_UNHEALTHY_PENDING_CONNECTION_THRESHOLD_PER_ROUTE;
 import static com.linkedin.venice.ConfigKeys.ROUTE_DNS_CACHE_HOST_PATTERN;
@@ -106,8 +111,10 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -153,6 +160,7 @@ public class VeniceRouterConfig {
   private boolean readThrottlingEnabled;
   private long maxPendingRequest;
   private StorageNodeClientType storageNodeClientType;
+  private int storageNodeResponseMaxContentLength;
   private boolean decompressOnClient;
   private boolean computeFastAvroEnabled;
   private int socketTimeout;
@@ -208,6 +216,10 @@ public class VeniceRouterConfig {
   private int routerIOWorkerCount;
   private boolean perRouterStorageNodeThrottlerEnabled;
   private double perStoreRouterQuotaBuffer;
+  private Set<String> responseCacheEnabledStores;
+  private long responseCacheMaxMemoryPerStore;
+  private long responseCacheHybridStoreTtlMs;
+  private Set<String> requestCoalescingEnabledStores;
 
   public VeniceRouterConfig(VeniceProperties props) {
     try {
@@ -272,6 +284,8 @@ public class VeniceRouterConfig {
 
     storageNodeClientType = StorageNodeClientType
         .valueOf(props.getString(ROUTER_STORAGE_NODE_CLIENT_TYPE, StorageNodeClientType.HTTP_CLIENT_5_CLIENT.name()));
+    storageNodeResponseMaxContentLength =
+        (int) props.getSizeInBytes(ROUTER_STORAGE_NODE_RESPONSE_MAX_CONTENT_LENGTH, 100 * 1024 * 1024);
     decompressOnClient = props.getBoolean(ROUTER_CLIENT_DECOMPRESSION_ENABLED, true);
     computeFastAvroEnabled = props.getBoolean(ROUTER_COMPUTE_FAST_AVRO_ENABLED, false);
 
@@ -385,6 +399,18 @@ public class VeniceRouterConfig {
     routerIOWorkerCount = props.getInt(ROUTER_IO_WORKER_COUNT, 24);
     perRouterStorageNodeThrottlerEnabled = props.getBoolean(ROUTER_PER_STORAGE_NODE_THROTTLER_ENABLED, true);
     perStoreRouterQuotaBuffer = props.getDouble(ROUTER_PER_STORE_ROUTER_QUOTA_BUFFER, 1.5);
+    responseCacheEnabledStores = props.getList(ROUTER_RESPONSE_CACHE_ENABLED_STORES, Collections.emptyList())
+        .stream()
+        .filter(storeName -> !storeName.isEmpty())
+        .collect(Collectors.toSet());
+    responseCacheMaxMemoryPerStore =
+        props.getSizeInBytes(ROUTER_RESPONSE_CACHE_MAX_MEMORY_PER_STORE, 256 * 1024 * 1024);
+    responseCacheHybridStoreTtlMs =
+        props.getLong(ROUTER_RESPONSE_CACHE_HYBRID_STORE_TTL_MS, TimeUnit.SECONDS.toMillis(10));
+    requestCoalescingEnabledStores = props.getList(ROUTER_REQUEST_COALESCING_ENABLED_STORES, Collections.emptyList())
+        .stream()
+        .filter(storeName -> !storeName.isEmpty())
+        .collect(Collectors.toSet());
   }
 
   public double getPerStoreRouterQuotaBuffer() {
@@ -535,6 +561,10 @@ public class VeniceRouterConfig {
     return storageNodeClientType;
   }
 
+  public int getStorageNodeResponseMaxContentLength() {
+    return storageNodeResponseMaxContentLength;
+  }
+
   public boolean isDecompressOnClient() {
     return decompressOnClient;
   }
@@ -827,4 +857,20 @@ public class VeniceRouterConfig {
   public boolean isPerRouterStorageNodeThrottlerEnabled() {
     return perRouterStorageNodeThrottlerEnabled;
   }
+
+  public Set<String> getResponseCacheEnabledStores() {
+    return responseCacheEnabledStores;
+  }
+
+  public long getResponseCacheMaxMemoryPerStore() {
+    return responseCacheMaxMemoryPerStore;
+  }
+
+  public long getResponseCacheHybridStoreTtlMs() {
+    return responseCacheHybridStoreTtlMs;
+  }
+
+  public Set<String> getRequestCoalescingEnabledStores() {
+    return requestCoalescingEnabledStores;
+  }
 }
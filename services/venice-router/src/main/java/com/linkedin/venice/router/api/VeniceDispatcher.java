@@ -20,8 +20,12 @@ import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.Instance;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VeniceMultiGetPath;
 import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.cache.RouterResponseCache;
+import com.linkedin.venice.router.cache.StoreVersionResponseCache;
 import com.linkedin.venice.router.httpclient.PortableHttpResponse;
 import com.linkedin.venice.router.httpclient.StorageNodeClient;
 import com.linkedin.venice.router.stats.AggHostHealthStats;
@@ -31,11 +35,17 @@ import com.linkedin.venice.router.stats.RouteHttpStats;
 import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.router.streaming.VeniceChunkedResponse;
 import com.linkedin.venice.router.throttle.PendingRequestThrottler;
+import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
+import com.linkedin.venice.serializer.AvroSerializer;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Pair;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpHeaderNames;
@@ -43,15 +53,21 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
 import io.tehuti.metrics.MetricsRepository;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 import javax.annotation.Nonnull;
+import org.apache.avro.io.OptimizedBinaryDecoderFactory;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpStatus;
 import org.apache.logging.log4j.LogManager;
@@ -68,11 +84,23 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
       new VeniceConcurrentHashMap<>();
   private final VeniceConcurrentHashMap<String, ReentrantLock> storageNodeLockMap = new VeniceConcurrentHashMap<>();
   private final AtomicLong uniqueRequestId = new AtomicLong(0);
+  /**
+   * The in-flight single-get requests to the storage nodes keyed by the resource name and the key, which are shared by
+   * the concurrent single-get requests of the same key when request coalescing is enabled for the store.
+   */
+  private final VeniceConcurrentHashMap<Pair<String, RouterKey>, InFlightSingleGet> inFlightSingleGetMap =
+      new VeniceConcurrentHashMap<>();
 
   private static final Set<Integer> PASS_THROUGH_ERROR_CODES = Utils.setOf(TOO_MANY_REQUESTS.code());
   private static final Set<Integer> RETRIABLE_ERROR_CODES =
       Utils.setOf(INTERNAL_SERVER_ERROR.code(), SERVICE_UNAVAILABLE.code());
 
+  private static final RecordSerializer<MultiGetResponseRecordV1> MULTI_GET_RECORD_SERIALIZER =
+      FastSerializerDeserializerFactory.getFastAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema());
+  private static final RecordDeserializer<MultiGetResponseRecordV1> MULTI_GET_RECORD_DESERIALIZER =
+      FastSerializerDeserializerFactory
+          .getFastAvroSpecificDeserializer(MultiGetResponseRecordV1.getClassSchema(), MultiGetResponseRecordV1.class);
+
   private final VeniceRouterConfig routerConfig;
   private final ReadOnlyStoreRepository storeRepository;
 
@@ -92,6 +120,10 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
 
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
 
+  private final Optional<RouterResponseCache> responseCache;
+
+  private final Set<String> requestCoalescingEnabledStores;
+
   public VeniceDispatcher(
       VeniceRouterConfig config,
       ReadOnlyStoreRepository storeRepository,
@@ -101,6 +133,28 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
       RouteHttpRequestStats routeHttpRequestStats,
       AggHostHealthStats aggHostHealthStats,
       RouterStats<AggRouterHttpRequestStats> routerStats) {
+    this(
+        config,
+        storeRepository,
+        perStoreStatsByType,
+        metricsRepository,
+        storageNodeClient,
+        routeHttpRequestStats,
+        aggHostHealthStats,
+        routerStats,
+        Optional.empty());
+  }
+
+  public VeniceDispatcher(
+      VeniceRouterConfig config,
+      ReadOnlyStoreRepository storeRepository,
+      RouterStats<AggRouterHttpRequestStats> perStoreStatsByType,
+      MetricsRepository metricsRepository,
+      StorageNodeClient storageNodeClient,
+      RouteHttpRequestStats routeHttpRequestStats,
+      AggHostHealthStats aggHostHealthStats,
+      RouterStats<AggRouterHttpRequestStats> routerStats,
+      Optional<RouterResponseCache> responseCache) {
     this.routerConfig = config;
     this.routerUnhealthyPendingConnThresholdPerRoute = routerConfig.getRouterUnhealthyPendingConnThresholdPerRoute();
     this.isStatefulHealthCheckEnabled = routerConfig.isStatefulRouterHealthCheckEnabled();
@@ -115,6 +169,8 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     this.leakedCompletableFutureCleanupService = new LeakedCompletableFutureCleanupService();
     this.leakedCompletableFutureCleanupService.start();
     this.routerStats = routerStats;
+    this.responseCache = responseCache;
+    this.requestCoalescingEnabledStores = config.getRequestCoalescingEnabledStores();
   }
 
   @Override
@@ -154,11 +210,70 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     Instance storageNode = part.getHosts().get(0);
     hostSelected.setSuccess(storageNode);
 
+    StoreVersionResponseCache storeVersionCache = getStoreVersionCache(path);
+    List<MultiGetResponseRecordV1> cachedRecords = Collections.emptyList();
+    if (storeVersionCache != null) {
+      try {
+        if (requestType.equals(RequestType.SINGLE_GET)) {
+          StoreVersionResponseCache.Value value = storeVersionCache.get(path.getPartitionKey().getKeyBuffer());
+          perStoreStatsByType.getStatsByType(requestType).recordCacheLookup(storeName, 1, value == null ? 0 : 1);
+          if (value != null) {
+            responseFuture.setSuccess(
+                Collections.singletonList(buildResponse(path, createCachedResponse(storeVersionCache, value))));
+            return;
+          }
+        } else {
+          VeniceMultiGetPath multiGetPath = (VeniceMultiGetPath) path;
+          cachedRecords = lookUpCachedRecords(multiGetPath, storeVersionCache);
+          if (multiGetPath.isEmptyRequest()) {
+            // All the keys of this part are served by the cache
+            responseFuture.setSuccess(
+                Collections
+                    .singletonList(buildResponse(path, createCachedResponse(storeVersionCache, cachedRecords))));
+            return;
+          }
+        }
+      } catch (Throwable e) {
+        responseFuture.setFailure(e);
+        return;
+      }
+    }
+    List<MultiGetResponseRecordV1> finalCachedRecords = cachedRecords;
+
+    CompletableFuture<PortableHttpResponse> storageNodeResponseFuture;
+    Instance respondingStorageNode = storageNode;
+    StoreVersionResponseCache cacheToUpdate = storeVersionCache;
+    if (isRequestCoalescingEnabled(path)) {
+      Pair<String, RouterKey> requestKey = new Pair<>(path.getResourceName(), path.getPartitionKey());
+      InFlightSingleGet newRequest = new InFlightSingleGet(storageNode);
+      InFlightSingleGet inFlightRequest = inFlightSingleGetMap.putIfAbsent(requestKey, newRequest);
+      if (inFlightRequest == null) {
+        storageNodeResponseFuture = sendCoalescedRequest(storageNode, path, retryFuture, requestKey, newRequest);
+      } else if (inFlightRequest.join()) {
+        perStoreStatsByType.getStatsByType(requestType).recordCoalescedRequest(storeName);
+        respondingStorageNode = inFlightRequest.storageNode;
+        path.requestStorageNode(respondingStorageNode.getNodeId());
+        // The response cache is updated by the request which is actually sent to the storage node
+        cacheToUpdate = null;
+        storageNodeResponseFuture = inFlightRequest.getResponseFuture();
+      } else {
+        // The in-flight request has just received its response, which can't be shared any more
+        storageNodeResponseFuture = sendRequest(storageNode, path, retryFuture);
+      }
+    } else {
+      storageNodeResponseFuture = sendRequest(storageNode, path, retryFuture);
+    }
+    Instance finalRespondingStorageNode = respondingStorageNode;
+    StoreVersionResponseCache finalCacheToUpdate = cacheToUpdate;
+
     // sendRequest completes future either immediately in the calling thread context or on the executor
-    sendRequest(storageNode, path, retryFuture).whenComplete((response, throwable) -> {
+    storageNodeResponseFuture.whenComplete((response, throwable) -> {
       try {
         int statusCode = response != null ? response.getStatusCode() : HttpStatus.SC_INTERNAL_SERVER_ERROR;
         if (!retryFuture.isCancelled() && RETRIABLE_ERROR_CODES.contains(statusCode)) {
+          if (response != null) {
+            response.releaseContent();
+          }
           retryFuture.setSuccess(INTERNAL_SERVER_ERROR);
           return;
         }
@@ -168,16 +283,67 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
         }
 
         if (statusCode < HttpStatus.SC_INTERNAL_SERVER_ERROR) {
-          path.markStorageNodeAsFast(storageNode.getNodeId());
+          path.markStorageNodeAsFast(finalRespondingStorageNode.getNodeId());
         }
 
-        responseFuture.setSuccess(Collections.singletonList(buildResponse(path, response)));
+        responseFuture.setSuccess(
+            Collections.singletonList(buildResponse(path, response, finalCacheToUpdate, finalCachedRecords)));
       } catch (Throwable e) {
         responseFuture.setFailure(e);
       }
     });
   }
 
+  private boolean isRequestCoalescingEnabled(VenicePath path) {
+    /**
+     * Retry requests are not coalesced, since the in-flight request of the same key could be the slow one which is
+     * being retried.
+     */
+    return path.getRequestType().equals(RequestType.SINGLE_GET) && !path.isRetryRequest()
+        && requestCoalescingEnabledStores.contains(path.getStoreName());
+  }
+
+  /**
+   * Sends the single-get request to the storage node on behalf of all the requests joining the in-flight request
+   * before the response arrives. The content of the response is retained once for every joined request, and every
+   * request gets a duplicate of it, so the content is released after all of them have released their duplicates.
+   */
+  private CompletableFuture<PortableHttpResponse> sendCoalescedRequest(
+      Instance storageNode,
+      VenicePath path,
+      AsyncPromise<HttpResponseStatus> retryFuture,
+      Pair<String, RouterKey> requestKey,
+      InFlightSingleGet inFlightRequest) throws RouterException {
+    CompletableFuture<PortableHttpResponse> storageNodeResponseFuture;
+    try {
+      storageNodeResponseFuture = sendRequest(storageNode, path, retryFuture);
+    } catch (Throwable e) {
+      inFlightSingleGetMap.remove(requestKey, inFlightRequest);
+      inFlightRequest.close();
+      inFlightRequest.sharedResponseFuture.completeExceptionally(e);
+      throw e;
+    }
+    storageNodeResponseFuture.whenComplete((response, throwable) -> {
+      inFlightSingleGetMap.remove(requestKey, inFlightRequest);
+      int joinedRequestCount = inFlightRequest.close();
+      if (throwable != null) {
+        inFlightRequest.sharedResponseFuture.completeExceptionally(throwable);
+        return;
+      }
+      try {
+        ByteBuf content = response.getContentInByteBuf();
+        if (joinedRequestCount > 0) {
+          content.retain(joinedRequestCount);
+        }
+        inFlightRequest.sharedResponseFuture.complete(new SharedResponse(response, content));
+      } catch (Throwable e) {
+        response.releaseContent();
+        inFlightRequest.sharedResponseFuture.completeExceptionally(e);
+      }
+    });
+    return inFlightRequest.getResponseFuture();
+  }
+
   protected CompletableFuture<PortableHttpResponse> sendRequest(
       Instance storageNode,
       VenicePath path,
@@ -245,7 +411,12 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
         storageNodeClient.query(
             storageNode,
             path,
-            responseFuture::complete,
+            response -> {
+              // The response could arrive after the future has been completed by the leaked future cleanup
+              if (!responseFuture.complete(response)) {
+                response.releaseContent();
+              }
+            },
             responseFuture::completeExceptionally,
             () -> responseFuture.cancel(false),
             startTime);
@@ -269,15 +440,47 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
 
   protected VeniceFullHttpResponse buildResponse(VenicePath path, PortableHttpResponse serverResponse)
       throws IOException {
+    return buildResponse(path, serverResponse, null, Collections.emptyList());
+  }
+
+  /**
+   * @param storeVersionCache the response cache to update with the values returned by the storage node, if any
+   * @param cachedRecords the records of the multi-get keys served by the response cache, to be added to the response
+   */
+  private VeniceFullHttpResponse buildResponse(
+      VenicePath path,
+      PortableHttpResponse serverResponse,
+      StoreVersionResponseCache storeVersionCache,
+      List<MultiGetResponseRecordV1> cachedRecords) throws IOException {
     int statusCode = serverResponse.getStatusCode();
+    /**
+     * The content is handed over by the storage node response, so it is released here if the response can't be built,
+     * until it is passed on to the decompressor or to the response, which release it from then on.
+     */
     ByteBuf content = serverResponse.getContentInByteBuf();
+    CompressionStrategy contentCompression;
+    try {
+      if (PASS_THROUGH_ERROR_CODES.contains(statusCode)) {
+        return buildPlainTextResponse(HttpResponseStatus.valueOf(statusCode), content);
+      }
 
-    if (PASS_THROUGH_ERROR_CODES.contains(statusCode)) {
-      return buildPlainTextResponse(HttpResponseStatus.valueOf(statusCode), content);
-    }
+      contentCompression = VeniceResponseDecompressor
+          .getCompressionStrategy(serverResponse.getFirstHeader(VENICE_COMPRESSION_STRATEGY));
 
-    CompressionStrategy contentCompression =
-        VeniceResponseDecompressor.getCompressionStrategy(serverResponse.getFirstHeader(VENICE_COMPRESSION_STRATEGY));
+      if (storeVersionCache != null) {
+        content = updateResponseCache(
+            path,
+            storeVersionCache,
+            statusCode,
+            content,
+            contentCompression,
+            serverResponse.getFirstHeader(HttpConstants.VENICE_SCHEMA_ID),
+            cachedRecords);
+      }
+    } catch (Throwable e) {
+      content.release();
+      throw e;
+    }
 
     long decompressionTimeInNs = 0;
 
@@ -290,9 +493,7 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
       if (path.isStreamingRequest()) {
         VeniceChunkedResponse chunkedResponse = path.getChunkedResponse().get();
         if (path.getRequestType().equals(RequestType.MULTI_GET_STREAMING)) {
-          Pair<ByteBuf, CompressionStrategy> chunk =
-              responseDecompressor.processMultiGetResponseForStreaming(contentCompression, content);
-          chunkedResponse.write(chunk.getFirst(), chunk.getSecond());
+          responseDecompressor.writeMultiGetResponseForStreaming(contentCompression, content, chunkedResponse);
         } else {
           chunkedResponse.write(content);
         }
@@ -311,6 +512,7 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
             contentDecompressResult = new ContentDecompressResult(content, CompressionStrategy.NO_OP, 0);
             break;
           default:
+            content.release();
             throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
                 Optional.empty(),
                 Optional.empty(),
@@ -331,17 +533,160 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
         HttpResponseStatus.valueOf(statusCode),
         content,
         decompressionTimeInNs);
-    response.headers()
-        .set(HttpHeaderNames.CONTENT_TYPE, serverResponse.getFirstHeader(HttpHeaders.CONTENT_TYPE))
-        .set(HttpHeaderNames.CONTENT_LENGTH, content.readableBytes())
-        .set(HttpConstants.VENICE_SCHEMA_ID, serverResponse.getFirstHeader(HttpConstants.VENICE_SCHEMA_ID))
-        .set(HttpConstants.VENICE_COMPRESSION_STRATEGY, contentCompression.getValue())
-        .set(
-            VENICE_REQUEST_RCU,
-            serverResponse.containsHeader(VENICE_REQUEST_RCU) ? serverResponse.getFirstHeader(VENICE_REQUEST_RCU) : 1);
+    try {
+      response.headers()
+          .set(HttpHeaderNames.CONTENT_TYPE, serverResponse.getFirstHeader(HttpHeaders.CONTENT_TYPE))
+          .set(HttpHeaderNames.CONTENT_LENGTH, content.readableBytes())
+          .set(HttpConstants.VENICE_SCHEMA_ID, serverResponse.getFirstHeader(HttpConstants.VENICE_SCHEMA_ID))
+          .set(HttpConstants.VENICE_COMPRESSION_STRATEGY, contentCompression.getValue())
+          .set(
+              VENICE_REQUEST_RCU,
+              serverResponse.containsHeader(VENICE_REQUEST_RCU)
+                  ? serverResponse.getFirstHeader(VENICE_REQUEST_RCU)
+                  : 1);
+    } catch (Throwable e) {
+      // e.g. a missing header, in which case the response is never sent out, so nothing else would release it
+      response.release();
+      throw e;
+    }
     return response;
   }
 
+  private StoreVersionResponseCache getStoreVersionCache(VenicePath path) {
+    if (!responseCache.isPresent()) {
+      return null;
+    }
+    RequestType requestType = path.getRequestType();
+    if (!requestType.equals(RequestType.SINGLE_GET) && !requestType.equals(RequestType.MULTI_GET)) {
+      return null;
+    }
+    return responseCache.get().getStoreVersionCache(path.getStoreName(), path.getVersionNumber());
+  }
+
+  /**
+   * Removes the keys found in the response cache from the multi-get request, and returns the records of the ones which
+   * exist in the store.
+   */
+  private List<MultiGetResponseRecordV1> lookUpCachedRecords(
+      VeniceMultiGetPath path,
+      StoreVersionResponseCache storeVersionCache) {
+    List<MultiGetResponseRecordV1> cachedRecords = new ArrayList<>();
+    int lookupCount = 0;
+    int hitCount = 0;
+    for (Map.Entry<Integer, RouterKey> entry: path.getKeyIdxToRouterKeySet()) {
+      lookupCount++;
+      StoreVersionResponseCache.Value value = storeVersionCache.get(entry.getValue().getKeyBuffer());
+      if (value == null) {
+        continue;
+      }
+      hitCount++;
+      path.removeFromRequest(entry.getValue());
+      if (value.isFound()) {
+        MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+        record.keyIndex = entry.getKey();
+        record.value = value.getValue();
+        record.schemaId = value.getSchemaId();
+        cachedRecords.add(record);
+      }
+    }
+    perStoreStatsByType.getStatsByType(path.getRequestType())
+        .recordCacheLookup(path.getStoreName(), lookupCount, hitCount);
+    return cachedRecords;
+  }
+
+  /**
+   * Caches the values returned by the storage node, and appends the records served by the response cache to the
+   * multi-get response.
+   *
+   * @return the content of the response, including the cached records
+   */
+  private ByteBuf updateResponseCache(
+      VenicePath path,
+      StoreVersionResponseCache storeVersionCache,
+      int statusCode,
+      ByteBuf content,
+      CompressionStrategy contentCompression,
+      String schemaIdHeader,
+      List<MultiGetResponseRecordV1> cachedRecords) {
+    if (statusCode != HttpStatus.SC_OK && statusCode != HttpStatus.SC_NOT_FOUND) {
+      return content;
+    }
+    if (contentCompression != storeVersionCache.getCompressionStrategy()) {
+      if (!cachedRecords.isEmpty()) {
+        throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
+            Optional.of(path.getStoreName()),
+            Optional.of(path.getRequestType()),
+            INTERNAL_SERVER_ERROR,
+            "Compression strategy: " + contentCompression + " of the storage node response doesn't match: "
+                + storeVersionCache.getCompressionStrategy() + " of the cached records");
+      }
+      return content;
+    }
+
+    if (path.getRequestType().equals(RequestType.SINGLE_GET)) {
+      if (statusCode == HttpStatus.SC_OK) {
+        storeVersionCache
+            .putValue(path.getPartitionKey().getKeyBuffer(), Integer.parseInt(schemaIdHeader), content.nioBuffer());
+      } else {
+        storeVersionCache.putNotFound(path.getPartitionKey().getKeyBuffer());
+      }
+      return content;
+    }
+
+    if (statusCode != HttpStatus.SC_OK) {
+      return content;
+    }
+    VeniceMultiGetPath multiGetPath = (VeniceMultiGetPath) path;
+    byte[] contentBytes = ByteBufUtil.getBytes(content, content.readerIndex(), content.readableBytes(), false);
+    Iterable<MultiGetResponseRecordV1> records = MULTI_GET_RECORD_DESERIALIZER.deserializeObjects(
+        OptimizedBinaryDecoderFactory.defaultFactory()
+            .createOptimizedBinaryDecoder(contentBytes, 0, contentBytes.length));
+    Set<RouterKey> foundKeys = new HashSet<>();
+    for (MultiGetResponseRecordV1 record: records) {
+      RouterKey key = multiGetPath.getRouterKeyByKeyIdx(record.keyIndex);
+      foundKeys.add(key);
+      storeVersionCache.putValue(key.getKeyBuffer(), record.schemaId, record.value);
+    }
+    // The keys which don't exist in the store are not part of the response
+    for (RouterKey key: multiGetPath.getPartitionKeys()) {
+      if (!foundKeys.contains(key)) {
+        storeVersionCache.putNotFound(key.getKeyBuffer());
+      }
+    }
+
+    if (cachedRecords.isEmpty()) {
+      return content;
+    }
+    return Unpooled.wrappedBuffer(content, Unpooled.wrappedBuffer(serializeMultiGetRecords(cachedRecords)));
+  }
+
+  private static PortableHttpResponse createCachedResponse(
+      StoreVersionResponseCache storeVersionCache,
+      StoreVersionResponseCache.Value value) {
+    if (!value.isFound()) {
+      return new CachedResponse(HttpStatus.SC_NOT_FOUND, Unpooled.EMPTY_BUFFER, CompressionStrategy.NO_OP, -1);
+    }
+    return new CachedResponse(
+        HttpStatus.SC_OK,
+        Unpooled.wrappedBuffer(value.getValue()),
+        storeVersionCache.getCompressionStrategy(),
+        value.getSchemaId());
+  }
+
+  private static PortableHttpResponse createCachedResponse(
+      StoreVersionResponseCache storeVersionCache,
+      List<MultiGetResponseRecordV1> cachedRecords) {
+    return new CachedResponse(
+        HttpStatus.SC_OK,
+        Unpooled.wrappedBuffer(serializeMultiGetRecords(cachedRecords)),
+        storeVersionCache.getCompressionStrategy(),
+        ReadAvroProtocolDefinition.MULTI_GET_RESPONSE_V1.getProtocolVersion());
+  }
+
+  private static byte[] serializeMultiGetRecords(List<MultiGetResponseRecordV1> records) {
+    return MULTI_GET_RECORD_SERIALIZER.serializeObjects(records, AvroSerializer.REUSE.get());
+  }
+
   /**
    * For TEST ONLY
    */
@@ -368,6 +713,126 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     this.leakedCompletableFutureCleanupService.interrupt();
   }
 
+  /**
+   * A response served by the {@link RouterResponseCache}, in the shape of a storage node response.
+   */
+  private static class CachedResponse implements PortableHttpResponse {
+    private final int statusCode;
+    private final ByteBuf content;
+    private final Map<String, String> headers = new HashMap<>();
+
+    CachedResponse(int statusCode, ByteBuf content, CompressionStrategy compressionStrategy, int schemaId) {
+      this.statusCode = statusCode;
+      this.content = content;
+      headers.put(HttpHeaders.CONTENT_TYPE, HttpConstants.AVRO_BINARY);
+      headers.put(VENICE_COMPRESSION_STRATEGY, Integer.toString(compressionStrategy.getValue()));
+      headers.put(HttpConstants.VENICE_SCHEMA_ID, Integer.toString(schemaId));
+    }
+
+    @Override
+    public int getStatusCode() {
+      return statusCode;
+    }
+
+    @Override
+    public ByteBuf getContentInByteBuf() {
+      return content;
+    }
+
+    @Override
+    public boolean containsHeader(String headerName) {
+      return headers.containsKey(headerName);
+    }
+
+    @Override
+    public String getFirstHeader(String headerName) {
+      return headers.get(headerName);
+    }
+  }
+
+  /**
+   * A single-get request to the storage node, which could be joined by the concurrent requests of the same key until
+   * its response arrives.
+   */
+  private static class InFlightSingleGet {
+    private final Instance storageNode;
+    private final CompletableFuture<SharedResponse> sharedResponseFuture = new CompletableFuture<>();
+    /**
+     * The number of the joined requests, and it is set to -1 once the response arrives to reject the later requests,
+     * since the content of the response has been retained for the joined requests by then.
+     */
+    private final AtomicInteger joinedRequestCount = new AtomicInteger();
+
+    InFlightSingleGet(Instance storageNode) {
+      this.storageNode = storageNode;
+    }
+
+    boolean join() {
+      int count;
+      do {
+        count = joinedRequestCount.get();
+        if (count < 0) {
+          return false;
+        }
+      } while (!joinedRequestCount.compareAndSet(count, count + 1));
+      return true;
+    }
+
+    /**
+     * @return the number of the joined requests
+     */
+    int close() {
+      return joinedRequestCount.getAndSet(-1);
+    }
+
+    CompletableFuture<PortableHttpResponse> getResponseFuture() {
+      return sharedResponseFuture.thenApply(SharedResponse::duplicate);
+    }
+  }
+
+  /**
+   * The storage node response shared by the coalesced requests, whose content has been retained for each of them.
+   */
+  private static class SharedResponse {
+    private final PortableHttpResponse response;
+    private final ByteBuf content;
+
+    SharedResponse(PortableHttpResponse response, ByteBuf content) {
+      this.response = response;
+      this.content = content;
+    }
+
+    PortableHttpResponse duplicate() {
+      ByteBuf duplicatedContent = content.duplicate();
+      return new PortableHttpResponse() {
+        @Override
+        public int getStatusCode() {
+          return response.getStatusCode();
+        }
+
+        @Override
+        public ByteBuf getContentInByteBuf() {
+          return duplicatedContent;
+        }
+
+        @Override
+        public boolean containsHeader(String headerName) {
+          return response.containsHeader(headerName);
+        }
+
+        @Override
+        public String getFirstHeader(String headerName) {
+          return response.getFirstHeader(headerName);
+        }
+
+        @Override
+        public void releaseContent() {
+          duplicatedContent.release();
+        }
+      };
+    }
+  }
+
   /**
    * This implementation of {@link CompletableFuture} has the capability to track the start time.
    * @param <T>
@@ -18,6 +18,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -85,11 +86,6 @@ public class VeniceHostFinder implements HostFinder<Instance, VeniceRole> {
      * of {@link HostFinder}.
      */
     AggRouterHttpRequestStats currentStats = routerStats.getStatsByType(isSingleGet ? SINGLE_GET : MULTI_GET);
-    /**
-     * It seems not clean to use the following method to extract store name, but inside Venice, Kafka topic name is same
-     * as Helix resource name.
-     */
-    String storeName = Version.parseStoreFromKafkaTopicName(resourceName);
     for (Instance instance: hosts) {
       // Filter out unhealthy hosts
       /**
@@ -99,7 +95,11 @@ public class VeniceHostFinder implements HostFinder<Instance, VeniceRole> {
        * the current request is a retry request.
        */
       if (!instanceHealthMonitor.isHostHealthy(instance, partitionName)) {
-        currentStats.recordFindUnhealthyHostRequest(storeName);
+        /**
+         * It seems not clean to use the following method to extract store name, but inside Venice, Kafka topic name is
+         * same as Helix resource name.
+         */
+        currentStats.recordFindUnhealthyHostRequest(Version.parseStoreFromKafkaTopicName(resourceName));
         continue;
       }
       if (hostHealthMonitor.isHostHealthy(instance, partitionName)) {
@@ -121,8 +121,10 @@ public class VeniceHostFinder implements HostFinder<Instance, VeniceRole> {
     // Zero available host issue is handled by {@link VeniceDelegateMode} by checking whether there is any 'offline
     // request'.
 
-    Collections.shuffle(newHosts); // Randomize order so that multiget using ScatterGatherMode.GROUP_BY_PRIMARY_HOST or
-                                   // LEAST_LOADED_ROUTING results in an even distribution of partitions to hosts.
+    // Randomize order so that multiget using ScatterGatherMode.GROUP_BY_PRIMARY_HOST or LEAST_LOADED_ROUTING results in
+    // an even distribution of partitions to hosts. The thread local random avoids the contention on the shared seed of
+    // the default random of Collections.shuffle.
+    Collections.shuffle(newHosts, ThreadLocalRandom.current());
     return newHosts;
   }
 
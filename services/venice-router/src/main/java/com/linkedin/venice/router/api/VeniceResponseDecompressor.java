@@ -15,19 +15,25 @@ import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.router.streaming.VeniceChunkedResponse;
 import com.linkedin.venice.serializer.AvroSerializer;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.utils.LatencyUtils;
-import com.linkedin.venice.utils.Pair;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpRequest;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.apache.avro.io.BinaryDecoder;
 import org.apache.avro.io.OptimizedBinaryDecoderFactory;
 
 
@@ -36,6 +42,12 @@ import org.apache.avro.io.OptimizedBinaryDecoderFactory;
  * {@link VeniceResponseAggregator} for regular requests and {@link VeniceDispatcher} for streaming requests.
  */
 public class VeniceResponseDecompressor {
+  /**
+   * The decompressed records of a streaming multi-get response are written out whenever they reach this size, so the
+   * client starts receiving the records before the whole storage node response is decompressed.
+   */
+  static final int MULTI_GET_STREAMING_CHUNK_SIZE = 64 * 1024;
+
   private static final RecordSerializer<MultiGetResponseRecordV1> recordSerializer =
       FastSerializerDeserializerFactory.getFastAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema());
   private static final RecordDeserializer<MultiGetResponseRecordV1> recordDeserializer =
@@ -118,55 +130,102 @@ public class VeniceResponseDecompressor {
     } else {
       ByteBuf output;
       long startTimeInNs = System.nanoTime();
-      if (content instanceof CompositeByteBuf) {
-        CompositeByteBuf compositeInput = (CompositeByteBuf) content;
-        switch (compositeInput.numComponents()) {
-          case 0:
-            output = Unpooled.EMPTY_BUFFER;
-            break;
-          case 1:
-            output = decompressMultiGetRecords(compressionStrategy, compositeInput.component(0), MULTI_GET);
-            break;
-          default:
-            output = Unpooled.compositeBuffer(compositeInput.numComponents());
-            CompositeByteBuf compositeOutput = (CompositeByteBuf) output;
-            for (ByteBuf buffer: compositeInput) {
-              compositeOutput.addComponent(true, decompressMultiGetRecords(compressionStrategy, buffer, MULTI_GET));
-            }
-        }
-      } else {
-        output = decompressMultiGetRecords(compressionStrategy, content, MULTI_GET);
-      }
-      final long decompressionTimeInNs = System.nanoTime() - startTimeInNs;
       /**
        * When using compression, the data in response is already copied during decompression, so we can explicitly
-       * release the ByteBuf in the response immediately to avoid any memory leak.
+       * release the ByteBuf in the response right away, including when the decompression fails, to avoid any memory
+       * leak.
        *
        * When not using compression, the backing byte array in the response will be reused to construct the response to
        * client, and the ByteBuf will be released in the netty pipeline.
        */
-      content.release();
+      try {
+        if (content instanceof CompositeByteBuf) {
+          CompositeByteBuf compositeInput = (CompositeByteBuf) content;
+          switch (compositeInput.numComponents()) {
+            case 0:
+              output = Unpooled.EMPTY_BUFFER;
+              break;
+            case 1:
+              output = decompressMultiGetRecords(
+                  compressionStrategy,
+                  compositeInput.component(0),
+                  MULTI_GET,
+                  Integer.MAX_VALUE,
+                  null);
+              break;
+            default:
+              CompositeByteBuf compositeOutput = Unpooled.compositeBuffer(compositeInput.numComponents());
+              try {
+                for (ByteBuf buffer: compositeInput) {
+                  compositeOutput.addComponent(
+                      true,
+                      decompressMultiGetRecords(compressionStrategy, buffer, MULTI_GET, Integer.MAX_VALUE, null));
+                }
+              } catch (Throwable e) {
+                // Releases the pooled buffers of the components which have been decompressed
+                compositeOutput.release();
+                throw e;
+              }
+              output = compositeOutput;
+          }
+        } else {
+          output = decompressMultiGetRecords(compressionStrategy, content, MULTI_GET, Integer.MAX_VALUE, null);
+        }
+      } finally {
+        content.release();
+      }
+      final long decompressionTimeInNs = System.nanoTime() - startTimeInNs;
 
       return new ContentDecompressResult(output, CompressionStrategy.NO_OP, decompressionTimeInNs);
     }
   }
 
-  public Pair<ByteBuf, CompressionStrategy> processMultiGetResponseForStreaming(
+  /**
+   * Writes the storage node response of a streaming multi-get request to the client. If the records need to be
+   * decompressed in router, they are decompressed one by one and written out in chunks of
+   * {@link #MULTI_GET_STREAMING_CHUNK_SIZE}, instead of all together after the whole response is decompressed.
+   *
+   * If a record can't be decompressed after some chunks of this response have been written out, the whole streaming
+   * response is finished with an error instead of failing this sub-request, since the client has already received a
+   * part of its records, and a retry or the error handling of the sub-request would send a truncated or duplicated
+   * record set.
+   */
+  public void writeMultiGetResponseForStreaming(
       CompressionStrategy responseCompression,
-      ByteBuf content) {
+      ByteBuf content,
+      VeniceChunkedResponse chunkedResponse) {
     if (canPassThroughResponse(responseCompression)) {
       // Decompress record on the client side if needed
-      return new Pair<>(content, responseCompression);
+      chunkedResponse.write(content, responseCompression);
+      return;
     }
 
     AggRouterHttpRequestStats stats = routerStats.getStatsByType(MULTI_GET_STREAMING);
     stats.recordCompressedResponseSize(storeName, content.readableBytes());
     long startTimeInNs = System.nanoTime();
-    ByteBuf copy = content.isReadOnly() ? content.copy() : content;
-    ByteBuf decompressedContent = decompressMultiGetRecords(responseCompression, copy, MULTI_GET_STREAMING);
+    AtomicBoolean chunkWritten = new AtomicBoolean(false);
+    ByteBuf lastChunk;
+    try {
+      lastChunk = decompressMultiGetRecords(
+          responseCompression,
+          content,
+          MULTI_GET_STREAMING,
+          MULTI_GET_STREAMING_CHUNK_SIZE,
+          chunk -> {
+            chunkWritten.set(true);
+            chunkedResponse.write(chunk, CompressionStrategy.NO_OP);
+          });
+    } catch (Exception e) {
+      if (!chunkWritten.get()) {
+        throw e;
+      }
+      chunkedResponse.finishWithError(BAD_GATEWAY, String.valueOf(e.getMessage()));
+      return;
+    } finally {
+      content.release();
+    }
+    chunkedResponse.write(lastChunk, CompressionStrategy.NO_OP);
     stats.recordDecompressionTime(storeName, LatencyUtils.getLatencyInMS(startTimeInNs));
-    content.release();
-    return new Pair<>(decompressedContent, CompressionStrategy.NO_OP);
   }
 
   private ByteBuffer decompressRecord(
@@ -174,62 +233,72 @@ public class VeniceResponseDecompressor {
       ByteBuffer compressedData,
       RequestType requestType) {
     try {
-      VeniceCompressor compressor;
-      if (compressionStrategy == CompressionStrategy.ZSTD_WITH_DICT) {
-        compressor = compressorFactory.getVersionSpecificCompressor(kafkaTopic);
-        if (compressor == null) {
-          throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
-              Optional.of(storeName),
-              Optional.of(requestType),
-              SERVICE_UNAVAILABLE,
-              "Compressor not available for resource " + kafkaTopic + ". Dictionary not downloaded.");
-        }
-      } else {
-        compressor = compressorFactory.getCompressor(compressionStrategy);
-      }
-      ByteBuffer decompressed = compressor.decompress(compressedData);
-      return decompressed;
+      return getCompressor(compressionStrategy, requestType).decompress(compressedData);
     } catch (IOException e) {
-      String errorMsg = String
-          .format("Failed to decompress data. Store: %s; Version: %d, error: %s", storeName, version, e.getMessage());
-      throw RouterExceptionAndTrackingUtils
-          .newVeniceExceptionAndTracking(Optional.of(storeName), Optional.of(requestType), BAD_GATEWAY, errorMsg);
+      throw newDecompressionException(requestType, e);
     }
   }
 
+  /**
+   * Decodes the records one by one and serializes the decompressed records into pooled buffers. Every buffer reaching
+   * the chunk size is handed over to the chunk consumer right away, and the last one is returned.
+   */
   private ByteBuf decompressMultiGetRecords(
       CompressionStrategy compressionStrategy,
       ByteBuf data,
-      RequestType requestType) {
-    ByteBuf copy = data.isReadOnly() ? data.copy() : data;
-    Iterable<MultiGetResponseRecordV1> records = recordDeserializer.deserializeObjects(
-        OptimizedBinaryDecoderFactory.defaultFactory()
-            .createOptimizedBinaryDecoder(copy.array(), 0, copy.readableBytes()));
+      RequestType requestType,
+      int chunkSize,
+      Consumer<ByteBuf> chunkConsumer) {
+    VeniceCompressor compressor = getCompressor(compressionStrategy, requestType);
+    BinaryDecoder decoder = data.hasArray()
+        ? OptimizedBinaryDecoderFactory.defaultFactory()
+            .createOptimizedBinaryDecoder(data.array(), data.arrayOffset() + data.readerIndex(), data.readableBytes())
+        : OptimizedBinaryDecoderFactory.defaultFactory()
+            .createOptimizedBinaryDecoder(ByteBufUtil.getBytes(data), 0, data.readableBytes());
 
+    ByteBuf chunk = PooledByteBufAllocator.DEFAULT.heapBuffer(Math.min(chunkSize, data.readableBytes()));
     try {
-      VeniceCompressor compressor;
-      if (compressionStrategy == CompressionStrategy.ZSTD_WITH_DICT) {
-        compressor = compressorFactory.getVersionSpecificCompressor(kafkaTopic);
-        if (compressor == null) {
-          throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
-              Optional.of(storeName),
-              Optional.of(requestType),
-              SERVICE_UNAVAILABLE,
-              "Compressor not available for resource " + kafkaTopic + ". Dictionary not downloaded.");
-        }
-      } else {
-        compressor = compressorFactory.getCompressor(compressionStrategy);
-      }
-      for (MultiGetResponseRecordV1 record: records) {
+      ByteBufOutputStream chunkOutput = new ByteBufOutputStream(chunk);
+      while (!decoder.isEnd()) {
+        MultiGetResponseRecordV1 record = recordDeserializer.deserialize(decoder);
         record.value = compressor.decompress(record.value);
+        recordSerializer.serialize(record, chunkOutput, AvroSerializer.REUSE.get());
+        if (chunk.readableBytes() >= chunkSize) {
+          ByteBuf fullChunk = chunk;
+          chunk = PooledByteBufAllocator.DEFAULT.heapBuffer(chunkSize);
+          chunkOutput = new ByteBufOutputStream(chunk);
+          chunkConsumer.accept(fullChunk);
+        }
       }
+      return chunk;
     } catch (IOException e) {
-      String errorMsg = String
-          .format("Failed to decompress data. Store: %s; Version: %d, error: %s", storeName, version, e.getMessage());
-      throw RouterExceptionAndTrackingUtils
-          .newVeniceExceptionAndTracking(Optional.of(storeName), Optional.of(requestType), BAD_GATEWAY, errorMsg);
+      chunk.release();
+      throw newDecompressionException(requestType, e);
+    } catch (Throwable e) {
+      chunk.release();
+      throw e;
     }
+  }
+
+  private VeniceCompressor getCompressor(CompressionStrategy compressionStrategy, RequestType requestType) {
+    if (compressionStrategy == CompressionStrategy.ZSTD_WITH_DICT) {
+      VeniceCompressor compressor = compressorFactory.getVersionSpecificCompressor(kafkaTopic);
+      if (compressor == null) {
+        throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
+            Optional.of(storeName),
+            Optional.of(requestType),
+            SERVICE_UNAVAILABLE,
+            "Compressor not available for resource " + kafkaTopic + ". Dictionary not downloaded.");
+      }
+      return compressor;
+    }
+    return compressorFactory.getCompressor(compressionStrategy);
+  }
 
-    return Unpooled.wrappedBuffer(recordSerializer.serializeObjects(records, AvroSerializer.REUSE.get()));
+  private RuntimeException newDecompressionException(RequestType requestType, IOException e) {
+    String errorMsg = String
+        .format("Failed to decompress data. Store: %s; Version: %d, error: %s", storeName, version, e.getMessage());
+    return RouterExceptionAndTrackingUtils
+        .newVeniceExceptionAndTracking(Optional.of(storeName), Optional.of(requestType), BAD_GATEWAY, errorMsg);
   }
 }
@@ -16,6 +16,7 @@ import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.StoreConfig;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.meta.VersionStatus;
+import com.linkedin.venice.router.cache.RouterResponseCache;
 import com.linkedin.venice.router.stats.StaleVersionReason;
 import com.linkedin.venice.router.stats.StaleVersionStats;
 import com.linkedin.venice.utils.RedundantExceptionFilter;
@@ -44,6 +45,7 @@ public class VeniceVersionFinder {
   private final ConcurrentMap<String, Integer> lastCurrentVersionMap = new ConcurrentHashMap<>();
   private final HelixBaseRoutingRepository routingDataRepository;
   private final CompressorFactory compressorFactory;
+  private final Optional<RouterResponseCache> responseCache;
 
   public VeniceVersionFinder(
       ReadOnlyStoreRepository metadataRepository,
@@ -53,6 +55,26 @@ public class VeniceVersionFinder {
       Map<String, String> clusterToD2Map,
       String clusterName,
       CompressorFactory compressorFactory) {
+    this(
+        metadataRepository,
+        routingDataRepository,
+        stats,
+        storeConfigRepo,
+        clusterToD2Map,
+        clusterName,
+        compressorFactory,
+        Optional.empty());
+  }
+
+  public VeniceVersionFinder(
+      ReadOnlyStoreRepository metadataRepository,
+      HelixBaseRoutingRepository routingDataRepository,
+      StaleVersionStats stats,
+      HelixReadOnlyStoreConfigRepository storeConfigRepo,
+      Map<String, String> clusterToD2Map,
+      String clusterName,
+      CompressorFactory compressorFactory,
+      Optional<RouterResponseCache> responseCache) {
     this.metadataRepository = metadataRepository;
     this.routingDataRepository = routingDataRepository;
     this.stats = stats;
@@ -60,6 +82,7 @@ public class VeniceVersionFinder {
     this.clusterToD2Map = clusterToD2Map;
     this.clusterName = clusterName;
     this.compressorFactory = compressorFactory;
+    this.responseCache = responseCache;
   }
 
   public int getVersion(String storeName, BasicFullHttpRequest request) throws VeniceException {
@@ -88,7 +111,7 @@ public class VeniceVersionFinder {
 
     int metadataCurrentVersion = store.getCurrentVersion();
     if (!lastCurrentVersionMap.containsKey(storeName)) {
-      lastCurrentVersionMap.put(storeName, metadataCurrentVersion);
+      updateLastCurrentVersion(store, metadataCurrentVersion);
       if (metadataCurrentVersion == Store.NON_EXISTING_VERSION) {
         /** This should happen at most once per store, since we are adding the mapping to {@link lastCurrentVersionMap} */
         store = metadataRepository.refreshOneStore(storeName);
@@ -111,7 +134,7 @@ public class VeniceVersionFinder {
     boolean currentVersionPartitionResourcesReady = isPartitionResourcesReady(kafkaTopic);
     if (currentVersionPartitionResourcesReady && currentVersionDecompressorReady) {
       // all partitions are online and decompressor is initialized with dictionary
-      lastCurrentVersionMap.put(storeName, newCurrentVersion);
+      updateLastCurrentVersion(store, newCurrentVersion);
       stats.recordNotStale();
       return newCurrentVersion;
     }
@@ -157,12 +180,22 @@ public class VeniceVersionFinder {
       if (!EXCEPTION_FILTER.isRedundantException(message)) {
         LOGGER.warn(message);
       }
-      lastCurrentVersionMap.put(storeName, newCurrentVersion);
+      updateLastCurrentVersion(store, newCurrentVersion);
       stats.recordNotStale();
       return newCurrentVersion;
     }
   }
 
+  /**
+   * The cached responses of the store, if any, are only valid for the version being served.
+   */
+  private void updateLastCurrentVersion(Store store, int version) {
+    lastCurrentVersionMap.put(store.getName(), version);
+    if (responseCache.isPresent()) {
+      responseCache.get().updateServingVersion(store, version);
+    }
+  }
+
   private boolean isPartitionResourcesReady(String kafkaTopic) {
     if (!routingDataRepository.containsKafkaTopic(kafkaTopic)) {
       return false;
@@ -2,40 +2,61 @@ package com.linkedin.venice.router.api.routing.helix;
 
 import com.linkedin.alpini.base.concurrency.TimeoutProcessor;
 import com.linkedin.venice.exceptions.VeniceException;
-import com.linkedin.venice.utils.Pair;
-import java.util.HashMap;
+import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.Time;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 
 /**
  * This strategy is tried to distribute more load to Helix Groups with more capacity.
- * Since the qps to a specific Router is not that high, so it is acceptable to use synchronized method
- * here.
- * TODO: if we notice a performance issue with the synchronized implementation, we could tune it better
- * to use Atomic data structures by sacrificing the accuracy.
  *
- * This class is also leveraging {@link TimeoutProcessor} to handle potential group counter leaking issue.
+ * Every request goes through this class, so it doesn't take any lock: the group counters are atomic, and a request
+ * picks the group with the smallest counter it observes, which might be slightly stale when several requests select
+ * a group at the same time. This inaccuracy is acceptable, since the counters only need to reflect the relative load
+ * of the groups. The counters are spread apart in the underlying array, so that the groups don't share a cache line.
+ *
+ * This class is also leveraging {@link TimeoutProcessor} to handle potential group counter leaking issue: instead of
+ * scheduling a timeout for every request, a periodic task scheduled by {@link TimeoutProcessor} releases the
+ * counters of the requests which haven't finished within the timeout. The periodic task is cancelled by
+ * {@link #close()} when the Router is shutting down.
  */
 public class HelixGroupLeastLoadedStrategy implements HelixGroupSelectionStrategy {
   private static final Logger LOGGER = LogManager.getLogger(HelixGroupLeastLoadedStrategy.class);
 
   public static final int MAX_ALLOWED_GROUP = 100;
-  private final int[] counters = new int[MAX_ALLOWED_GROUP];
+  /**
+   * 16 ints take 64 bytes, which is the cache line size of the common CPUs.
+   */
+  private static final int COUNTER_STRIDE = 16;
+  private final AtomicIntegerArray counters = new AtomicIntegerArray(MAX_ALLOWED_GROUP * COUNTER_STRIDE);
   /**
    * The group count could potentially change during the runtime since the storage node cluster can be expanded
    * without bouncing Routers.
    */
-  private int currentGroupCount = 0;
+  private volatile int currentGroupCount = 0;
   private final TimeoutProcessor timeoutProcessor;
   private final long timeoutInMS;
-  private final Map<Long, Pair<Integer, TimeoutProcessor.TimeoutFuture>> requestTimeoutFutureMap = new HashMap<>();
+  private final long timeoutCheckIntervalInMS;
+  private final Time time;
+  private final Map<Long, PendingRequest> pendingRequestMap = new VeniceConcurrentHashMap<>();
+  private volatile TimeoutProcessor.TimeoutFuture timeoutCheckFuture;
+  private volatile boolean closed = false;
 
   public HelixGroupLeastLoadedStrategy(TimeoutProcessor timeoutProcessor, long timeoutInMS) {
+    this(timeoutProcessor, timeoutInMS, new SystemTime());
+  }
+
+  public HelixGroupLeastLoadedStrategy(TimeoutProcessor timeoutProcessor, long timeoutInMS, Time time) {
     this.timeoutProcessor = timeoutProcessor;
     this.timeoutInMS = timeoutInMS;
+    this.timeoutCheckIntervalInMS = Math.max(1, timeoutInMS / 10);
+    this.time = time;
+    scheduleTimeoutCheck();
   }
 
   @Override
@@ -45,44 +66,26 @@ public class HelixGroupLeastLoadedStrategy implements HelixGroupSelectionStrateg
           "The valid group num must fail into this range: [1, " + MAX_ALLOWED_GROUP + "], but received: " + groupCount);
     }
     this.currentGroupCount = groupCount;
-    long smallestCounter = Integer.MAX_VALUE;
+    int smallestCounter = Integer.MAX_VALUE;
     int leastLoadedGroup = 0;
     int startGroupId = (int) (requestId % groupCount);
-    /**
-     * The modification to the group counters should be synchronized to be accurate.
-     * If there is a perf issue with this approach, sacrificing accuracy for perf is acceptable.
-     */
-    synchronized (this) {
-      if (requestTimeoutFutureMap.containsKey(requestId)) {
-        throw new VeniceException(
-            "One request should at most select one group, but request with request id: " + requestId
-                + " has invoked this function more than once");
-      }
-      for (int i = 0; i < groupCount; ++i) {
-        int currentGroup = (i + startGroupId) % groupCount;
-        long currentGroupCounter = counters[currentGroup];
-        if (currentGroupCounter < smallestCounter) {
-          smallestCounter = currentGroupCounter;
-          leastLoadedGroup = currentGroup;
-        }
+    for (int i = 0; i < groupCount; ++i) {
+      int currentGroup = (i + startGroupId) % groupCount;
+      int currentGroupCounter = getCounter(currentGroup);
+      if (currentGroupCounter < smallestCounter) {
+        smallestCounter = currentGroupCounter;
+        leastLoadedGroup = currentGroup;
       }
-      final int finalLeastLoadedGroup = leastLoadedGroup;
-      /**
-       * Setting up timeout future for this request since it is possible in some situation, {@link #finishRequest} may
-       * not be invoked, and without timeout, the group counter will be leaking.
-       */
-      requestTimeoutFutureMap.put(
-          requestId,
-          new Pair<>(
-              leastLoadedGroup,
-              timeoutProcessor.schedule(
-                  () -> timeoutRequest(requestId, finalLeastLoadedGroup, false),
-                  timeoutInMS,
-                  TimeUnit.MILLISECONDS)));
-
-      ++counters[leastLoadedGroup];
     }
 
+    counters.incrementAndGet(leastLoadedGroup * COUNTER_STRIDE);
+    PendingRequest pendingRequest = new PendingRequest(leastLoadedGroup, time.getMilliseconds());
+    if (pendingRequestMap.putIfAbsent(requestId, pendingRequest) != null) {
+      counters.decrementAndGet(leastLoadedGroup * COUNTER_STRIDE);
+      throw new VeniceException(
+          "One request should at most select one group, but request with request id: " + requestId
+              + " has invoked this function more than once");
+    }
     return leastLoadedGroup;
   }
 
@@ -90,62 +93,107 @@ public class HelixGroupLeastLoadedStrategy implements HelixGroupSelectionStrateg
    * Reset the group counter for the specified request.
    * @param requestId
    * @param groupId
-   * @param cancelTimeoutFuture
-   *          true : for the regular request completion.
-   *          false : for timeout scheduler.
+   * @param timedOut
+   *          false : for the regular request completion.
+   *          true : for the timeout check.
    */
-  private void timeoutRequest(long requestId, int groupId, boolean cancelTimeoutFuture) {
+  private void timeoutRequest(long requestId, int groupId, boolean timedOut) {
     if (groupId >= MAX_ALLOWED_GROUP || groupId < 0) {
       throw new VeniceException(
           "The allowed group id must fail into this range: [0, " + (MAX_ALLOWED_GROUP - 1) + "], but received: "
               + groupId);
     }
-    synchronized (this) {
-      Pair<Integer, TimeoutProcessor.TimeoutFuture> timeoutFuturePair = requestTimeoutFutureMap.get(requestId);
-      if (timeoutFuturePair == null) {
-        /**
-         * Request has already timed out or already finished.
-         */
-        return;
-      }
-      if (groupId != timeoutFuturePair.getFirst()) {
-        throw new VeniceException(
-            "Group id for request with id: " + requestId + " should be: " + timeoutFuturePair.getFirst()
-                + ", but received: " + groupId);
-      }
-      if (--counters[groupId] < 0) {
-        counters[groupId] = 0;
-        throw new VeniceException(
-            "The counter for group: " + groupId + " became negative, something wrong happened, will reset it to be 0.");
-      }
-      if (cancelTimeoutFuture) {
-        // Cancel the timeout future
-        timeoutFuturePair.getSecond().cancel();
-      } else {
-        LOGGER.info(
-            "Request with id: {} has timed out with threshold: {}ms, and the counter of group: {} will be reset for this request",
-            requestId,
-            timeoutInMS,
-            groupId);
-      }
-      requestTimeoutFutureMap.remove(requestId);
+    PendingRequest pendingRequest = pendingRequestMap.get(requestId);
+    if (pendingRequest == null) {
+      /**
+       * Request has already timed out or already finished.
+       */
+      return;
+    }
+    if (groupId != pendingRequest.groupId) {
+      throw new VeniceException(
+          "Group id for request with id: " + requestId + " should be: " + pendingRequest.groupId
+              + ", but received: " + groupId);
+    }
+    if (!pendingRequestMap.remove(requestId, pendingRequest)) {
+      // The request has been finished or timed out concurrently
+      return;
+    }
+    if (counters.decrementAndGet(groupId * COUNTER_STRIDE) < 0) {
+      counters.set(groupId * COUNTER_STRIDE, 0);
+      throw new VeniceException(
+          "The counter for group: " + groupId + " became negative, something wrong happened, will reset it to be 0.");
+    }
+    if (timedOut) {
+      LOGGER.info(
+          "Request with id: {} has timed out with threshold: {}ms, and the counter of group: {} will be reset for this request",
+          requestId,
+          timeoutInMS,
+          groupId);
+    }
+  }
+
+  private void scheduleTimeoutCheck() {
+    if (closed) {
+      return;
+    }
+    timeoutCheckFuture =
+        timeoutProcessor.schedule(this::checkTimedOutRequests, timeoutCheckIntervalInMS, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Releases the counters of the requests which haven't finished within the timeout, since {@link #finishRequest}
+   * may not be invoked in some situation, and without the timeout, the group counter will be leaking.
+   */
+  private void checkTimedOutRequests() {
+    try {
+      long timeoutStartTimeMs = time.getMilliseconds() - timeoutInMS;
+      pendingRequestMap.forEach((requestId, pendingRequest) -> {
+        if (pendingRequest.startTimeMs <= timeoutStartTimeMs) {
+          try {
+            timeoutRequest(requestId, pendingRequest.groupId, true);
+          } catch (VeniceException e) {
+            LOGGER.error("Failed to time out request with id: {}", requestId, e);
+          }
+        }
+      });
+    } finally {
+      scheduleTimeoutCheck();
     }
   }
 
   @Override
   public void finishRequest(long requestId, int groupId) {
-    timeoutRequest(requestId, groupId, true);
+    timeoutRequest(requestId, groupId, false);
+  }
+
+  /**
+   * Cancel the periodic timeout check, and it won't be scheduled again.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    TimeoutProcessor.TimeoutFuture future = timeoutCheckFuture;
+    if (future != null) {
+      future.cancel();
+    }
+  }
+
+  private int getCounter(int groupId) {
+    return counters.get(groupId * COUNTER_STRIDE);
   }
 
   @Override
   public int getMaxGroupPendingRequest() {
-    if (currentGroupCount == 0) {
+    int groupCount = currentGroupCount;
+    if (groupCount == 0) {
       return 0;
     }
     int maxPendingRequest = 0;
-    for (int i = 0; i < currentGroupCount; ++i) {
-      if (counters[i] > maxPendingRequest) {
-        maxPendingRequest = counters[i];
+    for (int i = 0; i < groupCount; ++i) {
+      int counter = getCounter(i);
+      if (counter > maxPendingRequest) {
+        maxPendingRequest = counter;
       }
     }
     return maxPendingRequest;
@@ -153,13 +201,15 @@ public class HelixGroupLeastLoadedStrategy implements HelixGroupSelectionStrateg
 
   @Override
   public int getMinGroupPendingRequest() {
-    if (currentGroupCount == 0) {
+    int groupCount = currentGroupCount;
+    if (groupCount == 0) {
       return 0;
     }
     int minPendingRequest = Integer.MAX_VALUE;
-    for (int i = 0; i < currentGroupCount; ++i) {
-      if (counters[i] < minPendingRequest) {
-        minPendingRequest = counters[i];
+    for (int i = 0; i < groupCount; ++i) {
+      int counter = getCounter(i);
+      if (counter < minPendingRequest) {
+        minPendingRequest = counter;
       }
     }
     return minPendingRequest;
@@ -167,13 +217,24 @@ public class HelixGroupLeastLoadedStrategy implements HelixGroupSelectionStrateg
 
   @Override
   public int getAvgGroupPendingRequest() {
-    if (currentGroupCount == 0) {
+    int groupCount = currentGroupCount;
+    if (groupCount == 0) {
       return 0;
     }
     int totalPendingRequest = 0;
-    for (int i = 0; i < currentGroupCount; ++i) {
-      totalPendingRequest += counters[i];
+    for (int i = 0; i < groupCount; ++i) {
+      totalPendingRequest += getCounter(i);
+    }
+    return totalPendingRequest / groupCount;
+  }
+
+  private static class PendingRequest {
+    private final int groupId;
+    private final long startTimeMs;
+
+    private PendingRequest(int groupId, long startTimeMs) {
+      this.groupId = groupId;
+      this.startTimeMs = startTimeMs;
     }
-    return totalPendingRequest / currentGroupCount;
   }
 }
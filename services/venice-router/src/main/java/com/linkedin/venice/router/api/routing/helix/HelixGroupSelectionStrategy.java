@@ -26,4 +26,10 @@ public interface HelixGroupSelectionStrategy {
    * Get the average of the pending requests among all the groups
    */
   int getAvgGroupPendingRequest();
+
+  /**
+   * Release the resources held by the strategy, such as the scheduled tasks, when the Router is shutting down.
+   */
+  default void close() {
+  }
 }
@@ -80,4 +80,9 @@ public class HelixGroupSelector implements HelixGroupSelectionStrategy {
   public int getAvgGroupPendingRequest() {
     return selectionStrategy.getAvgGroupPendingRequest();
   }
+
+  @Override
+  public void close() {
+    selectionStrategy.close();
+  }
 }
@@ -0,0 +1,96 @@
+package com.linkedin.venice.router.cache;
+
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * The off-heap cache of the single-get and multi-get responses of the stores listed in
+ * {@link com.linkedin.venice.ConfigKeys#ROUTER_RESPONSE_CACHE_ENABLED_STORES}.
+ *
+ * Each store only caches the values of the version served by the router, which is reported by
+ * {@link com.linkedin.venice.router.api.VeniceVersionFinder} through {@link #updateServingVersion(Store, int)}, and
+ * the values of the previous version are dropped wholesale on a version swap. The values of a batch-only store never
+ * change within a version, so they are cached until they get evicted by the memory limit, while the values of a
+ * hybrid store expire after {@link com.linkedin.venice.ConfigKeys#ROUTER_RESPONSE_CACHE_HYBRID_STORE_TTL_MS}.
+ */
+public class RouterResponseCache {
+  private static final Logger LOGGER = LogManager.getLogger(RouterResponseCache.class);
+
+  private final Set<String> enabledStores;
+  private final long maxMemoryPerStore;
+  private final long hybridStoreTtlMs;
+  private final Map<String, StoreVersionResponseCache> storeCacheMap = new VeniceConcurrentHashMap<>();
+
+  public RouterResponseCache(VeniceRouterConfig config) {
+    this.enabledStores = config.getResponseCacheEnabledStores();
+    this.maxMemoryPerStore = config.getResponseCacheMaxMemoryPerStore();
+    this.hybridStoreTtlMs = config.getResponseCacheHybridStoreTtlMs();
+    LOGGER.info(
+        "Response cache is enabled for stores: {} with max memory per store: {} and hybrid store TTL: {}ms",
+        enabledStores,
+        maxMemoryPerStore,
+        hybridStoreTtlMs);
+  }
+
+  public boolean isEnabledForStore(String storeName) {
+    return enabledStores.contains(storeName);
+  }
+
+  /**
+   * Switches the cache of the store to the given version, if it is not the version already cached, and drops all
+   * the cached values of the previous version.
+   */
+  public void updateServingVersion(Store store, int versionNumber) {
+    String storeName = store.getName();
+    if (!isEnabledForStore(storeName)) {
+      return;
+    }
+    Optional<Version> version = store.getVersion(versionNumber);
+    storeCacheMap.compute(storeName, (ignored, currentCache) -> {
+      if (currentCache != null) {
+        if (currentCache.getVersion() == versionNumber) {
+          return currentCache;
+        }
+        currentCache.clear();
+        LOGGER.info(
+            "Dropped the cached responses of version: {} of store: {} for version: {}",
+            currentCache.getVersion(),
+            storeName,
+            versionNumber);
+      }
+      if (!version.isPresent()) {
+        return null;
+      }
+      return new StoreVersionResponseCache(
+          versionNumber,
+          version.get().getCompressionStrategy(),
+          maxMemoryPerStore,
+          store.isHybrid() ? hybridStoreTtlMs : -1);
+    });
+  }
+
+  /**
+   * @return the cache of the given version of the store, or null if the store does not cache its responses, or the
+   *         version is not the one currently cached.
+   */
+  public StoreVersionResponseCache getStoreVersionCache(String storeName, int versionNumber) {
+    StoreVersionResponseCache cache = storeCacheMap.get(storeName);
+    if (cache == null || cache.getVersion() != versionNumber) {
+      return null;
+    }
+    return cache;
+  }
+
+  public void clear() {
+    storeCacheMap.values().forEach(StoreVersionResponseCache::clear);
+    storeCacheMap.clear();
+  }
+}
@@ -0,0 +1,170 @@
+package com.linkedin.venice.router.cache;
+
+import com.linkedin.alpini.base.cache.ByteBufHashMap;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.utils.ByteUtils;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * The cached values of one version of a store, keyed by the key bytes, and kept off-heap in a {@link ByteBufHashMap}.
+ *
+ * The values are kept the way the storage nodes return them, still compressed with the compression strategy of the
+ * version, so that a cached value goes through the same decompression logic as a value returned by a storage node.
+ * A key which does not exist in the version is cached as well, as a value which is not found.
+ */
+public class StoreVersionResponseCache {
+  private static final Logger LOGGER = LogManager.getLogger(StoreVersionResponseCache.class);
+
+  private static final int NOT_FOUND_SCHEMA_ID = -1;
+
+  private static final ByteBufHashMap.SerDes<Value> VALUE_SERDES = new ByteBufHashMap.SerDes<Value>() {
+    @Override
+    public Value deserialize(@Nonnull ByteBufInputStream inputStream) {
+      try {
+        long writeTimeMs = inputStream.readLong();
+        int schemaId = inputStream.readInt();
+        byte[] value = new byte[inputStream.available()];
+        inputStream.readFully(value);
+        return new Value(writeTimeMs, schemaId, ByteBuffer.wrap(value));
+      } catch (IOException e) {
+        LOGGER.warn("Failed to deserialize a cached value", e);
+        return null;
+      }
+    }
+
+    @Override
+    public boolean serialize(@Nonnull ByteBufOutputStream outputStream, @Nonnull Value value) {
+      try {
+        outputStream.writeLong(value.writeTimeMs);
+        outputStream.writeInt(value.schemaId);
+        outputStream.buffer().writeBytes(value.value.duplicate());
+        return true;
+      } catch (IOException e) {
+        LOGGER.warn("Failed to serialize a cached value", e);
+        return false;
+      }
+    }
+  };
+
+  private final int version;
+  private final CompressionStrategy compressionStrategy;
+  /**
+   * How long an entry stays valid, or a non-positive value if entries never expire.
+   */
+  private final long ttlMs;
+  private final ByteBufHashMap<ByteBuffer, Value> valueMap;
+  /**
+   * Set once the version is not served anymore. The responses which are still in flight must not add entries then,
+   * since nothing would release their memory.
+   */
+  private volatile boolean closed = false;
+
+  StoreVersionResponseCache(int version, CompressionStrategy compressionStrategy, long maxMemory, long ttlMs) {
+    this.version = version;
+    this.compressionStrategy = compressionStrategy;
+    this.ttlMs = ttlMs;
+    this.valueMap = new ByteBufHashMap<>(VALUE_SERDES);
+    this.valueMap.setMaxAllocatedMemory(maxMemory);
+    if (ttlMs > 0) {
+      // Blocks whose entries have all expired are released
+      this.valueMap.setMaxBlockAge(ttlMs, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  public int getVersion() {
+    return version;
+  }
+
+  /**
+   * @return the compression strategy of the cached values, which is the one of the version.
+   */
+  public CompressionStrategy getCompressionStrategy() {
+    return compressionStrategy;
+  }
+
+  /**
+   * @return the cached value, or null if the key is not cached or its entry has expired.
+   */
+  public Value get(ByteBuffer key) {
+    Value value;
+    try {
+      value = valueMap.get(key);
+    } catch (RuntimeException e) {
+      // The block holding the entry has been released concurrently
+      return null;
+    }
+    if (value == null || (ttlMs > 0 && System.currentTimeMillis() - value.writeTimeMs > ttlMs)) {
+      return null;
+    }
+    return value;
+  }
+
+  public void putValue(ByteBuffer key, int schemaId, ByteBuffer value) {
+    put(key, new Value(System.currentTimeMillis(), schemaId, value));
+  }
+
+  public void putNotFound(ByteBuffer key) {
+    put(key, new Value(System.currentTimeMillis(), NOT_FOUND_SCHEMA_ID, ByteBuffer.allocate(0)));
+  }
+
+  private void put(ByteBuffer key, Value value) {
+    if (closed) {
+      return;
+    }
+    // The key could be a view of a larger buffer, such as the whole content of a multi-get request
+    ByteBuffer keyCopy = ByteBuffer.wrap(ByteUtils.copyByteArray(key));
+    try {
+      valueMap.put(keyCopy, value);
+    } catch (RuntimeException e) {
+      LOGGER.warn("Failed to cache a value of version: {}", version, e);
+    }
+    if (closed) {
+      // Raced with clear(), which might have run before the insertion
+      valueMap.clear();
+    }
+  }
+
+  public long getAllocatedBytes() {
+    return valueMap.getAllocatedBytes();
+  }
+
+  /**
+   * Drops all the entries, and releases the memory holding them. The cache does not accept new entries afterwards.
+   */
+  void clear() {
+    closed = true;
+    valueMap.clear();
+  }
+
+  public static class Value {
+    private final long writeTimeMs;
+    private final int schemaId;
+    private final ByteBuffer value;
+
+    private Value(long writeTimeMs, int schemaId, ByteBuffer value) {
+      this.writeTimeMs = writeTimeMs;
+      this.schemaId = schemaId;
+      this.value = value;
+    }
+
+    public boolean isFound() {
+      return schemaId != NOT_FOUND_SCHEMA_ID;
+    }
+
+    public int getSchemaId() {
+      return schemaId;
+    }
+
+    public ByteBuffer getValue() {
+      return value;
+    }
+  }
+}
@@ -0,0 +1,339 @@
+package com.linkedin.venice.router.httpclient;
+
+import com.linkedin.alpini.consts.QOS;
+import com.linkedin.alpini.netty4.handlers.HttpClientResponseHandler;
+import com.linkedin.alpini.netty4.pool.BasicDnsResolver;
+import com.linkedin.alpini.netty4.pool.ChannelPoolManager;
+import com.linkedin.alpini.netty4.pool.ChannelPoolManagerImpl;
+import com.linkedin.alpini.netty4.pool.Http2AwareChannelPoolFactory;
+import com.linkedin.alpini.netty4.ssl.SSLEngineFactory;
+import com.linkedin.alpini.router.api.RouterException;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.security.SSLFactory;
+import com.linkedin.venice.utils.SslUtils;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.MultithreadEventLoopGroup;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.handler.codec.PrematureChannelClosureException;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A {@link StorageNodeClient} built on the alpini channel pools, which runs on the IO worker event loops of the router
+ * instead of having its own IO threads.
+ *
+ * {@link ChannelPoolManagerImpl} keeps the connections to each storage node per event loop, so a request is sent and
+ * its response is handled by the event loop which is serving the client request, and the content of the response is
+ * handed over to the router as the buffers read from the connection, without being copied to the heap. When SSL is
+ * enabled, HTTP/2 is negotiated through ALPN, and the requests of an event loop are multiplexed over a single
+ * connection to each storage node.
+ */
+public class NettyStorageNodeClient implements StorageNodeClient {
+  private static final Logger LOGGER = LogManager.getLogger(NettyStorageNodeClient.class);
+
+  private static final String QUEUE_NAME = "storage_node";
+  private static final long HEALTH_CHECK_INTERVAL_MS = TimeUnit.MINUTES.toMillis(1);
+  private static final long CLOSE_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(30);
+
+  private final boolean isSSL;
+  private final int socketTimeoutMs;
+  private final ChannelPoolManager channelPoolManager;
+
+  public NettyStorageNodeClient(
+      VeniceRouterConfig config,
+      Optional<SSLFactory> sslFactory,
+      MultithreadEventLoopGroup eventLoopGroup,
+      Class<? extends Channel> socketChannelClass) {
+    this.isSSL = sslFactory.isPresent();
+    this.socketTimeoutMs = config.getSocketTimeout();
+    int maxContentLength = config.getStorageNodeResponseMaxContentLength();
+
+    Bootstrap bootstrap = new Bootstrap().channel(socketChannelClass)
+        .option(ChannelOption.TCP_NODELAY, true)
+        .option(ChannelOption.SO_KEEPALIVE, true)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, config.getConnectionTimeout())
+        .handler(new ChannelInitializer<Channel>() {
+          @Override
+          protected void initChannel(Channel ch) {
+            /**
+             * The aggregated content is a composite of the buffers read from the connection. A response exceeding the
+             * max content length fails the request.
+             */
+            ch.pipeline().addLast(new HttpObjectAggregator(maxContentLength), new HttpClientResponseHandler());
+          }
+        });
+    if (isSSL) {
+      SSLEngineFactory sslEngineFactory = (SSLEngineFactory) SslUtils.toAlpiniSSLFactory(sslFactory.get());
+      bootstrap.attr(Http2AwareChannelPoolFactory.SSL_CONTEXT, sslEngineFactory.context(false));
+    }
+
+    /**
+     * Each event loop has its own pool of connections to a storage node, so the max connection count per route is
+     * split across the event loops.
+     */
+    int maxConnectionsPerEventLoop = Math.max(1, config.getMaxOutgoingConnPerRoute() / eventLoopGroup.executorCount());
+    int maxPendingAcquires = (int) Math.min(config.getMaxPendingRequest(), Integer.MAX_VALUE);
+    Http2AwareChannelPoolFactory channelPoolFactory = new Http2AwareChannelPoolFactory(
+        bootstrap,
+        config.getConnectionTimeout(),
+        0,
+        maxConnectionsPerEventLoop,
+        maxPendingAcquires,
+        true,
+        HEALTH_CHECK_INTERVAL_MS,
+        ChannelHealthChecker.ACTIVE,
+        null);
+    channelPoolFactory.setUsingFastPool(true);
+    this.channelPoolManager =
+        new ChannelPoolManagerImpl(eventLoopGroup, channelPoolFactory, new BasicDnsResolver(), maxPendingAcquires);
+    LOGGER.info(
+        "Constructing NettyStorageNodeClient with SSL: {}, max connections per event loop: {}, event loop count: {}",
+        isSSL,
+        maxConnectionsPerEventLoop,
+        eventLoopGroup.executorCount());
+  }
+
+  NettyStorageNodeClient(ChannelPoolManager channelPoolManager, boolean isSSL, int socketTimeoutMs) {
+    this.isSSL = isSSL;
+    this.socketTimeoutMs = socketTimeoutMs;
+    this.channelPoolManager = channelPoolManager;
+  }
+
+  @Override
+  public void start() {
+    // The connections are established on demand by the channel pools
+  }
+
+  @Override
+  public void close() {
+    if (!channelPoolManager.closeAll().awaitUninterruptibly(CLOSE_TIMEOUT_MS)) {
+      LOGGER.warn("Timed out closing the connections to the storage nodes");
+    }
+  }
+
+  @Override
+  public void query(
+      Instance host,
+      VenicePath path,
+      Consumer<PortableHttpResponse> completedCallBack,
+      Consumer<Throwable> failedCallBack,
+      BooleanSupplier cancelledCallBack,
+      long queryStartTimeInNS) throws RouterException {
+    FullHttpRequest request = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        path.getHttpMethod(),
+        "/" + path.getLocation(),
+        path.getRequestBody());
+    path.setupVeniceHeaders((k, v) -> request.headers().set(k, v));
+    if (request.content().isReadable()) {
+      request.headers().set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_OCTET_STREAM);
+    }
+    send(
+        host.getHost(),
+        isSSL ? host.getSslPort() : host.getPort(),
+        request,
+        socketTimeoutMs,
+        response -> completedCallBack.accept(new NettyStorageNodeResponse(response)),
+        failedCallBack,
+        cancelledCallBack::getAsBoolean);
+  }
+
+  @Override
+  public void sendRequest(VeniceMetaDataRequest request, CompletableFuture<PortableHttpResponse> responseFuture) {
+    Instance host = request.getHost();
+    FullHttpRequest httpRequest = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.valueOf(request.getMethod()),
+        "/" + request.getQuery(),
+        Unpooled.EMPTY_BUFFER);
+    send(
+        host.getHost(),
+        isSSL ? host.getSslPort() : host.getPort(),
+        httpRequest,
+        request.hasTimeout() ? request.getTimeout() : socketTimeoutMs,
+        response -> {
+          // The metadata responses are consumed off the event loops, so they are copied to the heap
+          FullHttpResponse heapResponse = response.replace(Unpooled.copiedBuffer(response.content()));
+          response.release();
+          responseFuture.complete(new NettyStorageNodeResponse(heapResponse));
+        },
+        responseFuture::completeExceptionally,
+        () -> responseFuture.cancel(false));
+  }
+
+  private void send(
+      String hostName,
+      int port,
+      FullHttpRequest request,
+      int timeoutMs,
+      Consumer<FullHttpResponse> onResponse,
+      Consumer<Throwable> onFailure,
+      Runnable onCancelled) {
+    String hostAndPort = hostName + ":" + port;
+    request.headers().set(HttpHeaderNames.HOST, hostAndPort);
+    HttpUtil.setContentLength(request, request.content().readableBytes());
+    channelPoolManager.acquire(hostAndPort, QUEUE_NAME, QOS.NORMAL).addListener((Future<Channel> acquireFuture) -> {
+      if (!acquireFuture.isSuccess()) {
+        request.release();
+        if (acquireFuture.isCancelled()) {
+          onCancelled.run();
+        } else {
+          onFailure.accept(acquireFuture.cause());
+        }
+        return;
+      }
+      new StorageNodeRequest(acquireFuture.getNow(), request, onResponse, onFailure, onCancelled).send(timeoutMs);
+    });
+  }
+
+  /**
+   * A request sent over an acquired channel, which returns the channel to the pool once its response is received, or
+   * closes it if the request fails or times out. A request whose write is cancelled, or whose channel is closed before
+   * the response is received, is reported as cancelled.
+   */
+  private class StorageNodeRequest extends DefaultFullHttpRequest
+      implements HttpClientResponseHandler.ResponseConsumer {
+    private final Channel channel;
+    private final Consumer<FullHttpResponse> onResponse;
+    private final Consumer<Throwable> onFailure;
+    private final Runnable onCancelled;
+    private final AtomicBoolean completed = new AtomicBoolean();
+    private ScheduledFuture<?> timeoutFuture;
+
+    StorageNodeRequest(
+        Channel channel,
+        FullHttpRequest request,
+        Consumer<FullHttpResponse> onResponse,
+        Consumer<Throwable> onFailure,
+        Runnable onCancelled) {
+      super(
+          request.protocolVersion(),
+          request.method(),
+          request.uri(),
+          request.content(),
+          request.headers(),
+          request.trailingHeaders());
+      this.channel = channel;
+      this.onResponse = onResponse;
+      this.onFailure = onFailure;
+      this.onCancelled = onCancelled;
+    }
+
+    void send(int timeoutMs) {
+      timeoutFuture = channel.eventLoop()
+          .schedule(
+              () -> complete(null, new TimeoutException("Request timed out after " + timeoutMs + "ms: " + uri())),
+              timeoutMs,
+              TimeUnit.MILLISECONDS);
+      channel.writeAndFlush(this).addListener((ChannelFuture writeFuture) -> {
+        if (!writeFuture.isSuccess()) {
+          complete(null, writeFuture.cause());
+        }
+      });
+    }
+
+    @Override
+    public Consumer<Object> responseConsumer() {
+      return msg -> {
+        if (msg instanceof Throwable) {
+          complete(null, (Throwable) msg);
+        } else if (msg instanceof FullHttpResponse) {
+          // The message is released by HttpClientResponseHandler once it has been consumed
+          complete(((FullHttpResponse) msg).retain(), null);
+        }
+      };
+    }
+
+    private void complete(FullHttpResponse response, Throwable cause) {
+      if (!completed.compareAndSet(false, true)) {
+        if (response != null) {
+          response.release();
+        }
+        return;
+      }
+      if (timeoutFuture != null) {
+        timeoutFuture.cancel(false);
+      }
+      if (response != null && HttpUtil.isKeepAlive(response)) {
+        channelPoolManager.release(channel);
+      } else {
+        channel.close().addListener(closeFuture -> channelPoolManager.release(channel));
+      }
+      if (response != null) {
+        onResponse.accept(response);
+      } else if (cause instanceof CancellationException || cause instanceof PrematureChannelClosureException) {
+        onCancelled.run();
+      } else {
+        onFailure.accept(cause);
+      }
+    }
+  }
+
+  /**
+   * The content of the response is handed over to the caller of {@link #getContentInByteBuf()}.
+   */
+  static final class NettyStorageNodeResponse implements PortableHttpResponse {
+    private final FullHttpResponse response;
+    private final AtomicBoolean contentHandedOver = new AtomicBoolean();
+
+    NettyStorageNodeResponse(FullHttpResponse response) {
+      this.response = response;
+    }
+
+    @Override
+    public int getStatusCode() {
+      return response.status().code();
+    }
+
+    @Override
+    public ByteBuf getContentInByteBuf() {
+      contentHandedOver.set(true);
+      return response.content();
+    }
+
+    @Override
+    public boolean containsHeader(String headerName) {
+      return response.headers().contains(headerName);
+    }
+
+    @Override
+    public String getFirstHeader(String headerName) {
+      return response.headers().get(headerName);
+    }
+
+    @Override
+    public void releaseContent() {
+      if (contentHandedOver.compareAndSet(false, true)) {
+        response.release();
+      }
+    }
+  }
+}
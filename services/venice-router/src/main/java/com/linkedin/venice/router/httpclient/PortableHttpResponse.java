@@ -34,4 +34,11 @@ public interface PortableHttpResponse {
    * @return the value of the first header for header name specified in the parameters
    */
   String getFirstHeader(String headerName);
+
+  /**
+   * Releases the content of the response when it is not going to be consumed through {@link #getContentInByteBuf()},
+   * for the clients which hand over the buffers read from the connection, instead of a copy on the heap.
+   */
+  default void releaseContent() {
+  }
 }
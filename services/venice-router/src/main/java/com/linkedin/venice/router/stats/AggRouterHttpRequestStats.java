@@ -190,6 +190,16 @@ public class AggRouterHttpRequestStats extends AbstractVeniceAggStoreStats<Route
     getStoreStats(storeName).recordMetaStoreShadowRead();
   }
 
+  public void recordCacheLookup(String storeName, int lookupCount, int hitCount) {
+    totalStats.recordCacheLookup(lookupCount, hitCount);
+    getStoreStats(storeName).recordCacheLookup(lookupCount, hitCount);
+  }
+
+  public void recordCoalescedRequest(String storeName) {
+    totalStats.recordCoalescedRequest();
+    getStoreStats(storeName).recordCoalescedRequest();
+  }
+
   private class AggScatterGatherStats extends ScatterGatherStats {
     private long getAggStats(Function<ScatterGatherStats, Long> func) {
       long total = 0;
@@ -62,6 +62,9 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor errorRetryAttemptTriggeredByPendingRequestCheckSensor;
   private final Sensor retryDelaySensor;
   private final Sensor metaStoreShadowReadSensor;
+  private final Sensor cacheLookupCountSensor;
+  private final Sensor cacheHitCountSensor;
+  private final Sensor coalescedRequestSensor;
 
   // QPS metrics
   public RouterHttpRequestStats(
@@ -177,6 +180,13 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
         registerSensor("error_retry_attempt_triggered_by_pending_request_check", new OccurrenceRate());
     retryDelaySensor = registerSensor("retry_delay", new Avg(), new Max());
     metaStoreShadowReadSensor = registerSensor("meta_store_shadow_read", new OccurrenceRate());
+
+    Rate cacheLookupRate = new Rate();
+    Rate cacheHitRate = new Rate();
+    cacheLookupCountSensor = registerSensor("cache_lookup_count", new Total(), cacheLookupRate);
+    cacheHitCountSensor = registerSensor("cache_hit_count", new Total(), cacheHitRate);
+    registerSensor("cache_hit_ratio", new TehutiUtils.SimpleRatioStat(cacheHitRate, cacheLookupRate));
+    coalescedRequestSensor = registerSensor("coalesced_request_count", new OccurrenceRate());
   }
 
   /**
@@ -354,4 +364,19 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
   public void recordMetaStoreShadowRead() {
     metaStoreShadowReadSensor.record();
   }
+
+  /**
+   * Record the number of keys looked up in the response cache, and the number of them found in the cache.
+   */
+  public void recordCacheLookup(int lookupCount, int hitCount) {
+    cacheLookupCountSensor.record(lookupCount);
+    cacheHitCountSensor.record(hitCount);
+  }
+
+  /**
+   * Record a request which shares the in-flight storage node request of the same key instead of sending its own.
+   */
+  public void recordCoalescedRequest() {
+    coalescedRequestSensor.record();
+  }
 }
@@ -30,6 +30,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelProgressiveFuture;
 import io.netty.channel.ChannelProgressivePromise;
 import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpResponse;
 import io.netty.handler.codec.http.DefaultLastHttpContent;
@@ -47,6 +48,7 @@ import io.netty.util.concurrent.GenericFutureListener;
 import io.netty.util.concurrent.GenericProgressiveFutureListener;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -334,6 +336,19 @@ public class VeniceChunkedResponse {
     return chunk.future;
   }
 
+  /**
+   * Finish the response with an error footer right away. This is used when some data chunks of a sub-response have been
+   * sent out already and the rest of it can't be, since failing the sub-request at that point would let the client
+   * receive a truncated or duplicated record set. The chunks and the final response written afterwards are skipped.
+   */
+  public void finishWithError(HttpResponseStatus status, String errorMessage) {
+    FullHttpResponse errorResponse = new DefaultFullHttpResponse(
+        HttpVersion.HTTP_1_1,
+        status,
+        Unpooled.wrappedBuffer(errorMessage.getBytes(StandardCharsets.UTF_8)));
+    finishWithError(errorResponse, (result, exception) -> errorResponse.release());
+  }
+
   /**
    * Synchronized way to add data chunks to {@link #chunksToWrite}, and it will try to avoid adding more chunks
    * after producing last chunk.
@@ -17,12 +17,14 @@ import com.linkedin.venice.pushmonitor.ReadOnlyPartitionStatus;
 import com.linkedin.venice.router.VeniceRouterConfig;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.throttle.EventThrottler;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -55,13 +57,13 @@ public class ReadRequestThrottler implements RouterThrottler, RoutersClusterMana
   private long idealTotalQuotaPerRouter;
 
   /**
-   * The atomic reference of all store throttlers. While updating any throttler, lock this reference to prevent race
-   * condition. We could not use volatile variable here because we will replace the whole inside map once router count
-   * is changed(ReadRequestThrottler#handleRouterCountChanged), in that case lock will fail because the object that
-   * this
-   * reference points to has been changed.
+   * The atomic reference of the immutable map of all store throttlers, which is replaced by a copy for every update so
+   * that the reads never wait for the updates. While updating any throttler, lock this reference to prevent race
+   * condition between the updates. We could not use volatile variable here because we will replace the whole inside
+   * map once router count is changed(ReadRequestThrottler#handleRouterCountChanged), in that case lock will fail
+   * because the object that this reference points to has been changed.
    */
-  private final AtomicReference<ConcurrentMap<String, StoreReadThrottler>> storesThrottlers;
+  private final AtomicReference<Map<String, StoreReadThrottler>> storesThrottlers;
 
   private final AggRouterHttpRequestStats stats;
 
@@ -232,10 +234,10 @@ public class ReadRequestThrottler implements RouterThrottler, RoutersClusterMana
         storageNodeQuotaCheckTimeWindow);
   }
 
-  private ConcurrentMap<String, StoreReadThrottler> buildAllStoreReadThrottlers() {
+  private Map<String, StoreReadThrottler> buildAllStoreReadThrottlers() {
     // Total quota for this router is changed, we have to update all store throttlers.
     List<Store> allStores = storeRepository.getAllStores();
-    ConcurrentMap<String, StoreReadThrottler> newStoreThrottlers = new ConcurrentHashMap<>();
+    Map<String, StoreReadThrottler> newStoreThrottlers = new HashMap<>();
     for (Store store: allStores) {
       if (storeHasNoValidVersion(store)) {
         continue;
@@ -247,7 +249,17 @@ public class ReadRequestThrottler implements RouterThrottler, RoutersClusterMana
               store.getCurrentVersion(),
               calculateStoreQuotaPerRouter(store.getReadQuotaInCU())));
     }
-    return newStoreThrottlers;
+    return Collections.unmodifiableMap(newStoreThrottlers);
+  }
+
+  /**
+   * Replaces the store throttlers with a modified copy, which must be called while holding the lock of
+   * {@link #storesThrottlers}.
+   */
+  private void updateStoreThrottlersMap(Consumer<Map<String, StoreReadThrottler>> modifier) {
+    Map<String, StoreReadThrottler> newStoreThrottlers = new HashMap<>(storesThrottlers.get());
+    modifier.accept(newStoreThrottlers);
+    storesThrottlers.set(Collections.unmodifiableMap(newStoreThrottlers));
   }
 
   @Override
@@ -301,10 +313,9 @@ public class ReadRequestThrottler implements RouterThrottler, RoutersClusterMana
           "Store: {} is created. Add a throttler with quota: {} for this store.",
           store.getName(),
           storeQuotaPerRouter);
-      storesThrottlers.get()
-          .put(
-              store.getName(),
-              buildStoreReadThrottler(store.getName(), store.getCurrentVersion(), storeQuotaPerRouter));
+      StoreReadThrottler storeReadThrottler =
+          buildStoreReadThrottler(store.getName(), store.getCurrentVersion(), storeQuotaPerRouter);
+      updateStoreThrottlersMap(throttlers -> throttlers.put(store.getName(), storeReadThrottler));
     });
   }
 
@@ -338,10 +349,11 @@ public class ReadRequestThrottler implements RouterThrottler, RoutersClusterMana
   public void handleStoreDeleted(String storeName) {
     updateStoreThrottler(() -> {
       LOGGER.info("Store: {} has been deleted. Remove the throttler for this store.", storeName);
-      StoreReadThrottler throttler = storesThrottlers.get().remove(storeName);
+      StoreReadThrottler throttler = storesThrottlers.get().get(storeName);
       if (throttler == null) {
         return;
       }
+      updateStoreThrottlersMap(throttlers -> throttlers.remove(storeName));
       stats.recordQuota(storeName, 0);
       throttler.clearStorageNodesThrottlers();
       routingDataRepository
@@ -372,10 +384,9 @@ public class ReadRequestThrottler implements RouterThrottler, RoutersClusterMana
             store.getName(),
             storeReadThrottler.getQuota(),
             storeQuotaPerRouter);
-        storesThrottlers.get()
-            .put(
-                store.getName(),
-                buildStoreReadThrottler(store.getName(), store.getCurrentVersion(), storeQuotaPerRouter));
+        StoreReadThrottler newStoreReadThrottler =
+            buildStoreReadThrottler(store.getName(), store.getCurrentVersion(), storeQuotaPerRouter);
+        updateStoreThrottlersMap(throttlers -> throttlers.put(store.getName(), newStoreReadThrottler));
       }
       if (store.getCurrentVersion() != storeReadThrottler.getCurrentVersion() && perStorageNodeThrottlerEnabled) {
         // Handle current version has been changed.
@@ -5,15 +5,16 @@ import com.linkedin.venice.meta.Partition;
 import com.linkedin.venice.meta.PartitionAssignment;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
-import com.linkedin.venice.throttle.EventThrottler;
 import com.linkedin.venice.throttle.EventThrottlingStrategy;
+import com.linkedin.venice.throttle.TokenBucket;
+import io.tehuti.utils.SystemTime;
+import io.tehuti.utils.Time;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -22,24 +23,33 @@ import org.apache.logging.log4j.Logger;
  * Throttler used to limit how many read request could hit this store and each storage node which has been assigned
  * with
  * this store's  replicas.
+ *
+ * The quotas are enforced by {@link TokenBucket}s, and the throttlers of the storage nodes are replaced as a whole, so
+ * the reads are never blocked by the updates. The bucket of the store, which every read request goes through, is
+ * striped by the number of cores. The router holds a bucket per store and storage node, each of which only sees the
+ * reads routed to its node, so those are striped by a small constant to bound the memory they take.
  */
 public class StoreReadThrottler {
   private static final Logger LOGGER = LogManager.getLogger(StoreReadThrottler.class);
+  private static final int STORE_TOKEN_BUCKET_STRIPE_COUNT = Runtime.getRuntime().availableProcessors();
+  private static final int STORAGE_NODE_TOKEN_BUCKET_STRIPE_COUNT = Math.min(STORE_TOKEN_BUCKET_STRIPE_COUNT, 4);
+  private static final Time TIME = new SystemTime();
   private final String storeName;
   private final long localQuota;
   private final EventThrottlingStrategy throttlingStrategy;
-  private final EventThrottler storeThrottler;
+  private final ReadThrottler storeThrottler;
   private final double perStorageNodeReadQuotaBuffer;
   private final long storageNodeQuotaCheckTimeWindow;
 
-  private int currentVersion = Store.NON_EXISTING_VERSION;
+  private volatile int currentVersion = Store.NON_EXISTING_VERSION;
 
   /**
-   * The map which's is storage node Id and value is a reads throttler.
+   * The immutable map which's key is storage node Id and value is a reads throttler.
    * <p>
-   * This class is thread safe. Only one thread could access to the method to update storage nodes' throttlers.
+   * This class is thread safe. Only one thread could access to the method to update storage nodes' throttlers, and the
+   * map is replaced by a new one for every update.
    */
-  private ConcurrentMap<String, EventThrottler> storageNodesThrottlers;
+  private volatile Map<String, ReadThrottler> storageNodesThrottlers = Collections.emptyMap();
 
   public StoreReadThrottler(
       String storeName,
@@ -53,9 +63,12 @@ public class StoreReadThrottler {
     this.localQuota = localQuota;
     this.throttlingStrategy = throttlingStrategy;
     this.perStorageNodeReadQuotaBuffer = perStorageNodeReadQuotaBuffer;
-    storageNodesThrottlers = new ConcurrentHashMap<>();
-    storeThrottler =
-        new EventThrottler(localQuota, storeQuotaCheckTimeWindow, storeName + "-throttler", true, throttlingStrategy);
+    storeThrottler = new ReadThrottler(
+        storeName + "-throttler",
+        localQuota,
+        storeQuotaCheckTimeWindow,
+        throttlingStrategy,
+        STORE_TOKEN_BUCKET_STRIPE_COUNT);
     this.storageNodeQuotaCheckTimeWindow = storageNodeQuotaCheckTimeWindow;
     if (partitionAssignment.isPresent()) {
       updateStorageNodesThrottlers(partitionAssignment.get());
@@ -64,14 +77,14 @@ public class StoreReadThrottler {
 
   public void mayThrottleRead(double readCapacityUnit, String storageNodeId) {
     if (storageNodeId != null) {
-      EventThrottler storageNodeThrottler = storageNodesThrottlers.get(storageNodeId);
+      ReadThrottler storageNodeThrottler = storageNodesThrottlers.get(storageNodeId);
       // TODO While updating storage nodes' throttlers, there might be a very short period that we haven't create a
       // TODO throttler for the given storage node. Right now just accept this request, could add a default quota later.
       if (storageNodeThrottler != null) {
-        storageNodeThrottler.maybeThrottle(readCapacityUnit);
+        storageNodeThrottler.mayThrottleRead(readCapacityUnit);
       }
     }
-    storeThrottler.maybeThrottle(readCapacityUnit);
+    storeThrottler.mayThrottleRead(readCapacityUnit);
   }
 
   public synchronized void updateStorageNodesThrottlers(PartitionAssignment partitionAssignment) {
@@ -90,40 +103,39 @@ public class StoreReadThrottler {
       }
     }
 
-    int[] addedOrUpdated = new int[1];
+    int addedOrUpdated = 0;
+    Map<String, ReadThrottler> oldStorageNodesThrottlers = storageNodesThrottlers;
+    Map<String, ReadThrottler> newStorageNodesThrottlers = new HashMap<>();
 
     // Update throttler for the storage node which is a new node or if the quota has been changed.
     // Add a buffer to per storage node quota to make our throttler more lenient.
-    storageNodeQuotaMap.entrySet()
-        .stream()
-        .filter(
-            entry -> !storageNodesThrottlers.containsKey(entry.getKey()) || storageNodesThrottlers.get(entry.getKey())
-                .getMaxRatePerSecond() != (long) (entry.getValue() * (1 + perStorageNodeReadQuotaBuffer)))
-        .forEach(entry -> {
-          storageNodesThrottlers.put(
-              entry.getKey(),
-              new EventThrottler(
-                  (long) (entry.getValue() * (1 + perStorageNodeReadQuotaBuffer)),
-                  storageNodeQuotaCheckTimeWindow,
-                  storeName + "-" + entry.getKey() + "-throttler",
-                  true,
-                  throttlingStrategy));
-          addedOrUpdated[0]++;
-        });
+    for (Map.Entry<String, Long> entry: storageNodeQuotaMap.entrySet()) {
+      long storageNodeQuota = (long) (entry.getValue() * (1 + perStorageNodeReadQuotaBuffer));
+      ReadThrottler storageNodeThrottler = oldStorageNodesThrottlers.get(entry.getKey());
+      if (storageNodeThrottler == null || storageNodeThrottler.getQuota() != storageNodeQuota) {
+        storageNodeThrottler = new ReadThrottler(
+            storeName + "-" + entry.getKey() + "-throttler",
+            storageNodeQuota,
+            storageNodeQuotaCheckTimeWindow,
+            throttlingStrategy,
+            STORAGE_NODE_TOKEN_BUCKET_STRIPE_COUNT);
+        addedOrUpdated++;
+      }
+      newStorageNodesThrottlers.put(entry.getKey(), storageNodeThrottler);
+    }
+    // The throttler for the storage node which has been deleted from the latest partition assignment is not copied.
     int deleted = 0;
-    // Delete the throttler for the storage node which has been deleted from the latest partition assignment.
-    Iterator<String> iterator = storageNodesThrottlers.keySet().iterator();
-    while (iterator.hasNext()) {
-      if (!storageNodeQuotaMap.containsKey(iterator.next())) {
-        iterator.remove();
+    for (String storageNodeId: oldStorageNodesThrottlers.keySet()) {
+      if (!newStorageNodesThrottlers.containsKey(storageNodeId)) {
         deleted++;
       }
     }
+    storageNodesThrottlers = Collections.unmodifiableMap(newStorageNodesThrottlers);
 
-    if (addedOrUpdated[0] != 0 || deleted != 0) {
+    if (addedOrUpdated != 0 || deleted != 0) {
       LOGGER.info(
           "Added or updated throttlers for {} storage nodes. Deleted: {} throttlers for storage nodes. Store: {} currentVersion: {}",
-          addedOrUpdated[0],
+          addedOrUpdated,
           deleted,
           storeName,
           currentVersion);
@@ -136,23 +148,85 @@ public class StoreReadThrottler {
    */
   public synchronized void clearStorageNodesThrottlers() {
     currentVersion = Store.NON_EXISTING_VERSION;
-    storageNodesThrottlers.clear();
+    storageNodesThrottlers = Collections.emptyMap();
   }
 
   public long getQuota() {
     return localQuota;
   }
 
-  public synchronized int getCurrentVersion() {
+  public int getCurrentVersion() {
     return currentVersion;
   }
 
   protected long getQuotaForStorageNode(String storageNodeId) {
-    EventThrottler storageNodeThrottler = storageNodesThrottlers.get(storageNodeId);
+    ReadThrottler storageNodeThrottler = storageNodesThrottlers.get(storageNodeId);
     if (storageNodeThrottler != null) {
-      return storageNodeThrottler.getMaxRatePerSecond();
+      return storageNodeThrottler.getQuota();
     } else {
       return -1;
     }
   }
+
+  /**
+   * Handles the reads with the throttling strategy once the usage within the quota check time window exceeds the quota
+   * per second times the length of the window. Same as {@link com.linkedin.venice.throttle.EventThrottler}, a quota of
+   * 0 throttles all the reads and a negative quota disables the throttling.
+   */
+  private static class ReadThrottler {
+    private final String throttlerName;
+    private final long quota;
+    private final long quotaCheckTimeWindow;
+    private final EventThrottlingStrategy throttlingStrategy;
+    private final long tokensPerWindow;
+    // Only created for a positive quota
+    private final TokenBucket tokenBucket;
+
+    ReadThrottler(
+        String throttlerName,
+        long quota,
+        long quotaCheckTimeWindow,
+        EventThrottlingStrategy throttlingStrategy,
+        int stripeCount) {
+      this.throttlerName = throttlerName;
+      this.quota = quota;
+      this.quotaCheckTimeWindow = quotaCheckTimeWindow;
+      this.throttlingStrategy = throttlingStrategy;
+      if (quota > 0) {
+        // Admit at least one read per window for a quota smaller than one read per window
+        tokensPerWindow = Math.max(quota * quotaCheckTimeWindow / TimeUnit.SECONDS.toMillis(1), 1);
+        tokenBucket = new TokenBucket(
+            tokensPerWindow,
+            tokensPerWindow,
+            quotaCheckTimeWindow,
+            TimeUnit.MILLISECONDS,
+            stripeCount);
+      } else {
+        tokensPerWindow = 0;
+        tokenBucket = null;
+      }
+    }
+
+    void mayThrottleRead(double readCapacityUnit) {
+      if (quota < 0) {
+        return;
+      }
+      long tokensToConsume = (long) Math.ceil(readCapacityUnit);
+      if (tokenBucket == null || !tokenBucket.tryConsume(tokensToConsume)) {
+        // The rate within the current window if this read were admitted
+        long tokensInWindow =
+            tokensPerWindow - (tokenBucket == null ? 0 : tokenBucket.getStaleTokenCount()) + tokensToConsume;
+        throttlingStrategy.onExceedQuota(
+            TIME,
+            throttlerName,
+            tokensInWindow * TimeUnit.SECONDS.toMillis(1) / quotaCheckTimeWindow,
+            quota,
+            quotaCheckTimeWindow);
+      }
+    }
+
+    long getQuota() {
+      return quota;
+    }
+  }
 }
@@ -2,18 +2,37 @@ package com.linkedin.venice.router.api;
 
 import static com.linkedin.venice.HttpConstants.VENICE_SUPPORTED_COMPRESSION_STRATEGY;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.CompressorFactory;
+import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.router.streaming.VeniceChunkedResponse;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.mockito.ArgumentCaptor;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -120,4 +139,190 @@ public class TestVeniceResponseDecompressor {
       Assert.assertEquals(result.getCompressionStrategy(), CompressionStrategy.NO_OP);
     }
   }
+
+  @Test
+  public void testRouterDecompressesStreamingMultiGetResponseInChunks() throws Exception {
+    BasicFullHttpRequest request = new BasicFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        "storage/test-store",
+        System.currentTimeMillis(),
+        100000);
+
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    AggRouterHttpRequestStats stats = mock(AggRouterHttpRequestStats.class);
+    doReturn(stats).when(routerStats).getStatsByType(any());
+    RouterExceptionAndTrackingUtils.setRouterStats(routerStats);
+
+    RecordSerializer<MultiGetResponseRecordV1> serializer =
+        FastSerializerDeserializerFactory.getFastAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema());
+    RecordDeserializer<MultiGetResponseRecordV1> deserializer = FastSerializerDeserializerFactory
+        .getFastAvroSpecificDeserializer(MultiGetResponseRecordV1.getClassSchema(), MultiGetResponseRecordV1.class);
+
+    try (CompressorFactory compressorFactory = new CompressorFactory()) {
+      VeniceCompressor compressor = compressorFactory.getCompressor(CompressionStrategy.GZIP);
+      int recordCount = 1000;
+      int valueSize = 1000;
+      ByteArrayOutputStream compressedRecords = new ByteArrayOutputStream();
+      for (int i = 0; i < recordCount; i++) {
+        MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+        record.keyIndex = i;
+        record.schemaId = 1;
+        record.value = ByteBuffer.wrap(compressor.compress(getValue(i, valueSize)));
+        compressedRecords.write(serializer.serialize(record));
+      }
+
+      VeniceResponseDecompressor responseDecompressor =
+          new VeniceResponseDecompressor(false, routerStats, request, "test-store", 1, compressorFactory);
+      VeniceChunkedResponse chunkedResponse = mock(VeniceChunkedResponse.class);
+      ByteBuf content = Unpooled.wrappedBuffer(compressedRecords.toByteArray());
+      responseDecompressor.writeMultiGetResponseForStreaming(CompressionStrategy.GZIP, content, chunkedResponse);
+
+      Assert.assertEquals(content.refCnt(), 0);
+      ArgumentCaptor<ByteBuf> chunkCaptor = ArgumentCaptor.forClass(ByteBuf.class);
+      verify(chunkedResponse, atLeast(2)).write(chunkCaptor.capture(), eq(CompressionStrategy.NO_OP));
+      List<ByteBuf> chunks = chunkCaptor.getAllValues();
+      Assert.assertTrue(
+          chunks.size() >= recordCount * valueSize / VeniceResponseDecompressor.MULTI_GET_STREAMING_CHUNK_SIZE);
+
+      ByteArrayOutputStream decompressedRecords = new ByteArrayOutputStream();
+      for (ByteBuf chunk: chunks) {
+        decompressedRecords.write(ByteBufUtil.getBytes(chunk));
+        chunk.release();
+      }
+      List<MultiGetResponseRecordV1> records = new ArrayList<>();
+      deserializer.deserializeObjects(decompressedRecords.toByteArray()).forEach(records::add);
+      Assert.assertEquals(records.size(), recordCount);
+      for (int i = 0; i < recordCount; i++) {
+        MultiGetResponseRecordV1 record = records.get(i);
+        Assert.assertEquals(record.keyIndex, i);
+        Assert.assertEquals(record.schemaId, 1);
+        Assert.assertEquals(ByteBufUtil.getBytes(Unpooled.wrappedBuffer(record.value)), getValue(i, valueSize));
+      }
+    }
+  }
+
+  /**
+   * The response of the storage node must be released even if one of its components can't be decompressed.
+   */
+  @Test
+  public void testRouterReleasesMultiGetContentIfDecompressionFails() throws Exception {
+    BasicFullHttpRequest request = new BasicFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        "storage/test-store",
+        System.currentTimeMillis(),
+        100000);
+
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    AggRouterHttpRequestStats stats = mock(AggRouterHttpRequestStats.class);
+    doReturn(stats).when(routerStats).getStatsByType(any());
+    RouterExceptionAndTrackingUtils.setRouterStats(routerStats);
+
+    RecordSerializer<MultiGetResponseRecordV1> serializer =
+        FastSerializerDeserializerFactory.getFastAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema());
+
+    try (CompressorFactory compressorFactory = new CompressorFactory()) {
+      VeniceCompressor compressor = compressorFactory.getCompressor(CompressionStrategy.GZIP);
+      MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+      record.keyIndex = 0;
+      record.schemaId = 1;
+      record.value = ByteBuffer.wrap(compressor.compress(getValue(0, 100)));
+      ByteBuf validComponent = Unpooled.wrappedBuffer(serializer.serialize(record));
+      record.keyIndex = 1;
+      // Not a GZIP stream
+      record.value = ByteBuffer.wrap(getValue(1, 100));
+      ByteBuf invalidComponent = Unpooled.wrappedBuffer(serializer.serialize(record));
+      CompositeByteBuf content = Unpooled.compositeBuffer();
+      content.addComponents(true, validComponent, invalidComponent);
+
+      VeniceResponseDecompressor responseDecompressor =
+          new VeniceResponseDecompressor(false, routerStats, request, "test-store", 1, compressorFactory);
+      Assert.assertThrows(() -> responseDecompressor.decompressMultiGetContent(CompressionStrategy.GZIP, content));
+      Assert.assertEquals(content.refCnt(), 0);
+      Assert.assertEquals(validComponent.refCnt(), 0);
+      Assert.assertEquals(invalidComponent.refCnt(), 0);
+    }
+  }
+
+  /**
+   * Once a part of the records has been written out, a record failing to be decompressed must finish the streaming
+   * response with an error instead of failing the sub-request, which could be retried.
+   */
+  @Test
+  public void testRouterFinishesStreamingMultiGetResponseWithErrorIfDecompressionFailsAfterFirstChunk()
+      throws Exception {
+    BasicFullHttpRequest request = new BasicFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        "storage/test-store",
+        System.currentTimeMillis(),
+        100000);
+
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    AggRouterHttpRequestStats stats = mock(AggRouterHttpRequestStats.class);
+    doReturn(stats).when(routerStats).getStatsByType(any());
+    RouterExceptionAndTrackingUtils.setRouterStats(routerStats);
+
+    RecordSerializer<MultiGetResponseRecordV1> serializer =
+        FastSerializerDeserializerFactory.getFastAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema());
+
+    try (CompressorFactory compressorFactory = new CompressorFactory()) {
+      VeniceCompressor compressor = compressorFactory.getCompressor(CompressionStrategy.GZIP);
+      int recordCount = 200;
+      int valueSize = 1000;
+      // Far enough for the records before it to fill the first chunk
+      int corruptRecordIndex = 150;
+      ByteArrayOutputStream compressedRecords = new ByteArrayOutputStream();
+      for (int i = 0; i < recordCount; i++) {
+        MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+        record.keyIndex = i;
+        record.schemaId = 1;
+        // Not a GZIP stream for the corrupt record
+        record.value = ByteBuffer.wrap(
+            i == corruptRecordIndex ? getValue(i, valueSize) : compressor.compress(getValue(i, valueSize)));
+        compressedRecords.write(serializer.serialize(record));
+      }
+
+      VeniceResponseDecompressor responseDecompressor =
+          new VeniceResponseDecompressor(false, routerStats, request, "test-store", 1, compressorFactory);
+      VeniceChunkedResponse chunkedResponse = mock(VeniceChunkedResponse.class);
+      ByteBuf content = Unpooled.wrappedBuffer(compressedRecords.toByteArray());
+      responseDecompressor.writeMultiGetResponseForStreaming(CompressionStrategy.GZIP, content, chunkedResponse);
+
+      Assert.assertEquals(content.refCnt(), 0);
+      ArgumentCaptor<ByteBuf> chunkCaptor = ArgumentCaptor.forClass(ByteBuf.class);
+      verify(chunkedResponse, atLeast(1)).write(chunkCaptor.capture(), eq(CompressionStrategy.NO_OP));
+      verify(chunkedResponse).finishWithError(eq(HttpResponseStatus.BAD_GATEWAY), anyString());
+      // Only the full chunks before the corrupt record are written out
+      Assert.assertTrue(
+          chunkCaptor.getAllValues().size() <= corruptRecordIndex * valueSize
+              / VeniceResponseDecompressor.MULTI_GET_STREAMING_CHUNK_SIZE);
+      chunkCaptor.getAllValues().forEach(ByteBuf::release);
+
+      // The sub-request still fails if nothing has been written out yet
+      ByteArrayOutputStream corruptRecord = new ByteArrayOutputStream();
+      MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+      record.keyIndex = 0;
+      record.schemaId = 1;
+      record.value = ByteBuffer.wrap(getValue(0, valueSize));
+      corruptRecord.write(serializer.serialize(record));
+      VeniceChunkedResponse otherChunkedResponse = mock(VeniceChunkedResponse.class);
+      ByteBuf otherContent = Unpooled.wrappedBuffer(corruptRecord.toByteArray());
+      Assert.assertThrows(
+          () -> responseDecompressor
+              .writeMultiGetResponseForStreaming(CompressionStrategy.GZIP, otherContent, otherChunkedResponse));
+      Assert.assertEquals(otherContent.refCnt(), 0);
+      verify(otherChunkedResponse, never()).write(any(), any());
+      verify(otherChunkedResponse, never()).finishWithError(any(HttpResponseStatus.class), anyString());
+    }
+  }
+
+  private static byte[] getValue(int index, int size) {
+    byte[] value = new byte[size];
+    for (int i = 0; i < size; i++) {
+      value[i] = (byte) (index + i);
+    }
+    return value;
+  }
 }
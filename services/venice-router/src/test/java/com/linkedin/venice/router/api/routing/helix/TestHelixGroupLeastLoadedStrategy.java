@@ -4,8 +4,14 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.linkedin.alpini.base.concurrency.TimeoutProcessor;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.TestMockTime;
+import java.util.concurrent.TimeUnit;
+import org.mockito.ArgumentCaptor;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -35,4 +41,51 @@ public class TestHelixGroupLeastLoadedStrategy {
     Assert.assertEquals(strategy.selectGroup(5, groupNum), 2);
     Assert.assertEquals(strategy.selectGroup(6, groupNum), 0);
   }
+
+  @Test
+  public void testTimedOutRequestReleasesGroupCounter() {
+    TimeoutProcessor timeoutProcessor = mock(TimeoutProcessor.class);
+    doReturn(mock(TimeoutProcessor.TimeoutFuture.class)).when(timeoutProcessor).schedule(any(), anyLong(), any());
+    TestMockTime time = new TestMockTime();
+    HelixGroupLeastLoadedStrategy strategy = new HelixGroupLeastLoadedStrategy(timeoutProcessor, 200, time);
+    ArgumentCaptor<Runnable> timeoutCheckCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(timeoutProcessor).schedule(timeoutCheckCaptor.capture(), anyLong(), any(TimeUnit.class));
+
+    int groupNum = 2;
+    Assert.assertEquals(strategy.selectGroup(0, groupNum), 0);
+    Assert.assertThrows(VeniceException.class, () -> strategy.selectGroup(0, groupNum));
+    Assert.assertEquals(strategy.getMaxGroupPendingRequest(), 1);
+
+    // The request hasn't timed out yet
+    timeoutCheckCaptor.getValue().run();
+    Assert.assertEquals(strategy.getMaxGroupPendingRequest(), 1);
+
+    time.addMilliseconds(300);
+    timeoutCheckCaptor.getValue().run();
+    Assert.assertEquals(strategy.getMaxGroupPendingRequest(), 0);
+    // Finishing a timed out request is a no-op
+    strategy.finishRequest(0, 0);
+    Assert.assertEquals(strategy.getMinGroupPendingRequest(), 0);
+  }
+
+  @Test
+  public void testCloseCancelsTimeoutCheck() {
+    TimeoutProcessor timeoutProcessor = mock(TimeoutProcessor.class);
+    TimeoutProcessor.TimeoutFuture timeoutCheckFuture = mock(TimeoutProcessor.TimeoutFuture.class);
+    doReturn(timeoutCheckFuture).when(timeoutProcessor).schedule(any(), anyLong(), any());
+    HelixGroupLeastLoadedStrategy strategy =
+        new HelixGroupLeastLoadedStrategy(timeoutProcessor, 200, new TestMockTime());
+    ArgumentCaptor<Runnable> timeoutCheckCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(timeoutProcessor).schedule(timeoutCheckCaptor.capture(), anyLong(), any(TimeUnit.class));
+
+    // Every timeout check schedules the next one
+    timeoutCheckCaptor.getValue().run();
+    verify(timeoutProcessor, times(2)).schedule(any(), anyLong(), any());
+
+    strategy.close();
+    verify(timeoutCheckFuture).cancel();
+    // A timeout check running concurrently with the close won't schedule the next one
+    timeoutCheckCaptor.getValue().run();
+    verify(timeoutProcessor, times(2)).schedule(any(), anyLong(), any());
+  }
 }
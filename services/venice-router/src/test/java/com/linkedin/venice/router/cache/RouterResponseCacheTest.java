@@ -0,0 +1,114 @@
+package com.linkedin.venice.router.cache;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.utils.Utils;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class RouterResponseCacheTest {
+  private static final String STORE_NAME = "test_store";
+
+  @Test
+  public void testVersionSwapDropsCachedValues() {
+    RouterResponseCache responseCache = createResponseCache(-1);
+    Store store = mockStore(false, 1, 2);
+    responseCache.updateServingVersion(store, 1);
+    StoreVersionResponseCache cache = responseCache.getStoreVersionCache(STORE_NAME, 1);
+    Assert.assertNotNull(cache);
+    Assert.assertEquals(cache.getCompressionStrategy(), CompressionStrategy.GZIP);
+    Assert.assertNull(responseCache.getStoreVersionCache(STORE_NAME, 2));
+
+    cache.putValue(toBuffer("key1"), 3, toBuffer("value1"));
+    cache.putNotFound(toBuffer("key2"));
+    StoreVersionResponseCache.Value value = cache.get(toBuffer("key1"));
+    Assert.assertTrue(value.isFound());
+    Assert.assertEquals(value.getSchemaId(), 3);
+    Assert.assertEquals(value.getValue(), toBuffer("value1"));
+    Assert.assertFalse(cache.get(toBuffer("key2")).isFound());
+    Assert.assertNull(cache.get(toBuffer("key3")));
+
+    // The same version is kept
+    responseCache.updateServingVersion(store, 1);
+    Assert.assertSame(responseCache.getStoreVersionCache(STORE_NAME, 1), cache);
+
+    responseCache.updateServingVersion(store, 2);
+    Assert.assertNull(responseCache.getStoreVersionCache(STORE_NAME, 1));
+    StoreVersionResponseCache newCache = responseCache.getStoreVersionCache(STORE_NAME, 2);
+    Assert.assertNotNull(newCache);
+    Assert.assertNull(newCache.get(toBuffer("key1")));
+    responseCache.clear();
+  }
+
+  @Test
+  public void testInFlightResponsesAreNotCachedAfterVersionSwap() {
+    RouterResponseCache responseCache = createResponseCache(-1);
+    Store store = mockStore(false, 1, 2);
+    responseCache.updateServingVersion(store, 1);
+    StoreVersionResponseCache cache = responseCache.getStoreVersionCache(STORE_NAME, 1);
+    responseCache.updateServingVersion(store, 2);
+
+    // The responses of requests sent to the previous version are dropped, rather than held by an orphaned cache
+    cache.putValue(toBuffer("key1"), 1, toBuffer("value1"));
+    cache.putNotFound(toBuffer("key2"));
+    Assert.assertNull(cache.get(toBuffer("key1")));
+    Assert.assertNull(cache.get(toBuffer("key2")));
+    Assert.assertEquals(cache.getAllocatedBytes(), 0);
+    responseCache.clear();
+  }
+
+  @Test
+  public void testHybridStoreValuesExpire() {
+    RouterResponseCache responseCache = createResponseCache(10);
+    responseCache.updateServingVersion(mockStore(true, 1), 1);
+    StoreVersionResponseCache cache = responseCache.getStoreVersionCache(STORE_NAME, 1);
+    cache.putValue(toBuffer("key"), 1, toBuffer("value"));
+    Assert.assertNotNull(cache.get(toBuffer("key")));
+    Utils.sleep(50);
+    Assert.assertNull(cache.get(toBuffer("key")));
+    responseCache.clear();
+  }
+
+  @Test
+  public void testStoreWithoutResponseCache() {
+    RouterResponseCache responseCache = createResponseCache(-1);
+    Store store = mockStore(false, 1);
+    doReturn("other_store").when(store).getName();
+    Assert.assertFalse(responseCache.isEnabledForStore("other_store"));
+    responseCache.updateServingVersion(store, 1);
+    Assert.assertNull(responseCache.getStoreVersionCache("other_store", 1));
+  }
+
+  private static RouterResponseCache createResponseCache(long hybridStoreTtlMs) {
+    VeniceRouterConfig config = mock(VeniceRouterConfig.class);
+    doReturn(Utils.setOf(STORE_NAME)).when(config).getResponseCacheEnabledStores();
+    doReturn(1024L * 1024L).when(config).getResponseCacheMaxMemoryPerStore();
+    doReturn(hybridStoreTtlMs).when(config).getResponseCacheHybridStoreTtlMs();
+    return new RouterResponseCache(config);
+  }
+
+  private static Store mockStore(boolean hybrid, int... versionNumbers) {
+    Store store = mock(Store.class);
+    doReturn(STORE_NAME).when(store).getName();
+    doReturn(hybrid).when(store).isHybrid();
+    for (int versionNumber: versionNumbers) {
+      Version version = mock(Version.class);
+      doReturn(CompressionStrategy.GZIP).when(version).getCompressionStrategy();
+      doReturn(Optional.of(version)).when(store).getVersion(versionNumber);
+    }
+    return store;
+  }
+
+  private static ByteBuffer toBuffer(String s) {
+    return ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,154 @@
+package com.linkedin.venice.router.httpclient;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.alpini.netty4.handlers.HttpClientResponseHandler;
+import com.linkedin.alpini.netty4.pool.ChannelPoolManager;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.router.api.path.VenicePath;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.concurrent.Promise;
+import java.net.ConnectException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestNettyStorageNodeClient {
+  @Test
+  public void testDroppedResponseIsReleased() {
+    ByteBuf content = PooledByteBufAllocator.DEFAULT.buffer().writeBytes(new byte[] { 1, 2, 3 });
+    PortableHttpResponse response = new NettyStorageNodeClient.NettyStorageNodeResponse(
+        new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, content));
+    response.releaseContent();
+    Assert.assertEquals(content.refCnt(), 0);
+    // Releasing it again is a no-op
+    response.releaseContent();
+  }
+
+  @Test
+  public void testHandedOverContentIsReleasedByItsNewOwner() {
+    ByteBuf content = PooledByteBufAllocator.DEFAULT.buffer().writeBytes(new byte[] { 1, 2, 3 });
+    PortableHttpResponse response = new NettyStorageNodeClient.NettyStorageNodeResponse(
+        new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, content));
+    ByteBuf handedOverContent = response.getContentInByteBuf();
+    Assert.assertSame(handedOverContent, content);
+
+    // The content belongs to the caller of getContentInByteBuf from then on
+    response.releaseContent();
+    Assert.assertEquals(content.refCnt(), 1);
+    handedOverContent.release();
+    Assert.assertEquals(content.refCnt(), 0);
+  }
+
+  @Test
+  public void testChannelAcquireFailure() throws Exception {
+    EmbeddedChannel channel = new EmbeddedChannel();
+    ChannelPoolManager channelPoolManager = mock(ChannelPoolManager.class);
+    ConnectException cause = new ConnectException("Connection refused");
+    doReturn(channel.eventLoop().newFailedFuture(cause)).when(channelPoolManager)
+        .acquire(anyString(), anyString(), any());
+
+    QueryResult result = query(new NettyStorageNodeClient(channelPoolManager, false, 1000));
+    Assert.assertSame(result.failure.get(), cause);
+    Assert.assertNull(result.response.get());
+    Assert.assertFalse(result.cancelled.get());
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  public void testResponseTimeout() throws Exception {
+    EmbeddedChannel channel = new EmbeddedChannel(new HttpClientResponseHandler());
+    ChannelPoolManager channelPoolManager = mock(ChannelPoolManager.class);
+    doReturn(channel.eventLoop().newSucceededFuture(channel)).when(channelPoolManager)
+        .acquire(anyString(), anyString(), any());
+
+    // A zero timeout expires as soon as the scheduled tasks of the event loop run
+    QueryResult result = query(new NettyStorageNodeClient(channelPoolManager, false, 0));
+    Assert.assertNull(result.failure.get());
+    channel.runScheduledPendingTasks();
+
+    Assert.assertTrue(result.failure.get() instanceof TimeoutException);
+    Assert.assertNull(result.response.get());
+    Assert.assertFalse(result.cancelled.get());
+    // The channel of the timed out request is closed instead of being reused
+    Assert.assertFalse(channel.isOpen());
+    verify(channelPoolManager).release(channel);
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  public void testRequestIsCancelledIfChannelIsClosedBeforeResponse() throws Exception {
+    EmbeddedChannel channel = new EmbeddedChannel(new HttpClientResponseHandler());
+    ChannelPoolManager channelPoolManager = mock(ChannelPoolManager.class);
+    doReturn(channel.eventLoop().newSucceededFuture(channel)).when(channelPoolManager)
+        .acquire(anyString(), anyString(), any());
+
+    QueryResult result = query(new NettyStorageNodeClient(channelPoolManager, false, 1000));
+    Assert.assertFalse(result.cancelled.get());
+    channel.close();
+
+    Assert.assertTrue(result.cancelled.get());
+    Assert.assertNull(result.failure.get());
+    Assert.assertNull(result.response.get());
+    verify(channelPoolManager).release(channel);
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  public void testRequestIsCancelledIfChannelAcquireIsCancelled() throws Exception {
+    EmbeddedChannel channel = new EmbeddedChannel();
+    ChannelPoolManager channelPoolManager = mock(ChannelPoolManager.class);
+    Promise<Channel> acquirePromise = channel.eventLoop().newPromise();
+    doReturn(acquirePromise).when(channelPoolManager).acquire(anyString(), anyString(), any());
+
+    QueryResult result = query(new NettyStorageNodeClient(channelPoolManager, false, 1000));
+    Assert.assertFalse(result.cancelled.get());
+    acquirePromise.cancel(false);
+
+    Assert.assertTrue(result.cancelled.get());
+    Assert.assertNull(result.failure.get());
+    Assert.assertNull(result.response.get());
+    channel.finishAndReleaseAll();
+  }
+
+  private static QueryResult query(NettyStorageNodeClient client) throws Exception {
+    VenicePath path = mock(VenicePath.class);
+    doReturn(HttpMethod.GET).when(path).getHttpMethod();
+    doReturn("storage/test_store_v1/0/key").when(path).getLocation();
+    doReturn(Unpooled.EMPTY_BUFFER).when(path).getRequestBody();
+
+    QueryResult result = new QueryResult();
+    client.query(
+        new Instance("localhost_1234", "localhost", 1234),
+        path,
+        result.response::set,
+        result.failure::set,
+        () -> {
+          result.cancelled.set(true);
+          return true;
+        },
+        System.nanoTime());
+    return result;
+  }
+
+  private static class QueryResult {
+    final AtomicReference<PortableHttpResponse> response = new AtomicReference<>();
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+    final AtomicBoolean cancelled = new AtomicBoolean();
+  }
+}
@@ -0,0 +1,57 @@
+package com.linkedin.venice.listener;
+
+/**
+ * Decides how many chunks a batch get request gets split into by {@link StorageReadRequestsHandler}, instead of
+ * relying on a fixed chunk size, which needs to be tuned per cluster: a small one amplifies queueing under load, and a
+ * large one under-parallelizes when the server is idle.
+ *
+ * The fan-out is based on:
+ * 1. The key count of the request.
+ * 2. The observed per-key lookup latency, tracked as an exponentially weighted moving average, so that each chunk
+ *    carries roughly {@link #targetChunkLatencyInNS} worth of work, which amortizes the cost of forking it.
+ * 3. The number of workers available to pick up the chunks, so that a busy executor does not get flooded with chunks
+ *    which would just queue up behind the other requests.
+ */
+class AdaptiveBatchGetParallelism {
+  private static final double EWMA_WEIGHT = 0.05;
+  /**
+   * A rough per-key lookup latency to start with, before any lookup got measured.
+   */
+  private static final double INITIAL_PER_KEY_LATENCY_IN_NS = 20_000;
+
+  private final long targetChunkLatencyInNS;
+  /**
+   * Updated without synchronization, since losing a sample once in a while is fine for a moving average.
+   */
+  private volatile double perKeyLatencyInNS = INITIAL_PER_KEY_LATENCY_IN_NS;
+
+  AdaptiveBatchGetParallelism(long targetChunkLatencyInNS) {
+    this.targetChunkLatencyInNS = Math.max(targetChunkLatencyInNS, 1);
+  }
+
+  /**
+   * @param keyCount the number of keys in the request.
+   * @param availableWorkers the number of workers which could look up a chunk right away, including the current one.
+   * @return the number of chunks to split the request into, between 1 and {@param availableWorkers}.
+   */
+  int getFanOut(int keyCount, int availableWorkers) {
+    if (keyCount <= 1 || availableWorkers <= 1) {
+      return 1;
+    }
+    double keysPerChunk = Math.max(targetChunkLatencyInNS / perKeyLatencyInNS, 1);
+    int fanOut = (int) Math.ceil(keyCount / keysPerChunk);
+    return Math.max(Math.min(fanOut, Math.min(availableWorkers, keyCount)), 1);
+  }
+
+  void recordLookupLatency(int keyCount, long latencyInNS) {
+    if (keyCount <= 0 || latencyInNS < 0) {
+      return;
+    }
+    double sample = (double) latencyInNS / keyCount;
+    perKeyLatencyInNS = Math.max(perKeyLatencyInNS + EWMA_WEIGHT * (sample - perKeyLatencyInNS), 1);
+  }
+
+  double getPerKeyLatencyInNS() {
+    return perKeyLatencyInNS;
+  }
+}
@@ -14,6 +14,8 @@ import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.security.SSLFactory;
 import com.linkedin.venice.service.AbstractVeniceService;
+import com.linkedin.venice.stats.StorageExecReusableObjectsPoolStats;
+import com.linkedin.venice.stats.VirtualThreadRequestExecutorStats;
 import com.linkedin.venice.utils.DaemonThreadFactory;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.ChannelFuture;
@@ -27,6 +29,7 @@ import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.tehuti.metrics.MetricsRepository;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
@@ -45,8 +48,9 @@ public class ListenerService extends AbstractVeniceService {
   private ChannelFuture serverFuture;
   private final int port;
   private final VeniceServerConfig serverConfig;
-  private final ThreadPoolExecutor executor;
-  private final ThreadPoolExecutor computeExecutor;
+  private final ExecutorService executor;
+  private final ExecutorService computeExecutor;
+  private final StorageReadRequestsHandler requestHandler;
 
   private ThreadPoolExecutor sslHandshakeExecutor;
 
@@ -71,17 +75,38 @@ public class ListenerService extends AbstractVeniceService {
     this.serverConfig = serverConfig;
     this.port = serverConfig.getListenerPort();
 
-    executor = createThreadPool(
-        serverConfig.getRestServiceStorageThreadNum(),
-        "StorageExecutionThread",
-        serverConfig.getDatabaseLookupQueueCapacity());
-    new ThreadPoolStats(metricsRepository, executor, "storage_execution_thread_pool");
-
-    computeExecutor = createThreadPool(
-        serverConfig.getServerComputeThreadNum(),
-        "StorageComputeThread",
-        serverConfig.getComputeQueueCapacity());
-    new ThreadPoolStats(metricsRepository, computeExecutor, "storage_compute_thread_pool");
+    if (serverConfig.isVirtualThreadExecutionEnabled()) {
+      VirtualThreadRequestExecutor virtualThreadExecutor = new VirtualThreadRequestExecutor(
+          "StorageExecutionThread",
+          serverConfig.getVirtualThreadReadMaxConcurrency(),
+          serverConfig.getVirtualThreadQueueCapacity());
+      new VirtualThreadRequestExecutorStats(metricsRepository, virtualThreadExecutor, "storage_execution_thread_pool");
+      executor = virtualThreadExecutor;
+
+      VirtualThreadRequestExecutor virtualThreadComputeExecutor = new VirtualThreadRequestExecutor(
+          "StorageComputeThread",
+          serverConfig.getVirtualThreadComputeMaxConcurrency(),
+          serverConfig.getVirtualThreadQueueCapacity());
+      new VirtualThreadRequestExecutorStats(
+          metricsRepository,
+          virtualThreadComputeExecutor,
+          "storage_compute_thread_pool");
+      computeExecutor = virtualThreadComputeExecutor;
+    } else {
+      ThreadPoolExecutor threadPoolExecutor = createThreadPool(
+          serverConfig.getRestServiceStorageThreadNum(),
+          "StorageExecutionThread",
+          serverConfig.getDatabaseLookupQueueCapacity());
+      new ThreadPoolStats(metricsRepository, threadPoolExecutor, "storage_execution_thread_pool");
+      executor = threadPoolExecutor;
+
+      ThreadPoolExecutor computeThreadPoolExecutor = createThreadPool(
+          serverConfig.getServerComputeThreadNum(),
+          "StorageComputeThread",
+          serverConfig.getComputeQueueCapacity());
+      new ThreadPoolStats(metricsRepository, computeThreadPoolExecutor, "storage_compute_thread_pool");
+      computeExecutor = computeThreadPoolExecutor;
+    }
 
     if (sslFactory.isPresent() && serverConfig.getSslHandshakeThreadPoolSize() > 0) {
       this.sslHandshakeExecutor = createThreadPool(
@@ -91,7 +116,7 @@ public class ListenerService extends AbstractVeniceService {
       new ThreadPoolStats(metricsRepository, this.sslHandshakeExecutor, "ssl_handshake_thread_pool");
     }
 
-    StorageReadRequestsHandler requestHandler = createRequestHandler(
+    requestHandler = createRequestHandler(
         executor,
         computeExecutor,
         storageEngineRepository,
@@ -104,6 +129,10 @@ public class ListenerService extends AbstractVeniceService {
         serverConfig.getParallelBatchGetChunkSize(),
         compressorFactory,
         resourceReadUsageTracker);
+    new StorageExecReusableObjectsPoolStats(
+        metricsRepository,
+        requestHandler.getReusableObjectsPool(),
+        "storage_compute_reusable_objects_pool");
 
     HttpChannelInitializer channelInitializer = new HttpChannelInitializer(
         storeMetadataRepository,
@@ -169,6 +198,7 @@ public class ListenerService extends AbstractVeniceService {
     workerGroup.shutdownGracefully();
     bossGroup.shutdownGracefully();
     shutdown.sync();
+    requestHandler.close();
   }
 
   protected ThreadPoolExecutor createThreadPool(int threadCount, String threadNamePrefix, int capacity) {
@@ -190,8 +220,8 @@ public class ListenerService extends AbstractVeniceService {
   }
 
   protected StorageReadRequestsHandler createRequestHandler(
-      ThreadPoolExecutor executor,
-      ThreadPoolExecutor computeExecutor,
+      ExecutorService executor,
+      ExecutorService computeExecutor,
       StorageEngineRepository storageEngineRepository,
       ReadOnlyStoreRepository metadataRepository,
       ReadOnlySchemaRepository schemaRepository,
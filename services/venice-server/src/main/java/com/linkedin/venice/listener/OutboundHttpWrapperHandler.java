@@ -55,6 +55,11 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
         statsHandler.setStorageExecutionQueueLen(obj.getStorageExecutionQueueLen());
         statsHandler.setSuccessRequestKeyCount(obj.getRecordCount());
         statsHandler.setMultiChunkLargeValueCount(obj.getMultiChunkLargeValueCount());
+        statsHandler.setHotKeyCacheHitCount(obj.getHotKeyCacheHitCount());
+        statsHandler.setHotKeyCacheMissCount(obj.getHotKeyCacheMissCount());
+        statsHandler.setHotKeyCacheEvictionCount(obj.getHotKeyCacheEvictionCount());
+        statsHandler.setParallelBatchGetFanOut(obj.getParallelBatchGetFanOut());
+        statsHandler.setParallelBatchGetChunkQueueWaitTime(obj.getParallelBatchGetChunkQueueWaitTime());
         statsHandler.setReadComputeLatency(obj.getReadComputeLatency());
         statsHandler.setReadComputeDeserializationLatency(obj.getReadComputeDeserializationLatency());
         statsHandler.setReadComputeSerializationLatency(obj.getReadComputeSerializationLatency());
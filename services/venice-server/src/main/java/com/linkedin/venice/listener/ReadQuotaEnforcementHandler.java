@@ -46,6 +46,11 @@ import org.apache.logging.log4j.Logger;
 public class ReadQuotaEnforcementHandler extends SimpleChannelInboundHandler<RouterRequest>
     implements RoutingDataRepository.RoutingDataChangedListener, StoreDataChangedListener {
   private static final Logger LOGGER = LogManager.getLogger(ReadQuotaEnforcementHandler.class);
+  /**
+   * Every read request consumes from the buckets, so the tokens are striped to avoid the contention between the
+   * request handling threads.
+   */
+  private static final int TOKEN_BUCKET_STRIPE_COUNT = Runtime.getRuntime().availableProcessors();
   private final ConcurrentMap<String, TokenBucket> storeVersionBuckets = new VeniceConcurrentHashMap<>();
   private final TokenBucket storageNodeBucket;
   private final ReadOnlyStoreRepository storeRepository;
@@ -140,13 +145,14 @@ public class ReadQuotaEnforcementHandler extends SimpleChannelInboundHandler<Rou
     /**
      * First check store bucket for capacity; don't throttle retried request at store version level
      */
-    if (storeVersionBuckets.containsKey(request.getResourceName()) && !request.isRetryRequest()) {
-      if (!storeVersionBuckets.get(request.getResourceName()).tryConsume(rcu)) {
+    TokenBucket storeVersionBucket = storeVersionBuckets.get(request.getResourceName());
+    if (storeVersionBucket != null && !request.isRetryRequest()) {
+      if (!storeVersionBucket.tryConsume(rcu)) {
         // TODO: check if extra node capacity and can still process this request out of quota
         stats.recordRejected(storeName, rcu);
         if (enforcing) {
           long storeQuota = storeRepository.getStore(storeName).getReadQuotaInCU();
-          float thisNodeRcuPerSecond = storeVersionBuckets.get(request.getResourceName()).getAmortizedRefillPerSecond();
+          float thisNodeRcuPerSecond = storeVersionBucket.getAmortizedRefillPerSecond();
           String errorMessage =
               "Total quota for store " + storeName + " is " + storeQuota + " RCU per second. Storage Node " + thisNodeId
                   + " is allocated " + thisNodeRcuPerSecond + " RCU per second which has been exceeded.";
@@ -228,7 +234,13 @@ public class ReadQuotaEnforcementHandler extends SimpleChannelInboundHandler<Rou
     long totalCapacity = totalRefillAmount * enforcementCapacityMultiple;
     long thisRefillAmount = (long) Math.ceil(totalRefillAmount * thisBucketProportionOfTotalRcu);
     long thisCapacity = (long) Math.ceil(totalCapacity * thisBucketProportionOfTotalRcu);
-    return new TokenBucket(thisCapacity, thisRefillAmount, enforcementIntervalSeconds, SECONDS, clock);
+    return new TokenBucket(
+        thisCapacity,
+        thisRefillAmount,
+        enforcementIntervalSeconds,
+        SECONDS,
+        clock,
+        TOKEN_BUCKET_STRIPE_COUNT);
   }
 
   @Override
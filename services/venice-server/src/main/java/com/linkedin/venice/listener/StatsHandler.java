@@ -26,6 +26,11 @@ public class StatsHandler extends ChannelDuplexHandler {
   private boolean isHealthCheck;
   private double databaseLookupLatency = -1;
   private int multiChunkLargeValueCount = -1;
+  private int hotKeyCacheHitCount = 0;
+  private int hotKeyCacheMissCount = 0;
+  private long hotKeyCacheEvictionCount = 0;
+  private int parallelBatchGetFanOut = 0;
+  private double parallelBatchGetChunkQueueWaitTime = -1;
   private int requestKeyCount = -1;
   private int successRequestKeyCount = -1;
   private int requestSizeInBytes = -1;
@@ -179,6 +184,26 @@ public class StatsHandler extends ChannelDuplexHandler {
     this.multiChunkLargeValueCount = multiChunkLargeValueCount;
   }
 
+  public void setHotKeyCacheHitCount(int hotKeyCacheHitCount) {
+    this.hotKeyCacheHitCount = hotKeyCacheHitCount;
+  }
+
+  public void setHotKeyCacheMissCount(int hotKeyCacheMissCount) {
+    this.hotKeyCacheMissCount = hotKeyCacheMissCount;
+  }
+
+  public void setHotKeyCacheEvictionCount(long hotKeyCacheEvictionCount) {
+    this.hotKeyCacheEvictionCount = hotKeyCacheEvictionCount;
+  }
+
+  public void setParallelBatchGetFanOut(int parallelBatchGetFanOut) {
+    this.parallelBatchGetFanOut = parallelBatchGetFanOut;
+  }
+
+  public void setParallelBatchGetChunkQueueWaitTime(double parallelBatchGetChunkQueueWaitTime) {
+    this.parallelBatchGetChunkQueueWaitTime = parallelBatchGetChunkQueueWaitTime;
+  }
+
   public void setKeySizeList(IntList keySizeList) {
     this.keySizeList = keySizeList;
   }
@@ -217,6 +242,11 @@ public class StatsHandler extends ChannelDuplexHandler {
       successRequestKeyCount = -1;
       requestSizeInBytes = -1;
       multiChunkLargeValueCount = -1;
+      hotKeyCacheHitCount = 0;
+      hotKeyCacheMissCount = 0;
+      hotKeyCacheEvictionCount = 0;
+      parallelBatchGetFanOut = 0;
+      parallelBatchGetChunkQueueWaitTime = -1;
       readComputeLatency = -1;
       readComputeDeserializationLatency = -1;
       readComputeSerializationLatency = -1;
@@ -299,6 +329,20 @@ public class StatsHandler extends ChannelDuplexHandler {
         // We only record this metric for requests where large values occurred
         serverHttpRequestStats.recordMultiChunkLargeValueCount(multiChunkLargeValueCount);
       }
+      // The hot key cache counters are only recorded when the cache is in use
+      if (hotKeyCacheHitCount > 0 || hotKeyCacheMissCount > 0) {
+        serverHttpRequestStats.recordHotKeyCacheHitCount(hotKeyCacheHitCount);
+        serverHttpRequestStats.recordHotKeyCacheMissCount(hotKeyCacheMissCount);
+      }
+      if (hotKeyCacheEvictionCount > 0) {
+        serverHttpRequestStats.recordHotKeyCacheEvictionCount(hotKeyCacheEvictionCount);
+      }
+      if (parallelBatchGetFanOut > 0) {
+        serverHttpRequestStats.recordParallelBatchGetFanOut(parallelBatchGetFanOut);
+      }
+      if (parallelBatchGetChunkQueueWaitTime >= 0) {
+        serverHttpRequestStats.recordParallelBatchGetChunkQueueWaitTime(parallelBatchGetChunkQueueWaitTime);
+      }
       if (requestKeyCount > 0) {
         serverHttpRequestStats.recordRequestKeyCount(requestKeyCount);
       }
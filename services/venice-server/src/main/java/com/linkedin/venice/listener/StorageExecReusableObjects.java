@@ -0,0 +1,74 @@
+package com.linkedin.venice.listener;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.serializer.AvroSerializer;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+
+
+/**
+ * The objects reused across the records of compute requests, which are handed out by
+ * {@link StorageExecReusableObjectsPool}, so a given instance is only used by one request at a time.
+ */
+class StorageExecReusableObjects extends AvroSerializer.AvroSerializerReusableObjects {
+  /**
+   * When constructing a {@link BinaryDecoder}, we pass in this 16 bytes array because if we pass anything
+   * less than that, it would end up getting discarded by the ByteArrayByteSource's constructor, a new byte
+   * array created, and the content of the one passed in would be copied into the newly constructed one.
+   * Therefore, it seems more efficient, in terms of GC, to statically allocate a 16 bytes array and keep
+   * re-using it to construct decoders. Since we always end up re-configuring the decoder and not actually
+   * using its initial value, it shouldn't cause any issue to share it.
+   */
+  private static final byte[] BINARY_DECODER_PARAM = new byte[16];
+
+  // reuse buffer for rocksDB value object
+  final ByteBuffer reusedByteBuffer;
+
+  final BinaryDecoder binaryDecoder =
+      AvroCompatibilityHelper.newBinaryDecoder(BINARY_DECODER_PARAM, 0, BINARY_DECODER_PARAM.length, null);
+
+  final Map<String, String> computationErrorMap = new HashMap<>();
+
+  /**
+   * The size of the largest compute result serialized with {@link #byteArrayOutputStream}, whose buffer never shrinks.
+   */
+  int largestSerializedResultSize = 0;
+
+  // LRU caches for storing schema->record map for object reuse of value and result record
+  private final Map<Schema, GenericRecord> reuseValueRecordMap;
+  private final Map<Schema, GenericRecord> reuseResultRecordMap;
+
+  StorageExecReusableObjects(int reusedByteBufferSize, int maxCachedRecordsPerMap, LongAdder recordEvictionCount) {
+    this.reusedByteBuffer = ByteBuffer.allocate(reusedByteBufferSize);
+    this.reuseValueRecordMap = createRecordMap(maxCachedRecordsPerMap, recordEvictionCount);
+    this.reuseResultRecordMap = createRecordMap(maxCachedRecordsPerMap, recordEvictionCount);
+  }
+
+  private static Map<Schema, GenericRecord> createRecordMap(int maxSize, LongAdder evictionCount) {
+    return new LinkedHashMap<Schema, GenericRecord>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Schema, GenericRecord> eldest) {
+        if (size() > maxSize) {
+          evictionCount.increment();
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  GenericRecord getValueRecord(Schema schema) {
+    return reuseValueRecordMap.computeIfAbsent(schema, GenericData.Record::new);
+  }
+
+  GenericRecord getResultRecord(Schema schema) {
+    return reuseResultRecordMap.computeIfAbsent(schema, GenericData.Record::new);
+  }
+}
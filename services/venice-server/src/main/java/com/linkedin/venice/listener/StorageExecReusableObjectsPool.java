@@ -0,0 +1,86 @@
+package com.linkedin.venice.listener;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * A bounded pool of {@link StorageExecReusableObjects} for the compute requests, which decouples the number of sets of
+ * reusable objects, and the memory they retain, from the number of threads executing the requests.
+ *
+ * The pool keeps at most {@link #maxPoolSize} idle sets, and a request which finds the pool empty gets a new set,
+ * which is dropped on release if the pool is full again by then. A set is also dropped on release if one of the
+ * compute results it serialized was larger than its scratch buffer, since the serialization buffer never shrinks, so
+ * that the occasional large compute result does not stay retained by the pool.
+ */
+public class StorageExecReusableObjectsPool {
+  private final int maxPoolSize;
+  private final int reusedByteBufferSize;
+  private final int maxCachedRecordsPerSchemaMap;
+  private final Queue<StorageExecReusableObjects> idleObjects = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger idleObjectCount = new AtomicInteger();
+
+  private final LongAdder allocationCount = new LongAdder();
+  private final LongAdder discardCount = new LongAdder();
+  private final LongAdder recordEvictionCount = new LongAdder();
+
+  public StorageExecReusableObjectsPool(int maxPoolSize, int reusedByteBufferSize, int maxCachedRecordsPerSchemaMap) {
+    this.maxPoolSize = maxPoolSize;
+    this.reusedByteBufferSize = reusedByteBufferSize;
+    this.maxCachedRecordsPerSchemaMap = maxCachedRecordsPerSchemaMap;
+  }
+
+  StorageExecReusableObjects acquire() {
+    StorageExecReusableObjects reusableObjects = idleObjects.poll();
+    if (reusableObjects != null) {
+      idleObjectCount.decrementAndGet();
+      return reusableObjects;
+    }
+    allocationCount.increment();
+    return new StorageExecReusableObjects(reusedByteBufferSize, maxCachedRecordsPerSchemaMap, recordEvictionCount);
+  }
+
+  void release(StorageExecReusableObjects reusableObjects) {
+    if (reusableObjects.largestSerializedResultSize > reusedByteBufferSize) {
+      discardCount.increment();
+      return;
+    }
+    if (idleObjectCount.incrementAndGet() > maxPoolSize) {
+      idleObjectCount.decrementAndGet();
+      discardCount.increment();
+      return;
+    }
+    idleObjects.offer(reusableObjects);
+  }
+
+  public int getMaxPoolSize() {
+    return maxPoolSize;
+  }
+
+  public int getIdleObjectCount() {
+    return idleObjectCount.get();
+  }
+
+  /**
+   * @return the number of sets of reusable objects allocated because the pool was empty.
+   */
+  public long getAllocationCount() {
+    return allocationCount.sum();
+  }
+
+  /**
+   * @return the number of sets of reusable objects dropped on release, instead of going back into the pool.
+   */
+  public long getDiscardCount() {
+    return discardCount.sum();
+  }
+
+  /**
+   * @return the number of reusable records evicted from the per schema record caches.
+   */
+  public long getRecordEvictionCount() {
+    return recordEvictionCount.sum();
+  }
+}
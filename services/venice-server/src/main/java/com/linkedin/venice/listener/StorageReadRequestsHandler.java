@@ -1,6 +1,5 @@
 package com.linkedin.venice.listener;
 
-import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
 import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.listener.response.AdminResponse;
@@ -10,9 +9,11 @@ import com.linkedin.davinci.storage.DiskHealthCheckService;
 import com.linkedin.davinci.storage.MetadataRetriever;
 import com.linkedin.davinci.storage.StorageEngineRepository;
 import com.linkedin.davinci.storage.chunking.BatchGetChunkingAdapter;
+import com.linkedin.davinci.storage.chunking.ChunkingUtils;
 import com.linkedin.davinci.storage.chunking.GenericRecordChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.SingleGetChunkingAdapter;
 import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.cache.HotKeyValueCache;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.VeniceConstants;
 import com.linkedin.venice.cleaner.ResourceReadUsageTracker;
@@ -50,7 +51,6 @@ import com.linkedin.venice.partitioner.VenicePartitioner;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
-import com.linkedin.venice.serializer.AvroSerializer;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
@@ -63,29 +63,37 @@ import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.PartitionUtils;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.ints.IntLists;
+import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 import org.apache.avro.Schema;
-import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
-import org.apache.avro.io.BinaryDecoder;
 import org.apache.avro.util.Utf8;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -100,19 +108,9 @@ import org.apache.logging.log4j.Logger;
 public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
   private static final Logger LOGGER = LogManager.getLogger(StorageReadRequestsHandler.class);
 
-  /**
-   * When constructing a {@link BinaryDecoder}, we pass in this 16 bytes array because if we pass anything
-   * less than that, it would end up getting discarded by the ByteArrayByteSource's constructor, a new byte
-   * array created, and the content of the one passed in would be copied into the newly constructed one.
-   * Therefore, it seems more efficient, in terms of GC, to statically allocate a 16 bytes array and keep
-   * re-using it to construct decoders. Since we always end up re-configuring the decoder and not actually
-   * using its initial value, it shouldn't cause any issue to share it.
-   */
-  private static final byte[] BINARY_DECODER_PARAM = new byte[16];
-
   private final DiskHealthCheckService diskHealthCheckService;
-  private final ThreadPoolExecutor executor;
-  private final ThreadPoolExecutor computeExecutor;
+  private final ExecutorService executor;
+  private final ExecutorService computeExecutor;
   private final StorageEngineRepository storageEngineRepository;
   private final ReadOnlyStoreRepository metadataRepository;
   private final ReadOnlySchemaRepository schemaRepo;
@@ -121,6 +119,13 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
   private final boolean fastAvroEnabled;
   private final boolean parallelBatchGetEnabled;
   private final int parallelBatchGetChunkSize;
+  private final boolean batchLookupEnabled;
+  private final boolean directBufferReadEnabled;
+  /**
+   * Only set up when the parallelism of batch get requests is adaptive, see {@link #handleMultiGetRequestAdaptively}.
+   */
+  private final ForkJoinPool batchGetForkJoinPool;
+  private final AdaptiveBatchGetParallelism adaptiveBatchGetParallelism;
   private final boolean keyValueProfilingEnabled;
   private final VeniceServerConfig serverConfig;
   private final Map<String, VenicePartitioner> resourceToPartitionerMap = new VeniceConcurrentHashMap<>();
@@ -128,35 +133,11 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
   private final StorageEngineBackedCompressorFactory compressorFactory;
   private final Optional<ResourceReadUsageTracker> resourceReadUsageTracker;
 
-  private static class StorageExecReusableObjects extends AvroSerializer.AvroSerializerReusableObjects {
-    // reuse buffer for rocksDB value object
-    final ByteBuffer reusedByteBuffer = ByteBuffer.allocate(1024 * 1024);
-
-    // LRU cache for storing schema->record map for object reuse of value and result record
-    final LinkedHashMap<Schema, GenericRecord> reuseValueRecordMap =
-        new LinkedHashMap<Schema, GenericRecord>(100, 0.75f, true) {
-          protected boolean removeEldestEntry(Map.Entry<Schema, GenericRecord> eldest) {
-            return size() > 100;
-          }
-        };
-
-    final LinkedHashMap<Schema, GenericRecord> reuseResultRecordMap =
-        new LinkedHashMap<Schema, GenericRecord>(100, 0.75f, true) {
-          protected boolean removeEldestEntry(Map.Entry<Schema, GenericRecord> eldest) {
-            return size() > 100;
-          }
-        };
-
-    final BinaryDecoder binaryDecoder =
-        AvroCompatibilityHelper.newBinaryDecoder(BINARY_DECODER_PARAM, 0, BINARY_DECODER_PARAM.length, null);
-  }
-
-  private final ThreadLocal<StorageExecReusableObjects> threadLocalReusableObjects =
-      ThreadLocal.withInitial(StorageExecReusableObjects::new);
+  private final StorageExecReusableObjectsPool reusableObjectsPool;
 
   public StorageReadRequestsHandler(
-      ThreadPoolExecutor executor,
-      ThreadPoolExecutor computeExecutor,
+      ExecutorService executor,
+      ExecutorService computeExecutor,
       StorageEngineRepository storageEngineRepository,
       ReadOnlyStoreRepository metadataStoreRepository,
       ReadOnlySchemaRepository schemaRepository,
@@ -170,6 +151,10 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
       Optional<ResourceReadUsageTracker> resourceReadUsageTracker) {
     this.executor = executor;
     this.computeExecutor = computeExecutor;
+    this.reusableObjectsPool = new StorageExecReusableObjectsPool(
+        serverConfig.getComputeReusableObjectsPoolSize(),
+        serverConfig.getComputeReusableByteBufferSize(),
+        serverConfig.getComputeReusableRecordCacheSize());
     this.storageEngineRepository = storageEngineRepository;
     this.metadataRepository = metadataStoreRepository;
     this.schemaRepo = schemaRepository;
@@ -179,6 +164,21 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     this.computeResultSchemaCache = new VeniceConcurrentHashMap<>();
     this.parallelBatchGetEnabled = parallelBatchGetEnabled;
     this.parallelBatchGetChunkSize = parallelBatchGetChunkSize;
+    this.batchLookupEnabled = serverConfig.isBatchLookupEnabled();
+    this.directBufferReadEnabled = serverConfig.isDirectBufferReadEnabled();
+    if (parallelBatchGetEnabled && serverConfig.isAdaptiveParallelBatchGetEnabled()) {
+      int parallelism = serverConfig.getAdaptiveParallelBatchGetThreadNum();
+      this.batchGetForkJoinPool = new ForkJoinPool(parallelism, pool -> {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("StorageBatchGetThread-" + thread.getPoolIndex());
+        return thread;
+      }, null, false);
+      this.adaptiveBatchGetParallelism = new AdaptiveBatchGetParallelism(
+          TimeUnit.MICROSECONDS.toNanos(serverConfig.getAdaptiveParallelBatchGetTargetChunkLatencyUs()));
+    } else {
+      this.batchGetForkJoinPool = null;
+      this.adaptiveBatchGetParallelism = null;
+    }
     this.keyValueProfilingEnabled = serverConfig.isKeyValueProfilingEnabled();
     this.serverConfig = serverConfig;
     this.compressorFactory = compressorFactory;
@@ -228,45 +228,49 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
        * to have some duplicate code for the time-being.
        */
       if (parallelBatchGetEnabled && request.getRequestType().equals(RequestType.MULTI_GET)) {
-        handleMultiGetRequestInParallel((MultiGetRouterRequestWrapper) request, parallelBatchGetChunkSize)
-            .whenComplete((v, e) -> {
-              if (e != null) {
-                if (e instanceof VeniceRequestEarlyTerminationException) {
-                  VeniceRequestEarlyTerminationException earlyTerminationException =
-                      (VeniceRequestEarlyTerminationException) e;
-                  context.writeAndFlush(
-                      new HttpShortcutResponse(
-                          earlyTerminationException.getMessage(),
-                          earlyTerminationException.getHttpResponseStatus()));
-                } else if (e instanceof VeniceNoStoreException) {
-                  context.writeAndFlush(
-                      new HttpShortcutResponse(
-                          "No storage exists for: " + ((VeniceNoStoreException) e).getStoreName(),
-                          HttpResponseStatus.BAD_REQUEST));
-                } else {
-                  LOGGER.error("Exception thrown in parallel batch get for {}", request.getResourceName(), e);
-                  context.writeAndFlush(
-                      new HttpShortcutResponse(e.getMessage(), HttpResponseStatus.INTERNAL_SERVER_ERROR));
-                }
-              } else {
-                context.writeAndFlush(v);
-              }
-            });
+        CompletableFuture<ReadResponse> responseFuture = batchGetForkJoinPool != null
+            ? handleMultiGetRequestAdaptively((MultiGetRouterRequestWrapper) request, preSubmissionTimeNs)
+            : handleMultiGetRequestInParallel((MultiGetRouterRequestWrapper) request, parallelBatchGetChunkSize);
+        responseFuture.whenComplete((v, e) -> {
+          if (e instanceof CompletionException && e.getCause() != null) {
+            e = e.getCause();
+          }
+          if (e != null) {
+            if (e instanceof VeniceRequestEarlyTerminationException) {
+              VeniceRequestEarlyTerminationException earlyTerminationException =
+                  (VeniceRequestEarlyTerminationException) e;
+              context.writeAndFlush(
+                  new HttpShortcutResponse(
+                      earlyTerminationException.getMessage(),
+                      earlyTerminationException.getHttpResponseStatus()));
+            } else if (e instanceof VeniceNoStoreException) {
+              context.writeAndFlush(
+                  new HttpShortcutResponse(
+                      "No storage exists for: " + ((VeniceNoStoreException) e).getStoreName(),
+                      HttpResponseStatus.BAD_REQUEST));
+            } else {
+              LOGGER.error("Exception thrown in parallel batch get for {}", request.getResourceName(), e);
+              context.writeAndFlush(new HttpShortcutResponse(e.getMessage(), HttpResponseStatus.INTERNAL_SERVER_ERROR));
+            }
+          } else {
+            context.writeAndFlush(v);
+          }
+        });
         return;
       }
 
-      final ThreadPoolExecutor executor = getExecutor(request.getRequestType());
+      final ExecutorService executor = getExecutor(request.getRequestType());
       executor.submit(() -> {
         try {
           if (request.shouldRequestBeTerminatedEarly()) {
             throw new VeniceRequestEarlyTerminationException(request.getStoreName());
           }
           double submissionWaitTime = LatencyUtils.getLatencyInMS(preSubmissionTimeNs);
-          int queueLen = executor.getQueue().size();
+          int queueLen = getQueueLength(executor);
           ReadResponse response;
           switch (request.getRequestType()) {
             case SINGLE_GET:
-              response = handleSingleGetRequest((GetRouterRequest) request);
+              response = handleSingleGetRequest((GetRouterRequest) request, context.alloc());
               break;
             case MULTI_GET:
               response = handleMultiGetRequest((MultiGetRouterRequestWrapper) request);
@@ -324,7 +328,7 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     }
   }
 
-  private ThreadPoolExecutor getExecutor(RequestType requestType) {
+  private ExecutorService getExecutor(RequestType requestType) {
     switch (requestType) {
       case SINGLE_GET:
       case MULTI_GET:
@@ -336,6 +340,15 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     }
   }
 
+  private static int getQueueLength(ExecutorService executor) {
+    if (executor instanceof ThreadPoolExecutor) {
+      return ((ThreadPoolExecutor) executor).getQueue().size();
+    } else if (executor instanceof VirtualThreadRequestExecutor) {
+      return ((VirtualThreadRequestExecutor) executor).getQueuedRequestCount();
+    }
+    return 0;
+  }
+
   private VenicePartitioner getPartitioner(String resourceName, PartitionerConfig partitionerConfig) {
     return resourceToPartitionerMap.computeIfAbsent(resourceName, k -> {
       Properties partitionerParams = new Properties();
@@ -402,7 +415,7 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     });
   }
 
-  private ReadResponse handleSingleGetRequest(GetRouterRequest request) {
+  private ReadResponse handleSingleGetRequest(GetRouterRequest request, ByteBufAllocator allocator) {
     String topic = request.getResourceName();
     PartitionerConfig partitionerConfig = getPartitionerConfig(topic);
     int subPartition = getSubPartitionId(request.getPartition(), topic, partitionerConfig, request.getKeyBytes());
@@ -414,12 +427,55 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     response.setCompressionStrategy(storageEngine.getCompressionStrategy());
     response.setDatabaseLookupLatency(0);
 
-    ValueRecord valueRecord = SingleGetChunkingAdapter.get(storageEngine, subPartition, key, isChunked, response);
+    HotKeyValueCache hotKeyValueCache = storageEngine.getHotKeyValueCache();
+    byte[] storageKey = null;
+    long writeGeneration = 0;
+    if (hotKeyValueCache != null) {
+      storageKey = getStorageKey(key, isChunked);
+      HotKeyValueCache.CachedValue cachedValue = hotKeyValueCache.get(storageKey);
+      if (cachedValue != null) {
+        response.addHotKeyCacheHitCount(1);
+        // Netty releases the content of the response once written out, so each hit gets its own wrapper.
+        response.setValueRecord(
+            ValueRecord.create(cachedValue.getSchemaId(), Unpooled.wrappedBuffer(cachedValue.getValue())));
+        if (keyValueProfilingEnabled) {
+          response.setKeySizeList(IntLists.singleton(key.length));
+          response.setValueSizeList(IntLists.singleton(cachedValue.getValue().length));
+        }
+        return response;
+      }
+      response.addHotKeyCacheMissCount(1);
+      writeGeneration = hotKeyValueCache.getWriteGeneration(storageKey);
+    }
+
+    /**
+     * With direct buffer read, the value is read straight into a buffer from the channel allocator, which ends up as
+     * the content of the outgoing response, and gets released by Netty once written out.
+     */
+    ValueRecord valueRecord = directBufferReadEnabled
+        ? SingleGetChunkingAdapter.get(storageEngine, subPartition, key, isChunked, response, allocator)
+        : SingleGetChunkingAdapter.get(storageEngine, subPartition, key, isChunked, response);
     response.setValueRecord(valueRecord);
 
-    if (keyValueProfilingEnabled) {
-      response.setKeySizeList(IntLists.singleton(key.length));
-      response.setValueSizeList(IntLists.singleton(response.isFound() ? valueRecord.getDataSize() : -1));
+    try {
+      if (hotKeyValueCache != null) {
+        if (valueRecord != null) {
+          hotKeyValueCache
+              .put(subPartition, storageKey, writeGeneration, valueRecord.getSchemaId(), valueRecord.getData());
+        }
+        response.addHotKeyCacheEvictionCount(hotKeyValueCache.getAndResetEvictionCount());
+      }
+
+      if (keyValueProfilingEnabled) {
+        response.setKeySizeList(IntLists.singleton(key.length));
+        response.setValueSizeList(IntLists.singleton(response.isFound() ? valueRecord.getDataSize() : -1));
+      }
+    } catch (RuntimeException e) {
+      // The response is never written out, so Netty won't release the value buffer.
+      if (valueRecord != null) {
+        valueRecord.getData().release();
+      }
+      throw e;
     }
 
     return response;
@@ -453,54 +509,24 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     IntList responseValueSizeList = keyValueProfilingEnabled ? new IntArrayList(totalKeyNum) : null;
 
     for (int cur = 0; cur < splitSize; ++cur) {
-      final int finalCur = cur;
-      chunkFutures[cur] = CompletableFuture.runAsync(() -> {
-        if (request.shouldRequestBeTerminatedEarly()) {
-          throw new VeniceRequestEarlyTerminationException(request.getStoreName());
-        }
-        int startPos = finalCur * parallelChunkSize;
-        int endPos = Math.min((finalCur + 1) * parallelChunkSize, totalKeyNum);
-        for (int subChunkCur = startPos; subChunkCur < endPos; ++subChunkCur) {
-          final MultiGetRouterRequestKeyV1 key = keyList.get(subChunkCur);
-          if (responseKeySizeList != null) {
-            responseKeySizeList.set(subChunkCur, key.keyBytes.remaining());
-          }
-          int subPartitionId = getSubPartitionId(key.partitionId, topic, partitionerConfig, key.keyBytes);
-          MultiGetResponseRecordV1 record =
-              BatchGetChunkingAdapter.get(storageEngine, subPartitionId, key.keyBytes, isChunked, responseWrapper);
-          if (record == null) {
-            if (request.isStreamingRequest()) {
-              // For streaming, we would like to send back non-existing keys since the end-user won't know the status of
-              // non-existing keys in the response if the response is partial.
-              record = new MultiGetResponseRecordV1();
-              // Negative key index to indicate the non-existing keys
-              record.keyIndex = Math.negateExact(key.keyIndex);
-              record.schemaId = StreamingConstants.NON_EXISTING_KEY_SCHEMA_ID;
-              record.value = StreamingUtils.EMPTY_BYTE_BUFFER;
-            }
-          } else {
-            record.keyIndex = key.keyIndex;
-          }
-
-          if (record != null) {
-            if (responseValueSizeList != null) {
-              responseValueSizeList.set(subChunkCur, record.value.remaining());
-            }
-            // TODO: streaming support in storage node
-            requestLock.lock();
-            try {
-              responseWrapper.addRecord(record);
-            } finally {
-              requestLock.unlock();
-            }
-          } else {
-            if (responseValueSizeList != null) {
-              responseValueSizeList.set(subChunkCur, -1);
-            }
-          }
-        }
-      }, executorService);
+      final int startPos = cur * parallelChunkSize;
+      final int endPos = Math.min((cur + 1) * parallelChunkSize, totalKeyNum);
+      chunkFutures[cur] = CompletableFuture.runAsync(
+          () -> processMultiGetChunk(
+              request,
+              storageEngine,
+              partitionerConfig,
+              keyList,
+              startPos,
+              endPos,
+              isChunked,
+              responseWrapper,
+              requestLock,
+              responseKeySizeList,
+              responseValueSizeList),
+          executorService);
     }
+    responseWrapper.setParallelBatchGetFanOut(splitSize);
 
     return CompletableFuture.allOf(chunkFutures).handle((v, e) -> {
       if (e != null) {
@@ -512,6 +538,183 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     });
   }
 
+  /**
+   * Same as {@link #handleMultiGetRequestInParallel}, except that the request is executed in {@link
+   * #batchGetForkJoinPool}, and the number of chunks is picked by {@link #adaptiveBatchGetParallelism} when the
+   * execution starts, instead of being derived from a fixed chunk size. All the chunks but one are forked, so idle
+   * workers could steal them, and the remaining one is looked up by the worker executing the request.
+   */
+  private CompletableFuture<ReadResponse> handleMultiGetRequestAdaptively(
+      MultiGetRouterRequestWrapper request,
+      long preSubmissionTimeNs) {
+    return CompletableFuture.supplyAsync(() -> {
+      double submissionWaitTime = LatencyUtils.getLatencyInMS(preSubmissionTimeNs);
+      if (request.shouldRequestBeTerminatedEarly()) {
+        throw new VeniceRequestEarlyTerminationException(request.getStoreName());
+      }
+      String topic = request.getResourceName();
+      Iterable<MultiGetRouterRequestKeyV1> keys = request.getKeys();
+      AbstractStorageEngine storageEngine = getStorageEngine(topic);
+
+      MultiGetResponseWrapper responseWrapper = new MultiGetResponseWrapper(request.getKeyCount());
+      responseWrapper.setCompressionStrategy(storageEngine.getCompressionStrategy());
+      responseWrapper.setDatabaseLookupLatency(0);
+      boolean isChunked = storageEngine.isChunked();
+
+      if (!(keys instanceof ArrayList)) {
+        throw new VeniceException("'keys' in MultiGetResponseWrapper should be an ArrayList");
+      }
+      final ArrayList<MultiGetRouterRequestKeyV1> keyList = (ArrayList) keys;
+      int totalKeyNum = keyList.size();
+      PartitionerConfig partitionerConfig = getPartitionerConfig(topic);
+      IntList responseKeySizeList = keyValueProfilingEnabled ? new IntArrayList(totalKeyNum) : null;
+      IntList responseValueSizeList = keyValueProfilingEnabled ? new IntArrayList(totalKeyNum) : null;
+      ReentrantLock requestLock = new ReentrantLock();
+
+      // The worker running this task is available by definition
+      int queueLen = batchGetForkJoinPool.getQueuedSubmissionCount();
+      int availableWorkers =
+          Math.max(batchGetForkJoinPool.getParallelism() - batchGetForkJoinPool.getActiveThreadCount() - queueLen, 0)
+              + 1;
+      int fanOut = adaptiveBatchGetParallelism.getFanOut(totalKeyNum, availableWorkers);
+      int chunkSize = (int) Math.ceil((double) totalKeyNum / fanOut);
+      fanOut = Math.max((int) Math.ceil((double) totalKeyNum / chunkSize), 1);
+
+      long[] chunkQueueWaitTimesInNS = new long[fanOut];
+      ForkJoinTask[] forkedChunks = new ForkJoinTask[fanOut - 1];
+      for (int cur = 1; cur < fanOut; ++cur) {
+        final int chunkIndex = cur;
+        final long forkTimeInNS = System.nanoTime();
+        forkedChunks[cur - 1] = ForkJoinTask.adapt(() -> {
+          chunkQueueWaitTimesInNS[chunkIndex] = System.nanoTime() - forkTimeInNS;
+          processMultiGetChunkAdaptively(
+              request,
+              storageEngine,
+              partitionerConfig,
+              keyList,
+              chunkIndex * chunkSize,
+              Math.min((chunkIndex + 1) * chunkSize, totalKeyNum),
+              isChunked,
+              responseWrapper,
+              requestLock,
+              responseKeySizeList,
+              responseValueSizeList);
+        }).fork();
+      }
+      processMultiGetChunkAdaptively(
+          request,
+          storageEngine,
+          partitionerConfig,
+          keyList,
+          0,
+          Math.min(chunkSize, totalKeyNum),
+          isChunked,
+          responseWrapper,
+          requestLock,
+          responseKeySizeList,
+          responseValueSizeList);
+      long maxChunkQueueWaitTimeInNS = 0;
+      for (int cur = 0; cur < forkedChunks.length; ++cur) {
+        // Joining from a worker thread executes or steals pending tasks rather than blocking
+        forkedChunks[cur].join();
+        maxChunkQueueWaitTimeInNS = Math.max(maxChunkQueueWaitTimeInNS, chunkQueueWaitTimesInNS[cur + 1]);
+      }
+
+      responseWrapper.setStorageExecutionSubmissionWaitTime(submissionWaitTime);
+      responseWrapper.setStorageExecutionQueueLen(queueLen);
+      responseWrapper.setParallelBatchGetFanOut(fanOut);
+      responseWrapper.setParallelBatchGetChunkQueueWaitTime(
+          LatencyUtils.convertLatencyFromNSToMS(maxChunkQueueWaitTimeInNS));
+      responseWrapper.setKeySizeList(responseKeySizeList);
+      responseWrapper.setValueSizeList(responseValueSizeList);
+      return responseWrapper;
+    }, batchGetForkJoinPool);
+  }
+
+  private void processMultiGetChunkAdaptively(
+      MultiGetRouterRequestWrapper request,
+      AbstractStorageEngine storageEngine,
+      PartitionerConfig partitionerConfig,
+      List<MultiGetRouterRequestKeyV1> keyList,
+      int startPos,
+      int endPos,
+      boolean isChunked,
+      MultiGetResponseWrapper responseWrapper,
+      ReentrantLock requestLock,
+      IntList responseKeySizeList,
+      IntList responseValueSizeList) {
+    long startTimeInNS = System.nanoTime();
+    processMultiGetChunk(
+        request,
+        storageEngine,
+        partitionerConfig,
+        keyList,
+        startPos,
+        endPos,
+        isChunked,
+        responseWrapper,
+        requestLock,
+        responseKeySizeList,
+        responseValueSizeList);
+    adaptiveBatchGetParallelism.recordLookupLatency(endPos - startPos, System.nanoTime() - startTimeInNS);
+  }
+
+  /**
+   * Looks up the keys in the range [{@param startPos}, {@param endPos}) of {@param keyList}, and adds the found ones
+   * into {@param responseWrapper}. Chunks of the same request could be looked up concurrently.
+   */
+  private void processMultiGetChunk(
+      MultiGetRouterRequestWrapper request,
+      AbstractStorageEngine storageEngine,
+      PartitionerConfig partitionerConfig,
+      List<MultiGetRouterRequestKeyV1> keyList,
+      int startPos,
+      int endPos,
+      boolean isChunked,
+      MultiGetResponseWrapper responseWrapper,
+      ReentrantLock requestLock,
+      IntList responseKeySizeList,
+      IntList responseValueSizeList) {
+    if (request.shouldRequestBeTerminatedEarly()) {
+      throw new VeniceRequestEarlyTerminationException(request.getStoreName());
+    }
+    String topic = request.getResourceName();
+    List<MultiGetResponseRecordV1> batchLookupRecords = batchLookupEnabled
+        ? batchGet(storageEngine, topic, partitionerConfig, keyList, startPos, endPos, isChunked, responseWrapper)
+        : null;
+    for (int subChunkCur = startPos; subChunkCur < endPos; ++subChunkCur) {
+      final MultiGetRouterRequestKeyV1 key = keyList.get(subChunkCur);
+      if (responseKeySizeList != null) {
+        responseKeySizeList.set(subChunkCur, key.keyBytes.remaining());
+      }
+      MultiGetResponseRecordV1 record;
+      if (batchLookupRecords != null) {
+        record = batchLookupRecords.get(subChunkCur - startPos);
+      } else {
+        int subPartitionId = getSubPartitionId(key.partitionId, topic, partitionerConfig, key.keyBytes);
+        record = getWithHotKeyCache(storageEngine, subPartitionId, key.keyBytes, isChunked, responseWrapper);
+      }
+      record = prepareResponseRecord(key, record, request.isStreamingRequest());
+
+      if (record != null) {
+        if (responseValueSizeList != null) {
+          responseValueSizeList.set(subChunkCur, record.value.remaining());
+        }
+        // TODO: streaming support in storage node
+        requestLock.lock();
+        try {
+          responseWrapper.addRecord(record);
+        } finally {
+          requestLock.unlock();
+        }
+      } else {
+        if (responseValueSizeList != null) {
+          responseValueSizeList.set(subChunkCur, -1);
+        }
+      }
+    }
+  }
+
   private ReadResponse handleMultiGetRequest(MultiGetRouterRequestWrapper request) {
     String topic = request.getResourceName();
     Iterable<MultiGetRouterRequestKeyV1> keys = request.getKeys();
@@ -522,24 +725,26 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     responseWrapper.setCompressionStrategy(storageEngine.getCompressionStrategy());
     responseWrapper.setDatabaseLookupLatency(0);
     boolean isChunked = storageEngine.isChunked();
-    for (MultiGetRouterRequestKeyV1 key: keys) {
-      int subPartitionId = getSubPartitionId(key.partitionId, topic, partitionerConfig, key.keyBytes);
-      MultiGetResponseRecordV1 record =
-          BatchGetChunkingAdapter.get(storageEngine, subPartitionId, key.keyBytes, isChunked, responseWrapper);
-      if (record == null) {
-        if (request.isStreamingRequest()) {
-          // For streaming, we would like to send back non-existing keys since the end-user won't know the status of
-          // non-existing keys in the response if the response is partial.
-          record = new MultiGetResponseRecordV1();
-          // Negative key index to indicate the non-existing keys
-          record.keyIndex = Math.negateExact(key.keyIndex);
-          record.schemaId = StreamingConstants.NON_EXISTING_KEY_SCHEMA_ID;
-          record.value = StreamingUtils.EMPTY_BYTE_BUFFER;
+    if (batchLookupEnabled && keys instanceof List) {
+      List<MultiGetRouterRequestKeyV1> keyList = (List<MultiGetRouterRequestKeyV1>) keys;
+      List<MultiGetResponseRecordV1> records =
+          batchGet(storageEngine, topic, partitionerConfig, keyList, 0, keyList.size(), isChunked, responseWrapper);
+      for (int i = 0; i < keyList.size(); i++) {
+        MultiGetResponseRecordV1 record =
+            prepareResponseRecord(keyList.get(i), records.get(i), request.isStreamingRequest());
+        if (record != null) {
+          responseWrapper.addRecord(record);
         }
-      } else {
-        record.keyIndex = key.keyIndex;
       }
+      return responseWrapper;
+    }
 
+    for (MultiGetRouterRequestKeyV1 key: keys) {
+      int subPartitionId = getSubPartitionId(key.partitionId, topic, partitionerConfig, key.keyBytes);
+      MultiGetResponseRecordV1 record = prepareResponseRecord(
+          key,
+          getWithHotKeyCache(storageEngine, subPartitionId, key.keyBytes, isChunked, responseWrapper),
+          request.isStreamingRequest());
       if (record != null) {
         // TODO: streaming support in storage node
         responseWrapper.addRecord(record);
@@ -549,7 +754,158 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     return responseWrapper;
   }
 
+  /**
+   * Looks up the keys in the range [{@param startPos}, {@param endPos}) of {@param keyList}, grouped by sub-partition,
+   * so that each group is served by a single batched storage engine call.
+   *
+   * @return a list of the records of the looked up keys in key order, with a null entry for each key which does not
+   *         exist.
+   */
+  private List<MultiGetResponseRecordV1> batchGet(
+      AbstractStorageEngine storageEngine,
+      String topic,
+      PartitionerConfig partitionerConfig,
+      List<MultiGetRouterRequestKeyV1> keyList,
+      int startPos,
+      int endPos,
+      boolean isChunked,
+      ReadResponse response) {
+    MultiGetResponseRecordV1[] records = new MultiGetResponseRecordV1[endPos - startPos];
+    HotKeyValueCache hotKeyValueCache = storageEngine.getHotKeyValueCache();
+    byte[][] storageKeys = null;
+    long[] writeGenerations = null;
+    int hitCount = 0;
+    if (hotKeyValueCache != null) {
+      storageKeys = new byte[endPos - startPos][];
+      writeGenerations = new long[endPos - startPos];
+    }
+
+    Int2ObjectMap<IntList> keyPositionsBySubPartition = new Int2ObjectOpenHashMap<>();
+    for (int pos = startPos; pos < endPos; pos++) {
+      MultiGetRouterRequestKeyV1 key = keyList.get(pos);
+      if (hotKeyValueCache != null) {
+        byte[] storageKey = getStorageKey(ByteUtils.extractByteArray(key.keyBytes), isChunked);
+        HotKeyValueCache.CachedValue cachedValue = hotKeyValueCache.get(storageKey);
+        if (cachedValue != null) {
+          records[pos - startPos] = toMultiGetResponseRecord(cachedValue);
+          hitCount++;
+          continue;
+        }
+        storageKeys[pos - startPos] = storageKey;
+        writeGenerations[pos - startPos] = hotKeyValueCache.getWriteGeneration(storageKey);
+      }
+      int subPartitionId = getSubPartitionId(key.partitionId, topic, partitionerConfig, key.keyBytes);
+      IntList keyPositions = keyPositionsBySubPartition.get(subPartitionId);
+      if (keyPositions == null) {
+        keyPositions = new IntArrayList();
+        keyPositionsBySubPartition.put(subPartitionId, keyPositions);
+      }
+      keyPositions.add(pos);
+    }
+
+    for (Int2ObjectMap.Entry<IntList> entry: keyPositionsBySubPartition.int2ObjectEntrySet()) {
+      IntList keyPositions = entry.getValue();
+      List<ByteBuffer> keys = new ArrayList<>(keyPositions.size());
+      for (int i = 0; i < keyPositions.size(); i++) {
+        keys.add(keyList.get(keyPositions.getInt(i)).keyBytes);
+      }
+      List<MultiGetResponseRecordV1> subPartitionRecords =
+          BatchGetChunkingAdapter.multiGet(storageEngine, entry.getIntKey(), keys, isChunked, response);
+      for (int i = 0; i < keyPositions.size(); i++) {
+        int index = keyPositions.getInt(i) - startPos;
+        MultiGetResponseRecordV1 record = subPartitionRecords.get(i);
+        records[index] = record;
+        if (hotKeyValueCache != null && record != null) {
+          hotKeyValueCache
+              .put(entry.getIntKey(), storageKeys[index], writeGenerations[index], record.schemaId, record.value);
+        }
+      }
+    }
+    if (hotKeyValueCache != null) {
+      response.addHotKeyCacheHitCount(hitCount);
+      response.addHotKeyCacheMissCount(endPos - startPos - hitCount);
+      response.addHotKeyCacheEvictionCount(hotKeyValueCache.getAndResetEvictionCount());
+    }
+    return Arrays.asList(records);
+  }
+
+  /**
+   * Looks up a single key of a batch get request, going through the hot key cache of {@param storageEngine} if it has
+   * one.
+   */
+  private MultiGetResponseRecordV1 getWithHotKeyCache(
+      AbstractStorageEngine storageEngine,
+      int subPartitionId,
+      ByteBuffer key,
+      boolean isChunked,
+      ReadResponse response) {
+    HotKeyValueCache hotKeyValueCache = storageEngine.getHotKeyValueCache();
+    if (hotKeyValueCache == null) {
+      return BatchGetChunkingAdapter.get(storageEngine, subPartitionId, key, isChunked, response);
+    }
+    byte[] storageKey = getStorageKey(ByteUtils.extractByteArray(key), isChunked);
+    HotKeyValueCache.CachedValue cachedValue = hotKeyValueCache.get(storageKey);
+    if (cachedValue != null) {
+      response.addHotKeyCacheHitCount(1);
+      return toMultiGetResponseRecord(cachedValue);
+    }
+    response.addHotKeyCacheMissCount(1);
+    long writeGeneration = hotKeyValueCache.getWriteGeneration(storageKey);
+    MultiGetResponseRecordV1 record =
+        BatchGetChunkingAdapter.get(storageEngine, subPartitionId, key, isChunked, response);
+    if (record != null) {
+      hotKeyValueCache.put(subPartitionId, storageKey, writeGeneration, record.schemaId, record.value);
+    }
+    response.addHotKeyCacheEvictionCount(hotKeyValueCache.getAndResetEvictionCount());
+    return record;
+  }
+
+  private static MultiGetResponseRecordV1 toMultiGetResponseRecord(HotKeyValueCache.CachedValue cachedValue) {
+    MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+    record.schemaId = cachedValue.getSchemaId();
+    record.value = ByteBuffer.wrap(cachedValue.getValue());
+    return record;
+  }
+
+  /**
+   * @return the key as persisted in the storage engine, which is what the hot key cache is keyed by.
+   */
+  private static byte[] getStorageKey(byte[] key, boolean isChunked) {
+    return isChunked ? ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(key) : key;
+  }
+
+  private MultiGetResponseRecordV1 prepareResponseRecord(
+      MultiGetRouterRequestKeyV1 key,
+      MultiGetResponseRecordV1 record,
+      boolean isStreaming) {
+    if (record == null) {
+      if (isStreaming) {
+        // For streaming, we would like to send back non-existing keys since the end-user won't know the status of
+        // non-existing keys in the response if the response is partial.
+        record = new MultiGetResponseRecordV1();
+        // Negative key index to indicate the non-existing keys
+        record.keyIndex = Math.negateExact(key.keyIndex);
+        record.schemaId = StreamingConstants.NON_EXISTING_KEY_SCHEMA_ID;
+        record.value = StreamingUtils.EMPTY_BYTE_BUFFER;
+      }
+    } else {
+      record.keyIndex = key.keyIndex;
+    }
+    return record;
+  }
+
   private ReadResponse handleComputeRequest(ComputeRouterRequestWrapper request) {
+    StorageExecReusableObjects reusableObjects = reusableObjectsPool.acquire();
+    try {
+      return handleComputeRequest(request, reusableObjects);
+    } finally {
+      reusableObjectsPool.release(reusableObjects);
+    }
+  }
+
+  private ReadResponse handleComputeRequest(
+      ComputeRouterRequestWrapper request,
+      StorageExecReusableObjects reusableObjects) {
     String topic = request.getResourceName();
     String storeName = request.getStoreName();
     Iterable<ComputeRouterRequestKeyV1> keys = request.getKeys();
@@ -590,13 +946,8 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
 
     responseWrapper.setCompressionStrategy(CompressionStrategy.NO_OP);
 
-    StorageExecReusableObjects reusableObjects = threadLocalReusableObjects.get();
-
-    GenericRecord reuseValueRecord =
-        reusableObjects.reuseValueRecordMap.computeIfAbsent(valueSchema, k -> new GenericData.Record(valueSchema));
-    Schema finalComputeResultSchema1 = computeResultSchema;
-    GenericRecord reuseResultRecord = reusableObjects.reuseResultRecordMap
-        .computeIfAbsent(computeResultSchema, k -> new GenericData.Record(finalComputeResultSchema1));
+    GenericRecord reuseValueRecord = reusableObjects.getValueRecord(valueSchema);
+    GenericRecord reuseResultRecord = reusableObjects.getResultRecord(computeResultSchema);
 
     // Reuse the same value record and result record instances for all values
     ByteBuffer reusedRawValue = reusableObjects.reusedByteBuffer;
@@ -610,10 +961,60 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
 
     Map<String, Object> globalContext = new HashMap<>();
     VeniceCompressor compressor = compressorFactory.getCompressor(compressionStrategy, topic);
+    if (batchLookupEnabled) {
+      Int2ObjectMap<List<ComputeRouterRequestKeyV1>> keysBySubPartition = new Int2ObjectOpenHashMap<>();
+      for (ComputeRouterRequestKeyV1 key: keys) {
+        int subPartitionId = getSubPartitionId(key.partitionId, topic, partitionerConfig, key.keyBytes);
+        List<ComputeRouterRequestKeyV1> subPartitionKeys = keysBySubPartition.get(subPartitionId);
+        if (subPartitionKeys == null) {
+          subPartitionKeys = new ArrayList<>();
+          keysBySubPartition.put(subPartitionId, subPartitionKeys);
+        }
+        subPartitionKeys.add(key);
+      }
+      Schema finalComputeResultSchema2 = computeResultSchema;
+      for (Int2ObjectMap.Entry<List<ComputeRouterRequestKeyV1>> entry: keysBySubPartition.int2ObjectEntrySet()) {
+        List<ComputeRouterRequestKeyV1> subPartitionKeys = entry.getValue();
+        List<byte[]> keyBytesList = new ArrayList<>(subPartitionKeys.size());
+        for (ComputeRouterRequestKeyV1 key: subPartitionKeys) {
+          keyBytesList.add(ByteUtils.extractByteArray(key.keyBytes));
+        }
+        GenericRecordChunkingAdapter.INSTANCE.multiGet(
+            storeName,
+            storageEngine,
+            entry.getIntKey(),
+            keyBytesList,
+            reuseValueRecord,
+            reusableObjects.binaryDecoder,
+            isChunked,
+            compressionStrategy,
+            fastAvroEnabled,
+            this.schemaRepo,
+            responseWrapper,
+            compressor,
+            (valueRecord, i) -> {
+              clearFieldsInReusedRecord(reuseResultRecord, finalComputeResultSchema2);
+              computeResult(
+                  valueRecord,
+                  subPartitionKeys.get(i).keyIndex,
+                  computeRequestWrapper.getComputeRequestVersion(),
+                  computeRequestWrapper.getOperations(),
+                  finalComputeResultSchema2,
+                  resultSerializer,
+                  reuseResultRecord,
+                  reusableObjects,
+                  request.isStreamingRequest(),
+                  responseWrapper,
+                  globalContext);
+            });
+      }
+      return responseWrapper;
+    }
+
     for (ComputeRouterRequestKeyV1 key: keys) {
       clearFieldsInReusedRecord(reuseResultRecord, computeResultSchema);
       int subPartitionId = getSubPartitionId(key.partitionId, topic, partitionerConfig, key.keyBytes);
-      ComputeResponseRecordV1 record = computeResult(
+      computeResult(
           storageEngine,
           storeName,
           key.keyBytes,
@@ -633,10 +1034,6 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
           globalContext,
           reusedRawValue,
           compressor);
-      if (record != null) {
-        // TODO: streaming support in storage node
-        responseWrapper.addRecord(record);
-      }
     }
 
     return responseWrapper;
@@ -660,7 +1057,10 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     }
   }
 
-  private ComputeResponseRecordV1 computeResult(
+  /**
+   * Computes the result of {@param keyIndex} and adds it to {@param response}.
+   */
+  private void computeResult(
       AbstractStorageEngine store,
       String storeName,
       ByteBuffer key,
@@ -695,6 +1095,32 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
         response,
         compressor);
 
+    computeResult(
+        reuseValueRecord,
+        keyIndex,
+        computeRequestVersion,
+        operations,
+        computeResultSchema,
+        resultSerializer,
+        reuseResultRecord,
+        reusableObjects,
+        isStreaming,
+        response,
+        globalContext);
+  }
+
+  private void computeResult(
+      GenericRecord reuseValueRecord,
+      final int keyIndex,
+      int computeRequestVersion,
+      List<ComputeOperation> operations,
+      Schema computeResultSchema,
+      RecordSerializer<GenericRecord> resultSerializer,
+      GenericRecord reuseResultRecord,
+      StorageExecReusableObjects reusableObjects,
+      boolean isStreaming,
+      ComputeResponseWrapper response,
+      Map<String, Object> globalContext) {
     if (reuseValueRecord == null) {
       if (isStreaming) {
         // For streaming, we need to send back non-existing keys
@@ -702,13 +1128,15 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
         // Negative key index to indicate non-existing key
         computeResponseRecord.keyIndex = Math.negateExact(keyIndex);
         computeResponseRecord.value = StreamingUtils.EMPTY_BYTE_BUFFER;
-        return computeResponseRecord;
+        response.addRecord(computeResponseRecord);
       }
-      return null;
+      return;
     }
 
     long computeStartTimeInNS = System.nanoTime();
-    Map<String, String> computationErrorMap = new HashMap<>();
+    // The error map is serialized along with the result record below, so it can be reused for the next record
+    Map<String, String> computationErrorMap = reusableObjects.computationErrorMap;
+    computationErrorMap.clear();
 
     // go through all operation
     for (ComputeOperation operation: operations) {
@@ -744,16 +1172,28 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     }
     response.addReadComputeLatency(LatencyUtils.getLatencyInMS(computeStartTimeInNS));
 
-    // create a response record
-    ComputeResponseRecordV1 responseRecord = new ComputeResponseRecordV1();
-    responseRecord.keyIndex = keyIndex;
-
-    // serialize the compute result
+    // serialize the compute result into the response
     long serializeStartTimeInNS = System.nanoTime();
-    responseRecord.value = ByteBuffer.wrap(resultSerializer.serialize(reuseResultRecord, reusableObjects));
+    ByteArrayOutputStream serializedResult = reusableObjects.byteArrayOutputStream;
+    serializedResult.reset();
+    resultSerializer.serialize(reuseResultRecord, serializedResult, reusableObjects);
+    reusableObjects.largestSerializedResultSize =
+        Math.max(reusableObjects.largestSerializedResultSize, serializedResult.size());
+    response.addRecord(keyIndex, serializedResult);
     response.addReadComputeSerializationLatency(LatencyUtils.getLatencyInMS(serializeStartTimeInNS));
+  }
 
-    return responseRecord;
+  public StorageExecReusableObjectsPool getReusableObjectsPool() {
+    return reusableObjectsPool;
+  }
+
+  /**
+   * Stops the threads owned by this handler, which is done once the listener does not accept requests anymore.
+   */
+  public void close() {
+    if (batchGetForkJoinPool != null) {
+      batchGetForkJoinPool.shutdown();
+    }
   }
 
   private AdminResponse handleServerAdminRequest(AdminRequest adminRequest) {
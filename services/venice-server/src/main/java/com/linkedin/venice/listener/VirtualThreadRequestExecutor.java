@@ -0,0 +1,156 @@
+package com.linkedin.venice.listener;
+
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * An executor which runs each request on its own virtual thread, instead of on a fixed pool of platform threads, so
+ * that requests blocked in the storage engine do not pin a scarce thread, and the number of threads does not need to be
+ * tuned per host.
+ *
+ * The number of requests executing at the same time is bounded by a semaphore, and the requests waiting for a permit
+ * are parked virtual threads, which play the role of the queue of a {@link java.util.concurrent.ThreadPoolExecutor}.
+ * When the number of waiting requests reaches the configured capacity, the request is executed in the caller thread,
+ * which propagates the back pressure the same way as the {@link java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy}
+ * of the regular pools.
+ *
+ * Virtual threads are only available from Java 21 on, while this module targets Java 8, so they are created by
+ * reflection. On older runtimes, the requests run on a fixed pool of platform threads sized after the max concurrency,
+ * whose queue is bounded the same way.
+ */
+public class VirtualThreadRequestExecutor extends AbstractExecutorService {
+  private static final Logger LOGGER = LogManager.getLogger(VirtualThreadRequestExecutor.class);
+
+  private final ExecutorService threadPerTaskExecutor;
+  private final Semaphore permits;
+  private final int maxConcurrency;
+  private final int queueCapacity;
+  private final AtomicInteger queuedRequestCount = new AtomicInteger();
+  private final boolean virtualThreadsEnabled;
+
+  public VirtualThreadRequestExecutor(String threadNamePrefix, int maxConcurrency, int queueCapacity) {
+    this.maxConcurrency = maxConcurrency;
+    this.permits = new Semaphore(maxConcurrency);
+    this.queueCapacity = queueCapacity;
+    ExecutorService virtualThreadExecutor = createVirtualThreadPerTaskExecutor(threadNamePrefix);
+    this.virtualThreadsEnabled = virtualThreadExecutor != null;
+    this.threadPerTaskExecutor = virtualThreadsEnabled
+        ? virtualThreadExecutor
+        : createPlatformThreadExecutor(threadNamePrefix, maxConcurrency);
+  }
+
+  /**
+   * The fallback for runtimes without virtual threads, which only ever needs one thread per permit. The waiting
+   * requests stay in the queue of the pool rather than each holding a parked thread, and {@link #execute} keeps that
+   * queue within the capacity.
+   */
+  static ThreadPoolExecutor createPlatformThreadExecutor(String threadNamePrefix, int maxConcurrency) {
+    return new ThreadPoolExecutor(
+        maxConcurrency,
+        maxConcurrency,
+        0,
+        TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<>(),
+        new DaemonThreadFactory(threadNamePrefix));
+  }
+
+  /**
+   * @return an executor creating a new virtual thread for each task, or null if virtual threads are not supported by
+   *         the current runtime.
+   */
+  static ExecutorService createVirtualThreadPerTaskExecutor(String threadNamePrefix) {
+    try {
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, threadNamePrefix + "-v", 0L);
+      ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+      Method newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+      return (ExecutorService) newThreadPerTaskExecutor.invoke(null, threadFactory);
+    } catch (Exception e) {
+      LOGGER.warn(
+          "Virtual threads are not supported by the current runtime, {} requests will run on platform threads",
+          threadNamePrefix,
+          e);
+      return null;
+    }
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    if (queuedRequestCount.get() >= queueCapacity) {
+      // Saturated, so the caller executes the request, which slows down the intake of new requests.
+      command.run();
+      return;
+    }
+    queuedRequestCount.incrementAndGet();
+    threadPerTaskExecutor.execute(() -> {
+      permits.acquireUninterruptibly();
+      queuedRequestCount.decrementAndGet();
+      try {
+        command.run();
+      } finally {
+        permits.release();
+      }
+    });
+  }
+
+  /**
+   * @return the number of requests waiting for a permit, which is the equivalent of the queue size of a regular pool.
+   */
+  public int getQueuedRequestCount() {
+    return queuedRequestCount.get();
+  }
+
+  /**
+   * @return the number of requests being executed at the moment.
+   */
+  public int getActiveRequestCount() {
+    return maxConcurrency - permits.availablePermits();
+  }
+
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  public boolean isVirtualThreadsEnabled() {
+    return virtualThreadsEnabled;
+  }
+
+  @Override
+  public void shutdown() {
+    threadPerTaskExecutor.shutdown();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    return threadPerTaskExecutor.shutdownNow();
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return threadPerTaskExecutor.isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return threadPerTaskExecutor.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    return threadPerTaskExecutor.awaitTermination(timeout, unit);
+  }
+}
@@ -1,23 +1,78 @@
 package com.linkedin.venice.listener.response;
 
 import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
-import com.linkedin.venice.serializer.AvroSerializer;
-import com.linkedin.venice.serializer.RecordSerializer;
-import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import org.apache.avro.io.BinaryData;
 
 
+/**
+ * The records of a compute response are serialized into the response body as soon as they are added, instead of
+ * being kept as {@link ComputeResponseRecordV1} objects until the response gets written out, so that the serialized
+ * results do not need to be copied into a new array per record, and then once more for the whole response.
+ *
+ * The body is the concatenation of the Avro binary encoding of each {@link ComputeResponseRecordV1}, which is the same
+ * as what the serializer of the response records produces.
+ */
 public class ComputeResponseWrapper extends MultiKeyResponseWrapper<ComputeResponseRecordV1> {
+  /**
+   * Large enough for the zig-zag varint encoding of any int.
+   */
+  private static final int MAX_INT_ENCODING_LENGTH = 5;
+
+  private final ByteBuf body = Unpooled.buffer();
+  private final ByteBufOutputStream bodyOutputStream = new ByteBufOutputStream(body);
+  private final byte[] encodingBuffer = new byte[MAX_INT_ENCODING_LENGTH];
+  private int recordCount = 0;
+
   public ComputeResponseWrapper(int maxKeyCount) {
-    super(maxKeyCount);
+    // The records are not kept around, see the class doc
+    super(0);
   }
 
   @Override
-  protected byte[] serializedResponse() {
-    RecordSerializer<ComputeResponseRecordV1> serializer =
-        SerializerDeserializerFactory.getAvroGenericSerializer(ComputeResponseRecordV1.getClassSchema());
+  public void addRecord(ComputeResponseRecordV1 record) {
+    writeRecordHeader(record.keyIndex, record.value.remaining());
+    body.writeBytes(record.value.duplicate());
+  }
+
+  /**
+   * Adds a record, whose serialized compute result is the current content of {@param serializedValue}.
+   */
+  public void addRecord(int keyIndex, ByteArrayOutputStream serializedValue) {
+    writeRecordHeader(keyIndex, serializedValue.size());
+    try {
+      serializedValue.writeTo(bodyOutputStream);
+    } catch (IOException e) {
+      throw new VeniceException("Failed to write the compute result of key index: " + keyIndex, e);
+    }
+  }
+
+  private void writeRecordHeader(int keyIndex, int valueLength) {
+    body.writeBytes(encodingBuffer, 0, BinaryData.encodeInt(keyIndex, encodingBuffer, 0));
+    body.writeBytes(encodingBuffer, 0, BinaryData.encodeInt(valueLength, encodingBuffer, 0));
+    recordCount++;
+  }
 
-    return serializer.serializeObjects(records, AvroSerializer.REUSE.get());
+  @Override
+  public int getRecordCount() {
+    return recordCount;
+  }
+
+  @Override
+  public ByteBuf getResponseBody() {
+    return body;
+  }
+
+  @Override
+  protected byte[] serializedResponse() {
+    return ByteBufUtil.getBytes(body);
   }
 
   @Override
@@ -39,4 +39,22 @@ public abstract class MultiKeyResponseWrapper<K> extends ReadResponse {
   public void incrementMultiChunkLargeValueCount() {
     super.incrementMultiChunkLargeValueCount();
   }
+
+  /**
+   * The hot key cache counters are updated by all the threads serving the chunks of a parallel batch get.
+   */
+  @Override
+  public synchronized void addHotKeyCacheHitCount(int count) {
+    super.addHotKeyCacheHitCount(count);
+  }
+
+  @Override
+  public synchronized void addHotKeyCacheMissCount(int count) {
+    super.addHotKeyCacheMissCount(count);
+  }
+
+  @Override
+  public synchronized void addHotKeyCacheEvictionCount(long count) {
+    super.addHotKeyCacheEvictionCount(count);
+  }
 }
@@ -27,6 +27,11 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor databaseLookupLatencyForSmallValueSensor;
   private final Sensor databaseLookupLatencyForLargeValueSensor;
   private final Sensor multiChunkLargeValueCountSensor;
+  private final Sensor hotKeyCacheHitCountSensor;
+  private final Sensor hotKeyCacheMissCountSensor;
+  private final Sensor hotKeyCacheEvictionCountSensor;
+  private final Sensor parallelBatchGetFanOutSensor;
+  private final Sensor parallelBatchGetChunkQueueWaitTimeSensor;
   private final Sensor requestKeyCountSensor;
   private final Sensor successRequestKeyCountSensor;
   private final Sensor requestSizeInBytesSensor;
@@ -55,7 +60,7 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
 
   // Ratio sensors are not directly written to, but they still get their state updated indirectly
   @SuppressWarnings("unused")
-  private final Sensor successRequestKeyRatioSensor, successRequestRatioSensor;
+  private final Sensor successRequestKeyRatioSensor, successRequestRatioSensor, hotKeyCacheHitRatioSensor;
 
   public ServerHttpRequestStats(
       MetricsRepository metricsRepository,
@@ -159,6 +164,50 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
         () -> totalStats.multiChunkLargeValueCountSensor,
         largeValueLookupStats.toArray(new MeasurableStat[0]));
 
+    /**
+     * The hot key cache counters are recorded once per request, with the number of keys which hit or missed the cache,
+     * and the number of entries evicted to make room for the values inserted while serving the request.
+     */
+    Rate hotKeyCacheHitCount = new Rate();
+    Rate hotKeyCacheMissCount = new Rate();
+    hotKeyCacheHitCountSensor = registerPerStoreAndTotal(
+        "hot_key_cache_hit_count",
+        totalStats,
+        () -> totalStats.hotKeyCacheHitCountSensor,
+        hotKeyCacheHitCount);
+    hotKeyCacheMissCountSensor = registerPerStoreAndTotal(
+        "hot_key_cache_miss_count",
+        totalStats,
+        () -> totalStats.hotKeyCacheMissCountSensor,
+        hotKeyCacheMissCount);
+    // Like the counters, the ratio exists per store and in total, where it is derived from the counters of all stores
+    hotKeyCacheHitRatioSensor = registerSensor(
+        "hot_key_cache_hit_ratio",
+        new TehutiUtils.RatioStat(hotKeyCacheHitCount, hotKeyCacheMissCount));
+    hotKeyCacheEvictionCountSensor = registerPerStoreAndTotal(
+        "hot_key_cache_eviction_count",
+        totalStats,
+        () -> totalStats.hotKeyCacheEvictionCountSensor,
+        new Rate());
+
+    /**
+     * The number of chunks a batch get got split into by parallel lookup, and the longest time, in milliseconds, that a
+     * chunk of the request waited before its lookup started.
+     */
+    parallelBatchGetFanOutSensor = registerPerStoreAndTotal(
+        "parallel_batch_get_fan_out",
+        totalStats,
+        () -> totalStats.parallelBatchGetFanOutSensor,
+        new Avg(),
+        new Max());
+    parallelBatchGetChunkQueueWaitTimeSensor = registerPerStoreAndTotal(
+        "parallel_batch_get_chunk_queue_wait_time",
+        totalStats,
+        () -> totalStats.parallelBatchGetChunkQueueWaitTimeSensor,
+        TehutiUtils.getPercentileStatWithAvgAndMax(
+            getName(),
+            getFullMetricName("parallel_batch_get_chunk_queue_wait_time")));
+
     Rate requestKeyCount = new OccurrenceRate();
     Rate successRequestKeyCount = new OccurrenceRate();
     requestKeyCountSensor = registerPerStoreAndTotal(
@@ -348,6 +397,26 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
     multiChunkLargeValueCountSensor.record(multiChunkLargeValueCount);
   }
 
+  public void recordHotKeyCacheHitCount(int hitCount) {
+    hotKeyCacheHitCountSensor.record(hitCount);
+  }
+
+  public void recordHotKeyCacheMissCount(int missCount) {
+    hotKeyCacheMissCountSensor.record(missCount);
+  }
+
+  public void recordHotKeyCacheEvictionCount(long evictionCount) {
+    hotKeyCacheEvictionCountSensor.record(evictionCount);
+  }
+
+  public void recordParallelBatchGetFanOut(int fanOut) {
+    parallelBatchGetFanOutSensor.record(fanOut);
+  }
+
+  public void recordParallelBatchGetChunkQueueWaitTime(double waitTime) {
+    parallelBatchGetChunkQueueWaitTimeSensor.record(waitTime);
+  }
+
   public void recordStorageExecutionHandlerSubmissionWaitTime(double submissionWaitTime) {
     storageExecutionHandlerSubmissionWaitTime.record(submissionWaitTime);
   }
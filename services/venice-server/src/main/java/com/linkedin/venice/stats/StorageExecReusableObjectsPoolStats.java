@@ -0,0 +1,42 @@
+package com.linkedin.venice.stats;
+
+import com.linkedin.venice.listener.StorageExecReusableObjectsPool;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+
+
+/**
+ * Stats of the {@link StorageExecReusableObjectsPool} of the compute requests. The counts of allocations, discards and
+ * record evictions are cumulative since the server started.
+ */
+public class StorageExecReusableObjectsPoolStats extends AbstractVeniceStats {
+  private final StorageExecReusableObjectsPool pool;
+
+  private final Sensor idleObjectNumberSensor;
+
+  private final Sensor maxIdleObjectNumberSensor;
+
+  private final Sensor allocatedObjectNumberSensor;
+
+  private final Sensor discardedObjectNumberSensor;
+
+  private final Sensor evictedRecordNumberSensor;
+
+  public StorageExecReusableObjectsPoolStats(
+      MetricsRepository metricsRepository,
+      StorageExecReusableObjectsPool pool,
+      String name) {
+    super(metricsRepository, name);
+    this.pool = pool;
+
+    idleObjectNumberSensor = registerSensor("idle_object_number", new LambdaStat(() -> this.pool.getIdleObjectCount()));
+    maxIdleObjectNumberSensor =
+        registerSensor("max_idle_object_number", new LambdaStat(() -> this.pool.getMaxPoolSize()));
+    allocatedObjectNumberSensor =
+        registerSensor("allocated_object_number", new LambdaStat(() -> this.pool.getAllocationCount()));
+    discardedObjectNumberSensor =
+        registerSensor("discarded_object_number", new LambdaStat(() -> this.pool.getDiscardCount()));
+    evictedRecordNumberSensor =
+        registerSensor("evicted_record_number", new LambdaStat(() -> this.pool.getRecordEvictionCount()));
+  }
+}
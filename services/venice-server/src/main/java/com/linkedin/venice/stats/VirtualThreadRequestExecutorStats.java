@@ -0,0 +1,37 @@
+package com.linkedin.venice.stats;
+
+import com.linkedin.venice.listener.VirtualThreadRequestExecutor;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+
+
+/**
+ * Counterpart of {@link com.linkedin.davinci.stats.ThreadPoolStats} for a {@link VirtualThreadRequestExecutor}, which
+ * keeps the same metric names, so that the usage of the storage execution pools can be compared across both execution
+ * modes. The number of active threads is the number of requests holding a permit, and the max thread number is the
+ * concurrency bound.
+ */
+public class VirtualThreadRequestExecutorStats extends AbstractVeniceStats {
+  private final VirtualThreadRequestExecutor executor;
+
+  private final Sensor activeThreadNumberSensor;
+
+  private final Sensor maxThreadNumberSensor;
+
+  private final Sensor queuedTasksNumberSensor;
+
+  public VirtualThreadRequestExecutorStats(
+      MetricsRepository metricsRepository,
+      VirtualThreadRequestExecutor executor,
+      String name) {
+    super(metricsRepository, name);
+    this.executor = executor;
+
+    activeThreadNumberSensor =
+        registerSensor("active_thread_number", new LambdaStat(() -> this.executor.getActiveRequestCount()));
+    maxThreadNumberSensor =
+        registerSensor("max_thread_number", new LambdaStat(() -> this.executor.getMaxConcurrency()));
+    queuedTasksNumberSensor =
+        registerSensor("queued_task_number", new LambdaStat(() -> this.executor.getQueuedRequestCount()));
+  }
+}
@@ -0,0 +1,61 @@
+package com.linkedin.venice.listener;
+
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class AdaptiveBatchGetParallelismTest {
+  private static final long TARGET_CHUNK_LATENCY_IN_NS = TimeUnit.MICROSECONDS.toNanos(500);
+
+  private static AdaptiveBatchGetParallelism createWithPerKeyLatency(long perKeyLatencyInNS) {
+    AdaptiveBatchGetParallelism parallelism = new AdaptiveBatchGetParallelism(TARGET_CHUNK_LATENCY_IN_NS);
+    // Converge the moving average
+    for (int i = 0; i < 1000; i++) {
+      parallelism.recordLookupLatency(10, 10 * perKeyLatencyInNS);
+    }
+    return parallelism;
+  }
+
+  @Test
+  public void testSmallRequestsAreNotSplit() {
+    AdaptiveBatchGetParallelism parallelism = createWithPerKeyLatency(10_000);
+    Assert.assertEquals(parallelism.getFanOut(0, 16), 1);
+    Assert.assertEquals(parallelism.getFanOut(1, 16), 1);
+    // 50 keys per chunk with the target chunk latency
+    Assert.assertEquals(parallelism.getFanOut(50, 16), 1);
+    Assert.assertEquals(parallelism.getFanOut(51, 16), 2);
+  }
+
+  @Test
+  public void testFanOutIsBoundedByAvailableWorkers() {
+    AdaptiveBatchGetParallelism parallelism = createWithPerKeyLatency(10_000);
+    Assert.assertEquals(parallelism.getFanOut(1000, 16), 16);
+    Assert.assertEquals(parallelism.getFanOut(1000, 4), 4);
+    // A saturated pool should get the request looked up by a single worker
+    Assert.assertEquals(parallelism.getFanOut(1000, 1), 1);
+    Assert.assertEquals(parallelism.getFanOut(1000, 0), 1);
+  }
+
+  @Test
+  public void testFanOutFollowsLookupLatency() {
+    AdaptiveBatchGetParallelism fastLookups = createWithPerKeyLatency(1_000);
+    AdaptiveBatchGetParallelism slowLookups = createWithPerKeyLatency(100_000);
+    Assert.assertEquals(fastLookups.getFanOut(900, 64), 2);
+    Assert.assertEquals(slowLookups.getFanOut(1000, 64), 64);
+    Assert.assertEquals(slowLookups.getFanOut(3, 64), 1);
+    // Lookups slower than the target chunk latency are split in single key chunks at most
+    AdaptiveBatchGetParallelism verySlowLookups = createWithPerKeyLatency(1_000_000);
+    Assert.assertEquals(verySlowLookups.getFanOut(3, 64), 3);
+  }
+
+  @Test
+  public void testRecordLookupLatency() {
+    AdaptiveBatchGetParallelism parallelism = createWithPerKeyLatency(10_000);
+    Assert.assertEquals(parallelism.getPerKeyLatencyInNS(), 10_000, 1);
+    // Invalid samples are ignored
+    parallelism.recordLookupLatency(0, 100);
+    parallelism.recordLookupLatency(10, -1);
+    Assert.assertEquals(parallelism.getPerKeyLatencyInNS(), 10_000, 1);
+  }
+}
@@ -0,0 +1,57 @@
+package com.linkedin.venice.listener;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import org.apache.avro.Schema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class StorageExecReusableObjectsPoolTest {
+  @Test
+  public void testPoolIsBounded() {
+    StorageExecReusableObjectsPool pool = new StorageExecReusableObjectsPool(1, 1024, 4);
+    StorageExecReusableObjects first = pool.acquire();
+    StorageExecReusableObjects second = pool.acquire();
+    Assert.assertNotSame(first, second);
+    Assert.assertEquals(pool.getAllocationCount(), 2);
+
+    pool.release(first);
+    pool.release(second);
+    Assert.assertEquals(pool.getIdleObjectCount(), 1);
+    Assert.assertEquals(pool.getDiscardCount(), 1);
+
+    Assert.assertSame(pool.acquire(), first);
+    Assert.assertEquals(pool.getIdleObjectCount(), 0);
+    Assert.assertEquals(pool.getAllocationCount(), 2);
+  }
+
+  @Test
+  public void testObjectsWithLargeSerializationBufferAreDiscarded() {
+    StorageExecReusableObjectsPool pool = new StorageExecReusableObjectsPool(4, 1024, 4);
+    StorageExecReusableObjects reusableObjects = pool.acquire();
+    reusableObjects.largestSerializedResultSize = 2048;
+    pool.release(reusableObjects);
+    Assert.assertEquals(pool.getIdleObjectCount(), 0);
+    Assert.assertEquals(pool.getDiscardCount(), 1);
+  }
+
+  @Test
+  public void testReusableRecordsAreBoundedPerSchema() {
+    StorageExecReusableObjectsPool pool = new StorageExecReusableObjectsPool(4, 1024, 2);
+    StorageExecReusableObjects reusableObjects = pool.acquire();
+    Schema[] schemas = new Schema[3];
+    for (int i = 0; i < schemas.length; i++) {
+      schemas[i] = AvroCompatibilityHelper
+          .parse("{\"type\":\"record\",\"name\":\"Record" + i + "\",\"fields\":[{\"name\":\"f\",\"type\":\"int\"}]}");
+    }
+    Assert.assertSame(reusableObjects.getValueRecord(schemas[0]), reusableObjects.getValueRecord(schemas[0]));
+    reusableObjects.getValueRecord(schemas[1]);
+    Assert.assertEquals(pool.getRecordEvictionCount(), 0);
+
+    // The least recently used record gets evicted
+    reusableObjects.getValueRecord(schemas[2]);
+    Assert.assertEquals(pool.getRecordEvictionCount(), 1);
+    reusableObjects.getResultRecord(schemas[0]);
+    Assert.assertEquals(pool.getRecordEvictionCount(), 1);
+  }
+}
@@ -1,13 +1,19 @@
 package com.linkedin.venice.listener;
 
+import static com.linkedin.venice.compute.ComputeRequestWrapper.LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST;
 import static com.linkedin.venice.router.api.VenicePathParser.TYPE_STORAGE;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
@@ -18,16 +24,23 @@ import com.linkedin.davinci.listener.response.MetadataResponse;
 import com.linkedin.davinci.storage.DiskHealthCheckService;
 import com.linkedin.davinci.storage.MetadataRetriever;
 import com.linkedin.davinci.storage.StorageEngineRepository;
+import com.linkedin.davinci.storage.StorageMetadataService;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.davinci.store.rocksdb.RocksDBServerConfig;
 import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compute.ComputeRequestWrapper;
+import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
+import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.listener.request.AdminRequest;
+import com.linkedin.venice.listener.request.ComputeRouterRequestWrapper;
 import com.linkedin.venice.listener.request.GetRouterRequest;
 import com.linkedin.venice.listener.request.HealthCheckRequest;
 import com.linkedin.venice.listener.request.MetadataFetchRequest;
 import com.linkedin.venice.listener.request.MultiGetRouterRequestWrapper;
+import com.linkedin.venice.listener.response.ComputeResponseWrapper;
 import com.linkedin.venice.listener.response.HttpShortcutResponse;
 import com.linkedin.venice.listener.response.MultiGetResponseWrapper;
 import com.linkedin.venice.listener.response.StorageResponseObject;
@@ -43,16 +56,21 @@ import com.linkedin.venice.metadata.response.VersionProperties;
 import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
+import com.linkedin.venice.serialization.KeyWithChunkingSuffixSerializer;
 import com.linkedin.venice.serialization.VeniceKafkaSerializer;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serialization.avro.VeniceAvroKafkaSerializer;
 import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.unit.kafka.SimplePartitioner;
+import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.TestUtils;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
@@ -65,6 +83,7 @@ import io.netty.handler.codec.http.HttpVersion;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -74,6 +93,9 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.core.LoggerContext;
 import org.apache.logging.log4j.core.config.Configuration;
@@ -82,6 +104,9 @@ import org.testng.annotations.Test;
 
 
 public class StorageReadRequestsHandlerTest {
+  private static final Schema BATCH_LOOKUP_VALUE_SCHEMA = new Schema.Parser().parse(
+      "{\"type\":\"record\",\"name\":\"ValueRecord\",\"fields\":[{\"name\":\"field\",\"type\":\"string\"}]}");
+
   @Test
   public static void storageExecutionHandlerPassesRequestsAndGeneratesResponses() throws Exception {
     String topic = "temp-test-topic_v1";
@@ -339,6 +364,259 @@ public class StorageReadRequestsHandlerTest {
     }
   }
 
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public static void testMultiGetWithBatchLookup(Boolean isParallel) throws Exception {
+    String topic = "test_store_v1";
+    int partition = 2;
+    List<Object> outputArray = new ArrayList<>();
+    Map<ByteBuffer, byte[]> storedValues = new HashMap<>();
+    AbstractStorageEngine testStore = mockChunkedStorageEngine(partition, storedValues);
+    Map<Integer, byte[]> expectedValues = new HashMap<>();
+    List<MultiGetRouterRequestKeyV1> keys = new ArrayList<>();
+    for (int i = 0; i < 9; i++) {
+      String key = "key_" + i;
+      MultiGetRouterRequestKeyV1 requestKey = new MultiGetRouterRequestKeyV1();
+      requestKey.keyBytes = ByteBuffer.wrap(key.getBytes());
+      requestKey.keyIndex = i;
+      requestKey.partitionId = partition;
+      keys.add(requestKey);
+      // A mix of missing, chunked and plain values
+      if (i % 3 == 1) {
+        byte[] value = serializeValue(BATCH_LOOKUP_VALUE_SCHEMA, "chunked_value_" + i);
+        putChunkedValue(storedValues, key, value);
+        expectedValues.put(i, value);
+      } else if (i % 3 == 2) {
+        byte[] value = serializeValue(BATCH_LOOKUP_VALUE_SCHEMA, "plain_value_" + i);
+        storedValues.put(toStorageKey(key), ValueRecord.create(1, value).serialize());
+        expectedValues.put(i, value);
+      }
+    }
+
+    RecordSerializer<MultiGetRouterRequestKeyV1> serializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetRouterRequestKeyV1.SCHEMA$);
+    FullHttpRequest httpRequest = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        "/" + TYPE_STORAGE + "/" + topic,
+        Unpooled.wrappedBuffer(serializer.serializeObjects(keys)));
+    httpRequest.headers()
+        .set(
+            HttpConstants.VENICE_API_VERSION,
+            ReadAvroProtocolDefinition.MULTI_GET_ROUTER_REQUEST_V1.getProtocolVersion());
+    MultiGetRouterRequestWrapper testRequest = MultiGetRouterRequestWrapper.parseMultiGetHttpRequest(httpRequest);
+
+    ThreadPoolExecutor threadPoolExecutor =
+        new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(2));
+    try (StorageEngineBackedCompressorFactory compressorFactory =
+        new StorageEngineBackedCompressorFactory(mock(StorageMetadataService.class))) {
+      StorageReadRequestsHandler testHandler = createBatchLookupHandler(
+          threadPoolExecutor,
+          topic,
+          testStore,
+          mock(ReadOnlySchemaRepository.class),
+          isParallel,
+          compressorFactory);
+      testHandler.channelRead(mockChannelHandlerContext(outputArray), testRequest);
+      waitUntilStorageExecutionHandlerRespond(outputArray);
+
+      Assert.assertEquals(outputArray.size(), 1);
+      Assert.assertTrue(outputArray.get(0) instanceof MultiGetResponseWrapper);
+      MultiGetResponseWrapper multiGetResponseWrapper = (MultiGetResponseWrapper) outputArray.get(0);
+      RecordDeserializer<MultiGetResponseRecordV1> deserializer =
+          SerializerDeserializerFactory.getAvroSpecificDeserializer(MultiGetResponseRecordV1.class);
+      Map<Integer, byte[]> results = new HashMap<>();
+      for (MultiGetResponseRecordV1 record: deserializer
+          .deserializeObjects(multiGetResponseWrapper.getResponseBody().array())) {
+        Assert.assertEquals(record.schemaId, 1);
+        results.put(record.keyIndex, ByteUtils.extractByteArray(record.value));
+      }
+      Assert.assertEquals(results.keySet(), expectedValues.keySet());
+      for (Map.Entry<Integer, byte[]> entry: expectedValues.entrySet()) {
+        Assert.assertEquals(results.get(entry.getKey()), entry.getValue());
+      }
+      // The keys are looked up with one storage engine call, and the chunks of the chunked values with another
+      verify(testStore, times(2)).multiGet(eq(partition), anyList());
+      verify(testStore, never()).get(eq(partition), any(ByteBuffer.class));
+    } finally {
+      TestUtils.shutdownExecutor(threadPoolExecutor);
+    }
+  }
+
+  @Test
+  public static void testComputeWithBatchLookup() throws Exception {
+    String topic = "test_store_v1";
+    int partition = 2;
+    List<Object> outputArray = new ArrayList<>();
+    Map<ByteBuffer, byte[]> storedValues = new HashMap<>();
+    AbstractStorageEngine testStore = mockChunkedStorageEngine(partition, storedValues);
+    Map<Integer, String> expectedValues = new HashMap<>();
+    List<ComputeRouterRequestKeyV1> keys = new ArrayList<>();
+    for (int i = 0; i < 9; i++) {
+      String key = "key_" + i;
+      ComputeRouterRequestKeyV1 requestKey = new ComputeRouterRequestKeyV1();
+      requestKey.keyBytes = ByteBuffer.wrap(key.getBytes());
+      requestKey.keyIndex = i;
+      requestKey.partitionId = partition;
+      keys.add(requestKey);
+      // A mix of missing, chunked and plain values
+      if (i % 3 == 1) {
+        String value = "chunked_value_" + i;
+        putChunkedValue(storedValues, key, serializeValue(BATCH_LOOKUP_VALUE_SCHEMA, value));
+        expectedValues.put(i, value);
+      } else if (i % 3 == 2) {
+        String value = "plain_value_" + i;
+        storedValues.put(
+            toStorageKey(key),
+            ValueRecord.create(1, serializeValue(BATCH_LOOKUP_VALUE_SCHEMA, value)).serialize());
+        expectedValues.put(i, value);
+      }
+    }
+
+    // A projection of the value field
+    Schema resultSchema = new Schema.Parser().parse(
+        "{\"type\":\"record\",\"name\":\"ComputeResult\",\"fields\":[{\"name\":\"field\",\"type\":\"string\"}]}");
+    ComputeRequestWrapper computeRequestWrapper = new ComputeRequestWrapper(LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST);
+    computeRequestWrapper.setResultSchemaStr(resultSchema.toString());
+    computeRequestWrapper.setOperations(new ArrayList<>());
+    RecordSerializer<ComputeRouterRequestKeyV1> serializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(ComputeRouterRequestKeyV1.SCHEMA$);
+    FullHttpRequest httpRequest = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        "/" + QueryAction.COMPUTE.toString().toLowerCase() + "/" + topic,
+        Unpooled.wrappedBuffer(serializer.serializeObjects(keys, ByteBuffer.wrap(computeRequestWrapper.serialize()))));
+    httpRequest.headers().set(HttpConstants.VENICE_API_VERSION, LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST);
+    ComputeRouterRequestWrapper testRequest = ComputeRouterRequestWrapper.parseComputeRequest(httpRequest, false);
+
+    ReadOnlySchemaRepository schemaRepo = mock(ReadOnlySchemaRepository.class);
+    SchemaEntry schemaEntry = new SchemaEntry(1, BATCH_LOOKUP_VALUE_SCHEMA);
+    doReturn(schemaEntry).when(schemaRepo).getValueSchema("test_store", 1);
+    doReturn(schemaEntry).when(schemaRepo).getSupersetOrLatestValueSchema("test_store");
+
+    ThreadPoolExecutor threadPoolExecutor =
+        new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(2));
+    try (StorageEngineBackedCompressorFactory compressorFactory =
+        new StorageEngineBackedCompressorFactory(mock(StorageMetadataService.class))) {
+      StorageReadRequestsHandler testHandler =
+          createBatchLookupHandler(threadPoolExecutor, topic, testStore, schemaRepo, false, compressorFactory);
+      testHandler.channelRead(mockChannelHandlerContext(outputArray), testRequest);
+      waitUntilStorageExecutionHandlerRespond(outputArray);
+
+      Assert.assertEquals(outputArray.size(), 1);
+      Assert.assertTrue(outputArray.get(0) instanceof ComputeResponseWrapper);
+      ComputeResponseWrapper computeResponseWrapper = (ComputeResponseWrapper) outputArray.get(0);
+      RecordDeserializer<ComputeResponseRecordV1> deserializer =
+          SerializerDeserializerFactory.getAvroSpecificDeserializer(ComputeResponseRecordV1.class);
+      RecordDeserializer<GenericRecord> resultDeserializer =
+          SerializerDeserializerFactory.getAvroGenericDeserializer(resultSchema);
+      Map<Integer, String> results = new HashMap<>();
+      for (ComputeResponseRecordV1 record: deserializer
+          .deserializeObjects(ByteBufUtil.getBytes(computeResponseWrapper.getResponseBody()))) {
+        results.put(record.keyIndex, resultDeserializer.deserialize(record.value).get("field").toString());
+      }
+      Assert.assertEquals(results, expectedValues);
+      verify(testStore, times(2)).multiGet(eq(partition), anyList());
+    } finally {
+      TestUtils.shutdownExecutor(threadPoolExecutor);
+    }
+  }
+
+  private static byte[] serializeValue(Schema schema, String fieldValue) {
+    GenericRecord record = new GenericData.Record(schema);
+    record.put("field", fieldValue);
+    return SerializerDeserializerFactory.getAvroGenericSerializer(schema).serialize(record);
+  }
+
+  private static StorageReadRequestsHandler createBatchLookupHandler(
+      ThreadPoolExecutor threadPoolExecutor,
+      String topic,
+      AbstractStorageEngine storageEngine,
+      ReadOnlySchemaRepository schemaRepo,
+      boolean isParallel,
+      StorageEngineBackedCompressorFactory compressorFactory) {
+    StorageEngineRepository testRepository = mock(StorageEngineRepository.class);
+    doReturn(storageEngine).when(testRepository).getLocalStorageEngine(topic);
+    ReadOnlyStoreRepository metadataRepo = mock(ReadOnlyStoreRepository.class);
+    Store store = mock(Store.class);
+    when(store.getVersion(anyInt())).thenReturn(Optional.empty());
+    when(metadataRepo.getStoreOrThrow(anyString())).thenReturn(store);
+    VeniceServerConfig serverConfig = mock(VeniceServerConfig.class);
+    doReturn(mock(RocksDBServerConfig.class)).when(serverConfig).getRocksDBServerConfig();
+    doReturn(true).when(serverConfig).isBatchLookupEnabled();
+    return new StorageReadRequestsHandler(
+        threadPoolExecutor,
+        threadPoolExecutor,
+        testRepository,
+        metadataRepo,
+        schemaRepo,
+        mock(MetadataRetriever.class),
+        null,
+        false,
+        isParallel,
+        10,
+        serverConfig,
+        compressorFactory,
+        Optional.empty());
+  }
+
+  private static ChannelHandlerContext mockChannelHandlerContext(List<Object> outputArray) {
+    ChannelHandlerContext mockCtx = mock(ChannelHandlerContext.class);
+    doReturn(new UnpooledByteBufAllocator(true)).when(mockCtx).alloc();
+    when(mockCtx.writeAndFlush(any())).then(i -> {
+      outputArray.add(i.getArguments()[0]);
+      return null;
+    });
+    return mockCtx;
+  }
+
+  /**
+   * A chunked storage engine, whose batched lookups are served from {@param storedValues}.
+   */
+  private static AbstractStorageEngine mockChunkedStorageEngine(int partition, Map<ByteBuffer, byte[]> storedValues) {
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    doReturn(true).when(storageEngine).isChunked();
+    doReturn(CompressionStrategy.NO_OP).when(storageEngine).getCompressionStrategy();
+    doAnswer(invocation -> {
+      List<byte[]> keys = invocation.getArgument(1);
+      List<byte[]> values = new ArrayList<>(keys.size());
+      for (byte[] key: keys) {
+        values.add(storedValues.get(ByteBuffer.wrap(key)));
+      }
+      return values;
+    }).when(storageEngine).multiGet(eq(partition), anyList());
+    return storageEngine;
+  }
+
+  /**
+   * Stores {@param value} split into two chunks, along with the manifest of the chunks under {@param key}.
+   */
+  private static void putChunkedValue(Map<ByteBuffer, byte[]> storedValues, String key, byte[] value) {
+    int cutOff = value.length / 2;
+    byte[] firstChunkKey = (key + "_chunk0").getBytes();
+    byte[] secondChunkKey = (key + "_chunk1").getBytes();
+    int chunkSchemaId = AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion();
+    storedValues.put(
+        ByteBuffer.wrap(firstChunkKey),
+        ValueRecord.create(chunkSchemaId, Arrays.copyOfRange(value, 0, cutOff)).serialize());
+    storedValues.put(
+        ByteBuffer.wrap(secondChunkKey),
+        ValueRecord.create(chunkSchemaId, Arrays.copyOfRange(value, cutOff, value.length)).serialize());
+
+    ChunkedValueManifest chunkedValueManifest = new ChunkedValueManifest();
+    chunkedValueManifest.keysWithChunkIdSuffix =
+        Arrays.asList(ByteBuffer.wrap(firstChunkKey), ByteBuffer.wrap(secondChunkKey));
+    chunkedValueManifest.schemaId = 1;
+    chunkedValueManifest.size = value.length;
+    byte[] serializedManifest = SerializerDeserializerFactory.getAvroGenericSerializer(ChunkedValueManifest.SCHEMA$)
+        .serialize(chunkedValueManifest);
+    int manifestSchemaId = AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.getCurrentProtocolVersion();
+    storedValues.put(toStorageKey(key), ValueRecord.create(manifestSchemaId, serializedManifest).serialize());
+  }
+
+  private static ByteBuffer toStorageKey(String key) {
+    return ByteBuffer.wrap(new KeyWithChunkingSuffixSerializer().serializeNonChunkedKey(key.getBytes()));
+  }
+
   @Test
   public static void storageExecutionHandlerLogsExceptions() throws Exception {
     String topic = "temp-test-topic_v1";
@@ -0,0 +1,86 @@
+package com.linkedin.venice.listener;
+
+import com.linkedin.venice.utils.TestUtils;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class VirtualThreadRequestExecutorTest {
+  @Test
+  public void testConcurrencyIsBounded() throws InterruptedException {
+    VirtualThreadRequestExecutor executor = new VirtualThreadRequestExecutor("test", 2, Integer.MAX_VALUE);
+    CountDownLatch blockingLatch = new CountDownLatch(1);
+    CountDownLatch completionLatch = new CountDownLatch(5);
+    try {
+      for (int i = 0; i < 5; i++) {
+        executor.execute(() -> {
+          try {
+            blockingLatch.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          completionLatch.countDown();
+        });
+      }
+      TestUtils.waitForNonDeterministicAssertion(10, TimeUnit.SECONDS, () -> {
+        Assert.assertEquals(executor.getActiveRequestCount(), 2);
+        Assert.assertEquals(executor.getQueuedRequestCount(), 3);
+      });
+
+      blockingLatch.countDown();
+      Assert.assertTrue(completionLatch.await(10, TimeUnit.SECONDS));
+      TestUtils.waitForNonDeterministicAssertion(10, TimeUnit.SECONDS, () -> {
+        Assert.assertEquals(executor.getActiveRequestCount(), 0);
+        Assert.assertEquals(executor.getQueuedRequestCount(), 0);
+      });
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testCallerRunsWhenSaturated() throws InterruptedException {
+    VirtualThreadRequestExecutor executor = new VirtualThreadRequestExecutor("test", 1, 1);
+    CountDownLatch blockingLatch = new CountDownLatch(1);
+    try {
+      Runnable blockingRequest = () -> {
+        try {
+          blockingLatch.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      };
+      // The first request holds the only permit, and the second one waits for it
+      executor.execute(blockingRequest);
+      TestUtils.waitForNonDeterministicAssertion(10, TimeUnit.SECONDS, () -> {
+        Assert.assertEquals(executor.getActiveRequestCount(), 1);
+        Assert.assertEquals(executor.getQueuedRequestCount(), 0);
+      });
+      executor.execute(blockingRequest);
+      Assert.assertEquals(executor.getQueuedRequestCount(), 1);
+
+      AtomicReference<Thread> executingThread = new AtomicReference<>();
+      executor.execute(() -> executingThread.set(Thread.currentThread()));
+      Assert.assertSame(executingThread.get(), Thread.currentThread());
+    } finally {
+      blockingLatch.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testPlatformThreadFallbackIsBounded() {
+    ThreadPoolExecutor executor = VirtualThreadRequestExecutor.createPlatformThreadExecutor("test", 4);
+    try {
+      // Only one thread per permit, no matter how many requests are waiting
+      Assert.assertEquals(executor.getCorePoolSize(), 4);
+      Assert.assertEquals(executor.getMaximumPoolSize(), 4);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
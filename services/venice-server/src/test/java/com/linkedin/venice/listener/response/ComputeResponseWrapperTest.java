@@ -0,0 +1,49 @@
+package com.linkedin.venice.listener.response;
+
+import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import io.netty.buffer.ByteBufUtil;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class ComputeResponseWrapperTest {
+  @Test
+  public void testResponseBodyMatchesSerializedRecords() {
+    ComputeResponseWrapper responseWrapper = new ComputeResponseWrapper(3);
+    List<ComputeResponseRecordV1> expectedRecords = new ArrayList<>();
+
+    ByteArrayOutputStream serializedValue = new ByteArrayOutputStream();
+    for (int keyIndex: new int[] { 0, 1, 100_000 }) {
+      byte[] value = ("value_" + keyIndex).getBytes(StandardCharsets.UTF_8);
+      serializedValue.reset();
+      serializedValue.write(value, 0, value.length);
+      responseWrapper.addRecord(keyIndex, serializedValue);
+
+      ComputeResponseRecordV1 record = new ComputeResponseRecordV1();
+      record.keyIndex = keyIndex;
+      record.value = ByteBuffer.wrap(value);
+      expectedRecords.add(record);
+    }
+
+    // Non-existing keys of streaming requests
+    ComputeResponseRecordV1 missingKeyRecord = new ComputeResponseRecordV1();
+    missingKeyRecord.keyIndex = -2;
+    missingKeyRecord.value = ByteBuffer.allocate(0);
+    responseWrapper.addRecord(missingKeyRecord);
+    expectedRecords.add(missingKeyRecord);
+
+    RecordSerializer<ComputeResponseRecordV1> serializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(ComputeResponseRecordV1.getClassSchema());
+    Assert.assertEquals(responseWrapper.getRecordCount(), 4);
+    Assert.assertEquals(
+        ByteBufUtil.getBytes(responseWrapper.getResponseBody()),
+        serializer.serializeObjects(expectedRecords));
+  }
+}
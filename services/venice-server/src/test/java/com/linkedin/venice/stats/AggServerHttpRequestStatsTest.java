@@ -22,6 +22,7 @@ public class AggServerHttpRequestStatsTest {
   private static final String STORE_BAR = "store_bar";
   private static final String STORE_WITH_SMALL_VALUES = "store_with_small_values";
   private static final String STORE_WITH_LARGE_VALUES = "store_with_large_values";
+  private static final String STORE_WITH_HOT_KEY_CACHE = "store_with_hot_key_cache";
 
   @BeforeTest
   public void setUp() {
@@ -73,6 +74,22 @@ public class AggServerHttpRequestStatsTest {
     Assert.assertNull(metricsRepository.getMetric("." + STORE_FOO + "--success_request.OccurrenceRate"));
   }
 
+  @Test
+  public void testHotKeyCacheMetrics() {
+    ServerHttpRequestStats hotKeyCacheStats = singleGetStats.getStoreStats(STORE_WITH_HOT_KEY_CACHE);
+    hotKeyCacheStats.recordHotKeyCacheHitCount(3);
+    hotKeyCacheStats.recordHotKeyCacheMissCount(1);
+
+    Assert.assertEquals(
+        reporter.query("." + STORE_WITH_HOT_KEY_CACHE + "--hot_key_cache_hit_ratio.RatioStat").value(),
+        0.75,
+        0.05,
+        "hot_key_cache_hit_ratio of the store should be 0.75");
+    Assert.assertTrue(
+        reporter.query(".total--hot_key_cache_hit_ratio.RatioStat").value() > 0,
+        "total hot_key_cache_hit_ratio should be positive");
+  }
+
   @Test
   public void testPercentileNamePattern() {
     String sensorName = "sensorName";